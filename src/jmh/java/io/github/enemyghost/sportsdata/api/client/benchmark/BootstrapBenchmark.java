@@ -0,0 +1,68 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.cbb.repository.LeagueRepository;
+import io.github.enemyghost.sportsdata.api.client.cbb.repository.ReferenceDataSnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares booting the reference data of a full NCAA Division I league, ready to serve as a {@link LeagueRepository},
+ * by fetching and decoding every endpoint as json from a local stub server against reading a
+ * {@link ReferenceDataSnapshot} file.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="BootstrapBenchmark -prof gc"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BootstrapBenchmark {
+    private StubSportsDataServer server;
+    private NcaaBasketballV3ApiClient client;
+    private Path snapshotFile;
+
+    @Setup
+    public void setup() throws IOException {
+        server = StubSportsDataServer.newBuilder().withFullLeague(true).build().start();
+        client = FeignClientFactory.createClient(server.baseUrl(), "benchmark-api-key",
+                NcaaBasketballV3ApiClient.class);
+        snapshotFile = Files.createTempFile("reference-data", ".bin");
+        ReferenceDataSnapshot.fetch(client).write(snapshotFile);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        server.close();
+        Files.deleteIfExists(snapshotFile);
+    }
+
+    @Benchmark
+    public LeagueRepository jsonFetchBoot() {
+        return ReferenceDataSnapshot.fetch(client).toLeagueRepository();
+    }
+
+    @Benchmark
+    public LeagueRepository snapshotBoot() throws IOException {
+        return ReferenceDataSnapshot.read(snapshotFile).toLeagueRepository();
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.repository.EntityCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures comparing two independently decoded full-D1 league hierarchies with {@code equals()}, with and without
+ * passing both through one {@link EntityCanonicalizer}, and the cost of canonicalizing a freshly decoded hierarchy
+ * against a warm registry.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="CanonicalizationBenchmark"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CanonicalizationBenchmark {
+    private List<Conference> decoded;
+    private List<Conference> decodedAgain;
+    private List<Conference> canonical;
+    private List<Conference> canonicalAgain;
+    private EntityCanonicalizer canonicalizer;
+
+    @Setup
+    public void setup() throws IOException {
+        final ObjectReader reader = ObjectMapperSingleton.INSTANCE.readerFor(ObjectMapperSingleton.INSTANCE
+                .getTypeFactory().constructCollectionType(List.class, Conference.class));
+        decoded = reader.readValue(JsonFixtures.fullD1LeagueHierarchy());
+        decodedAgain = reader.readValue(JsonFixtures.fullD1LeagueHierarchy());
+        canonicalizer = new EntityCanonicalizer();
+        canonical = canonicalizer.canonicalizeConferences(decoded);
+        canonicalAgain = canonicalizer.canonicalizeConferences(decodedAgain);
+    }
+
+    @Benchmark
+    public boolean equalsDecoded() {
+        return decoded.equals(decodedAgain);
+    }
+
+    @Benchmark
+    public boolean equalsCanonical() {
+        return canonical.equals(canonicalAgain);
+    }
+
+    @Benchmark
+    public List<Conference> canonicalize() {
+        return canonicalizer.canonicalizeConferences(decodedAgain);
+    }
+}
@@ -0,0 +1,252 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import io.github.enemyghost.sportsdata.api.client.ClientCapability;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.buffer.BufferPool;
+import io.github.enemyghost.sportsdata.api.client.buffer.BufferPoolCapability;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * End-to-end load harness: starts a {@link StubSportsDataServer} and drives {@link NcaaBasketballV3ApiClient} through
+ * {@link FeignClientFactory} at a fixed concurrency, then reports requests/sec, latency percentiles, the bytes the
+ * client allocates per request and the collections over the run.
+ * <p>
+ * Arguments are {@code key=value} pairs, e.g.
+ * {@code endpoint=playerGameStatsByDate concurrency=16 duration=30 warmup=5 latencyMs=20 jitterMs=10 rows=2000}.
+ * {@code pooled=true} adds a {@link BufferPoolCapability}, and {@code threadPerRequest=true} makes each request on a
+ * new thread, as with virtual threads, so that nothing cached per thread is reused.
+ *
+ * @author enemyghost
+ */
+public final class ClientLoadBenchmark {
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Private ctor.
+     */
+    private ClientLoadBenchmark() {
+    }
+
+    public static void main(final String[] args) throws InterruptedException {
+        final Map<String, String> options = parse(args);
+        final Endpoint endpoint = Endpoint.valueOf(options.getOrDefault("endpoint", "players")
+                .replaceAll("([a-z])([A-Z])", "$1_$2").toUpperCase(Locale.ROOT));
+        final int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "8"));
+        final Duration warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5")));
+        final Duration duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        final boolean threadPerRequest = Boolean.parseBoolean(options.getOrDefault("threadPerRequest", "false"));
+        final ClientCapability[] capabilities = Boolean.parseBoolean(options.getOrDefault("pooled", "false"))
+                ? new ClientCapability[]{new BufferPoolCapability(BufferPool.newBuilder()
+                        .withBuffersPerClass(Math.max(16, concurrency))
+                        .build())}
+                : new ClientCapability[0];
+
+        try (StubSportsDataServer server = StubSportsDataServer.newBuilder()
+                .withThreads(Math.max(concurrency, 1) * 2)
+                .withLatency(Duration.ofMillis(Long.parseLong(options.getOrDefault("latencyMs", "0"))))
+                .withJitter(Duration.ofMillis(Long.parseLong(options.getOrDefault("jitterMs", "0"))))
+                .withThrottlePerSecond(Integer.parseInt(options.getOrDefault("throttleRps", "0")))
+                .withPlayerGameRows(Integer.parseInt(options.getOrDefault("rows", "0")))
+                .withFullLeague(Boolean.parseBoolean(options.getOrDefault("fullLeague", "false")))
+                .build()
+                .start()) {
+            final NcaaBasketballV3ApiClient client = FeignClientFactory.createClient(server.baseUrl(),
+                    "benchmark-api-key",
+                    NcaaBasketballV3ApiClient.class,
+                    capabilities);
+
+            run(client, endpoint, concurrency, threadPerRequest, warmup);
+            final Result result = run(client, endpoint, concurrency, threadPerRequest, duration);
+            System.out.println(result.format(endpoint, concurrency));
+        }
+    }
+
+    private static Result run(final NcaaBasketballV3ApiClient client,
+                              final Endpoint endpoint,
+                              final int concurrency,
+                              final boolean threadPerRequest,
+                              final Duration duration) throws InterruptedException {
+        final ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        final CountDownLatch done = new CountDownLatch(concurrency);
+        final LatencyRecorder[] recorders = new LatencyRecorder[concurrency];
+        final AtomicLong errors = new AtomicLong();
+        final LongAdder allocatedBytes = new LongAdder();
+        final long[] gcBefore = gcCountAndMillis();
+        final long deadline = System.nanoTime() + duration.toNanos();
+        for (int i = 0; i < concurrency; i++) {
+            final LatencyRecorder recorder = recorders[i] = new LatencyRecorder();
+            final Runnable call = () -> {
+                final long allocated = allocatedBytes();
+                final long start = System.nanoTime();
+                try {
+                    endpoint.call.apply(client);
+                    recorder.record(System.nanoTime() - start);
+                } catch (final RuntimeException e) {
+                    errors.incrementAndGet();
+                }
+                allocatedBytes.add(allocatedBytes() - allocated);
+            };
+            workers.execute(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        if (threadPerRequest) {
+                            final Thread thread = new Thread(call);
+                            thread.start();
+                            thread.join();
+                        } else {
+                            call.run();
+                        }
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        workers.shutdown();
+        final long[] gcAfter = gcCountAndMillis();
+        return new Result(LatencyRecorder.merge(recorders), errors.get(), duration, allocatedBytes.sum(),
+                gcAfter[0] - gcBefore[0], gcAfter[1] - gcBefore[1]);
+    }
+
+    private static long allocatedBytes() {
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * @return collections and milliseconds spent collecting, over all collectors, since the JVM started
+     */
+    private static long[] gcCountAndMillis() {
+        final long[] totals = new long[2];
+        for (final GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            totals[0] += Math.max(0, collector.getCollectionCount());
+            totals[1] += Math.max(0, collector.getCollectionTime());
+        }
+        return totals;
+    }
+
+    private static Map<String, String> parse(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final int split = arg.indexOf('=');
+            if (split < 0) {
+                throw new IllegalArgumentException("Expected key=value argument but got " + arg);
+            }
+            options.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+
+    /**
+     * Endpoints the harness can drive
+     */
+    enum Endpoint {
+        ARE_ANY_GAMES_IN_PROGRESS(NcaaBasketballV3ApiClient::areAnyGamesInProgress),
+        CURRENT_SEASON(NcaaBasketballV3ApiClient::currentSeason),
+        LEAGUE_HIERARCHY(NcaaBasketballV3ApiClient::leagueHierarchy),
+        PLAYERS(NcaaBasketballV3ApiClient::players),
+        STADIUMS(NcaaBasketballV3ApiClient::stadiums),
+        TEAMS(NcaaBasketballV3ApiClient::teams),
+        PLAYER_GAME_STATS_BY_DATE(c -> c.playerGameStatsByDate(LocalDate.of(2020, 2, 8))),
+        PLAYER_GAME_PROJECTION_STATS_BY_DATE(c -> c.playerGameProjectionStatsByDate(LocalDate.of(2020, 2, 8)));
+
+        private final Function<NcaaBasketballV3ApiClient, Object> call;
+
+        Endpoint(final Function<NcaaBasketballV3ApiClient, Object> call) {
+            this.call = call;
+        }
+    }
+
+    /**
+     * Single-writer, growable buffer of latency samples in nanoseconds
+     */
+    private static final class LatencyRecorder {
+        private long[] samples = new long[1 << 14];
+        private int size;
+
+        void record(final long nanos) {
+            if (size == samples.length) {
+                samples = Arrays.copyOf(samples, size << 1);
+            }
+            samples[size++] = nanos;
+        }
+
+        static long[] merge(final LatencyRecorder[] recorders) {
+            final long[] merged = new long[Arrays.stream(recorders).mapToInt(r -> r.size).sum()];
+            int offset = 0;
+            for (final LatencyRecorder recorder : recorders) {
+                System.arraycopy(recorder.samples, 0, merged, offset, recorder.size);
+                offset += recorder.size;
+            }
+            Arrays.sort(merged);
+            return merged;
+        }
+    }
+
+    private static final class Result {
+        private final long[] sortedNanos;
+        private final long errors;
+        private final Duration duration;
+        private final long allocatedBytes;
+        private final long collections;
+        private final long collectionMillis;
+
+        Result(final long[] sortedNanos,
+               final long errors,
+               final Duration duration,
+               final long allocatedBytes,
+               final long collections,
+               final long collectionMillis) {
+            this.sortedNanos = sortedNanos;
+            this.errors = errors;
+            this.duration = duration;
+            this.allocatedBytes = allocatedBytes;
+            this.collections = collections;
+            this.collectionMillis = collectionMillis;
+        }
+
+        String format(final Endpoint endpoint, final int concurrency) {
+            final StringBuilder sb = new StringBuilder()
+                    .append(String.format("endpoint=%s concurrency=%d duration=%ds%n",
+                            endpoint, concurrency, duration.getSeconds()))
+                    .append(String.format("requests=%d errors=%d throughput=%.1f req/s%n",
+                            sortedNanos.length, errors, sortedNanos.length / (double) duration.toMillis() * 1000))
+                    .append(String.format("allocated=%.1f KB/req gc=%d collections, %d ms%n",
+                            allocatedBytes / 1024.0 / Math.max(1, sortedNanos.length + errors), collections,
+                            collectionMillis));
+            if (sortedNanos.length > 0) {
+                for (final double percentile : PERCENTILES) {
+                    sb.append(String.format("p%-5s %10.3f ms%n", percentile, percentile(percentile) / 1e6));
+                }
+                sb.append(String.format("max    %10.3f ms", sortedNanos[sortedNanos.length - 1] / 1e6));
+            }
+            return sb.toString();
+        }
+
+        private long percentile(final double percentile) {
+            final int index = (int) Math.ceil(percentile / 100 * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))];
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.jaxrs.JAXRSContract;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cold start harness: launches fresh JVMs which each create a {@link NcaaBasketballV3ApiClient} and make one request
+ * to a local server, and reports the median time to create the client and to complete the first request, and the
+ * classes loaded by each, for each way of creating the client:
+ * <ul>
+ *     <li>{@code reflective}: parsing the interface's annotations with a {@link JAXRSContract}</li>
+ *     <li>{@code generated}: {@link FeignClientFactory#createClient}, with the build-time generated contract</li>
+ *     <li>{@code lazy}: {@link FeignClientFactory#createLazyClient}, which creates the client on the first call</li>
+ * </ul>
+ * Times are measured from when each JVM has started its server, so they exclude JVM startup. Arguments are
+ * {@code key=value} pairs, e.g. {@code forks=20 modes=reflective,generated,lazy}. Forks of each mode are interleaved.
+ *
+ * @author enemyghost
+ */
+public final class ClientStartupBenchmark {
+    private static final String RESULT = "startup-result";
+
+    private static final byte[] CURRENT_SEASON = ("{\"Season\":2020,\"StartYear\":2019,\"EndYear\":2020,"
+            + "\"Description\":\"2019-2020\",\"RegularSeasonStartDate\":\"2019-11-05T00:00:00\","
+            + "\"PostSeasonStartDate\":\"2020-03-17T00:00:00\",\"SeasonType\":\"REG\",\"ApiSeason\":\"2020REG\"}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Private ctor.
+     */
+    private ClientStartupBenchmark() {
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length == 2 && "child".equals(args[0])) {
+            child(args[1]);
+            return;
+        }
+        final Map<String, String> options = parse(args);
+        final int forks = Integer.parseInt(options.getOrDefault("forks", "20"));
+        final List<String> modes = Arrays.asList(options.getOrDefault("modes", "reflective,generated,lazy").split(","));
+        final Map<String, List<long[]>> results = new HashMap<>();
+        for (int fork = 0; fork < forks; fork++) {
+            for (final String mode : modes) {
+                results.computeIfAbsent(mode, m -> new ArrayList<>()).add(fork(mode));
+            }
+        }
+        System.out.println(String.format("%-11s %14s %14s %15s %15s", "mode", "create (ms)", "first (ms)",
+                "create classes", "first classes"));
+        for (final String mode : modes) {
+            final List<long[]> runs = results.get(mode);
+            System.out.println(String.format(Locale.ROOT, "%-11s %14.1f %14.1f %15d %15d", mode,
+                    median(runs, 0) / 1e6, median(runs, 1) / 1e6, median(runs, 2), median(runs, 3)));
+        }
+    }
+
+    /**
+     * Runs one mode in a new JVM with this JVM's classpath
+     *
+     * @return nanos to create the client and to complete the first request, and classes loaded by each
+     */
+    private static long[] fork(final String mode) throws IOException, InterruptedException {
+        final Process process = new ProcessBuilder(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                // feign 10.x reflects into java.lang.invoke to call default interface methods
+                "--add-opens", "java.base/java.lang.invoke=ALL-UNNAMED",
+                "-cp", System.getProperty("java.class.path"),
+                ClientStartupBenchmark.class.getName(), "child", mode)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        long[] result = null;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                if (line.startsWith(RESULT)) {
+                    result = Arrays.stream(line.substring(RESULT.length()).trim().split(" "))
+                            .mapToLong(Long::parseLong)
+                            .toArray();
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IllegalStateException("Fork of mode " + mode + " failed");
+        }
+        return result;
+    }
+
+    private static void child(final String mode) throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, CURRENT_SEASON.length);
+            exchange.getResponseBody().write(CURRENT_SEASON);
+            exchange.close();
+        });
+        server.start();
+        final String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        final ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+
+        final long start = System.nanoTime();
+        final long startClasses = classLoading.getTotalLoadedClassCount();
+        final NcaaBasketballV3ApiClient client;
+        switch (mode) {
+            case "reflective":
+                client = FeignClientFactory.createDefaultBuilder("benchmark-api-key", NcaaBasketballV3ApiClient.class)
+                        .contract(new JAXRSContract())
+                        .target(NcaaBasketballV3ApiClient.class, baseUrl);
+                break;
+            case "generated":
+                client = FeignClientFactory.createClient(baseUrl, "benchmark-api-key",
+                        NcaaBasketballV3ApiClient.class);
+                break;
+            case "lazy":
+                client = FeignClientFactory.createLazyClient(baseUrl, "benchmark-api-key",
+                        NcaaBasketballV3ApiClient.class);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mode " + mode);
+        }
+        final long created = System.nanoTime();
+        final long createdClasses = classLoading.getTotalLoadedClassCount();
+        if (!client.currentSeason().isPresent()) {
+            throw new IllegalStateException("No current season");
+        }
+        final long firstRequest = System.nanoTime();
+        final long firstRequestClasses = classLoading.getTotalLoadedClassCount();
+        server.stop(0);
+
+        System.out.println(RESULT + " " + (created - start) + " " + (firstRequest - start) + " "
+                + (createdClasses - startClasses) + " " + (firstRequestClasses - startClasses));
+        // the server's dispatcher thread is not a daemon
+        System.exit(0);
+    }
+
+    private static long median(final List<long[]> runs, final int column) {
+        final long[] values = runs.stream().mapToLong(run -> run[column]).sorted().toArray();
+        return values[values.length / 2];
+    }
+
+    private static Map<String, String> parse(final String[] args) {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final int split = arg.indexOf('=');
+            if (split < 0) {
+                throw new IllegalArgumentException("Expected key=value argument but got " + arg);
+            }
+            options.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+        return options;
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding of every sportsdata.io json fixture, plus synthetic scale-ups of the largest responses, through
+ * {@link ObjectMapperSingleton#INSTANCE}.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec}; results are written to {@code target/jmh-result.json}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DecodeBenchmark {
+    @Param({
+            "CurrentSeason",
+            "LeagueHierarchy",
+            "Player",
+            "Players",
+            "PlayerGameProjectionStatsByDate",
+            "PlayerGameProjectionStatsByPlayer",
+            "Stadiums",
+            "Teams",
+            "PlayerGameStatsByDate10k",
+            "LeagueHierarchyFullD1"
+    })
+    public String fixture;
+
+    private byte[] body;
+    private ObjectReader reader;
+
+    @Setup
+    public void setup() {
+        body = body(fixture);
+        reader = ObjectMapperSingleton.INSTANCE.readerFor(type(fixture));
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return reader.readValue(body);
+    }
+
+    /**
+     * Returns the raw response body for the named fixture, synthesizing the scaled-up fixtures
+     *
+     * @param fixture fixture name
+     * @return raw response body
+     */
+    static byte[] body(final String fixture) {
+        switch (fixture) {
+            case "PlayerGameStatsByDate10k":
+                return JsonFixtures.playerGameStatsByDate(10_000);
+            case "LeagueHierarchyFullD1":
+                return JsonFixtures.fullD1LeagueHierarchy();
+            default:
+                return JsonFixtures.load(fixture);
+        }
+    }
+
+    /**
+     * Returns the type the named fixture decodes to
+     *
+     * @param fixture fixture name
+     * @return the {@link JavaType} the fixture decodes to
+     */
+    static JavaType type(final String fixture) {
+        final TypeFactory types = ObjectMapperSingleton.INSTANCE.getTypeFactory();
+        switch (fixture) {
+            case "CurrentSeason":
+                return types.constructType(Season.class);
+            case "LeagueHierarchy":
+            case "LeagueHierarchyFullD1":
+                return types.constructCollectionType(List.class, Conference.class);
+            case "Player":
+                return types.constructType(Player.class);
+            case "PlayerGameProjectionStatsByPlayer":
+                return types.constructType(PlayerGame.class);
+            case "Players":
+                return types.constructCollectionType(List.class, Player.class);
+            case "PlayerGameProjectionStatsByDate":
+            case "PlayerGameStatsByDate10k":
+                return types.constructCollectionType(List.class, PlayerGame.class);
+            case "Stadiums":
+                return types.constructCollectionType(List.class, Stadium.class);
+            case "Teams":
+                return types.constructCollectionType(List.class, Team.class);
+            default:
+                throw new IllegalArgumentException("Unknown fixture " + fixture);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.codec.EntityCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link EntityCodec} against json through {@link ObjectMapperSingleton#INSTANCE} and Smile through
+ * {@link ObjectMapperSingleton#SMILE_INSTANCE}, decoding each fixture to entities and encoding them back.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="EntityCodecBenchmark -prof gc"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntityCodecBenchmark {
+    @Param({
+            "Players",
+            "PlayerGameProjectionStatsByDate",
+            "Teams",
+            "PlayerGameStatsByDate10k",
+            "LeagueHierarchyFullD1"
+    })
+    public String fixture;
+
+    private ObjectReader jsonReader;
+    private ObjectReader smileReader;
+    private ObjectWriter jsonWriter;
+    private ObjectWriter smileWriter;
+    private EntityCodec<Object> codec;
+    private Object entities;
+    private byte[] json;
+    private byte[] smile;
+    private byte[] binary;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() throws IOException {
+        jsonReader = ObjectMapperSingleton.INSTANCE.readerFor(DecodeBenchmark.type(fixture));
+        smileReader = ObjectMapperSingleton.SMILE_INSTANCE.readerFor(DecodeBenchmark.type(fixture));
+        jsonWriter = ObjectMapperSingleton.INSTANCE.writerFor(DecodeBenchmark.type(fixture));
+        smileWriter = ObjectMapperSingleton.SMILE_INSTANCE.writerFor(DecodeBenchmark.type(fixture));
+        codec = (EntityCodec<Object>) codec(fixture);
+
+        json = DecodeBenchmark.body(fixture);
+        entities = jsonReader.readValue(json);
+        smile = smileWriter.writeValueAsBytes(entities);
+        binary = codec.encode(entities);
+    }
+
+    @Benchmark
+    public Object decodeJson() throws IOException {
+        return jsonReader.readValue(json);
+    }
+
+    @Benchmark
+    public Object decodeSmile() throws IOException {
+        return smileReader.readValue(smile);
+    }
+
+    @Benchmark
+    public Object decodeBinary() {
+        return codec.decode(binary);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return jsonWriter.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public byte[] encodeSmile() throws IOException {
+        return smileWriter.writeValueAsBytes(entities);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return codec.encode(entities);
+    }
+
+    private static EntityCodec<?> codec(final String fixture) {
+        switch (fixture) {
+            case "Players":
+                return EntityCodec.PLAYERS;
+            case "PlayerGameProjectionStatsByDate":
+            case "PlayerGameStatsByDate10k":
+                return EntityCodec.PLAYER_GAMES;
+            case "Teams":
+                return EntityCodec.TEAMS;
+            case "LeagueHierarchyFullD1":
+                return EntityCodec.CONFERENCES;
+            default:
+                throw new IllegalArgumentException("Unknown fixture " + fixture);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.codec.FieldMask;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGameField;
+import io.github.enemyghost.sportsdata.api.client.cbb.table.PlayerGameTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding a 10,000 row {@code PlayerGameStatsByDate} response into player games and into a
+ * {@link PlayerGameTable}, in full and under a {@link FieldMask} of the three fields a live dashboard reads.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="FieldMaskBenchmark -prof gc"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FieldMaskBenchmark {
+    private static final FieldMask DASHBOARD = FieldMask.newBuilder()
+            .withPlayerGameFields(PlayerGameField.TEAM, PlayerGameField.OPPONENT_RANK, PlayerGameField.DATE_TIME)
+            .build();
+
+    private byte[] body;
+    private ObjectReader fullListReader;
+    private ObjectReader fullTableReader;
+    private ObjectReader maskedListReader;
+    private ObjectReader maskedTableReader;
+
+    @Setup
+    public void setup() {
+        body = JsonFixtures.playerGameStatsByDate(10_000);
+        fullListReader = ObjectMapperSingleton.INSTANCE.readerFor(ObjectMapperSingleton.INSTANCE
+                .getTypeFactory().constructCollectionType(List.class, PlayerGame.class));
+        fullTableReader = ObjectMapperSingleton.INSTANCE.readerFor(PlayerGameTable.class);
+        maskedListReader = DASHBOARD.getObjectMapper().readerFor(DASHBOARD.getObjectMapper()
+                .getTypeFactory().constructCollectionType(List.class, PlayerGame.class));
+        maskedTableReader = DASHBOARD.getObjectMapper().readerFor(PlayerGameTable.class)
+                .withAttribute(PlayerGameField.class, DASHBOARD.getPlayerGameFields());
+    }
+
+    @Benchmark
+    public List<PlayerGame> fullList() throws IOException {
+        return fullListReader.readValue(body);
+    }
+
+    @Benchmark
+    public List<PlayerGame> maskedList() throws IOException {
+        return maskedListReader.readValue(body);
+    }
+
+    @Benchmark
+    public PlayerGameTable fullTable() throws IOException {
+        return fullTableReader.readValue(body);
+    }
+
+    @Benchmark
+    public PlayerGameTable maskedTable() throws IOException {
+        return maskedTableReader.readValue(body);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.LazyEntities;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding a {@code PlayerGameStatsByDate} response eagerly and with {@link LazyEntities}, for a projection
+ * that reads three fields of every player game, and for a full read of every field, which is the lazy worst case.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="LazyEntityBenchmark -prof gc"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LazyEntityBenchmark {
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private byte[] body;
+    private ObjectReader reader;
+
+    @Setup
+    public void setup() {
+        body = JsonFixtures.playerGameStatsByDate(rows);
+        reader = ObjectMapperSingleton.INSTANCE.readerFor(ObjectMapperSingleton.INSTANCE
+                .getTypeFactory().constructCollectionType(List.class, PlayerGame.class));
+    }
+
+    @Benchmark
+    public long eagerProjection() throws IOException {
+        return project(reader.readValue(body));
+    }
+
+    @Benchmark
+    public long lazyProjection() {
+        return project(LazyEntities.playerGames(body));
+    }
+
+    @Benchmark
+    public long eagerFullRead() throws IOException {
+        return readAll(reader.readValue(body));
+    }
+
+    @Benchmark
+    public long lazyFullRead() {
+        return readAll(LazyEntities.playerGames(body));
+    }
+
+    private static long project(final List<PlayerGame> playerGames) {
+        long sum = 0;
+        for (final PlayerGame playerGame : playerGames) {
+            sum += playerGame.getTeam().map(String::length).orElse(0);
+            sum += playerGame.getOpponentRankAsInt();
+            sum += playerGame.getGameInstant().map(instant -> instant.getEpochSecond()).orElse(0L);
+        }
+        return sum;
+    }
+
+    private static long readAll(final List<PlayerGame> playerGames) {
+        long sum = 0;
+        for (final PlayerGame playerGame : playerGames) {
+            sum += playerGame.hashCode();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import io.github.enemyghost.sportsdata.api.client.cbb.repository.LeagueRepository;
+import io.github.enemyghost.sportsdata.api.client.cbb.repository.LeagueSnapshot;
+import io.github.enemyghost.sportsdata.api.client.cbb.repository.LeagueSnapshotHolder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LeagueSnapshotHolder} read throughput while a full-D1 league is republished every 10ms, on one
+ * thread and on every available core. Per-thread throughput should be about the same for both, since readers share
+ * nothing but one volatile read.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="LeagueSnapshotBenchmark"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeagueSnapshotBenchmark {
+    private LeagueSnapshotHolder holder;
+    private ScheduledExecutorService refresher;
+
+    @Setup
+    public void setup() throws IOException {
+        final ObjectReader reader = ObjectMapperSingleton.INSTANCE.readerFor(ObjectMapperSingleton.INSTANCE
+                .getTypeFactory().constructCollectionType(List.class, Conference.class));
+        final List<Conference> conferences = reader.readValue(JsonFixtures.fullD1LeagueHierarchy());
+        holder = LeagueSnapshotHolder.newBuilder()
+                .withLoader(() -> LeagueRepository.newBuilder().withConferences(conferences).build())
+                .build();
+        refresher = Executors.newSingleThreadScheduledExecutor();
+        refresher.scheduleWithFixedDelay(holder, 10, 10, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        refresher.shutdownNow();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Team readOneThread() {
+        return read();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Team readAllThreads() {
+        return read();
+    }
+
+    private Team read() {
+        final LeagueSnapshot snapshot = holder.get();
+        final int teamId = 1 + ThreadLocalRandom.current().nextInt(JsonFixtures.D1_TEAMS);
+        return snapshot.getRepository().getTeam(teamId).orElse(null);
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.codec.ParallelArrayDecoder;
+import io.github.enemyghost.sportsdata.api.client.codec.StructuralIndexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding a 10,000 row {@code PlayerGameStatsByDate} response, about 16MB, with a
+ * {@link ParallelArrayDecoder} on pools of 1 to 8 threads, splitting the array by scanning its bytes or with the
+ * Vector API bracket index. A pool of one thread decodes on the calling thread, as the mapper alone would. Speedups
+ * are bounded by the cores available to the benchmark.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="ParallelDecodeBenchmark"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelDecodeBenchmark {
+    @Param({"1", "2", "4", "8"})
+    private int threads;
+
+    @Param({"scan", "index"})
+    private String split;
+
+    private byte[] body;
+    private ForkJoinPool pool;
+    private ParallelArrayDecoder decoder;
+
+    @Setup
+    public void setup() {
+        body = JsonFixtures.playerGameStatsByDate(10_000);
+        pool = new ForkJoinPool(threads);
+        decoder = ParallelArrayDecoder.newBuilder()
+                .withPool(pool)
+                .withStructuralIndexer("scan".equals(split)
+                        ? null
+                        : StructuralIndexer.vectorized().orElseThrow(() -> new IllegalStateException(
+                                "Vector API unavailable; run on JDK 17+ with --add-modules jdk.incubator.vector")))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public List<PlayerGame> parallel() throws IOException {
+        return decoder.decodeList(body, PlayerGame.class);
+    }
+}
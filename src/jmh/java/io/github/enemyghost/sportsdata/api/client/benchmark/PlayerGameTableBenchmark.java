@@ -0,0 +1,89 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.table.PlayerGameTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a {@code List<PlayerGame>} against a {@link PlayerGameTable} for decoding and for a filter-and-aggregate
+ * scan: total games played against top-50 opponents by one team.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="PlayerGameTableBenchmark -prof gc"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PlayerGameTableBenchmark {
+    private static final String TEAM = "T5";
+    private static final int TOP_RANK = 50;
+
+    @Param("100000")
+    public int rows;
+
+    private byte[] body;
+    private ObjectReader listReader;
+    private ObjectReader tableReader;
+    private List<PlayerGame> playerGames;
+    private PlayerGameTable table;
+
+    @Setup
+    public void setup() throws IOException {
+        body = JsonFixtures.playerGameStatsByDate(rows);
+        listReader = ObjectMapperSingleton.INSTANCE.readerFor(ObjectMapperSingleton.INSTANCE.getTypeFactory()
+                .constructCollectionType(List.class, PlayerGame.class));
+        tableReader = ObjectMapperSingleton.INSTANCE.readerFor(PlayerGameTable.class);
+        playerGames = listReader.readValue(body);
+        table = tableReader.readValue(body);
+    }
+
+    @Benchmark
+    public List<PlayerGame> decodeList() throws IOException {
+        return listReader.readValue(body);
+    }
+
+    @Benchmark
+    public PlayerGameTable decodeTable() throws IOException {
+        return tableReader.readValue(body);
+    }
+
+    @Benchmark
+    public long scanList() {
+        long games = 0;
+        for (final PlayerGame playerGame : playerGames) {
+            if (playerGame.hasOpponentRank()
+                    && playerGame.getOpponentRankAsInt() <= TOP_RANK
+                    && playerGame.getTeam().map(TEAM::equals).orElse(false)
+                    && playerGame.hasGames()) {
+                games += playerGame.getGamesAsInt();
+            }
+        }
+        return games;
+    }
+
+    @Benchmark
+    public long scanTable() {
+        return table.getGames().sum(table.getOpponentRank().between(1, TOP_RANK).and(table.getTeam().equalTo(TEAM)));
+    }
+}
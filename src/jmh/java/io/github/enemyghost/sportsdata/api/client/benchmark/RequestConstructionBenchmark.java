@@ -0,0 +1,89 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import feign.Client;
+import feign.Response;
+import feign.mock.MockTarget;
+import io.github.enemyghost.sportsdata.api.client.ClientCapability;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.request.PrecompiledRequestCapability;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a call which feign spends outside the transport and the decoder: resolving the request
+ * template, running the interceptors and building the request, with and without a
+ * {@link PrecompiledRequestCapability}. The transport answers every request at once with a json {@code null}, so
+ * that there is next to nothing else to measure.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="RequestConstructionBenchmark -prof gc"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestConstructionBenchmark {
+    private static final byte[] NULL_BODY = "null".getBytes(StandardCharsets.UTF_8);
+    private static final LocalDate DATE = LocalDate.of(2020, 2, 8);
+
+    @Param({"feign", "precompiled"})
+    private String requests;
+
+    private NcaaBasketballV3ApiClient client;
+
+    @Setup
+    public void setup() {
+        final Client transport = (request, options) -> Response.builder()
+                .status(200)
+                .reason("OK")
+                .headers(Collections.emptyMap())
+                .request(request)
+                .body(NULL_BODY)
+                .build();
+        final ClientCapability[] capabilities = "precompiled".equals(requests)
+                ? new ClientCapability[]{new PrecompiledRequestCapability()}
+                : new ClientCapability[0];
+        client = FeignClientFactory.createDefaultBuilder("benchmark-api-key",
+                NcaaBasketballV3ApiClient.class,
+                transport,
+                capabilities)
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+    }
+
+    @Benchmark
+    public List<Player> players() {
+        return client.players();
+    }
+
+    @Benchmark
+    public List<PlayerGame> playerGameStatsByDate() {
+        return client.playerGameStatsByDate(DATE);
+    }
+
+    @Benchmark
+    public Optional<PlayerGame> playerGameStatsByPlayer() {
+        return client.playerGameStatsByPlayer(60_001_234, DATE);
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static io.github.enemyghost.sportsdata.api.client.util.DateFormatUtils.toDatePathParam;
+
+/**
+ * A minimal poller, as run from cron: it creates a client, fetches the current season and a day's player games, and
+ * reports the time from the start of the process to having both decoded, and its peak resident set size. Run it on
+ * the JVM, with a class-data sharing archive from {@code TrainingRun}, or as a native image, against a
+ * {@link StubSportsDataServer} to compare how each starts.
+ * <p>
+ * Arguments are the base API url and, optionally, the date to poll, e.g. {@code http://127.0.0.1:8089 2020-02-08}.
+ * It calls only the interface's abstract methods, as feign calls default methods through a method handle native
+ * images may not support.
+ *
+ * @author enemyghost
+ */
+public final class SamplePoller {
+    private static final Path STATUS = Paths.get("/proc/self/status");
+
+    /**
+     * Private ctor.
+     */
+    private SamplePoller() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("Expected a base API url and an optional date");
+        }
+        final LocalDate date = args.length > 1 ? LocalDate.parse(args[1]) : LocalDate.of(2020, 2, 8);
+        final NcaaBasketballV3ApiClient client = FeignClientFactory.createClient(args[0], "sample-api-key",
+                NcaaBasketballV3ApiClient.class);
+        final Optional<Season> season = client.currentSeason();
+        final List<PlayerGame> playerGames = client.playerGameStatsByDate(toDatePathParam(date));
+        final Optional<Duration> sinceStart = ProcessHandle.current().info().startInstant()
+                .map(start -> Duration.between(start, Instant.now()));
+
+        System.out.println("season=" + season.flatMap(Season::getApiSeason).orElse("none")
+                + " playerGames=" + playerGames.size()
+                + " startToPolled=" + sinceStart.map(d -> d.toMillis() + "ms").orElse("unknown")
+                + " peakRss=" + peakRss());
+    }
+
+    /**
+     * @return peak resident set size, from procfs on Linux
+     */
+    private static String peakRss() throws IOException {
+        if (!Files.isReadable(STATUS)) {
+            return "unknown";
+        }
+        return Files.readAllLines(STATUS).stream()
+                .filter(line -> line.startsWith("VmHWM:"))
+                .map(line -> line.substring("VmHWM:".length()).trim().replace(" ", ""))
+                .findFirst()
+                .orElse("unknown");
+    }
+}
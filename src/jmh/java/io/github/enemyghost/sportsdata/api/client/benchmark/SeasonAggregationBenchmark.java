@@ -0,0 +1,98 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a season-long aggregation over {@link PlayerGame} rows using the {@link Optional} getters against
+ * the same aggregation using the primitive {@code hasX()}/{@code getXAsInt()} accessors. Each iteration totals games
+ * played per team and the sum and count of opponent ranks across every row.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="SeasonAggregationBenchmark -prof gc"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeasonAggregationBenchmark {
+    /**
+     * Roughly one Division I season: 353 teams, ~30 games, ~10 players per game
+     */
+    @Param("100000")
+    public int rows;
+
+    private PlayerGame[] playerGames;
+
+    @Setup
+    public void setup() throws IOException {
+        final List<PlayerGame> decoded = ObjectMapperSingleton.INSTANCE
+                .readerFor(ObjectMapperSingleton.INSTANCE.getTypeFactory()
+                        .constructCollectionType(List.class, PlayerGame.class))
+                .readValue(JsonFixtures.playerGameStatsByDate(rows));
+        playerGames = decoded.toArray(new PlayerGame[0]);
+    }
+
+    @Benchmark
+    public long optionalGetters() {
+        final long[] gamesByTeam = new long[JsonFixtures.D1_TEAMS + 1];
+        long opponentRankSum = 0;
+        long opponentRankCount = 0;
+        for (final PlayerGame playerGame : playerGames) {
+            final int teamId = playerGame.getTeamId().orElse(0);
+            gamesByTeam[teamId] += playerGame.getGames().orElse(0);
+            final Optional<Integer> opponentRank = playerGame.getOpponentRank();
+            if (opponentRank.isPresent()) {
+                opponentRankSum += opponentRank.get();
+                opponentRankCount++;
+            }
+        }
+        return checksum(gamesByTeam, opponentRankSum, opponentRankCount);
+    }
+
+    @Benchmark
+    public long primitiveAccessors() {
+        final long[] gamesByTeam = new long[JsonFixtures.D1_TEAMS + 1];
+        long opponentRankSum = 0;
+        long opponentRankCount = 0;
+        for (final PlayerGame playerGame : playerGames) {
+            final int teamId = playerGame.hasTeamId() ? playerGame.getTeamIdAsInt() : 0;
+            if (playerGame.hasGames()) {
+                gamesByTeam[teamId] += playerGame.getGamesAsInt();
+            }
+            if (playerGame.hasOpponentRank()) {
+                opponentRankSum += playerGame.getOpponentRankAsInt();
+                opponentRankCount++;
+            }
+        }
+        return checksum(gamesByTeam, opponentRankSum, opponentRankCount);
+    }
+
+    private static long checksum(final long[] gamesByTeam, final long opponentRankSum, final long opponentRankCount) {
+        long checksum = opponentRankSum * 31 + opponentRankCount;
+        for (final long games : gamesByTeam) {
+            checksum = checksum * 31 + games;
+        }
+        return checksum;
+    }
+}
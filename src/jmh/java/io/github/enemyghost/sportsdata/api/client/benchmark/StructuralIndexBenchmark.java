@@ -0,0 +1,76 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.codec.StructuralIndex;
+import io.github.enemyghost.sportsdata.api.client.codec.StructuralIndexer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building a {@link StructuralIndex} of a 10,000 row {@code PlayerGameStatsByDate} response, about 16MB,
+ * and the index of its brackets which {@code ParallelArrayDecoder} splits arrays with, with the scalar and the Vector
+ * API {@link StructuralIndexer}, against tokenizing the same body with Jackson's parser. The vector indexer needs
+ * JDK 17 or later, where the {@code benchmark} profile adds its module.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="StructuralIndexBenchmark"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StructuralIndexBenchmark {
+    @Param({"scalar", "vector"})
+    private String indexer;
+
+    private byte[] body;
+    private StructuralIndexer structuralIndexer;
+
+    @Setup
+    public void setup() {
+        body = JsonFixtures.playerGameStatsByDate(10_000);
+        structuralIndexer = "scalar".equals(indexer)
+                ? StructuralIndexer.scalar()
+                : StructuralIndexer.vectorized().orElseThrow(() -> new IllegalStateException(
+                        "Vector API unavailable; run on JDK 17+ with --add-modules jdk.incubator.vector"));
+    }
+
+    @Benchmark
+    public StructuralIndex index() {
+        return structuralIndexer.index(body);
+    }
+
+    @Benchmark
+    public StructuralIndex indexBrackets() {
+        return structuralIndexer.indexBrackets(body);
+    }
+
+    @Benchmark
+    public int jacksonTokens() throws IOException {
+        int tokens = 0;
+        try (JsonParser parser = ObjectMapperSingleton.INSTANCE.getFactory().createParser(body)) {
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                tokens++;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,243 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A local HTTP server that replays the json fixtures for every {@code v3/cbb} endpoint, with configurable latency,
+ * jitter, throttling and payload size. Used to drive the real feign transport offline.
+ *
+ * @author enemyghost
+ */
+public final class StubSportsDataServer implements AutoCloseable {
+    private static final int CHUNK_SIZE = 8192;
+    private static final int PLAYERS_PER_TEAM = 15;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, byte[]> bodies;
+    private final Duration latency;
+    private final Duration jitter;
+    private final int throttlePerSecond;
+    private final AtomicLong throttleWindow = new AtomicLong();
+    private final AtomicLong throttleCount = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+
+    private StubSportsDataServer(final Builder builder) {
+        latency = builder.latency;
+        jitter = builder.jitter;
+        throttlePerSecond = builder.throttlePerSecond;
+        final byte[] playerGames = builder.playerGameRows > 0
+                ? JsonFixtures.playerGameStatsByDate(builder.playerGameRows)
+                : JsonFixtures.load("PlayerGameProjectionStatsByDate");
+        bodies = Map.ofEntries(
+                Map.entry("AreAnyGamesInProgress", "true".getBytes(StandardCharsets.UTF_8)),
+                Map.entry("CurrentSeason", JsonFixtures.load("CurrentSeason")),
+                Map.entry("LeagueHierarchy", builder.fullLeague
+                        ? JsonFixtures.fullD1LeagueHierarchy()
+                        : JsonFixtures.load("LeagueHierarchy")),
+                Map.entry("Players", builder.fullLeague
+                        ? JsonFixtures.fullD1Players(PLAYERS_PER_TEAM)
+                        : JsonFixtures.load("Players")),
+                Map.entry("Player", JsonFixtures.load("Player")),
+                Map.entry("Stadiums", JsonFixtures.load("Stadiums")),
+                Map.entry("Teams", JsonFixtures.load("Teams")),
+                Map.entry("PlayerGameStatsByPlayer", JsonFixtures.load("PlayerGameProjectionStatsByPlayer")),
+                Map.entry("PlayerGameProjectionStatsByPlayer", JsonFixtures.load("PlayerGameProjectionStatsByPlayer")),
+                Map.entry("PlayerGameStatsByDate", playerGames),
+                Map.entry("PlayerGameProjectionStatsByDate", playerGames));
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), builder.port), 0);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to bind stub server", e);
+        }
+        executor = Executors.newFixedThreadPool(builder.threads);
+        server.setExecutor(executor);
+        server.createContext("/v3/cbb/", this::handle);
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Serves the fixtures until the process is stopped, for clients in other processes, such as a native image of
+     * {@link SamplePoller}
+     *
+     * @param args optional port, by default any free port
+     */
+    public static void main(final String[] args) {
+        final StubSportsDataServer server = newBuilder()
+                .withPort(args.length > 0 ? Integer.parseInt(args[0]) : 0)
+                .build()
+                .start();
+        System.out.println("Serving fixtures at " + server.baseUrl());
+    }
+
+    /**
+     * Starts serving requests
+     *
+     * @return this server
+     */
+    public StubSportsDataServer start() {
+        server.start();
+        return this;
+    }
+
+    /**
+     * The base API url of this server, suitable for {@code FeignClientFactory.createClient}
+     *
+     * @return the base API url of this server
+     */
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * The number of requests received, including throttled requests
+     *
+     * @return the number of requests received
+     */
+    public long requestCount() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        try (exchange) {
+            if (isThrottled()) {
+                exchange.getResponseHeaders().add("Retry-After", "1");
+                exchange.sendResponseHeaders(429, -1);
+                return;
+            }
+            sleep();
+            final byte[] body = bodies.get(endpointName(exchange.getRequestURI().getPath()));
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            final OutputStream out = exchange.getResponseBody();
+            for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+                out.write(body, offset, Math.min(CHUNK_SIZE, body.length - offset));
+            }
+        }
+    }
+
+    /**
+     * Maps {@code /v3/cbb/{scores|stats}/json/{Endpoint}/...} to its endpoint name
+     */
+    private static String endpointName(final String path) {
+        final String[] segments = path.split("/");
+        return segments.length > 5 ? segments[5] : "";
+    }
+
+    private boolean isThrottled() {
+        if (throttlePerSecond <= 0) {
+            return false;
+        }
+        final long window = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        final long current = throttleWindow.get();
+        if (current != window && throttleWindow.compareAndSet(current, window)) {
+            throttleCount.set(0);
+        }
+        return throttleCount.incrementAndGet() > throttlePerSecond;
+    }
+
+    private void sleep() {
+        long delayNanos = latency.toNanos();
+        if (!jitter.isZero()) {
+            delayNanos += ThreadLocalRandom.current().nextLong(jitter.toNanos() + 1);
+        }
+        if (delayNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public static final class Builder {
+        private int port;
+        private int threads = 64;
+        private Duration latency = Duration.ZERO;
+        private Duration jitter = Duration.ZERO;
+        private int throttlePerSecond;
+        private int playerGameRows;
+        private boolean fullLeague;
+
+        private Builder() {
+        }
+
+        public Builder withPort(final int val) {
+            port = val;
+            return this;
+        }
+
+        public Builder withThreads(final int val) {
+            threads = checkArgument(val, v -> v > 0, "Threads must be positive");
+            return this;
+        }
+
+        public Builder withLatency(final Duration val) {
+            latency = requireNonNull(val, "Null latency");
+            return this;
+        }
+
+        public Builder withJitter(final Duration val) {
+            jitter = requireNonNull(val, "Null jitter");
+            return this;
+        }
+
+        public Builder withThrottlePerSecond(final int val) {
+            throttlePerSecond = val;
+            return this;
+        }
+
+        public Builder withPlayerGameRows(final int val) {
+            playerGameRows = val;
+            return this;
+        }
+
+        /**
+         * Serves a league hierarchy and players the size of NCAA Division I instead of the small fixtures
+         *
+         * @param val true to serve the full league
+         * @return this builder
+         */
+        public Builder withFullLeague(final boolean val) {
+            fullLeague = val;
+            return this;
+        }
+
+        public StubSportsDataServer build() {
+            return new StubSportsDataServer(this);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import io.github.enemyghost.sportsdata.api.client.util.SportsDataTimeCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link SportsDataTimeCodec} with the {@code java.time} calls it replaces: formatting a path parameter,
+ * parsing an Eastern timestamp to an instant, and converting an instant back to Eastern local time.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="TemporalCodecBenchmark -prof gc"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemporalCodecBenchmark {
+    private static final DateTimeFormatter DATE_PARAM_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MMM-dd");
+
+    private final LocalDate date = LocalDate.of(2020, 2, 8);
+    private final String timestamp = "2020-02-08T14:00:00";
+    private final char[] timestampChars = timestamp.toCharArray();
+    private final Instant instant = Instant.ofEpochSecond(1581188400L);
+
+    @Benchmark
+    public String pathParamFormatter() {
+        return DATE_PARAM_FORMATTER.format(date).toUpperCase();
+    }
+
+    @Benchmark
+    public String pathParamCodec() {
+        return SportsDataTimeCodec.toDatePathParam(date);
+    }
+
+    @Benchmark
+    public Instant parseJavaTime() {
+        return LocalDateTime.parse(timestamp).atZone(SportsDataTimeCodec.ZONE).toInstant();
+    }
+
+    @Benchmark
+    public Instant parseCodec() {
+        return SportsDataTimeCodec.parseInstant(timestampChars, 0, timestampChars.length);
+    }
+
+    @Benchmark
+    public LocalDateTime toLocalJavaTime() {
+        return LocalDateTime.ofInstant(instant, SportsDataTimeCodec.ZONE);
+    }
+
+    @Benchmark
+    public LocalDateTime toLocalCodec() {
+        return SportsDataTimeCodec.toLocalDateTime(instant.getEpochSecond(), instant.getNano());
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.enemyghost.sportsdata.api.client.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the json, Smile and CBOR mappers of {@link ObjectMapperSingleton}, decoding each fixture to entities and
+ * encoding them back. The encoded size of each fixture in each format is printed during setup.
+ * <p>
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="WireFormatBenchmark -prof gc"}.
+ *
+ * @author enemyghost
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+    @Param({"json", "smile", "cbor"})
+    public String format;
+
+    @Param({
+            "Players",
+            "PlayerGameProjectionStatsByDate",
+            "Teams",
+            "PlayerGameStatsByDate10k",
+            "LeagueHierarchyFullD1"
+    })
+    public String fixture;
+
+    private ObjectReader reader;
+    private ObjectWriter writer;
+    private Object entities;
+    private byte[] body;
+
+    @Setup
+    public void setup() throws IOException {
+        final ObjectMapper mapper = mapper(format);
+        reader = mapper.readerFor(DecodeBenchmark.type(fixture));
+        writer = mapper.writerFor(DecodeBenchmark.type(fixture));
+        entities = ObjectMapperSingleton.INSTANCE.readerFor(DecodeBenchmark.type(fixture))
+                .readValue(DecodeBenchmark.body(fixture));
+        body = writer.writeValueAsBytes(entities);
+        System.out.printf("%n%s as %s: %d bytes%n", fixture, format, body.length);
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return reader.readValue(body);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return writer.writeValueAsBytes(entities);
+    }
+
+    private static ObjectMapper mapper(final String format) {
+        switch (format) {
+            case "json":
+                return ObjectMapperSingleton.INSTANCE;
+            case "smile":
+                return ObjectMapperSingleton.SMILE_INSTANCE;
+            case "cbor":
+                return ObjectMapperSingleton.CBOR_INSTANCE;
+            default:
+                throw new IllegalArgumentException("Unknown format " + format);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.enemyghost.sportsdata.api.client;
+
+import feign.Client;
+import feign.InvocationHandlerFactory;
+import feign.Retryer;
+import feign.codec.Decoder;
+
+/**
+ * Extension point for decorating the feign components configured by {@link FeignClientFactory}. Each {@code enrich}
+ * method is named for the component it decorates, receives the component configured so far and returns the component
+ * to use in its place; capabilities are applied in the order they are given to the factory. The methods have distinct
+ * names because every component is a functional interface, so lambdas would make overloads ambiguous.
+ *
+ * @author enemyghost
+ */
+public interface ClientCapability {
+    /**
+     * Decorates the HTTP {@link Client}
+     *
+     * @param client {@link Client} configured so far
+     * @return {@link Client} to use
+     */
+    default Client enrichClient(final Client client) {
+        return client;
+    }
+
+    /**
+     * Decorates the response {@link Decoder}
+     *
+     * @param decoder {@link Decoder} configured so far
+     * @return {@link Decoder} to use
+     */
+    default Decoder enrichDecoder(final Decoder decoder) {
+        return decoder;
+    }
+
+    /**
+     * Decorates the {@link InvocationHandlerFactory} which dispatches calls on the client interface
+     *
+     * @param invocationHandlerFactory {@link InvocationHandlerFactory} configured so far
+     * @return {@link InvocationHandlerFactory} to use
+     */
+    default InvocationHandlerFactory enrichInvocationHandlerFactory(
+            final InvocationHandlerFactory invocationHandlerFactory) {
+        return invocationHandlerFactory;
+    }
+
+    /**
+     * Decorates the {@link Retryer}
+     *
+     * @param retryer {@link Retryer} configured so far
+     * @return {@link Retryer} to use
+     */
+    default Retryer enrichRetryer(final Retryer retryer) {
+        return retryer;
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.enemyghost.sportsdata.api.client;
+
+import feign.Feign;
+
+import java.lang.reflect.Method;
+
+/**
+ * Tracks which client interface method the current thread is executing, so that {@link ClientCapability} decorations
+ * of the transport and decoder can attribute their work to an endpoint. Endpoints are identified by their feign config
+ * key, e.g. {@code NcaaBasketballV3ApiClient#players(String)}.
+ *
+ * @author enemyghost
+ */
+public final class EndpointContext {
+    private static final ThreadLocal<String> CURRENT_ENDPOINT = new ThreadLocal<>();
+
+    /**
+     * Private ctor.
+     */
+    private EndpointContext() {
+    }
+
+    /**
+     * Returns the endpoint the current thread is executing
+     *
+     * @return the current endpoint config key, or null if the thread is not inside a client call
+     */
+    public static String current() {
+        return CURRENT_ENDPOINT.get();
+    }
+
+    /**
+     * Marks the current thread as executing the given endpoint
+     *
+     * @param endpoint endpoint config key
+     * @return the previously current endpoint, to be passed to {@link #restore(String)}
+     */
+    public static String enter(final String endpoint) {
+        final String previous = CURRENT_ENDPOINT.get();
+        CURRENT_ENDPOINT.set(endpoint);
+        return previous;
+    }
+
+    /**
+     * Restores the endpoint that was current before the matching {@link #enter(String)}
+     *
+     * @param previous value returned by {@link #enter(String)}
+     */
+    public static void restore(final String previous) {
+        if (previous == null) {
+            CURRENT_ENDPOINT.remove();
+        } else {
+            CURRENT_ENDPOINT.set(previous);
+        }
+    }
+
+    /**
+     * Returns the endpoint config key for a method of a client interface
+     *
+     * @param apiType client interface type
+     * @param method  client interface method
+     * @return endpoint config key
+     */
+    public static String endpointOf(final Class<?> apiType, final Method method) {
+        return Feign.configKey(apiType, method);
+    }
+}
@@ -1,11 +1,25 @@
 package io.github.enemyghost.sportsdata.api.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
 import feign.Feign;
+import feign.InvocationHandlerFactory;
+import feign.Retryer;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
 import feign.jackson.JacksonDecoder;
 import feign.jackson.JacksonEncoder;
 import feign.jaxrs.JAXRSContract;
 import feign.optionals.OptionalDecoder;
 import feign.slf4j.Slf4jLogger;
+import io.github.enemyghost.sportsdata.api.client.codec.JacksonBinaryDecoder;
+import io.github.enemyghost.sportsdata.api.client.codec.JacksonBinaryEncoder;
+import io.github.enemyghost.sportsdata.api.client.contract.GeneratedContract;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 
 import static io.github.enemyghost.lang.PreconditionUtils.requireNonEmpty;
 import static java.util.Objects.requireNonNull;
@@ -44,6 +58,54 @@ public final class FeignClientFactory {
                 .target(apiType, requireNonEmpty(baseApiUrl, "Null/empty base API url"));
     }
 
+    /**
+     * Creates a new {@link Feign} client for a {@code apiType} class with the default settings for sportsdata.io,
+     * decorated by the given {@link ClientCapability}s
+     *
+     * @param baseApiUrl   base API URL, e.g. https://api.sportsdata.io
+     * @param apiKey       sportsdata.io API key
+     * @param apiType      target interface class for feign
+     * @param capabilities {@link ClientCapability}s to apply, in order
+     * @param <T>          target interface type for feign
+     * @return {@link T} feign-backed API client of the target type
+     */
+    public static <T> T createClient(final String baseApiUrl,
+                                     final String apiKey,
+                                     final Class<T> apiType,
+                                     final ClientCapability... capabilities) {
+        return createDefaultBuilder(requireNonEmpty(apiKey, "Null/empty API key"), requireNonNull(apiType, "Null API type"), capabilities)
+                .target(apiType, requireNonEmpty(baseApiUrl, "Null/empty base API url"));
+    }
+
+    /**
+     * Creates a client for a {@code apiType} class which creates the {@link Feign} client, as
+     * {@link #createClient(String, String, Class, ClientCapability...)} would, when its first method is called. Creating
+     * it loads neither feign nor Jackson, so a process which may never call the API, or has other work to start first,
+     * does not pay for them up front; the first call pays instead. If creating the feign client fails, the call throws
+     * and the next call tries again.
+     *
+     * @param baseApiUrl   base API URL, e.g. https://api.sportsdata.io
+     * @param apiKey       sportsdata.io API key
+     * @param apiType      target interface class for feign
+     * @param capabilities {@link ClientCapability}s to apply, in order
+     * @param <T>          target interface type for feign
+     * @return {@link T} API client of the target type, backed by a feign client created on first use
+     */
+    public static <T> T createLazyClient(final String baseApiUrl,
+                                         final String apiKey,
+                                         final Class<T> apiType,
+                                         final ClientCapability... capabilities) {
+        requireNonEmpty(baseApiUrl, "Null/empty base API url");
+        requireNonEmpty(apiKey, "Null/empty API key");
+        requireNonNull(apiType, "Null API type");
+        final ClientCapability[] enrichments = requireNonNull(capabilities, "Null capabilities").clone();
+        for (final ClientCapability capability : enrichments) {
+            requireNonNull(capability, "Null capability");
+        }
+        return apiType.cast(Proxy.newProxyInstance(apiType.getClassLoader(), new Class<?>[]{apiType},
+                new LazyClientHandler<>(baseApiUrl, apiKey, apiType, enrichments)));
+    }
+
     /**
      * Creates a {@link Feign.Builder} with the default settings for sportsdata.io feign clients
      *
@@ -52,13 +114,154 @@ public final class FeignClientFactory {
      * @return {@link Feign.Builder} with the default settings for  sportsdata.io feign clients
      */
     public static Feign.Builder createDefaultBuilder(final String apiKey, final Class<?> apiType) {
+        return createDefaultBuilder(apiKey, apiType, new ClientCapability[0]);
+    }
+
+    /**
+     * Creates a {@link Feign.Builder} with the default settings for sportsdata.io feign clients, decorated by the given
+     * {@link ClientCapability}s
+     *
+     * @param apiKey       sportsdata.io subscription key
+     * @param apiType      target interface type for feign
+     * @param capabilities {@link ClientCapability}s to apply, in order
+     * @return {@link Feign.Builder} with the default settings for  sportsdata.io feign clients
+     */
+    public static Feign.Builder createDefaultBuilder(final String apiKey,
+                                                     final Class<?> apiType,
+                                                     final ClientCapability... capabilities) {
+        return createDefaultBuilder(apiKey, apiType, new Client.Default(null, null), capabilities);
+    }
+
+    /**
+     * Creates a {@link Feign.Builder} with the default settings for sportsdata.io feign clients using the given HTTP
+     * {@link Client}, decorated by the given {@link ClientCapability}s. Use this rather than
+     * {@link Feign.Builder#client(Client)} so that capabilities also apply to a custom client.
+     *
+     * @param apiKey       sportsdata.io subscription key
+     * @param apiType      target interface type for feign
+     * @param client       HTTP {@link Client}
+     * @param capabilities {@link ClientCapability}s to apply, in order
+     * @return {@link Feign.Builder} with the default settings for  sportsdata.io feign clients
+     */
+    public static Feign.Builder createDefaultBuilder(final String apiKey,
+                                                     final Class<?> apiType,
+                                                     final Client client,
+                                                     final ClientCapability... capabilities) {
+        return createBuilder(apiKey, apiType, client, new JacksonEncoder(ObjectMapperSingleton.INSTANCE),
+                new JacksonDecoder(ObjectMapperSingleton.INSTANCE), capabilities);
+    }
+
+    /**
+     * Creates a {@link Feign.Builder} with the default settings for sportsdata.io feign clients, except that request
+     * and response bodies are in the binary format of the given {@link ObjectMapper}, e.g.
+     * {@link ObjectMapperSingleton#SMILE_INSTANCE} or {@link ObjectMapperSingleton#CBOR_INSTANCE}. Requests ask for
+     * that format in place of json with their {@code Accept} header. Intended for an internal gateway that caches and
+     * forwards sportsdata.io responses in a binary format.
+     *
+     * @param apiKey       sportsdata.io subscription key
+     * @param apiType      target interface type for feign
+     * @param client       HTTP {@link Client}
+     * @param binaryMapper {@link ObjectMapper} of the binary format
+     * @param capabilities {@link ClientCapability}s to apply, in order
+     * @return {@link Feign.Builder} for sportsdata.io feign clients that use a binary format
+     */
+    public static Feign.Builder createBinaryBuilder(final String apiKey,
+                                                    final Class<?> apiType,
+                                                    final Client client,
+                                                    final ObjectMapper binaryMapper,
+                                                    final ClientCapability... capabilities) {
+        final JacksonBinaryEncoder encoder = new JacksonBinaryEncoder(requireNonNull(binaryMapper, "Null mapper"));
+        final String accept = encoder.getContentType();
+        return createBuilder(apiKey, apiType, client, encoder, new JacksonBinaryDecoder(binaryMapper), capabilities)
+                .requestInterceptor(template -> template.header("Accept").header("Accept", accept));
+    }
+
+    private static Feign.Builder createBuilder(final String apiKey,
+                                               final Class<?> apiType,
+                                               final Client client,
+                                               final Encoder encoder,
+                                               final Decoder bodyDecoder,
+                                               final ClientCapability... capabilities) {
+        // validated once here rather than by the interceptor on every request
+        final String subscriptionKey = requireNonEmpty(apiKey, "Null/empty API Key");
+        Client enrichedClient = requireNonNull(client, "Null client");
+        Decoder decoder = new OptionalDecoder(bodyDecoder);
+        InvocationHandlerFactory invocationHandlerFactory = new InvocationHandlerFactory.Default();
+        Retryer retryer = new Retryer.Default();
+        for (final ClientCapability capability : requireNonNull(capabilities, "Null capabilities")) {
+            requireNonNull(capability, "Null capability");
+            enrichedClient = capability.enrichClient(enrichedClient);
+            decoder = capability.enrichDecoder(decoder);
+            invocationHandlerFactory = capability.enrichInvocationHandlerFactory(invocationHandlerFactory);
+            retryer = capability.enrichRetryer(retryer);
+        }
+
         return Feign.builder()
                 .decode404()
-                .contract(new JAXRSContract())
-                .decoder(new OptionalDecoder(new JacksonDecoder(ObjectMapperSingleton.INSTANCE)))
-                .encoder(new JacksonEncoder(ObjectMapperSingleton.INSTANCE))
-                .logger(new Slf4jLogger(requireNonNull(apiType, "Null API type")))
-                .requestInterceptor(template ->
-                        template.header(API_KEY_HEADER_NAME, requireNonEmpty(apiKey, "Null/empty API Key")));
+                .contract(GeneratedContract.forType(requireNonNull(apiType, "Null API type"))
+                        .orElseGet(JAXRSContract::new))
+                .client(enrichedClient)
+                .decoder(decoder)
+                .encoder(encoder)
+                .invocationHandlerFactory(invocationHandlerFactory)
+                .retryer(retryer)
+                .logger(new Slf4jLogger(apiType))
+                .requestInterceptor(template -> template.header(API_KEY_HEADER_NAME, subscriptionKey));
+    }
+
+    /**
+     * Handler of a lazy client's proxy, which creates the feign client on the first call of an interface method and
+     * passes every call to it
+     */
+    private static final class LazyClientHandler<T> implements InvocationHandler {
+        private final String baseApiUrl;
+        private final String apiKey;
+        private final Class<T> apiType;
+        private final ClientCapability[] capabilities;
+
+        private volatile T client;
+
+        LazyClientHandler(final String baseApiUrl,
+                          final String apiKey,
+                          final Class<T> apiType,
+                          final ClientCapability[] capabilities) {
+            this.baseApiUrl = baseApiUrl;
+            this.apiKey = apiKey;
+            this.apiType = apiType;
+            this.capabilities = capabilities;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return "LazyClient(type=" + apiType.getSimpleName() + ", url=" + baseApiUrl + ")";
+                }
+            }
+            try {
+                return method.invoke(client(), args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private T client() {
+            T created = client;
+            if (created == null) {
+                synchronized (this) {
+                    created = client;
+                    if (created == null) {
+                        created = createClient(baseApiUrl, apiKey, apiType, capabilities);
+                        client = created;
+                    }
+                }
+            }
+            return created;
+        }
     }
 }
@@ -1,5 +1,6 @@
 package io.github.enemyghost.sportsdata.api.client;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -8,29 +9,90 @@ import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.enemyghost.sportsdata.api.client.buffer.BufferPool;
+import io.github.enemyghost.sportsdata.api.client.buffer.PooledJsonFactory;
+import io.github.enemyghost.sportsdata.api.client.cbb.codec.EntitySerializerModule;
+import io.github.enemyghost.sportsdata.api.client.cbb.codec.StringInterningModule;
+import io.github.enemyghost.sportsdata.api.client.codec.SportsDataTimeModule;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Configures a default, immutable {@link ObjectMapper} properly configured for the sportsdata.io JSON API
+ * Configures a default, immutable {@link ObjectMapper} properly configured for the sportsdata.io JSON API, and sibling
+ * mappers with the same configuration for the Smile and CBOR binary formats
  */
 public final class ObjectMapperSingleton {
+    /**
+     * Shared by all the mappers, so that entities decoded from any format refer to the same canonical strings
+     */
+    private static final StringInterningModule STRING_INTERNING = new StringInterningModule();
+
     /**
      * Default, immutable {@link ObjectMapper} configured for sportsdata.io feign clients.
      */
-    public static final ObjectMapper INSTANCE;
+    public static final ObjectMapper INSTANCE = create(new JsonFactory());
+
+    /**
+     * Immutable {@link ObjectMapper} configured like {@link #INSTANCE} that reads and writes Smile, a binary
+     * encoding of the same data model
+     */
+    public static final ObjectMapper SMILE_INSTANCE = create(new SmileFactory());
+
+    /**
+     * Immutable {@link ObjectMapper} configured like {@link #INSTANCE} that reads and writes CBOR, a binary
+     * encoding of the same data model
+     */
+    public static final ObjectMapper CBOR_INSTANCE = create(new CBORFactory());
+
+    /**
+     * Private ctor.
+     */
+    private ObjectMapperSingleton() {
+    }
+
+    /**
+     * Creates a new immutable json {@link ObjectMapper} configured like {@link #INSTANCE}, with additional modules
+     * registered after the default ones. Each mapper builds its own serializers and deserializers, so create one per
+     * configuration and reuse it.
+     *
+     * @param modules additional {@link Module}s to register
+     * @return new immutable {@link ObjectMapper}
+     */
+    public static ObjectMapper newInstance(final Module... modules) {
+        return create(new JsonFactory(), modules);
+    }
+
+    /**
+     * Creates a new immutable json {@link ObjectMapper} configured like {@link #newInstance(Module...)}, whose parsers
+     * and generators take their buffers from a {@link BufferPool} instead of caching them per thread
+     *
+     * @param pool    pool to take buffers from
+     * @param modules additional {@link Module}s to register
+     * @return new immutable {@link ObjectMapper}
+     */
+    public static ObjectMapper newPooledInstance(final BufferPool pool, final Module... modules) {
+        return create(new PooledJsonFactory(pool), modules);
+    }
 
-    static {
-        final UnmodifiableObjectMapper objectMapper = new UnmodifiableObjectMapper();
+    private static ObjectMapper create(final JsonFactory jsonFactory, final Module... modules) {
+        final UnmodifiableObjectMapper objectMapper = new UnmodifiableObjectMapper(jsonFactory);
         objectMapper.registerModule(new Jdk8Module());
         objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.registerModule(new SportsDataTimeModule());
+        objectMapper.registerModule(new EntitySerializerModule());
+        objectMapper.registerModule(STRING_INTERNING);
+        for (final Module module : modules) {
+            objectMapper.registerModule(module);
+        }
         objectMapper.configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
         objectMapper.configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, false);
         objectMapper.setPropertyNamingStrategy(PropertyNamingStrategy.UPPER_CAMEL_CASE);
         objectMapper.seal();
-        INSTANCE = objectMapper;
+        return objectMapper;
     }
 
     /**
@@ -40,6 +102,10 @@ public final class ObjectMapperSingleton {
     private static final class UnmodifiableObjectMapper extends ObjectMapper {
         private final AtomicBoolean sealed = new AtomicBoolean(false);
 
+        UnmodifiableObjectMapper(final JsonFactory jsonFactory) {
+            super(jsonFactory);
+        }
+
         @Override
         public ObjectMapper registerModule(final Module module) {
             if (sealed.get()) {
@@ -0,0 +1,140 @@
+package io.github.enemyghost.sportsdata.api.client.aot;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.enemyghost.sportsdata.api.client.util.DateFormatUtils.toDatePathParam;
+
+/**
+ * Entry point for training an application class-data sharing (CDS) archive, so that processes which create a client
+ * and make a few calls, such as pollers run on a schedule, start from classes already parsed and verified rather than
+ * loading feign, Jackson and the entities from their jars. It serves sample responses from a server on the loopback
+ * interface and calls every endpoint once through a client from {@link FeignClientFactory}, so that the classes of the
+ * HTTP transport, the contract, the decoders and every entity are loaded. It needs no network access or API key.
+ * <p>
+ * On JDK 13 and later, dump the classes it loads when it exits, then start the poller with the archive, with the same
+ * classpath or one that extends it. CDS archives only classes from jars. On JDK 16 and later, feign also needs
+ * {@code java.lang.invoke} opened, in both runs:
+ * <pre>
+ * java --add-opens java.base/java.lang.invoke=ALL-UNNAMED -XX:ArchiveClassesAtExit=sportsdataio.jsa \
+ *     -cp app.jar:lib/* io.github.enemyghost.sportsdata.api.client.aot.TrainingRun
+ * java --add-opens java.base/java.lang.invoke=ALL-UNNAMED -XX:SharedArchiveFile=sportsdataio.jsa \
+ *     -cp app.jar:lib/* com.example.Poller
+ * </pre>
+ *
+ * @author enemyghost
+ */
+public final class TrainingRun {
+    private static final String[] SAMPLES = {"CurrentSeason", "LeagueHierarchy", "Player", "PlayerGame",
+            "PlayerGames", "Players", "Stadiums", "Teams"};
+
+    private static final LocalDate DATE = LocalDate.of(2020, 2, 8);
+
+    /**
+     * Private ctor.
+     */
+    private TrainingRun() {
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final Map<String, byte[]> samples = new HashMap<>();
+        for (final String sample : SAMPLES) {
+            samples.put(sample, load(sample));
+        }
+        samples.put("AreAnyGamesInProgress", "false".getBytes(StandardCharsets.UTF_8));
+        final HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            final String[] path = exchange.getRequestURI().getPath().split("/");
+            final byte[] body = path.length > 5 ? samples.get(sample(path[5])) : null;
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+            } else {
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                exchange.getResponseBody().write(body);
+            }
+            exchange.close();
+        });
+        server.start();
+        try {
+            train(FeignClientFactory.createClient("http://127.0.0.1:" + server.getAddress().getPort(),
+                    "training-api-key",
+                    NcaaBasketballV3ApiClient.class));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    /**
+     * Calls every endpoint of the client once
+     *
+     * @param client client of a server answering with the samples
+     * @throws IllegalStateException if a response was not decoded as expected
+     */
+    static void train(final NcaaBasketballV3ApiClient client) {
+        final String date = toDatePathParam(DATE);
+        check(!client.areAnyGamesInProgress(), "AreAnyGamesInProgress");
+        check(client.currentSeason().isPresent(), "CurrentSeason");
+        check(nonEmpty(client.leagueHierarchy()), "LeagueHierarchy");
+        check(nonEmpty(client.players()), "Players");
+        check(nonEmpty(client.players("SMU")), "Players by team");
+        check(client.player(60000001).isPresent(), "Player");
+        check(nonEmpty(client.stadiums()), "Stadiums");
+        check(nonEmpty(client.teams()), "Teams");
+        check(client.playerGameStatsByPlayer(60000001, date).isPresent(), "PlayerGameStatsByPlayer");
+        check(nonEmpty(client.playerGameStatsByDate(date)), "PlayerGameStatsByDate");
+        check(client.playerGameStatsTableByDate(date).size() > 0, "PlayerGameStatsByDate table");
+        check(client.playerGameProjectionStatsByPlayer(60000001, date).isPresent(),
+                "PlayerGameProjectionStatsByPlayer");
+        check(nonEmpty(client.playerGameProjectionStatsByDate(date)), "PlayerGameProjectionStatsByDate");
+        check(client.playerGameProjectionStatsTableByDate(date).size() > 0, "PlayerGameProjectionStatsByDate table");
+    }
+
+    /**
+     * @return name of the sample which answers an endpoint, named by the path segment after {@code json}
+     */
+    private static String sample(final String endpoint) {
+        switch (endpoint) {
+            case "PlayerGameStatsByDate":
+            case "PlayerGameProjectionStatsByDate":
+                return "PlayerGames";
+            case "PlayerGameStatsByPlayer":
+            case "PlayerGameProjectionStatsByPlayer":
+                return "PlayerGame";
+            default:
+                return endpoint;
+        }
+    }
+
+    private static byte[] load(final String sample) {
+        try (InputStream in = TrainingRun.class.getResourceAsStream(sample + ".json")) {
+            if (in == null) {
+                throw new IllegalStateException("Missing training sample " + sample);
+            }
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean nonEmpty(final List<?> entities) {
+        return !entities.isEmpty();
+    }
+
+    private static void check(final boolean decoded, final String endpoint) {
+        if (!decoded) {
+            throw new IllegalStateException("Unexpected training response from " + endpoint);
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package io.github.enemyghost.sportsdata.api.client.buffer;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Pool of heap byte and char arrays shared by the HTTP transport, which reads response bodies into pooled byte arrays,
+ * and by Jackson, whose parsers take their buffers from the pool through a {@link PooledJsonFactory} rather than from
+ * per-thread caches, which are of no use to short-lived or virtual threads.
+ * <p>
+ * Arrays come in power-of-two size classes, from {@link #MIN_BUFFER_LENGTH} up to the configured maximum length. Each
+ * class keeps up to a fixed number of free arrays in slots which threads claim and fill with atomic swaps, so that
+ * acquiring and releasing never block. Requests longer than the largest class, and arrays released to a full class,
+ * are left to the garbage collector.
+ * <p>
+ * Arrays from {@link #acquireBytes(int)} and {@link #acquireChars(int)} must be released exactly once, after their
+ * last use. With {@link Builder#withLeakDetection(boolean) leak detection}, which is meant for tests, the pool records
+ * where each array was acquired, rejects arrays released twice or not acquired from it, and reports arrays never
+ * released from {@link #checkNoLeaks()}.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @author enemyghost
+ */
+public final class BufferPool {
+    /**
+     * Length of the smallest size class, in bytes or chars
+     */
+    public static final int MIN_BUFFER_LENGTH = 1024;
+
+    private static final int MIN_SHIFT = Integer.numberOfTrailingZeros(MIN_BUFFER_LENGTH);
+
+    private final SizeClasses<byte[]> bytes;
+    private final SizeClasses<char[]> chars;
+    private final Map<Object, Throwable> outstanding;
+
+    private BufferPool(final Builder builder) {
+        checkArgument(builder.maxBufferLength >= MIN_BUFFER_LENGTH
+                        && Integer.bitCount(builder.maxBufferLength) == 1,
+                "Max buffer length must be a power of two of at least " + MIN_BUFFER_LENGTH);
+        checkArgument(builder.buffersPerClass > 0, "Buffers per class must be positive");
+        final int classes = sizeClass(builder.maxBufferLength) + 1;
+        bytes = new SizeClasses<>(classes, builder.buffersPerClass, byte[]::new);
+        chars = new SizeClasses<>(classes, builder.buffersPerClass, char[]::new);
+        outstanding = builder.leakDetection ? Collections.synchronizedMap(new IdentityHashMap<>()) : null;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Acquires a byte array, which must be {@link #release(byte[]) released} after its last use
+     *
+     * @param minLength minimum length of the array
+     * @return pooled array of at least {@code minLength} bytes
+     */
+    public byte[] acquireBytes(final int minLength) {
+        return track(takeBytes(minLength));
+    }
+
+    /**
+     * Returns an array acquired from {@link #acquireBytes(int)} to the pool. The caller must not use it afterwards.
+     *
+     * @param buffer array to release
+     * @throws IllegalStateException if leak detection is on and the array is not outstanding from this pool
+     */
+    public void release(final byte[] buffer) {
+        untrack(requireNonNull(buffer, "Null buffer"));
+        offerBytes(buffer);
+    }
+
+    /**
+     * Acquires a char array, which must be {@link #release(char[]) released} after its last use
+     *
+     * @param minLength minimum length of the array
+     * @return pooled array of at least {@code minLength} chars
+     */
+    public char[] acquireChars(final int minLength) {
+        return track(takeChars(minLength));
+    }
+
+    /**
+     * Returns an array acquired from {@link #acquireChars(int)} to the pool. The caller must not use it afterwards.
+     *
+     * @param buffer array to release
+     * @throws IllegalStateException if leak detection is on and the array is not outstanding from this pool
+     */
+    public void release(final char[] buffer) {
+        untrack(requireNonNull(buffer, "Null buffer"));
+        offerChars(buffer);
+    }
+
+    /**
+     * @return true if this pool records acquired arrays to detect leaks
+     */
+    public boolean isLeakDetectionEnabled() {
+        return outstanding != null;
+    }
+
+    /**
+     * Checks that every array acquired from this pool has been released
+     *
+     * @throws IllegalStateException if any array is outstanding, caused by the stack trace of its acquisition
+     * @throws UnsupportedOperationException if leak detection is off
+     */
+    public void checkNoLeaks() {
+        if (outstanding == null) {
+            throw new UnsupportedOperationException("Leak detection is disabled");
+        }
+        synchronized (outstanding) {
+            if (!outstanding.isEmpty()) {
+                throw new IllegalStateException(outstanding.size() + " buffer(s) acquired but never released",
+                        outstanding.values().iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Takes a byte array without tracking it, for callers such as Jackson which may return arrays of other lengths
+     */
+    byte[] takeBytes(final int minLength) {
+        checkArgument(minLength >= 0, "Length must not be negative");
+        return bytes.take(minLength);
+    }
+
+    /**
+     * Offers a byte array to the pool without tracking it. Arrays of lengths other than a size class are dropped.
+     */
+    void offerBytes(final byte[] buffer) {
+        bytes.offer(buffer, buffer.length);
+    }
+
+    char[] takeChars(final int minLength) {
+        checkArgument(minLength >= 0, "Length must not be negative");
+        return chars.take(minLength);
+    }
+
+    void offerChars(final char[] buffer) {
+        chars.offer(buffer, buffer.length);
+    }
+
+    /**
+     * @return number of free byte arrays held by the pool
+     */
+    int pooledByteBuffers() {
+        return bytes.pooled();
+    }
+
+    /**
+     * @return number of free char arrays held by the pool
+     */
+    int pooledCharBuffers() {
+        return chars.pooled();
+    }
+
+    private <T> T track(final T buffer) {
+        if (outstanding != null) {
+            outstanding.put(buffer, new Throwable("Buffer of length " + length(buffer) + " acquired here"));
+        }
+        return buffer;
+    }
+
+    private void untrack(final Object buffer) {
+        if (outstanding != null && outstanding.remove(buffer) == null) {
+            throw new IllegalStateException("Buffer of length " + length(buffer)
+                    + " was already released or was not acquired from this pool");
+        }
+    }
+
+    private static int length(final Object buffer) {
+        return buffer instanceof byte[] ? ((byte[]) buffer).length : ((char[]) buffer).length;
+    }
+
+    /**
+     * @return index of the smallest size class holding {@code length} elements
+     */
+    private static int sizeClass(final int length) {
+        return length <= MIN_BUFFER_LENGTH ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(length - 1) - MIN_SHIFT;
+    }
+
+    /**
+     * Free arrays of one element type, by size class
+     */
+    private static final class SizeClasses<T> {
+        private final AtomicReferenceArray<T>[] slots;
+        private final IntFunction<T> allocator;
+
+        @SuppressWarnings("unchecked")
+        SizeClasses(final int classes, final int buffersPerClass, final IntFunction<T> allocator) {
+            slots = (AtomicReferenceArray<T>[]) new AtomicReferenceArray<?>[classes];
+            for (int i = 0; i < classes; i++) {
+                slots[i] = new AtomicReferenceArray<>(buffersPerClass);
+            }
+            this.allocator = allocator;
+        }
+
+        T take(final int minLength) {
+            final int sizeClass = sizeClass(minLength);
+            if (sizeClass >= slots.length) {
+                return allocator.apply(minLength);
+            }
+            final AtomicReferenceArray<T> free = slots[sizeClass];
+            for (int i = 0; i < free.length(); i++) {
+                // a plain read first, so that empty slots are not written to
+                if (free.get(i) != null) {
+                    final T buffer = free.getAndSet(i, null);
+                    if (buffer != null) {
+                        return buffer;
+                    }
+                }
+            }
+            return allocator.apply(MIN_BUFFER_LENGTH << sizeClass);
+        }
+
+        void offer(final T buffer, final int length) {
+            final int sizeClass = sizeClass(length);
+            if (sizeClass >= slots.length || MIN_BUFFER_LENGTH << sizeClass != length) {
+                return;
+            }
+            final AtomicReferenceArray<T> free = slots[sizeClass];
+            for (int i = 0; i < free.length(); i++) {
+                if (free.get(i) == null && free.compareAndSet(i, null, buffer)) {
+                    return;
+                }
+            }
+        }
+
+        int pooled() {
+            int pooled = 0;
+            for (final AtomicReferenceArray<T> free : slots) {
+                for (int i = 0; i < free.length(); i++) {
+                    if (free.get(i) != null) {
+                        pooled++;
+                    }
+                }
+            }
+            return pooled;
+        }
+    }
+
+    public static final class Builder {
+        private int maxBufferLength = 4 * 1024 * 1024;
+        private int buffersPerClass = 16;
+        private boolean leakDetection;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maxBufferLength length of the largest pooled arrays, a power of two; defaults to 4M
+         * @return this builder
+         */
+        public Builder withMaxBufferLength(final int maxBufferLength) {
+            this.maxBufferLength = maxBufferLength;
+            return this;
+        }
+
+        /**
+         * @param buffersPerClass number of free arrays kept of each size class and element type; defaults to 16
+         * @return this builder
+         */
+        public Builder withBuffersPerClass(final int buffersPerClass) {
+            this.buffersPerClass = buffersPerClass;
+            return this;
+        }
+
+        /**
+         * @param leakDetection whether to record where arrays are acquired, and check that they are released exactly
+         *                      once; off by default, as recording a stack trace per array is costly
+         * @return this builder
+         */
+        public Builder withLeakDetection(final boolean leakDetection) {
+            this.leakDetection = leakDetection;
+            return this;
+        }
+
+        public BufferPool build() {
+            return new BufferPool(this);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.enemyghost.sportsdata.api.client.buffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Client;
+import feign.Response;
+import feign.codec.Decoder;
+import io.github.enemyghost.sportsdata.api.client.ClientCapability;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ClientCapability} which reads each response body into an array from a {@link BufferPool} and decodes json
+ * bodies from that array with a mapper whose parsers also take their buffers from the pool, so that a steady stream of
+ * responses reuses the same arrays however many threads make the calls. The body's array is released once the response
+ * is decoded, or once Feign closes the body, whichever comes first.
+ * <p>
+ * List this capability before any capability whose decoder must see decodes, such as
+ * {@link io.github.enemyghost.sportsdata.api.client.metrics.MetricsCapability}: it decodes non-empty successful
+ * responses itself, without calling the decoder it wraps, so the decoders of capabilities listed before it never see
+ * those responses. Capabilities listed after this one wrap its decoder and see the pooled body, and those which decode
+ * responses themselves, such as {@link io.github.enemyghost.sportsdata.api.client.codec.ParallelDecodeCapability},
+ * decode it as before. Intended for the default json client.
+ *
+ * @author enemyghost
+ */
+public final class BufferPoolCapability implements ClientCapability {
+    private final BufferPool pool;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Creates a capability with its own pooled mapper. Each mapper builds its own deserializers, so create one
+     * capability per pool and reuse it.
+     *
+     * @param pool pool to read bodies into and take parser buffers from
+     */
+    public BufferPoolCapability(final BufferPool pool) {
+        this.pool = requireNonNull(pool, "Null pool");
+        objectMapper = ObjectMapperSingleton.newPooledInstance(pool);
+    }
+
+    @Override
+    public Client enrichClient(final Client client) {
+        return (request, options) -> {
+            final Response response = client.execute(request, options);
+            if (response.body() == null) {
+                return response;
+            }
+            final PooledResponseBody body;
+            try (Response.Body original = response.body()) {
+                body = PooledResponseBody.read(pool, original.asInputStream(), original.length());
+            }
+            return response.toBuilder().body(body).build();
+        };
+    }
+
+    @Override
+    public Decoder enrichDecoder(final Decoder decoder) {
+        return (response, type) -> {
+            if (!(response.body() instanceof PooledResponseBody)) {
+                return decoder.decode(response, type);
+            }
+            final PooledResponseBody body = (PooledResponseBody) response.body();
+            try {
+                if (response.status() == 404 || response.status() == 204 || body.length() == 0) {
+                    // empty values are the delegate's to decide
+                    return decoder.decode(response, type);
+                }
+                if (type instanceof ParameterizedType && ((ParameterizedType) type).getRawType() == Optional.class) {
+                    return Optional.ofNullable(read(body, ((ParameterizedType) type).getActualTypeArguments()[0]));
+                }
+                return read(body, type);
+            } finally {
+                body.close();
+            }
+        };
+    }
+
+    private Object read(final PooledResponseBody body, final Type type) throws IOException {
+        return objectMapper.readValue(body.array(), 0, body.length(), objectMapper.constructType(type));
+    }
+}
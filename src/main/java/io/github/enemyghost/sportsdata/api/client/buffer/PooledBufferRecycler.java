@@ -0,0 +1,40 @@
+package io.github.enemyghost.sportsdata.api.client.buffer;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+/**
+ * {@link BufferRecycler} which takes the buffers of Jackson's parsers and generators from a {@link BufferPool} and
+ * returns them to it, instead of keeping one set per thread. A single instance is shared by every parser of a
+ * {@link PooledJsonFactory}.
+ *
+ * @author enemyghost
+ */
+final class PooledBufferRecycler extends BufferRecycler {
+    private final BufferPool pool;
+
+    PooledBufferRecycler(final BufferPool pool) {
+        // no per-instance slots; every buffer comes from the pool
+        super(0, 0);
+        this.pool = pool;
+    }
+
+    @Override
+    public byte[] allocByteBuffer(final int ix, final int minSize) {
+        return pool.takeBytes(Math.max(minSize, byteBufferLength(ix)));
+    }
+
+    @Override
+    public void releaseByteBuffer(final int ix, final byte[] buffer) {
+        pool.offerBytes(buffer);
+    }
+
+    @Override
+    public char[] allocCharBuffer(final int ix, final int minSize) {
+        return pool.takeChars(Math.max(minSize, charBufferLength(ix)));
+    }
+
+    @Override
+    public void releaseCharBuffer(final int ix, final char[] buffer) {
+        pool.offerChars(buffer);
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.enemyghost.sportsdata.api.client.buffer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link JsonFactory} whose parsers and generators take their buffers from a {@link BufferPool}, so that the buffers
+ * are reused across threads rather than cached per thread.
+ *
+ * @author enemyghost
+ */
+public final class PooledJsonFactory extends JsonFactory {
+    private static final long serialVersionUID = 1L;
+
+    private final transient BufferRecycler recycler;
+
+    public PooledJsonFactory(final BufferPool pool) {
+        recycler = new PooledBufferRecycler(requireNonNull(pool, "Null pool"));
+    }
+
+    private PooledJsonFactory(final PooledJsonFactory source) {
+        super(source, null);
+        recycler = source.recycler;
+    }
+
+    @Override
+    public JsonFactory copy() {
+        return new PooledJsonFactory(this);
+    }
+
+    @Override
+    public BufferRecycler _getBufferRecycler() {
+        return recycler;
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.enemyghost.sportsdata.api.client.buffer;
+
+import feign.Response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+
+/**
+ * {@link Response.Body} read fully into an array acquired from a {@link BufferPool}, which it releases when closed.
+ * Feign closes the body once the response is decoded, so the array is reused by the next response.
+ *
+ * @author enemyghost
+ */
+final class PooledResponseBody implements Response.Body {
+    /**
+     * Array length to start reading bodies of unknown length into
+     */
+    private static final int INITIAL_LENGTH = 8 * 1024;
+
+    private final BufferPool pool;
+    private final int length;
+    private byte[] buffer;
+
+    private PooledResponseBody(final BufferPool pool, final byte[] buffer, final int length) {
+        this.pool = pool;
+        this.buffer = buffer;
+        this.length = length;
+    }
+
+    /**
+     * Reads a stream to its end into a pooled array, moving to the next size class whenever it fills
+     *
+     * @param pool       pool to acquire arrays from
+     * @param in         stream to read; not closed
+     * @param lengthHint expected length, or null if unknown
+     * @return body holding the bytes read
+     * @throws IOException if reading fails, in which case no array is left acquired
+     */
+    static PooledResponseBody read(final BufferPool pool, final InputStream in, final Integer lengthHint)
+            throws IOException {
+        byte[] buffer = pool.acquireBytes(lengthHint != null && lengthHint >= 0 ? lengthHint : INITIAL_LENGTH);
+        int length = 0;
+        try {
+            while (true) {
+                if (length == buffer.length) {
+                    // the body may end exactly here, so only grow once there is another byte to hold
+                    final int next = in.read();
+                    if (next < 0) {
+                        break;
+                    }
+                    final byte[] larger = pool.acquireBytes(Math.max(length + 1, length * 2));
+                    System.arraycopy(buffer, 0, larger, 0, length);
+                    pool.release(buffer);
+                    buffer = larger;
+                    buffer[length++] = (byte) next;
+                }
+                final int n = in.read(buffer, length, buffer.length - length);
+                if (n < 0) {
+                    break;
+                }
+                length += n;
+            }
+        } catch (final IOException | RuntimeException e) {
+            pool.release(buffer);
+            throw e;
+        }
+        return new PooledResponseBody(pool, buffer, length);
+    }
+
+    /**
+     * @return array holding the body from offset zero to {@link #length()}
+     * @throws IllegalStateException if the body is closed
+     */
+    byte[] array() {
+        if (buffer == null) {
+            throw new IllegalStateException("Body is closed");
+        }
+        return buffer;
+    }
+
+    @Override
+    public Integer length() {
+        return length;
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return buffer != null;
+    }
+
+    @Override
+    public InputStream asInputStream() throws IOException {
+        if (buffer == null) {
+            throw new IOException("Body is closed");
+        }
+        return new ByteArrayInputStream(buffer, 0, length);
+    }
+
+    @Override
+    public Reader asReader(final Charset charset) throws IOException {
+        return new InputStreamReader(asInputStream(), charset);
+    }
+
+    @Override
+    public void close() {
+        if (buffer != null) {
+            final byte[] released = buffer;
+            buffer = null;
+            pool.release(released);
+        }
+    }
+}
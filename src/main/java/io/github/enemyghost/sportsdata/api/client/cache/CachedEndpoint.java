@@ -0,0 +1,130 @@
+package io.github.enemyghost.sportsdata.api.client.cache;
+
+import io.github.enemyghost.sportsdata.api.client.jfr.JfrEvents;
+import io.github.enemyghost.sportsdata.api.client.util.DecodedEntities;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The cached response of one endpoint, kept fresh by a {@link RefreshAheadCache}.
+ * <p>
+ * {@link #get()} is a single volatile read of the last successfully loaded value; it never calls the endpoint. A
+ * failed reload leaves the last good value in place, so {@link #getAge()} can exceed the TTL while the endpoint is
+ * failing.
+ *
+ * @param <T> response type
+ * @author enemyghost
+ */
+public final class CachedEndpoint<T> {
+    private final String endpoint;
+    private final Duration ttl;
+    private final Supplier<T> loader;
+    private final Clock clock;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile Entry<T> entry;
+
+    CachedEndpoint(final String endpoint, final Duration ttl, final Supplier<T> loader, final Clock clock) {
+        this.endpoint = endpoint;
+        this.ttl = ttl;
+        this.loader = loader;
+        this.clock = clock;
+    }
+
+    /**
+     * Name of the endpoint, e.g. its feign config key
+     *
+     * @return name of the endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * How long a loaded value is considered fresh
+     *
+     * @return TTL of the endpoint
+     */
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    /**
+     * The last successfully loaded value
+     *
+     * @return cached value
+     */
+    public T get() {
+        final T value = entry.value;
+        JfrEvents.cacheLookup(endpoint, true, DecodedEntities.count(value));
+        return value;
+    }
+
+    /**
+     * When the cached value was loaded
+     *
+     * @return {@link Instant} the cached value was loaded
+     */
+    public Instant getLoadedAt() {
+        return entry.loadedAt;
+    }
+
+    /**
+     * Time since the cached value was loaded
+     *
+     * @return age of the cached value
+     */
+    public Duration getAge() {
+        return Duration.between(entry.loadedAt, clock.instant());
+    }
+
+    /**
+     * Number of reloads which have failed since the last successful load
+     *
+     * @return consecutive failed reloads
+     */
+    public int getConsecutiveFailures() {
+        return consecutiveFailures.get();
+    }
+
+    /**
+     * Loads the endpoint now and caches the value
+     *
+     * @return the loaded value
+     * @throws RuntimeException if the load fails, in which case the cached value is unchanged
+     */
+    public T refresh() {
+        final T value;
+        try {
+            value = requireNonNull(loader.get(), "Loader returned null for " + endpoint);
+        } catch (final RuntimeException e) {
+            consecutiveFailures.incrementAndGet();
+            throw e;
+        }
+        entry = new Entry<>(value, clock.instant());
+        consecutiveFailures.set(0);
+        return value;
+    }
+
+    /**
+     * Caches a value loaded elsewhere, e.g. read from a snapshot
+     */
+    void seed(final T value, final Instant loadedAt) {
+        entry = new Entry<>(requireNonNull(value, "Null value"), requireNonNull(loadedAt, "Null loaded at"));
+    }
+
+    private static final class Entry<T> {
+        private final T value;
+        private final Instant loadedAt;
+
+        private Entry(final T value, final Instant loadedAt) {
+            this.value = value;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.enemyghost.sportsdata.api.client.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Keeps reference data endpoints cached by reloading them before they expire, rather than on demand, so that reading
+ * them never waits on an upstream fetch.
+ * <p>
+ * Each {@link #register(String, Duration, Supplier) registered} endpoint is loaded once up front and then reloaded
+ * every {@code refreshAheadFraction} of its TTL on a small, bounded pool of daemon threads. Each delay is randomly
+ * jittered by up to {@code jitterFraction} in either direction so that endpoints registered together drift apart
+ * instead of reloading in synchronized bursts. A failed reload is logged and retried on the same schedule, and the
+ * endpoint keeps serving its last good value meanwhile.
+ *
+ * @author enemyghost
+ */
+public final class RefreshAheadCache implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RefreshAheadCache.class);
+
+    private final ScheduledExecutorService executor;
+    private final double refreshAheadFraction;
+    private final double jitterFraction;
+    private final Clock clock;
+
+    private RefreshAheadCache(final Builder builder) {
+        checkArgument(builder.threads > 0, "Threads must be positive");
+        checkArgument(builder.refreshAheadFraction > 0 && builder.refreshAheadFraction <= 1,
+                "Refresh-ahead fraction must be in (0, 1]");
+        checkArgument(builder.jitterFraction >= 0 && builder.jitterFraction < 1,
+                "Jitter fraction must be in [0, 1)");
+        refreshAheadFraction = builder.refreshAheadFraction;
+        jitterFraction = builder.jitterFraction;
+        clock = requireNonNull(builder.clock, "Null clock");
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(builder.threads, runnable -> {
+            final Thread thread = new Thread(runnable, "sportsdata-refresh-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.setRemoveOnCancelPolicy(true);
+        executor = pool;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Loads an endpoint and schedules it to be reloaded ahead of its TTL
+     *
+     * @param endpoint name of the endpoint, e.g. its feign config key
+     * @param ttl      how long a loaded value is considered fresh
+     * @param loader   calls the endpoint
+     * @param <T>      response type
+     * @return the {@link CachedEndpoint}
+     * @throws RuntimeException if the initial load fails
+     */
+    public <T> CachedEndpoint<T> register(final String endpoint, final Duration ttl, final Supplier<T> loader) {
+        final CachedEndpoint<T> cached = newEndpoint(endpoint, ttl, loader);
+        cached.refresh();
+        scheduleRefresh(cached, nextDelayNanos(ttl));
+        return cached;
+    }
+
+    /**
+     * Registers an endpoint seeded with a value loaded elsewhere, e.g. read from a snapshot at startup, without
+     * calling the endpoint. The endpoint is reloaded in the background straight away, and then ahead of its TTL.
+     *
+     * @param endpoint     name of the endpoint, e.g. its feign config key
+     * @param ttl          how long a loaded value is considered fresh
+     * @param loader       calls the endpoint
+     * @param initialValue value to serve until the first reload
+     * @param loadedAt     when {@code initialValue} was loaded
+     * @param <T>          response type
+     * @return the {@link CachedEndpoint}
+     */
+    public <T> CachedEndpoint<T> register(final String endpoint,
+                                          final Duration ttl,
+                                          final Supplier<T> loader,
+                                          final T initialValue,
+                                          final Instant loadedAt) {
+        final CachedEndpoint<T> cached = newEndpoint(endpoint, ttl, loader);
+        cached.seed(initialValue, loadedAt);
+        scheduleRefresh(cached, 0);
+        return cached;
+    }
+
+    /**
+     * Stops reloading all registered endpoints. Their last loaded values remain readable.
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Delay until the next reload of an endpoint: the refresh-ahead fraction of its TTL, jittered
+     *
+     * @param ttl TTL of the endpoint
+     * @return delay in nanoseconds
+     */
+    long nextDelayNanos(final Duration ttl) {
+        final double jitter = 1 + jitterFraction * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Math.max(1, (long) (ttl.toNanos() * refreshAheadFraction * jitter));
+    }
+
+    private <T> CachedEndpoint<T> newEndpoint(final String endpoint, final Duration ttl, final Supplier<T> loader) {
+        requireNonNull(endpoint, "Null endpoint");
+        checkArgument(!requireNonNull(ttl, "Null TTL").isNegative() && !ttl.isZero(), "TTL must be positive");
+        return new CachedEndpoint<>(endpoint, ttl, requireNonNull(loader, "Null loader"), clock);
+    }
+
+    private void scheduleRefresh(final CachedEndpoint<?> cached, final long delayNanos) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        executor.schedule(() -> {
+            try {
+                cached.refresh();
+            } catch (final RuntimeException e) {
+                LOGGER.warn("Failed to refresh {} ({} consecutive failures), serving value loaded {} ago",
+                        cached.getEndpoint(), cached.getConsecutiveFailures(), cached.getAge(), e);
+            } finally {
+                scheduleRefresh(cached, nextDelayNanos(cached.getTtl()));
+            }
+        }, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static final class Builder {
+        private int threads = 2;
+        private double refreshAheadFraction = 0.75;
+        private double jitterFraction = 0.1;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        /**
+         * Size of the reload thread pool. Defaults to 2.
+         *
+         * @param val number of threads
+         * @return this builder
+         */
+        public Builder withThreads(final int val) {
+            threads = val;
+            return this;
+        }
+
+        /**
+         * Fraction of the TTL after which an endpoint is reloaded. Defaults to 0.75.
+         *
+         * @param val fraction in (0, 1]
+         * @return this builder
+         */
+        public Builder withRefreshAheadFraction(final double val) {
+            refreshAheadFraction = val;
+            return this;
+        }
+
+        /**
+         * Maximum random adjustment to each reload delay, as a fraction of the delay. Defaults to 0.1.
+         *
+         * @param val fraction in [0, 1)
+         * @return this builder
+         */
+        public Builder withJitterFraction(final double val) {
+            jitterFraction = val;
+            return this;
+        }
+
+        public Builder withClock(final Clock val) {
+            clock = val;
+            return this;
+        }
+
+        public RefreshAheadCache build() {
+            return new RefreshAheadCache(this);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.enemyghost.sportsdata.api.client.cbb;
+
+import io.github.enemyghost.sportsdata.api.client.cache.CachedEndpoint;
+import io.github.enemyghost.sportsdata.api.client.cache.RefreshAheadCache;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import io.github.enemyghost.sportsdata.api.client.cbb.repository.EntityCanonicalizer;
+import io.github.enemyghost.sportsdata.api.client.cbb.repository.ReferenceDataSnapshot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The reference data endpoints of a {@link NcaaBasketballV3ApiClient}, cached and reloaded ahead of expiry by a
+ * {@link RefreshAheadCache}. Every method returns the last successfully loaded response without calling the API.
+ * <p>
+ * Teams, stadiums, the league hierarchy and the current season change rarely and default to a 4 hour TTL; players
+ * default to 1 hour. Teams and stadiums are canonicalized across the league hierarchy, teams and stadiums responses
+ * with an {@link EntityCanonicalizer}, so each is held once however many responses it appears in.
+ *
+ * @author enemyghost
+ */
+public final class CachedReferenceData {
+    private static final Duration DEFAULT_TTL = Duration.ofHours(4);
+    private static final Duration DEFAULT_PLAYERS_TTL = Duration.ofHours(1);
+    private static final String CURRENT_SEASON = "NcaaBasketballV3ApiClient#currentSeason()";
+    private static final String LEAGUE_HIERARCHY = "NcaaBasketballV3ApiClient#leagueHierarchy()";
+    private static final String PLAYERS = "NcaaBasketballV3ApiClient#players()";
+    private static final String STADIUMS = "NcaaBasketballV3ApiClient#stadiums()";
+    private static final String TEAMS = "NcaaBasketballV3ApiClient#teams()";
+
+    private final CachedEndpoint<Optional<Season>> currentSeason;
+    private final CachedEndpoint<List<Conference>> leagueHierarchy;
+    private final CachedEndpoint<List<Player>> players;
+    private final CachedEndpoint<List<Stadium>> stadiums;
+    private final CachedEndpoint<List<Team>> teams;
+
+    private CachedReferenceData(final Builder builder) {
+        final NcaaBasketballV3ApiClient client = requireNonNull(builder.client, "Null client");
+        final RefreshAheadCache cache = requireNonNull(builder.cache, "Null cache");
+        final ReferenceDataSnapshot snapshot = builder.snapshot;
+        final EntityCanonicalizer canonicalizer = new EntityCanonicalizer();
+        final Supplier<List<Conference>> loadLeagueHierarchy =
+                () -> canonicalizer.canonicalizeConferences(client.leagueHierarchy());
+        final Supplier<List<Stadium>> loadStadiums = () -> canonicalizer.canonicalizeStadiums(client.stadiums());
+        final Supplier<List<Team>> loadTeams = () -> canonicalizer.canonicalizeTeams(client.teams());
+        if (snapshot == null) {
+            currentSeason = cache.register(CURRENT_SEASON, builder.ttl, client::currentSeason);
+            leagueHierarchy = cache.register(LEAGUE_HIERARCHY, builder.ttl, loadLeagueHierarchy);
+            players = cache.register(PLAYERS, builder.playersTtl, client::players);
+            stadiums = cache.register(STADIUMS, builder.ttl, loadStadiums);
+            teams = cache.register(TEAMS, builder.ttl, loadTeams);
+        } else {
+            final Instant loadedAt = snapshot.getCreatedAt();
+            currentSeason = cache.register(CURRENT_SEASON, builder.ttl, client::currentSeason,
+                    snapshot.getCurrentSeason(), loadedAt);
+            leagueHierarchy = cache.register(LEAGUE_HIERARCHY, builder.ttl, loadLeagueHierarchy,
+                    canonicalizer.canonicalizeConferences(snapshot.getLeagueHierarchy()), loadedAt);
+            players = cache.register(PLAYERS, builder.playersTtl, client::players, snapshot.getPlayers(), loadedAt);
+            stadiums = cache.register(STADIUMS, builder.ttl, loadStadiums,
+                    canonicalizer.canonicalizeStadiums(snapshot.getStadiums()), loadedAt);
+            teams = cache.register(TEAMS, builder.ttl, loadTeams,
+                    canonicalizer.canonicalizeTeams(snapshot.getTeams()), loadedAt);
+        }
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns the cached response of {@link NcaaBasketballV3ApiClient#currentSeason()}
+     *
+     * @return cached currentSeason response
+     */
+    public Optional<Season> currentSeason() {
+        return currentSeason.get();
+    }
+
+    /**
+     * Returns the cached response of {@link NcaaBasketballV3ApiClient#leagueHierarchy()}
+     *
+     * @return cached leagueHierarchy response
+     */
+    public List<Conference> leagueHierarchy() {
+        return leagueHierarchy.get();
+    }
+
+    /**
+     * Returns the cached response of {@link NcaaBasketballV3ApiClient#players()}
+     *
+     * @return cached players response
+     */
+    public List<Player> players() {
+        return players.get();
+    }
+
+    /**
+     * Returns the cached response of {@link NcaaBasketballV3ApiClient#stadiums()}
+     *
+     * @return cached stadiums response
+     */
+    public List<Stadium> stadiums() {
+        return stadiums.get();
+    }
+
+    /**
+     * Returns the cached response of {@link NcaaBasketballV3ApiClient#teams()}
+     *
+     * @return cached teams response
+     */
+    public List<Team> teams() {
+        return teams.get();
+    }
+
+    /**
+     * The cached endpoints, for monitoring their age and failures
+     *
+     * @return the cached endpoints
+     */
+    public List<CachedEndpoint<?>> getEndpoints() {
+        return List.of(currentSeason, leagueHierarchy, players, stadiums, teams);
+    }
+
+    public static final class Builder {
+        private NcaaBasketballV3ApiClient client;
+        private RefreshAheadCache cache;
+        private Duration ttl = DEFAULT_TTL;
+        private Duration playersTtl = DEFAULT_PLAYERS_TTL;
+        private ReferenceDataSnapshot snapshot;
+
+        private Builder() {
+        }
+
+        public Builder withClient(final NcaaBasketballV3ApiClient val) {
+            client = val;
+            return this;
+        }
+
+        public Builder withCache(final RefreshAheadCache val) {
+            cache = val;
+            return this;
+        }
+
+        /**
+         * TTL of teams, stadiums, the league hierarchy and the current season. Defaults to 4 hours.
+         *
+         * @param val TTL
+         * @return this builder
+         */
+        public Builder withTtl(final Duration val) {
+            ttl = val;
+            return this;
+        }
+
+        /**
+         * TTL of players. Defaults to 1 hour.
+         *
+         * @param val TTL
+         * @return this builder
+         */
+        public Builder withPlayersTtl(final Duration val) {
+            playersTtl = val;
+            return this;
+        }
+
+        /**
+         * Serves the snapshot's responses from the start instead of loading every endpoint before {@link #build()}
+         * returns, and reloads every endpoint in the background straight away
+         *
+         * @param val snapshot to bootstrap from, e.g. read with {@link ReferenceDataSnapshot#read(java.nio.file.Path)}
+         * @return this builder
+         */
+        public Builder withSnapshot(final ReferenceDataSnapshot val) {
+            snapshot = val;
+            return this;
+        }
+
+        /**
+         * Builds the cached reference data, loading every endpoint once synchronously unless bootstrapping from a
+         * snapshot
+         *
+         * @return {@link CachedReferenceData}
+         */
+        public CachedReferenceData build() {
+            return new CachedReferenceData(this);
+        }
+    }
+}
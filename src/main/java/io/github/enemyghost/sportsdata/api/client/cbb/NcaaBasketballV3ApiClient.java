@@ -6,6 +6,7 @@ import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
 import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
 import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
 import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import io.github.enemyghost.sportsdata.api.client.cbb.table.PlayerGameTable;
 
 import javax.ws.rs.Consumes;
 import javax.ws.rs.GET;
@@ -159,6 +160,26 @@ public interface NcaaBasketballV3ApiClient {
         return playerGameStatsByDate(toDatePathParam(date));
     }
 
+    /**
+     * Gets all players' game stats for games which started in the past, decoded into columns.
+     *
+     * @param date date the games were played in format {@code "yyyy-MMM-dd".toUpperCase()}
+     * @return all players' game stats for games which started in the past.
+     */
+    @GET
+    @Path("/stats/json/PlayerGameStatsByDate/{date}")
+    PlayerGameTable playerGameStatsTableByDate(@PathParam("date") final String date);
+
+    /**
+     * Gets all players' game stats for games which started in the past, decoded into columns.
+     *
+     * @param date date the games were played
+     * @return all players' game stats for games which started in the past.
+     */
+    default PlayerGameTable playerGameStatsTableByDate(final LocalDate date) {
+        return playerGameStatsTableByDate(toDatePathParam(date));
+    }
+
     /**
      * Gets a player's projected game stats for games which start in the future
      *
@@ -201,4 +222,24 @@ public interface NcaaBasketballV3ApiClient {
     default List<PlayerGame> playerGameProjectionStatsByDate(final LocalDate date) {
         return playerGameProjectionStatsByDate(toDatePathParam(date));
     }
+
+    /**
+     * Gets all players' projected game stats for games which start in the future, decoded into columns.
+     *
+     * @param date date the games were played in format {@code "yyyy-MMM-dd".toUpperCase()}
+     * @return all players' projected game stats for games which start in the future
+     */
+    @GET
+    @Path("/stats/json/PlayerGameProjectionStatsByDate/{date}")
+    PlayerGameTable playerGameProjectionStatsTableByDate(@PathParam("date") final String date);
+
+    /**
+     * Gets all players' projected game stats for games which start in the future, decoded into columns.
+     *
+     * @param date date the games were played
+     * @return all players' projected game stats for games which start in the future
+     */
+    default PlayerGameTable playerGameProjectionStatsTableByDate(final LocalDate date) {
+        return playerGameProjectionStatsTableByDate(toDatePathParam(date));
+    }
 }
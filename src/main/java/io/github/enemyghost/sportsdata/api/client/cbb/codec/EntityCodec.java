@@ -0,0 +1,126 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import io.github.enemyghost.sportsdata.api.client.codec.BinaryReader;
+import io.github.enemyghost.sportsdata.api.client.codec.BinaryWriter;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Encodes an entity, or a list of entities, to a self-contained compact binary message, as a cheaper alternative to
+ * JSON for caching entities or passing them between services.
+ * <p>
+ * A message is a varint schema version and the ID of the codec that wrote it, then the message's string table and then
+ * the value in the {@link EntityEncoding} format. Strings repeated across the entities of a list, such as team keys,
+ * positions and home or away, are therefore stored once per message. Decoding a message written with another schema
+ * version or by another codec fails fast rather than misreading it.
+ * <p>
+ * Encoding reuses a per-thread buffer, so it allocates little besides the returned array. Instances are thread-safe.
+ *
+ * @param <T> encoded type
+ * @author enemyghost
+ */
+public final class EntityCodec<T> {
+    /**
+     * Version of the {@link EntityEncoding} format, incremented whenever it changes incompatibly
+     */
+    public static final int SCHEMA_VERSION = 1;
+
+    public static final EntityCodec<Season> SEASON =
+            new EntityCodec<>(1, EntityEncoding::writeSeason, EntityEncoding::readSeason);
+    public static final EntityCodec<Stadium> STADIUM =
+            new EntityCodec<>(2, EntityEncoding::writeStadium, EntityEncoding::readStadium);
+    public static final EntityCodec<Team> TEAM =
+            new EntityCodec<>(3, EntityEncoding::writeTeam, EntityEncoding::readTeam);
+    public static final EntityCodec<Conference> CONFERENCE =
+            new EntityCodec<>(4, EntityEncoding::writeConference, EntityEncoding::readConference);
+    public static final EntityCodec<Player> PLAYER =
+            new EntityCodec<>(5, EntityEncoding::writePlayer, EntityEncoding::readPlayer);
+    public static final EntityCodec<PlayerGame> PLAYER_GAME =
+            new EntityCodec<>(6, EntityEncoding::writePlayerGame, EntityEncoding::readPlayerGame);
+    public static final EntityCodec<List<Stadium>> STADIUMS =
+            new EntityCodec<>(7, EntityEncoding::writeStadiums, EntityEncoding::readStadiums);
+    public static final EntityCodec<List<Team>> TEAMS =
+            new EntityCodec<>(8, EntityEncoding::writeTeams, EntityEncoding::readTeams);
+    public static final EntityCodec<List<Conference>> CONFERENCES =
+            new EntityCodec<>(9, EntityEncoding::writeConferences, EntityEncoding::readConferences);
+    public static final EntityCodec<List<Player>> PLAYERS =
+            new EntityCodec<>(10, EntityEncoding::writePlayers, EntityEncoding::readPlayers);
+    public static final EntityCodec<List<PlayerGame>> PLAYER_GAMES =
+            new EntityCodec<>(11, EntityEncoding::writePlayerGames, EntityEncoding::readPlayerGames);
+
+    private static final ThreadLocal<BinaryWriter[]> WRITERS =
+            ThreadLocal.withInitial(() -> new BinaryWriter[]{new BinaryWriter(), new BinaryWriter(4096)});
+
+    private final int id;
+    private final BiConsumer<BinaryWriter, T> writer;
+    private final Function<BinaryReader, T> reader;
+
+    private EntityCodec(final int id,
+                        final BiConsumer<BinaryWriter, T> writer,
+                        final Function<BinaryReader, T> reader) {
+        this.id = id;
+        this.writer = writer;
+        this.reader = reader;
+    }
+
+    /**
+     * Encodes a value to a message
+     *
+     * @param value value to encode
+     * @return the encoded message
+     */
+    public byte[] encode(final T value) {
+        requireNonNull(value, "Null value");
+        final BinaryWriter[] writers = WRITERS.get();
+        final BinaryWriter header = writers[0];
+        final BinaryWriter body = writers[1];
+        header.reset();
+        body.reset();
+        try {
+            writer.accept(body, value);
+            header.writeUnsignedVarInt(SCHEMA_VERSION).writeUnsignedVarInt(id);
+            return body.writeStringTable(header).writeBytes(body).toByteArray();
+        } finally {
+            body.reset();
+        }
+    }
+
+    /**
+     * Decodes a message written by {@link #encode(Object)}
+     *
+     * @param message encoded message
+     * @return the decoded value
+     * @throws IllegalArgumentException if the message was written with another schema version or by another codec
+     */
+    public T decode(final byte[] message) {
+        return decode(ByteBuffer.wrap(requireNonNull(message, "Null message")));
+    }
+
+    /**
+     * Decodes a message written by {@link #encode(Object)} from the buffer's position, leaving the position after it
+     *
+     * @param message buffer containing the encoded message
+     * @return the decoded value
+     * @throws IllegalArgumentException if the message was written with another schema version or by another codec
+     */
+    public T decode(final ByteBuffer message) {
+        final BinaryReader in = new BinaryReader(requireNonNull(message, "Null message"));
+        final int schemaVersion = in.readUnsignedVarInt();
+        checkArgument(schemaVersion == SCHEMA_VERSION, "Unsupported entity schema version " + schemaVersion);
+        final int codecId = in.readUnsignedVarInt();
+        checkArgument(codecId == id, "Message was encoded by codec " + codecId + ", not " + id);
+        return reader.apply(in.withStrings(in.readStringTable()));
+    }
+}
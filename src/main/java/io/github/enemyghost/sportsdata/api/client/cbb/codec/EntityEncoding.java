@@ -0,0 +1,432 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import io.github.enemyghost.sportsdata.api.client.codec.BinaryReader;
+import io.github.enemyghost.sportsdata.api.client.codec.BinaryWriter;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Compact binary encodings of the {@code cbb.entities}, written with a {@link BinaryWriter} and read with a
+ * {@link BinaryReader}.
+ * <p>
+ * Each entity starts with a varint bitmask of which of its optional non-string fields are present, followed by its
+ * required fields and then its present optional fields, in declaration order. Strings are string table references, so
+ * absent strings need no presence bit. Ints are zig-zag varints, dates are epoch-day varints and instants are
+ * epoch-second and nanosecond varints.
+ *
+ * @author enemyghost
+ */
+public final class EntityEncoding {
+    /**
+     * Private ctor.
+     */
+    private EntityEncoding() {
+    }
+
+    public static void writeSeason(final BinaryWriter out, final Season season) {
+        final Optional<LocalDate> regularSeasonStartDate = season.getRegularSeasonStartDate();
+        final Optional<LocalDate> postSeasonStartDate = season.getPostSeasonStartDate();
+        out.writeUnsignedVarInt(bit(regularSeasonStartDate.isPresent(), 0) | bit(postSeasonStartDate.isPresent(), 1));
+        out.writeVarInt(season.getSeason())
+                .writeVarInt(season.getStartYear())
+                .writeVarInt(season.getEndYear())
+                .writeString(season.getDescription().orElse(null))
+                .writeString(season.getApiSeason().orElse(null));
+        regularSeasonStartDate.ifPresent(date -> out.writeVarLong(date.toEpochDay()));
+        postSeasonStartDate.ifPresent(date -> out.writeVarLong(date.toEpochDay()));
+    }
+
+    public static Season readSeason(final BinaryReader in) {
+        final int presence = in.readUnsignedVarInt();
+        final Season.Builder builder = Season.newBuilder()
+                .withSeason(in.readVarInt())
+                .withStartYear(in.readVarInt())
+                .withEndYear(in.readVarInt())
+                .withDescription(in.readString())
+                .withApiSeason(in.readString());
+        if (isSet(presence, 0)) {
+            builder.withRegularSeasonStartDate(LocalDate.ofEpochDay(in.readVarLong()));
+        }
+        if (isSet(presence, 1)) {
+            builder.withPostSeasonStartDate(LocalDate.ofEpochDay(in.readVarLong()));
+        }
+        return builder.build();
+    }
+
+    public static void writeStadium(final BinaryWriter out, final Stadium stadium) {
+        final Optional<Integer> capacity = stadium.getCapacity();
+        out.writeUnsignedVarInt(bit(capacity.isPresent(), 0));
+        out.writeVarInt(stadium.getStadiumId())
+                .writeBoolean(stadium.isActive())
+                .writeString(stadium.getName())
+                .writeString(stadium.getAddress().orElse(null))
+                .writeString(stadium.getCity().orElse(null))
+                .writeString(stadium.getState().orElse(null))
+                .writeString(stadium.getZip().orElse(null))
+                .writeString(stadium.getCountry().orElse(null));
+        capacity.ifPresent(out::writeVarInt);
+    }
+
+    public static Stadium readStadium(final BinaryReader in) {
+        final int presence = in.readUnsignedVarInt();
+        return Stadium.newBuilder()
+                .withStadiumID(in.readVarInt())
+                .withActive(in.readBoolean())
+                .withName(in.readString())
+                .withAddress(in.readString())
+                .withCity(in.readString())
+                .withState(in.readString())
+                .withZip(in.readString())
+                .withCountry(in.readString())
+                .withCapacity(isSet(presence, 0) ? in.readVarInt() : null)
+                .build();
+    }
+
+    public static void writeTeam(final BinaryWriter out, final Team team) {
+        final Optional<Stadium> stadium = team.getStadium();
+        out.writeUnsignedVarInt(bit(team.hasApRank(), 0)
+                | bit(team.hasWins(), 1)
+                | bit(team.hasLosses(), 2)
+                | bit(team.hasConferenceWins(), 3)
+                | bit(team.hasConferenceLosses(), 4)
+                | bit(team.hasConferenceId(), 5)
+                | bit(stadium.isPresent(), 6));
+        out.writeVarInt(team.getTeamId())
+                .writeString(team.getKey())
+                .writeBoolean(team.isActive())
+                .writeVarInt(team.getGlobalTeamId())
+                .writeString(team.getSchool().orElse(null))
+                .writeString(team.getName().orElse(null))
+                .writeString(team.getConference().orElse(null))
+                .writeString(team.getTeamLogoUrl().orElse(null))
+                .writeString(team.getShortDisplayName().orElse(null));
+        if (team.hasApRank()) {
+            out.writeVarInt(team.getApRankAsInt());
+        }
+        if (team.hasWins()) {
+            out.writeVarInt(team.getWinsAsInt());
+        }
+        if (team.hasLosses()) {
+            out.writeVarInt(team.getLossesAsInt());
+        }
+        if (team.hasConferenceWins()) {
+            out.writeVarInt(team.getConferenceWinsAsInt());
+        }
+        if (team.hasConferenceLosses()) {
+            out.writeVarInt(team.getConferenceLossesAsInt());
+        }
+        if (team.hasConferenceId()) {
+            out.writeVarInt(team.getConferenceIdAsInt());
+        }
+        stadium.ifPresent(value -> writeStadium(out, value));
+    }
+
+    public static Team readTeam(final BinaryReader in) {
+        final int presence = in.readUnsignedVarInt();
+        return Team.newBuilder()
+                .withTeamID(in.readVarInt())
+                .withKey(in.readString())
+                .withActive(in.readBoolean())
+                .withGlobalTeamID(in.readVarInt())
+                .withSchool(in.readString())
+                .withName(in.readString())
+                .withConference(in.readString())
+                .withTeamLogoUrl(in.readString())
+                .withShortDisplayName(in.readString())
+                .withApRank(isSet(presence, 0) ? in.readVarInt() : null)
+                .withWins(isSet(presence, 1) ? in.readVarInt() : null)
+                .withLosses(isSet(presence, 2) ? in.readVarInt() : null)
+                .withConferenceWins(isSet(presence, 3) ? in.readVarInt() : null)
+                .withConferenceLosses(isSet(presence, 4) ? in.readVarInt() : null)
+                .withConferenceID(isSet(presence, 5) ? in.readVarInt() : null)
+                .withStadium(isSet(presence, 6) ? readStadium(in) : null)
+                .build();
+    }
+
+    public static void writeConference(final BinaryWriter out, final Conference conference) {
+        out.writeVarInt(conference.getConferenceId()).writeString(conference.getName());
+        writeTeams(out, conference.getTeams());
+    }
+
+    public static Conference readConference(final BinaryReader in) {
+        return Conference.newBuilder()
+                .withConferenceID(in.readVarInt())
+                .withName(in.readString())
+                .withTeams(readTeams(in))
+                .build();
+    }
+
+    public static void writePlayer(final BinaryWriter out, final Player player) {
+        out.writeUnsignedVarInt(bit(player.hasTeamId(), 0)
+                | bit(player.hasJersey(), 1)
+                | bit(player.hasHeight(), 2)
+                | bit(player.hasWeight(), 3)
+                | bit(player.hasRotoworldPlayerId(), 4)
+                | bit(player.hasRotoWirePlayerId(), 5)
+                | bit(player.hasFantasyAlarmPlayerId(), 6)
+                | bit(player.hasGlobalTeamID(), 7));
+        out.writeVarInt(player.getPlayerId())
+                .writeString(player.getFirstName().orElse(null))
+                .writeString(player.getLastName().orElse(null))
+                .writeString(player.getTeam().orElse(null))
+                .writeString(player.getPosition().orElse(null))
+                .writeString(player.getPlayerClass().orElse(null))
+                .writeString(player.getBirthCity().orElse(null))
+                .writeString(player.getBirthState().orElse(null))
+                .writeString(player.getHighSchool().orElse(null))
+                .writeString(player.getSportRadarPlayerId().orElse(null));
+        if (player.hasTeamId()) {
+            out.writeVarInt(player.getTeamIdAsInt());
+        }
+        if (player.hasJersey()) {
+            out.writeVarInt(player.getJerseyAsInt());
+        }
+        if (player.hasHeight()) {
+            out.writeVarInt(player.getHeightAsInt());
+        }
+        if (player.hasWeight()) {
+            out.writeVarInt(player.getWeightAsInt());
+        }
+        if (player.hasRotoworldPlayerId()) {
+            out.writeVarInt(player.getRotoworldPlayerIdAsInt());
+        }
+        if (player.hasRotoWirePlayerId()) {
+            out.writeVarInt(player.getRotoWirePlayerIdAsInt());
+        }
+        if (player.hasFantasyAlarmPlayerId()) {
+            out.writeVarInt(player.getFantasyAlarmPlayerIdAsInt());
+        }
+        if (player.hasGlobalTeamID()) {
+            out.writeVarInt(player.getGlobalTeamIDAsInt());
+        }
+    }
+
+    public static Player readPlayer(final BinaryReader in) {
+        final int presence = in.readUnsignedVarInt();
+        return Player.newBuilder()
+                .withPlayerID(in.readVarInt())
+                .withFirstName(in.readString())
+                .withLastName(in.readString())
+                .withTeam(in.readString())
+                .withPosition(in.readString())
+                .withPlayerClass(in.readString())
+                .withBirthCity(in.readString())
+                .withBirthState(in.readString())
+                .withHighSchool(in.readString())
+                .withSportRadarPlayerID(in.readString())
+                .withTeamID(isSet(presence, 0) ? in.readVarInt() : null)
+                .withJersey(isSet(presence, 1) ? in.readVarInt() : null)
+                .withHeight(isSet(presence, 2) ? in.readVarInt() : null)
+                .withWeight(isSet(presence, 3) ? in.readVarInt() : null)
+                .withRotoworldPlayerID(isSet(presence, 4) ? in.readVarInt() : null)
+                .withRotoWirePlayerID(isSet(presence, 5) ? in.readVarInt() : null)
+                .withFantasyAlarmPlayerID(isSet(presence, 6) ? in.readVarInt() : null)
+                .withGlobalTeamID(isSet(presence, 7) ? in.readVarInt() : null)
+                .build();
+    }
+
+    public static void writePlayerGame(final BinaryWriter out, final PlayerGame playerGame) {
+        final Optional<LocalDate> injuryStartDate = playerGame.getInjuryStartDate();
+        final Optional<Instant> gameInstant = playerGame.getGameInstant();
+        final Optional<Instant> updatedInstant = playerGame.getUpdatedInstant();
+        out.writeUnsignedVarInt(bit(playerGame.hasTeamId(), 0)
+                | bit(playerGame.hasGlobalTeamId(), 1)
+                | bit(playerGame.hasGameId(), 2)
+                | bit(playerGame.hasGlobalGameId(), 3)
+                | bit(playerGame.hasPlayerId(), 4)
+                | bit(playerGame.hasSeasonType(), 5)
+                | bit(playerGame.hasSeason(), 6)
+                | bit(playerGame.hasOpponentId(), 7)
+                | bit(playerGame.hasGlobalOpponentId(), 8)
+                | bit(playerGame.hasOpponentRank(), 9)
+                | bit(playerGame.hasOpponentPositionRank(), 10)
+                | bit(playerGame.hasGames(), 11)
+                | bit(injuryStartDate.isPresent(), 12)
+                | bit(gameInstant.isPresent(), 13)
+                | bit(updatedInstant.isPresent(), 14));
+        out.writeVarInt(playerGame.getStatId())
+                .writeBoolean(playerGame.isGameOver())
+                .writeString(playerGame.getName().orElse(null))
+                .writeString(playerGame.getTeam().orElse(null))
+                .writeString(playerGame.getPosition().orElse(null))
+                .writeString(playerGame.getInjuryStatus().orElse(null))
+                .writeString(playerGame.getInjuryBodyPart().orElse(null))
+                .writeString(playerGame.getInjuryNotes().orElse(null))
+                .writeString(playerGame.getOpponent().orElse(null))
+                .writeString(playerGame.getHomeOrAway().orElse(null))
+                .writeString(playerGame.getFanDuelPosition().orElse(null))
+                .writeString(playerGame.getDraftKingsPosition().orElse(null))
+                .writeString(playerGame.getYahooPosition().orElse(null));
+        if (playerGame.hasTeamId()) {
+            out.writeVarInt(playerGame.getTeamIdAsInt());
+        }
+        if (playerGame.hasGlobalTeamId()) {
+            out.writeVarInt(playerGame.getGlobalTeamIdAsInt());
+        }
+        if (playerGame.hasGameId()) {
+            out.writeVarInt(playerGame.getGameIdAsInt());
+        }
+        if (playerGame.hasGlobalGameId()) {
+            out.writeVarInt(playerGame.getGlobalGameIdAsInt());
+        }
+        if (playerGame.hasPlayerId()) {
+            out.writeVarInt(playerGame.getPlayerIdAsInt());
+        }
+        if (playerGame.hasSeasonType()) {
+            out.writeVarInt(playerGame.getSeasonTypeAsInt());
+        }
+        if (playerGame.hasSeason()) {
+            out.writeVarInt(playerGame.getSeasonAsInt());
+        }
+        if (playerGame.hasOpponentId()) {
+            out.writeVarInt(playerGame.getOpponentIdAsInt());
+        }
+        if (playerGame.hasGlobalOpponentId()) {
+            out.writeVarInt(playerGame.getGlobalOpponentIdAsInt());
+        }
+        if (playerGame.hasOpponentRank()) {
+            out.writeVarInt(playerGame.getOpponentRankAsInt());
+        }
+        if (playerGame.hasOpponentPositionRank()) {
+            out.writeVarInt(playerGame.getOpponentPositionRankAsInt());
+        }
+        if (playerGame.hasGames()) {
+            out.writeVarInt(playerGame.getGamesAsInt());
+        }
+        injuryStartDate.ifPresent(date -> out.writeVarLong(date.toEpochDay()));
+        gameInstant.ifPresent(instant -> writeInstant(out, instant));
+        updatedInstant.ifPresent(instant -> writeInstant(out, instant));
+    }
+
+    public static PlayerGame readPlayerGame(final BinaryReader in) {
+        final int presence = in.readUnsignedVarInt();
+        return PlayerGame.newBuilder()
+                .withStatID(in.readVarInt())
+                .withIsGameOver(in.readBoolean())
+                .withName(in.readString())
+                .withTeam(in.readString())
+                .withPosition(in.readString())
+                .withInjuryStatus(in.readString())
+                .withInjuryBodyPart(in.readString())
+                .withInjuryNotes(in.readString())
+                .withOpponent(in.readString())
+                .withHomeOrAway(in.readString())
+                .withFanDuelPosition(in.readString())
+                .withDraftKingsPosition(in.readString())
+                .withYahooPosition(in.readString())
+                .withTeamID(isSet(presence, 0) ? in.readVarInt() : null)
+                .withGlobalTeamID(isSet(presence, 1) ? in.readVarInt() : null)
+                .withGameID(isSet(presence, 2) ? in.readVarInt() : null)
+                .withGlobalGameID(isSet(presence, 3) ? in.readVarInt() : null)
+                .withPlayerID(isSet(presence, 4) ? in.readVarInt() : null)
+                .withSeasonType(isSet(presence, 5) ? in.readVarInt() : null)
+                .withSeason(isSet(presence, 6) ? in.readVarInt() : null)
+                .withOpponentID(isSet(presence, 7) ? in.readVarInt() : null)
+                .withGlobalOpponentID(isSet(presence, 8) ? in.readVarInt() : null)
+                .withOpponentRank(isSet(presence, 9) ? in.readVarInt() : null)
+                .withOpponentPositionRank(isSet(presence, 10) ? in.readVarInt() : null)
+                .withGames(isSet(presence, 11) ? in.readVarInt() : null)
+                .withInjuryStartDate(isSet(presence, 12) ? LocalDate.ofEpochDay(in.readVarLong()) : null)
+                .withGameInstant(isSet(presence, 13) ? readInstant(in) : null)
+                .withUpdatedInstant(isSet(presence, 14) ? readInstant(in) : null)
+                .build();
+    }
+
+    public static void writeConferences(final BinaryWriter out, final Collection<Conference> conferences) {
+        out.writeUnsignedVarInt(conferences.size());
+        conferences.forEach(conference -> writeConference(out, conference));
+    }
+
+    public static List<Conference> readConferences(final BinaryReader in) {
+        final int size = in.readUnsignedVarInt();
+        final List<Conference> conferences = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            conferences.add(readConference(in));
+        }
+        return conferences;
+    }
+
+    public static void writeStadiums(final BinaryWriter out, final Collection<Stadium> stadiums) {
+        out.writeUnsignedVarInt(stadiums.size());
+        stadiums.forEach(stadium -> writeStadium(out, stadium));
+    }
+
+    public static List<Stadium> readStadiums(final BinaryReader in) {
+        final int size = in.readUnsignedVarInt();
+        final List<Stadium> stadiums = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            stadiums.add(readStadium(in));
+        }
+        return stadiums;
+    }
+
+    public static void writeTeams(final BinaryWriter out, final Collection<Team> teams) {
+        out.writeUnsignedVarInt(teams.size());
+        teams.forEach(team -> writeTeam(out, team));
+    }
+
+    public static List<Team> readTeams(final BinaryReader in) {
+        final int size = in.readUnsignedVarInt();
+        final List<Team> teams = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            teams.add(readTeam(in));
+        }
+        return teams;
+    }
+
+    public static void writePlayers(final BinaryWriter out, final Collection<Player> players) {
+        out.writeUnsignedVarInt(players.size());
+        players.forEach(player -> writePlayer(out, player));
+    }
+
+    public static List<Player> readPlayers(final BinaryReader in) {
+        final int size = in.readUnsignedVarInt();
+        final List<Player> players = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            players.add(readPlayer(in));
+        }
+        return players;
+    }
+
+    public static void writePlayerGames(final BinaryWriter out, final Collection<PlayerGame> playerGames) {
+        out.writeUnsignedVarInt(playerGames.size());
+        playerGames.forEach(playerGame -> writePlayerGame(out, playerGame));
+    }
+
+    public static List<PlayerGame> readPlayerGames(final BinaryReader in) {
+        final int size = in.readUnsignedVarInt();
+        final List<PlayerGame> playerGames = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            playerGames.add(readPlayerGame(in));
+        }
+        return playerGames;
+    }
+
+    private static void writeInstant(final BinaryWriter out, final Instant instant) {
+        out.writeVarLong(instant.getEpochSecond()).writeUnsignedVarInt(instant.getNano());
+    }
+
+    private static Instant readInstant(final BinaryReader in) {
+        final long epochSecond = in.readVarLong();
+        return Instant.ofEpochSecond(epochSecond, in.readUnsignedVarInt());
+    }
+
+    private static int bit(final boolean present, final int index) {
+        return present ? 1 << index : 0;
+    }
+
+    private static boolean isSet(final int presence, final int index) {
+        return (presence & (1 << index)) != 0;
+    }
+}
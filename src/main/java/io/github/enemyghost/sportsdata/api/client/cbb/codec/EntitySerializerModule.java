@@ -0,0 +1,295 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import io.github.enemyghost.sportsdata.api.client.util.DateFormatUtils;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+
+/**
+ * Jackson module that serializes the {@code cbb.entities} in the same shape as the sportsdata.io responses they are
+ * deserialized from, so that an entity survives a round trip through json, Smile or CBOR. Absent fields are omitted.
+ *
+ * @author enemyghost
+ */
+public final class EntitySerializerModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    public EntitySerializerModule() {
+        super(EntitySerializerModule.class.getSimpleName());
+        addSerializer(Season.class, new SeasonSerializer());
+        addSerializer(Stadium.class, new StadiumSerializer());
+        addSerializer(Team.class, new TeamSerializer());
+        addSerializer(Conference.class, new ConferenceSerializer());
+        addSerializer(Player.class, new PlayerSerializer());
+        addSerializer(PlayerGame.class, new PlayerGameSerializer());
+    }
+
+    private static final class SeasonSerializer extends StdSerializer<Season> {
+        private static final long serialVersionUID = 1L;
+
+        SeasonSerializer() {
+            super(Season.class);
+        }
+
+        @Override
+        public void serialize(final Season season, final JsonGenerator gen, final SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("Season", season.getSeason());
+            gen.writeNumberField("StartYear", season.getStartYear());
+            gen.writeNumberField("EndYear", season.getEndYear());
+            writeString(gen, "Description", season.getDescription());
+            writeDate(gen, "RegularSeasonStartDate", season.getRegularSeasonStartDate());
+            writeDate(gen, "PostSeasonStartDate", season.getPostSeasonStartDate());
+            writeString(gen, "ApiSeason", season.getApiSeason());
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class StadiumSerializer extends StdSerializer<Stadium> {
+        private static final long serialVersionUID = 1L;
+
+        StadiumSerializer() {
+            super(Stadium.class);
+        }
+
+        @Override
+        public void serialize(final Stadium stadium, final JsonGenerator gen, final SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("StadiumID", stadium.getStadiumId());
+            gen.writeBooleanField("Active", stadium.isActive());
+            gen.writeStringField("Name", stadium.getName());
+            writeString(gen, "Address", stadium.getAddress());
+            writeString(gen, "City", stadium.getCity());
+            writeString(gen, "State", stadium.getState());
+            writeString(gen, "Zip", stadium.getZip());
+            writeString(gen, "Country", stadium.getCountry());
+            final Optional<Integer> capacity = stadium.getCapacity();
+            if (capacity.isPresent()) {
+                gen.writeNumberField("Capacity", capacity.get());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class TeamSerializer extends StdSerializer<Team> {
+        private static final long serialVersionUID = 1L;
+
+        TeamSerializer() {
+            super(Team.class);
+        }
+
+        @Override
+        public void serialize(final Team team, final JsonGenerator gen, final SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("TeamID", team.getTeamId());
+            gen.writeStringField("Key", team.getKey());
+            gen.writeBooleanField("Active", team.isActive());
+            writeString(gen, "School", team.getSchool());
+            writeString(gen, "Name", team.getName());
+            if (team.hasApRank()) {
+                gen.writeNumberField("ApRank", team.getApRankAsInt());
+            }
+            if (team.hasWins()) {
+                gen.writeNumberField("Wins", team.getWinsAsInt());
+            }
+            if (team.hasLosses()) {
+                gen.writeNumberField("Losses", team.getLossesAsInt());
+            }
+            if (team.hasConferenceWins()) {
+                gen.writeNumberField("ConferenceWins", team.getConferenceWinsAsInt());
+            }
+            if (team.hasConferenceLosses()) {
+                gen.writeNumberField("ConferenceLosses", team.getConferenceLossesAsInt());
+            }
+            gen.writeNumberField("GlobalTeamID", team.getGlobalTeamId());
+            if (team.hasConferenceId()) {
+                gen.writeNumberField("ConferenceID", team.getConferenceIdAsInt());
+            }
+            writeString(gen, "Conference", team.getConference());
+            writeString(gen, "TeamLogoUrl", team.getTeamLogoUrl());
+            writeString(gen, "ShortDisplayName", team.getShortDisplayName());
+            final Optional<Stadium> stadium = team.getStadium();
+            if (stadium.isPresent()) {
+                gen.writeFieldName("Stadium");
+                provider.defaultSerializeValue(stadium.get(), gen);
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class ConferenceSerializer extends StdSerializer<Conference> {
+        private static final long serialVersionUID = 1L;
+
+        ConferenceSerializer() {
+            super(Conference.class);
+        }
+
+        @Override
+        public void serialize(final Conference conference, final JsonGenerator gen, final SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("ConferenceID", conference.getConferenceId());
+            gen.writeStringField("Name", conference.getName());
+            gen.writeArrayFieldStart("Teams");
+            for (final Team team : conference.getTeams()) {
+                provider.defaultSerializeValue(team, gen);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class PlayerSerializer extends StdSerializer<Player> {
+        private static final long serialVersionUID = 1L;
+
+        PlayerSerializer() {
+            super(Player.class);
+        }
+
+        @Override
+        public void serialize(final Player player, final JsonGenerator gen, final SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("PlayerID", player.getPlayerId());
+            writeString(gen, "FirstName", player.getFirstName());
+            writeString(gen, "LastName", player.getLastName());
+            if (player.hasTeamId()) {
+                gen.writeNumberField("TeamID", player.getTeamIdAsInt());
+            }
+            writeString(gen, "Team", player.getTeam());
+            if (player.hasJersey()) {
+                gen.writeNumberField("Jersey", player.getJerseyAsInt());
+            }
+            writeString(gen, "Position", player.getPosition());
+            writeString(gen, "Class", player.getPlayerClass());
+            if (player.hasHeight()) {
+                gen.writeNumberField("Height", player.getHeightAsInt());
+            }
+            if (player.hasWeight()) {
+                gen.writeNumberField("Weight", player.getWeightAsInt());
+            }
+            writeString(gen, "BirthCity", player.getBirthCity());
+            writeString(gen, "BirthState", player.getBirthState());
+            writeString(gen, "HighSchool", player.getHighSchool());
+            writeString(gen, "SportRadarPlayerID", player.getSportRadarPlayerId());
+            if (player.hasRotoworldPlayerId()) {
+                gen.writeNumberField("RotoworldPlayerID", player.getRotoworldPlayerIdAsInt());
+            }
+            if (player.hasRotoWirePlayerId()) {
+                gen.writeNumberField("RotoWirePlayerID", player.getRotoWirePlayerIdAsInt());
+            }
+            if (player.hasFantasyAlarmPlayerId()) {
+                gen.writeNumberField("FantasyAlarmPlayerID", player.getFantasyAlarmPlayerIdAsInt());
+            }
+            if (player.hasGlobalTeamID()) {
+                gen.writeNumberField("GlobalTeamID", player.getGlobalTeamIDAsInt());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static final class PlayerGameSerializer extends StdSerializer<PlayerGame> {
+        private static final long serialVersionUID = 1L;
+
+        PlayerGameSerializer() {
+            super(PlayerGame.class);
+        }
+
+        @Override
+        public void serialize(final PlayerGame playerGame, final JsonGenerator gen, final SerializerProvider provider)
+                throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("StatID", playerGame.getStatId());
+            if (playerGame.hasTeamId()) {
+                gen.writeNumberField("TeamID", playerGame.getTeamIdAsInt());
+            }
+            if (playerGame.hasPlayerId()) {
+                gen.writeNumberField("PlayerID", playerGame.getPlayerIdAsInt());
+            }
+            if (playerGame.hasSeasonType()) {
+                gen.writeNumberField("SeasonType", playerGame.getSeasonTypeAsInt());
+            }
+            if (playerGame.hasSeason()) {
+                gen.writeNumberField("Season", playerGame.getSeasonAsInt());
+            }
+            writeString(gen, "Name", playerGame.getName());
+            writeString(gen, "Team", playerGame.getTeam());
+            writeString(gen, "Position", playerGame.getPosition());
+            writeString(gen, "InjuryStatus", playerGame.getInjuryStatus());
+            writeString(gen, "InjuryBodyPart", playerGame.getInjuryBodyPart());
+            writeDate(gen, "InjuryStartDate", playerGame.getInjuryStartDate());
+            writeString(gen, "InjuryNotes", playerGame.getInjuryNotes());
+            writeString(gen, "FanDuelPosition", playerGame.getFanDuelPosition());
+            writeString(gen, "DraftKingsPosition", playerGame.getDraftKingsPosition());
+            writeString(gen, "YahooPosition", playerGame.getYahooPosition());
+            if (playerGame.hasOpponentRank()) {
+                gen.writeNumberField("OpponentRank", playerGame.getOpponentRankAsInt());
+            }
+            if (playerGame.hasOpponentPositionRank()) {
+                gen.writeNumberField("OpponentPositionRank", playerGame.getOpponentPositionRankAsInt());
+            }
+            if (playerGame.hasGlobalTeamId()) {
+                gen.writeNumberField("GlobalTeamID", playerGame.getGlobalTeamIdAsInt());
+            }
+            if (playerGame.hasGameId()) {
+                gen.writeNumberField("GameID", playerGame.getGameIdAsInt());
+            }
+            if (playerGame.hasOpponentId()) {
+                gen.writeNumberField("OpponentID", playerGame.getOpponentIdAsInt());
+            }
+            writeString(gen, "Opponent", playerGame.getOpponent());
+            writeDateTime(gen, "DateTime", playerGame.getGameInstant());
+            writeString(gen, "HomeOrAway", playerGame.getHomeOrAway());
+            gen.writeBooleanField("IsGameOver", playerGame.isGameOver());
+            if (playerGame.hasGlobalGameId()) {
+                gen.writeNumberField("GlobalGameID", playerGame.getGlobalGameIdAsInt());
+            }
+            if (playerGame.hasGlobalOpponentId()) {
+                gen.writeNumberField("GlobalOpponentID", playerGame.getGlobalOpponentIdAsInt());
+            }
+            writeDateTime(gen, "Updated", playerGame.getUpdatedInstant());
+            if (playerGame.hasGames()) {
+                gen.writeNumberField("Games", playerGame.getGamesAsInt());
+            }
+            gen.writeEndObject();
+        }
+    }
+
+    private static void writeString(final JsonGenerator gen, final String field, final Optional<String> value)
+            throws IOException {
+        if (value.isPresent()) {
+            gen.writeStringField(field, value.get());
+        }
+    }
+
+    private static void writeDate(final JsonGenerator gen, final String field, final Optional<LocalDate> value)
+            throws IOException {
+        if (value.isPresent()) {
+            gen.writeStringField(field, DateTimeFormatter.ISO_LOCAL_DATE.format(value.get()));
+        }
+    }
+
+    private static void writeDateTime(final JsonGenerator gen, final String field, final Optional<Instant> value)
+            throws IOException {
+        if (value.isPresent()) {
+            gen.writeStringField(field,
+                    DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(DateFormatUtils.toLocalDateTime(value.get())));
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerField;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGameField;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Selects which fields of {@link PlayerGame}s and {@link Player}s to decode. Every other property is skipped by the
+ * parser without being handed to the entity's builder, so the projected entities carry only the selected fields, and
+ * report the rest as if they were null. A {@code PlayerGameTable} decoded under a mask fills only the selected
+ * columns. Fields that every entity carries, such as a player game's stat ID, are always decoded.
+ * <p>
+ * Masks are applied per call with {@link #project(Supplier)} to clients with a {@link FieldMaskCapability}, or directly
+ * with the mask's {@link #getObjectMapper() mapper}. Each mask builds its own mapper, so create a mask once per
+ * projection, e.g. as a constant, and reuse it. Instances are immutable and thread-safe.
+ *
+ * @author enemyghost
+ */
+public final class FieldMask {
+    private static final ThreadLocal<FieldMask> CURRENT = new ThreadLocal<>();
+
+    private final Set<PlayerGameField> playerGameFields;
+    private final Set<PlayerField> playerFields;
+    private final ObjectMapper objectMapper;
+
+    private FieldMask(final Builder builder) {
+        playerGameFields = builder.playerGameFields == null
+                ? Collections.unmodifiableSet(EnumSet.allOf(PlayerGameField.class))
+                : Collections.unmodifiableSet(builder.playerGameFields);
+        playerFields = builder.playerFields == null
+                ? Collections.unmodifiableSet(EnumSet.allOf(PlayerField.class))
+                : Collections.unmodifiableSet(builder.playerFields);
+        objectMapper = ObjectMapperSingleton.newInstance(new FieldMaskModule(this));
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Fields of {@link PlayerGame}s decoded under this mask
+     *
+     * @return selected {@link PlayerGameField}s, including the required ones
+     */
+    public Set<PlayerGameField> getPlayerGameFields() {
+        return playerGameFields;
+    }
+
+    /**
+     * Fields of {@link Player}s decoded under this mask
+     *
+     * @return selected {@link PlayerField}s, including the required ones
+     */
+    public Set<PlayerField> getPlayerFields() {
+        return playerFields;
+    }
+
+    /**
+     * Immutable json {@link ObjectMapper}, configured like {@link ObjectMapperSingleton#INSTANCE}, which decodes
+     * entities and tables under this mask
+     *
+     * @return this mask's {@link ObjectMapper}
+     */
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * Makes a client call with this mask applied to the entities it decodes, if the client has a
+     * {@link FieldMaskCapability}. The mask applies to calls the current thread makes until {@code call} returns.
+     *
+     * @param call client call, e.g. {@code () -> client.playerGameStatsByDate(date)}
+     * @param <T>  type of the call's result
+     * @return the call's result
+     */
+    public <T> T project(final Supplier<T> call) {
+        requireNonNull(call, "Null call");
+        final FieldMask previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Returns the mask applied to the current thread's client calls
+     *
+     * @return the current {@link FieldMask}, or null if the thread is not inside {@link #project(Supplier)}
+     */
+    static FieldMask current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Reader of the given type which decodes under this mask
+     */
+    ObjectReader readerFor(final Type type) {
+        return objectMapper.readerFor(objectMapper.constructType(type))
+                .withAttribute(PlayerGameField.class, playerGameFields);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldMask{playerGameFields=" + playerGameFields + ", playerFields=" + playerFields + '}';
+    }
+
+    /**
+     * Removes the builder properties of the fields outside the mask, and ignores their json properties
+     */
+    private static final class FieldMaskModule extends SimpleModule {
+        private static final long serialVersionUID = 1L;
+
+        FieldMaskModule(final FieldMask mask) {
+            super(FieldMaskModule.class.getSimpleName());
+            setDeserializerModifier(new BeanDeserializerModifier() {
+                @Override
+                public BeanDeserializerBuilder updateBuilder(final DeserializationConfig config,
+                                                             final BeanDescription beanDesc,
+                                                             final BeanDeserializerBuilder builder) {
+                    if (beanDesc.getBeanClass() == PlayerGame.Builder.class) {
+                        for (final PlayerGameField field : PlayerGameField.values()) {
+                            if (!mask.playerGameFields.contains(field)) {
+                                ignore(builder, field.getJsonName());
+                            }
+                        }
+                    } else if (beanDesc.getBeanClass() == Player.Builder.class) {
+                        for (final PlayerField field : PlayerField.values()) {
+                            if (!mask.playerFields.contains(field)) {
+                                ignore(builder, field.getJsonName());
+                            }
+                        }
+                    }
+                    return builder;
+                }
+            });
+        }
+
+        private static void ignore(final BeanDeserializerBuilder builder, final String jsonName) {
+            builder.removeProperty(new PropertyName(jsonName));
+            builder.addIgnorable(jsonName);
+        }
+    }
+
+    public static final class Builder {
+        private Set<PlayerGameField> playerGameFields;
+        private Set<PlayerField> playerFields;
+
+        private Builder() {
+        }
+
+        /**
+         * Selects the fields of {@link PlayerGame}s to decode; all of them are decoded if none are selected
+         *
+         * @param val fields to decode
+         * @return this builder
+         */
+        public Builder withPlayerGameFields(final PlayerGameField... val) {
+            return withPlayerGameFields(Arrays.asList(val));
+        }
+
+        /**
+         * Selects the fields of {@link PlayerGame}s to decode; all of them are decoded if none are selected
+         *
+         * @param val fields to decode
+         * @return this builder
+         */
+        public Builder withPlayerGameFields(final Collection<PlayerGameField> val) {
+            playerGameFields = EnumSet.noneOf(PlayerGameField.class);
+            playerGameFields.addAll(requireNonNull(val, "Null player game fields"));
+            playerGameFields.add(PlayerGameField.STAT_ID);
+            return this;
+        }
+
+        /**
+         * Selects the fields of {@link Player}s to decode; all of them are decoded if none are selected
+         *
+         * @param val fields to decode
+         * @return this builder
+         */
+        public Builder withPlayerFields(final PlayerField... val) {
+            return withPlayerFields(Arrays.asList(val));
+        }
+
+        /**
+         * Selects the fields of {@link Player}s to decode; all of them are decoded if none are selected
+         *
+         * @param val fields to decode
+         * @return this builder
+         */
+        public Builder withPlayerFields(final Collection<PlayerField> val) {
+            playerFields = EnumSet.noneOf(PlayerField.class);
+            playerFields.addAll(requireNonNull(val, "Null player fields"));
+            playerFields.add(PlayerField.PLAYER_ID);
+            return this;
+        }
+
+        public FieldMask build() {
+            checkArgument(playerGameFields != null || playerFields != null, "No fields selected");
+            return new FieldMask(this);
+        }
+    }
+}
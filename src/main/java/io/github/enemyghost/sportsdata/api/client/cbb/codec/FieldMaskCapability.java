@@ -0,0 +1,74 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+import io.github.enemyghost.sportsdata.api.client.ClientCapability;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.table.PlayerGameTable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ClientCapability} which decodes json responses of {@link PlayerGame}s, {@link Player}s and
+ * {@link PlayerGameTable}s under the {@link FieldMask} of the current call, if it is made inside
+ * {@link FieldMask#project(java.util.function.Supplier)}. All other responses, and calls made without a mask, are
+ * decoded as before. Intended for the default json client.
+ *
+ * @author enemyghost
+ */
+public final class FieldMaskCapability implements ClientCapability {
+    @Override
+    public Decoder enrichDecoder(final Decoder decoder) {
+        return (response, type) -> {
+            final FieldMask mask = FieldMask.current();
+            if (mask == null || !isProjectable(type)) {
+                return decoder.decode(response, type);
+            }
+            if (response.status() == 404 || response.status() == 204) {
+                return Util.emptyValueOf(type);
+            }
+            return decode(mask, response, type);
+        };
+    }
+
+    private static Object decode(final FieldMask mask, final Response response, final Type type) throws IOException {
+        final boolean optional = type instanceof ParameterizedType
+                && ((ParameterizedType) type).getRawType() == Optional.class;
+        if (response.body() == null) {
+            return optional ? Optional.empty() : null;
+        }
+        try (PushbackInputStream body = new PushbackInputStream(response.body().asInputStream())) {
+            final int first = body.read();
+            if (first == -1) {
+                return optional ? Optional.empty() : null;
+            }
+            body.unread(first);
+            return mask.readerFor(type).readValue((InputStream) body);
+        }
+    }
+
+    /**
+     * Whether the type is a {@link PlayerGameTable}, or a {@code List} or {@code Optional} of player games or players
+     */
+    private static boolean isProjectable(final Type type) {
+        if (type == PlayerGameTable.class) {
+            return true;
+        } else if (!(type instanceof ParameterizedType)) {
+            return false;
+        }
+        final ParameterizedType parameterized = (ParameterizedType) type;
+        if (parameterized.getRawType() != List.class && parameterized.getRawType() != Optional.class) {
+            return false;
+        }
+        final Type element = parameterized.getActualTypeArguments()[0];
+        return element == PlayerGame.class || element == Player.class;
+    }
+}
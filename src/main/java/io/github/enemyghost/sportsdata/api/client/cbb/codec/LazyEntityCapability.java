@@ -0,0 +1,71 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import feign.Response;
+import feign.Util;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import io.github.enemyghost.sportsdata.api.client.ClientCapability;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.LazyEntities;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link ClientCapability} which decodes json responses of {@link PlayerGame}s and {@link Player}s with
+ * {@link LazyEntities}, so that each entity decodes its fields only as they are read. All other responses are decoded
+ * as before. Intended for the default json client, and for consumers that read a few fields of many entities.
+ *
+ * @author enemyghost
+ */
+public final class LazyEntityCapability implements ClientCapability {
+    @Override
+    public Decoder enrichDecoder(final Decoder decoder) {
+        return (response, type) -> {
+            final Class<?> lazyType = lazyType(type);
+            if (lazyType == null) {
+                return decoder.decode(response, type);
+            }
+            if (response.status() == 404 || response.status() == 204) {
+                return Util.emptyValueOf(type);
+            }
+            final boolean optional = ((ParameterizedType) type).getRawType() == Optional.class;
+            final byte[] body = response.body() == null
+                    ? new byte[0]
+                    : Util.toByteArray(response.body().asInputStream());
+            if (body.length == 0) {
+                return optional ? Optional.empty() : null;
+            }
+            try {
+                return decode(body, lazyType, optional);
+            } catch (final IllegalArgumentException e) {
+                throw new DecodeException(response.status(), e.getMessage(), response.request(), e);
+            }
+        };
+    }
+
+    private static Object decode(final byte[] body, final Class<?> lazyType, final boolean optional) {
+        if (lazyType == PlayerGame.class) {
+            return optional ? LazyEntities.playerGame(body) : LazyEntities.playerGames(body);
+        }
+        return optional ? LazyEntities.player(body) : LazyEntities.players(body);
+    }
+
+    /**
+     * Returns the entity type of a {@code List} or {@code Optional} of player games or players, or null
+     */
+    private static Class<?> lazyType(final Type type) {
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        final ParameterizedType parameterized = (ParameterizedType) type;
+        if (parameterized.getRawType() != List.class && parameterized.getRawType() != Optional.class) {
+            return null;
+        }
+        final Type element = parameterized.getActualTypeArguments()[0];
+        return element == PlayerGame.class || element == Player.class ? (Class<?>) element : null;
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.github.enemyghost.sportsdata.api.client.util.StringInterner;
+
+import java.io.IOException;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Jackson module that deduplicates the values of low-cardinality string properties of the {@code cbb.entities}, such
+ * as team keys, positions and home or away, through a shared {@link StringInterner} as they are decoded. Every decoded
+ * {@link io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame} of a team then refers to one copy of its
+ * team key, instead of holding its own.
+ * <p>
+ * Other string properties, such as names, are decoded as usual, so that they don't evict the interned values.
+ *
+ * @author enemyghost
+ */
+public final class StringInterningModule extends SimpleModule {
+    /**
+     * Properties interned by default: those whose values repeat across many entities
+     */
+    public static final Set<String> DEFAULT_PROPERTIES = Set.of(
+            "BirthState",
+            "Class",
+            "Conference",
+            "Country",
+            "DraftKingsPosition",
+            "FanDuelPosition",
+            "HomeOrAway",
+            "InjuryBodyPart",
+            "InjuryStatus",
+            "Opponent",
+            "Position",
+            "State",
+            "Team",
+            "YahooPosition");
+
+    private static final long serialVersionUID = 1L;
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * Creates a module interning the {@link #DEFAULT_PROPERTIES} into its own pool
+     */
+    public StringInterningModule() {
+        this(new StringInterner(DEFAULT_CAPACITY), DEFAULT_PROPERTIES);
+    }
+
+    /**
+     * Creates a module interning the given properties into the given pool
+     *
+     * @param interner   pool of canonical strings
+     * @param properties names of the properties to intern, as they appear in responses
+     */
+    public StringInterningModule(final StringInterner interner, final Set<String> properties) {
+        super(StringInterningModule.class.getSimpleName());
+        addDeserializer(String.class, new PropertyStringDeserializer(requireNonNull(interner, "Null interner"),
+                Set.copyOf(requireNonNull(properties, "Null properties"))));
+    }
+
+    /**
+     * Picks the interning deserializer for the configured properties, and the standard one for all other strings
+     */
+    private static final class PropertyStringDeserializer extends StdScalarDeserializer<String>
+            implements ContextualDeserializer {
+        private static final long serialVersionUID = 1L;
+
+        private final InterningStringDeserializer interning;
+        private final Set<String> properties;
+
+        PropertyStringDeserializer(final StringInterner interner, final Set<String> properties) {
+            super(String.class);
+            interning = new InterningStringDeserializer(interner);
+            this.properties = properties;
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(final DeserializationContext ctxt, final BeanProperty property) {
+            return property != null && properties.contains(property.getName())
+                    ? interning
+                    : StringDeserializer.instance;
+        }
+
+        @Override
+        public String deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            return StringDeserializer.instance.deserialize(p, ctxt);
+        }
+    }
+
+    private static final class InterningStringDeserializer extends StdScalarDeserializer<String> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient StringInterner interner;
+
+        InterningStringDeserializer(final StringInterner interner) {
+            super(String.class);
+            this.interner = interner;
+        }
+
+        @Override
+        public String deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                return interner.intern(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            }
+            return StringDeserializer.instance.deserialize(p, ctxt);
+        }
+    }
+}
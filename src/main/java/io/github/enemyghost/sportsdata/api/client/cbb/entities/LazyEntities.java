@@ -0,0 +1,108 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.entities;
+
+import io.github.enemyghost.sportsdata.api.client.codec.JsonRowIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decodes json responses of {@link PlayerGame}s and {@link Player}s lazily: the body is indexed in one pass, and each
+ * entity decodes a field from the retained body only when its getter is first called. For consumers that read a few
+ * fields of many entities, this skips the cost of decoding the fields they never read.
+ * <p>
+ * The entities behave exactly like eagerly decoded ones, but retain the whole body for as long as any of them is
+ * reachable, and report malformed field values when the field is read rather than when the body is decoded.
+ *
+ * @author enemyghost
+ */
+public final class LazyEntities {
+    /**
+     * Private ctor.
+     */
+    private LazyEntities() {
+    }
+
+    /**
+     * Decodes a json array of player games lazily
+     *
+     * @param json response body
+     * @return lazily decoded {@link PlayerGame}s, or null if the body is {@code null}
+     * @throws IllegalArgumentException if the body is not a json array of player games
+     */
+    public static List<PlayerGame> playerGames(final byte[] json) {
+        if (JsonRowIndex.isNull(requireNonNull(json, "Null json"))) {
+            return null;
+        }
+        final JsonRowIndex rows = index(json, LazyPlayerGame.FIELDS, 0, false, "StatID");
+        final List<PlayerGame> playerGames = new ArrayList<>(rows.size());
+        for (int row = 0; row < rows.size(); row++) {
+            playerGames.add(new LazyPlayerGame(rows, row));
+        }
+        return playerGames;
+    }
+
+    /**
+     * Decodes a json player game lazily
+     *
+     * @param json response body
+     * @return lazily decoded {@link PlayerGame}, or empty if the body is {@code null}
+     * @throws IllegalArgumentException if the body is not a json player game
+     */
+    public static Optional<PlayerGame> playerGame(final byte[] json) {
+        return Optional.ofNullable(playerGames(json)).flatMap(LazyEntities::single);
+    }
+
+    /**
+     * Decodes a json array of players lazily
+     *
+     * @param json response body
+     * @return lazily decoded {@link Player}s, or null if the body is {@code null}
+     * @throws IllegalArgumentException if the body is not a json array of players
+     */
+    public static List<Player> players(final byte[] json) {
+        if (JsonRowIndex.isNull(requireNonNull(json, "Null json"))) {
+            return null;
+        }
+        final JsonRowIndex rows = index(json, LazyPlayer.FIELDS, 0, true, "PlayerID");
+        final List<Player> players = new ArrayList<>(rows.size());
+        for (int row = 0; row < rows.size(); row++) {
+            players.add(new LazyPlayer(rows, row));
+        }
+        return players;
+    }
+
+    /**
+     * Decodes a json player lazily
+     *
+     * @param json response body
+     * @return lazily decoded {@link Player}, or empty if the body is {@code null}
+     * @throws IllegalArgumentException if the body is not a json player
+     */
+    public static Optional<Player> player(final byte[] json) {
+        return Optional.ofNullable(players(json)).flatMap(LazyEntities::single);
+    }
+
+    /**
+     * Indexes the body, checking that every row has the required field, as the eager builders do
+     */
+    private static JsonRowIndex index(final byte[] json,
+                                      final JsonRowIndex.Fields fields,
+                                      final int requiredField,
+                                      final boolean requiredNonNull,
+                                      final String requiredName) {
+        final JsonRowIndex rows = JsonRowIndex.of(json, fields);
+        for (int row = 0; row < rows.size(); row++) {
+            if (requiredNonNull ? !rows.isPresent(row, requiredField) : !rows.contains(row, requiredField)) {
+                throw new IllegalArgumentException(requiredName + " is not nullable");
+            }
+        }
+        return rows;
+    }
+
+    private static <T> Optional<T> single(final List<T> entities) {
+        return entities.isEmpty() ? Optional.empty() : Optional.of(entities.get(0));
+    }
+}
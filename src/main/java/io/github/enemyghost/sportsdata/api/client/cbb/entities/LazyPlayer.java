@@ -0,0 +1,400 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.entities;
+
+import io.github.enemyghost.sportsdata.api.client.codec.JsonRowIndex;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * A {@link Player} that decodes each of its fields from the retained response body the first time it is read,
+ * rather than when the response is decoded, for consumers that read a few fields of many players. Created by
+ * {@link LazyEntities}.
+ * <p>
+ * Strings are decoded once and cached. Int fields are parsed from the body on every read, which allocates nothing and
+ * costs about as much as checking a cache would, without adding a cache slot per field to every row. Caches are
+ * written racily, like {@link String#hashCode()}: every thread decodes the same immutable value, so one thread may at
+ * worst decode a field again. Getters return what the eagerly decoded {@link Player} would, and {@code equals},
+ * {@code hashCode} and {@code toString} delegate to it, decoded in full on first use, so that a lazy and an eager
+ * instance of the same row are equal either way round.
+ *
+ * @author enemyghost
+ */
+final class LazyPlayer extends Player {
+    static final JsonRowIndex.Fields FIELDS = JsonRowIndex.Fields.of(
+            "PlayerID",
+            "FirstName",
+            "LastName",
+            "TeamID",
+            "Team",
+            "Jersey",
+            "Position",
+            "Class",
+            "Height",
+            "Weight",
+            "BirthCity",
+            "BirthState",
+            "HighSchool",
+            "SportRadarPlayerID",
+            "RotoworldPlayerID",
+            "RotoWirePlayerID",
+            "FantasyAlarmPlayerID",
+            "GlobalTeamID");
+
+    private static final int PLAYER_ID = 0;
+    private static final int FIRST_NAME = 1;
+    private static final int LAST_NAME = 2;
+    private static final int TEAM_ID = 3;
+    private static final int TEAM = 4;
+    private static final int JERSEY = 5;
+    private static final int POSITION = 6;
+    private static final int CLASS = 7;
+    private static final int HEIGHT = 8;
+    private static final int WEIGHT = 9;
+    private static final int BIRTH_CITY = 10;
+    private static final int BIRTH_STATE = 11;
+    private static final int HIGH_SCHOOL = 12;
+    private static final int SPORT_RADAR_PLAYER_ID = 13;
+    private static final int ROTOWORLD_PLAYER_ID = 14;
+    private static final int ROTO_WIRE_PLAYER_ID = 15;
+    private static final int FANTASY_ALARM_PLAYER_ID = 16;
+    private static final int GLOBAL_TEAM_ID = 17;
+
+    private static final Player.Builder EMPTY = Player.newBuilder().withPlayerID(0);
+
+    private final JsonRowIndex rows;
+    private final int row;
+
+    private String firstName;
+    private String lastName;
+    private String team;
+    private String position;
+    private String playerClass;
+    private String birthCity;
+    private String birthState;
+    private String highSchool;
+    private String sportRadarPlayerId;
+
+    private Player decoded;
+
+    LazyPlayer(final JsonRowIndex rows, final int row) {
+        super(EMPTY);
+        this.rows = rows;
+        this.row = row;
+    }
+
+    @Override
+    public int getPlayerId() {
+        return rows.isPresent(row, PLAYER_ID) ? rows.readInt(row, PLAYER_ID) : 0;
+    }
+
+    @Override
+    public Optional<String> getFirstName() {
+        return Optional.ofNullable(firstName());
+    }
+
+    private String firstName() {
+        String value = firstName;
+        if (value == null && rows.isPresent(row, FIRST_NAME)) {
+            value = rows.readString(row, FIRST_NAME);
+            firstName = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getLastName() {
+        return Optional.ofNullable(lastName());
+    }
+
+    private String lastName() {
+        String value = lastName;
+        if (value == null && rows.isPresent(row, LAST_NAME)) {
+            value = rows.readString(row, LAST_NAME);
+            lastName = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<Integer> getTeamId() {
+        return optionalInt(TEAM_ID);
+    }
+
+    @Override
+    public boolean hasTeamId() {
+        return rows.isPresent(row, TEAM_ID);
+    }
+
+    @Override
+    public int getTeamIdAsInt() {
+        return requireInt(TEAM_ID);
+    }
+
+    @Override
+    public Optional<String> getTeam() {
+        return Optional.ofNullable(team());
+    }
+
+    private String team() {
+        String value = team;
+        if (value == null && rows.isPresent(row, TEAM)) {
+            value = rows.readString(row, TEAM);
+            team = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<Integer> getJersey() {
+        return optionalInt(JERSEY);
+    }
+
+    @Override
+    public boolean hasJersey() {
+        return rows.isPresent(row, JERSEY);
+    }
+
+    @Override
+    public int getJerseyAsInt() {
+        return requireInt(JERSEY);
+    }
+
+    @Override
+    public Optional<String> getPosition() {
+        return Optional.ofNullable(position());
+    }
+
+    private String position() {
+        String value = position;
+        if (value == null && rows.isPresent(row, POSITION)) {
+            value = rows.readString(row, POSITION);
+            position = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getPlayerClass() {
+        return Optional.ofNullable(playerClass());
+    }
+
+    private String playerClass() {
+        String value = playerClass;
+        if (value == null && rows.isPresent(row, CLASS)) {
+            value = rows.readString(row, CLASS);
+            playerClass = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<Integer> getHeight() {
+        return optionalInt(HEIGHT);
+    }
+
+    @Override
+    public boolean hasHeight() {
+        return rows.isPresent(row, HEIGHT);
+    }
+
+    @Override
+    public int getHeightAsInt() {
+        return requireInt(HEIGHT);
+    }
+
+    @Override
+    public Optional<Integer> getWeight() {
+        return optionalInt(WEIGHT);
+    }
+
+    @Override
+    public boolean hasWeight() {
+        return rows.isPresent(row, WEIGHT);
+    }
+
+    @Override
+    public int getWeightAsInt() {
+        return requireInt(WEIGHT);
+    }
+
+    @Override
+    public Optional<String> getBirthCity() {
+        return Optional.ofNullable(birthCity());
+    }
+
+    private String birthCity() {
+        String value = birthCity;
+        if (value == null && rows.isPresent(row, BIRTH_CITY)) {
+            value = rows.readString(row, BIRTH_CITY);
+            birthCity = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getBirthState() {
+        return Optional.ofNullable(birthState());
+    }
+
+    private String birthState() {
+        String value = birthState;
+        if (value == null && rows.isPresent(row, BIRTH_STATE)) {
+            value = rows.readString(row, BIRTH_STATE);
+            birthState = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getHighSchool() {
+        return Optional.ofNullable(highSchool());
+    }
+
+    private String highSchool() {
+        String value = highSchool;
+        if (value == null && rows.isPresent(row, HIGH_SCHOOL)) {
+            value = rows.readString(row, HIGH_SCHOOL);
+            highSchool = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getSportRadarPlayerId() {
+        return Optional.ofNullable(sportRadarPlayerId());
+    }
+
+    private String sportRadarPlayerId() {
+        String value = sportRadarPlayerId;
+        if (value == null && rows.isPresent(row, SPORT_RADAR_PLAYER_ID)) {
+            value = rows.readString(row, SPORT_RADAR_PLAYER_ID);
+            sportRadarPlayerId = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<Integer> getRotoworldPlayerId() {
+        return optionalInt(ROTOWORLD_PLAYER_ID);
+    }
+
+    @Override
+    public boolean hasRotoworldPlayerId() {
+        return rows.isPresent(row, ROTOWORLD_PLAYER_ID);
+    }
+
+    @Override
+    public int getRotoworldPlayerIdAsInt() {
+        return requireInt(ROTOWORLD_PLAYER_ID);
+    }
+
+    @Override
+    public Optional<Integer> getRotoWirePlayerId() {
+        return optionalInt(ROTO_WIRE_PLAYER_ID);
+    }
+
+    @Override
+    public boolean hasRotoWirePlayerId() {
+        return rows.isPresent(row, ROTO_WIRE_PLAYER_ID);
+    }
+
+    @Override
+    public int getRotoWirePlayerIdAsInt() {
+        return requireInt(ROTO_WIRE_PLAYER_ID);
+    }
+
+    @Override
+    public Optional<Integer> getFantasyAlarmPlayerId() {
+        return optionalInt(FANTASY_ALARM_PLAYER_ID);
+    }
+
+    @Override
+    public boolean hasFantasyAlarmPlayerId() {
+        return rows.isPresent(row, FANTASY_ALARM_PLAYER_ID);
+    }
+
+    @Override
+    public int getFantasyAlarmPlayerIdAsInt() {
+        return requireInt(FANTASY_ALARM_PLAYER_ID);
+    }
+
+    @Override
+    public Optional<Integer> getGlobalTeamID() {
+        return optionalInt(GLOBAL_TEAM_ID);
+    }
+
+    @Override
+    public boolean hasGlobalTeamID() {
+        return rows.isPresent(row, GLOBAL_TEAM_ID);
+    }
+
+    @Override
+    public int getGlobalTeamIDAsInt() {
+        return requireInt(GLOBAL_TEAM_ID);
+    }
+
+    /**
+     * Decodes every field into an eager {@link Player}
+     *
+     * @return the equal, eagerly decoded {@link Player}
+     */
+    Player decode() {
+        Player result = decoded;
+        if (result == null) {
+            result = Player.newBuilder()
+                    .withPlayerID(getPlayerId())
+                    .withFirstName(firstName())
+                    .withLastName(lastName())
+                    .withTeamID(boxed(TEAM_ID))
+                    .withTeam(team())
+                    .withJersey(boxed(JERSEY))
+                    .withPosition(position())
+                    .withPlayerClass(playerClass())
+                    .withHeight(boxed(HEIGHT))
+                    .withWeight(boxed(WEIGHT))
+                    .withBirthCity(birthCity())
+                    .withBirthState(birthState())
+                    .withHighSchool(highSchool())
+                    .withSportRadarPlayerID(sportRadarPlayerId())
+                    .withRotoworldPlayerID(boxed(ROTOWORLD_PLAYER_ID))
+                    .withRotoWirePlayerID(boxed(ROTO_WIRE_PLAYER_ID))
+                    .withFantasyAlarmPlayerID(boxed(FANTASY_ALARM_PLAYER_ID))
+                    .withGlobalTeamID(boxed(GLOBAL_TEAM_ID))
+                    .build();
+            decoded = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Player)) return false;
+        return decode().equals(o instanceof LazyPlayer ? ((LazyPlayer) o).decode() : o);
+    }
+
+    @Override
+    public int hashCode() {
+        return decode().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return decode().toString();
+    }
+
+    private Integer boxed(final int field) {
+        return rows.isPresent(row, field) ? rows.readInt(row, field) : null;
+    }
+
+    private Optional<Integer> optionalInt(final int field) {
+        return rows.isPresent(row, field) ? Optional.of(rows.readInt(row, field)) : Optional.empty();
+    }
+
+    private int requireInt(final int field) {
+        if (!rows.isPresent(row, field)) {
+            throw new NoSuchElementException("No value present");
+        }
+        return rows.readInt(row, field);
+    }
+}
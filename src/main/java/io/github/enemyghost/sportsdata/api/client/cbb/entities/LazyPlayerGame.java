@@ -0,0 +1,572 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.entities;
+
+import io.github.enemyghost.sportsdata.api.client.codec.JsonRowIndex;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * A {@link PlayerGame} that decodes each of its fields from the retained response body the first time it is read,
+ * rather than when the response is decoded, for consumers that read a few fields of many player games. Created by
+ * {@link LazyEntities}.
+ * <p>
+ * Strings, dates and instants are decoded once and cached. Int fields are parsed from the body on every read, which
+ * allocates nothing and costs about as much as checking a cache would, without adding a cache slot per field to every
+ * row. Caches are written racily, like {@link String#hashCode()}: every thread decodes the same immutable value, so
+ * one thread may at worst decode a field again. Getters return what the eagerly decoded {@link PlayerGame} would, and
+ * {@code equals}, {@code hashCode} and {@code toString} delegate to it, decoded in full on first use, so that a lazy
+ * and an eager instance of the same row are equal either way round.
+ *
+ * @author enemyghost
+ */
+final class LazyPlayerGame extends PlayerGame {
+    static final JsonRowIndex.Fields FIELDS = JsonRowIndex.Fields.of(
+            "StatID",
+            "TeamID",
+            "GlobalTeamID",
+            "GameID",
+            "GlobalGameID",
+            "PlayerID",
+            "SeasonType",
+            "Season",
+            "Name",
+            "Team",
+            "Position",
+            "InjuryStatus",
+            "InjuryBodyPart",
+            "InjuryStartDate",
+            "InjuryNotes",
+            "OpponentID",
+            "GlobalOpponentID",
+            "Opponent",
+            "OpponentRank",
+            "OpponentPositionRank",
+            "DateTime",
+            "HomeOrAway",
+            "IsGameOver",
+            "Updated",
+            "Games",
+            "FanDuelPosition",
+            "DraftKingsPosition",
+            "YahooPosition");
+
+    private static final int STAT_ID = 0;
+    private static final int TEAM_ID = 1;
+    private static final int GLOBAL_TEAM_ID = 2;
+    private static final int GAME_ID = 3;
+    private static final int GLOBAL_GAME_ID = 4;
+    private static final int PLAYER_ID = 5;
+    private static final int SEASON_TYPE = 6;
+    private static final int SEASON = 7;
+    private static final int NAME = 8;
+    private static final int TEAM = 9;
+    private static final int POSITION = 10;
+    private static final int INJURY_STATUS = 11;
+    private static final int INJURY_BODY_PART = 12;
+    private static final int INJURY_START_DATE = 13;
+    private static final int INJURY_NOTES = 14;
+    private static final int OPPONENT_ID = 15;
+    private static final int GLOBAL_OPPONENT_ID = 16;
+    private static final int OPPONENT = 17;
+    private static final int OPPONENT_RANK = 18;
+    private static final int OPPONENT_POSITION_RANK = 19;
+    private static final int DATE_TIME = 20;
+    private static final int HOME_OR_AWAY = 21;
+    private static final int IS_GAME_OVER = 22;
+    private static final int UPDATED = 23;
+    private static final int GAMES = 24;
+    private static final int FAN_DUEL_POSITION = 25;
+    private static final int DRAFT_KINGS_POSITION = 26;
+    private static final int YAHOO_POSITION = 27;
+
+    private static final PlayerGame.Builder EMPTY = PlayerGame.newBuilder().withStatID(0);
+
+    private final JsonRowIndex rows;
+    private final int row;
+
+    private String name;
+    private String team;
+    private String position;
+    private String injuryStatus;
+    private String injuryBodyPart;
+    private LocalDate injuryStartDate;
+    private String injuryNotes;
+    private String opponent;
+    private Instant gameInstant;
+    private String homeOrAway;
+    private Instant updatedInstant;
+    private String fanDuelPosition;
+    private String draftKingsPosition;
+    private String yahooPosition;
+
+    private PlayerGame decoded;
+
+    LazyPlayerGame(final JsonRowIndex rows, final int row) {
+        super(EMPTY);
+        this.rows = rows;
+        this.row = row;
+    }
+
+    @Override
+    public int getStatId() {
+        return rows.isPresent(row, STAT_ID) ? rows.readInt(row, STAT_ID) : 0;
+    }
+
+    @Override
+    public Optional<Integer> getTeamId() {
+        return optionalInt(TEAM_ID);
+    }
+
+    @Override
+    public boolean hasTeamId() {
+        return rows.isPresent(row, TEAM_ID);
+    }
+
+    @Override
+    public int getTeamIdAsInt() {
+        return requireInt(TEAM_ID);
+    }
+
+    @Override
+    public Optional<Integer> getGlobalTeamId() {
+        return optionalInt(GLOBAL_TEAM_ID);
+    }
+
+    @Override
+    public boolean hasGlobalTeamId() {
+        return rows.isPresent(row, GLOBAL_TEAM_ID);
+    }
+
+    @Override
+    public int getGlobalTeamIdAsInt() {
+        return requireInt(GLOBAL_TEAM_ID);
+    }
+
+    @Override
+    public Optional<Integer> getGameId() {
+        return optionalInt(GAME_ID);
+    }
+
+    @Override
+    public boolean hasGameId() {
+        return rows.isPresent(row, GAME_ID);
+    }
+
+    @Override
+    public int getGameIdAsInt() {
+        return requireInt(GAME_ID);
+    }
+
+    @Override
+    public Optional<Integer> getGlobalGameId() {
+        return optionalInt(GLOBAL_GAME_ID);
+    }
+
+    @Override
+    public boolean hasGlobalGameId() {
+        return rows.isPresent(row, GLOBAL_GAME_ID);
+    }
+
+    @Override
+    public int getGlobalGameIdAsInt() {
+        return requireInt(GLOBAL_GAME_ID);
+    }
+
+    @Override
+    public Optional<Integer> getPlayerId() {
+        return optionalInt(PLAYER_ID);
+    }
+
+    @Override
+    public boolean hasPlayerId() {
+        return rows.isPresent(row, PLAYER_ID);
+    }
+
+    @Override
+    public int getPlayerIdAsInt() {
+        return requireInt(PLAYER_ID);
+    }
+
+    @Override
+    public Optional<Integer> getSeasonType() {
+        return optionalInt(SEASON_TYPE);
+    }
+
+    @Override
+    public boolean hasSeasonType() {
+        return rows.isPresent(row, SEASON_TYPE);
+    }
+
+    @Override
+    public int getSeasonTypeAsInt() {
+        return requireInt(SEASON_TYPE);
+    }
+
+    @Override
+    public Optional<Integer> getSeason() {
+        return optionalInt(SEASON);
+    }
+
+    @Override
+    public boolean hasSeason() {
+        return rows.isPresent(row, SEASON);
+    }
+
+    @Override
+    public int getSeasonAsInt() {
+        return requireInt(SEASON);
+    }
+
+    @Override
+    public Optional<String> getName() {
+        return Optional.ofNullable(name());
+    }
+
+    private String name() {
+        String value = name;
+        if (value == null && rows.isPresent(row, NAME)) {
+            value = rows.readString(row, NAME);
+            name = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getTeam() {
+        return Optional.ofNullable(team());
+    }
+
+    private String team() {
+        String value = team;
+        if (value == null && rows.isPresent(row, TEAM)) {
+            value = rows.readString(row, TEAM);
+            team = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getPosition() {
+        return Optional.ofNullable(position());
+    }
+
+    private String position() {
+        String value = position;
+        if (value == null && rows.isPresent(row, POSITION)) {
+            value = rows.readString(row, POSITION);
+            position = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getInjuryStatus() {
+        return Optional.ofNullable(injuryStatus());
+    }
+
+    private String injuryStatus() {
+        String value = injuryStatus;
+        if (value == null && rows.isPresent(row, INJURY_STATUS)) {
+            value = rows.readString(row, INJURY_STATUS);
+            injuryStatus = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getInjuryBodyPart() {
+        return Optional.ofNullable(injuryBodyPart());
+    }
+
+    private String injuryBodyPart() {
+        String value = injuryBodyPart;
+        if (value == null && rows.isPresent(row, INJURY_BODY_PART)) {
+            value = rows.readString(row, INJURY_BODY_PART);
+            injuryBodyPart = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<LocalDate> getInjuryStartDate() {
+        return Optional.ofNullable(injuryStartDate());
+    }
+
+    private LocalDate injuryStartDate() {
+        LocalDate value = injuryStartDate;
+        if (value == null && rows.isPresent(row, INJURY_START_DATE)) {
+            value = rows.readLocalDate(row, INJURY_START_DATE);
+            injuryStartDate = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getInjuryNotes() {
+        return Optional.ofNullable(injuryNotes());
+    }
+
+    private String injuryNotes() {
+        String value = injuryNotes;
+        if (value == null && rows.isPresent(row, INJURY_NOTES)) {
+            value = rows.readString(row, INJURY_NOTES);
+            injuryNotes = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<Integer> getOpponentId() {
+        return optionalInt(OPPONENT_ID);
+    }
+
+    @Override
+    public boolean hasOpponentId() {
+        return rows.isPresent(row, OPPONENT_ID);
+    }
+
+    @Override
+    public int getOpponentIdAsInt() {
+        return requireInt(OPPONENT_ID);
+    }
+
+    @Override
+    public Optional<Integer> getGlobalOpponentId() {
+        return optionalInt(GLOBAL_OPPONENT_ID);
+    }
+
+    @Override
+    public boolean hasGlobalOpponentId() {
+        return rows.isPresent(row, GLOBAL_OPPONENT_ID);
+    }
+
+    @Override
+    public int getGlobalOpponentIdAsInt() {
+        return requireInt(GLOBAL_OPPONENT_ID);
+    }
+
+    @Override
+    public Optional<String> getOpponent() {
+        return Optional.ofNullable(opponent());
+    }
+
+    private String opponent() {
+        String value = opponent;
+        if (value == null && rows.isPresent(row, OPPONENT)) {
+            value = rows.readString(row, OPPONENT);
+            opponent = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<Integer> getOpponentRank() {
+        return optionalInt(OPPONENT_RANK);
+    }
+
+    @Override
+    public boolean hasOpponentRank() {
+        return rows.isPresent(row, OPPONENT_RANK);
+    }
+
+    @Override
+    public int getOpponentRankAsInt() {
+        return requireInt(OPPONENT_RANK);
+    }
+
+    @Override
+    public Optional<Integer> getOpponentPositionRank() {
+        return optionalInt(OPPONENT_POSITION_RANK);
+    }
+
+    @Override
+    public boolean hasOpponentPositionRank() {
+        return rows.isPresent(row, OPPONENT_POSITION_RANK);
+    }
+
+    @Override
+    public int getOpponentPositionRankAsInt() {
+        return requireInt(OPPONENT_POSITION_RANK);
+    }
+
+    @Override
+    public Optional<Instant> getGameInstant() {
+        return Optional.ofNullable(gameInstant());
+    }
+
+    private Instant gameInstant() {
+        Instant value = gameInstant;
+        if (value == null && rows.isPresent(row, DATE_TIME)) {
+            value = rows.readEasternInstant(row, DATE_TIME);
+            gameInstant = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getHomeOrAway() {
+        return Optional.ofNullable(homeOrAway());
+    }
+
+    private String homeOrAway() {
+        String value = homeOrAway;
+        if (value == null && rows.isPresent(row, HOME_OR_AWAY)) {
+            value = rows.readString(row, HOME_OR_AWAY);
+            homeOrAway = value;
+        }
+        return value;
+    }
+
+    @Override
+    public boolean isGameOver() {
+        return rows.readBoolean(row, IS_GAME_OVER);
+    }
+
+    @Override
+    public Optional<Instant> getUpdatedInstant() {
+        return Optional.ofNullable(updatedInstant());
+    }
+
+    private Instant updatedInstant() {
+        Instant value = updatedInstant;
+        if (value == null && rows.isPresent(row, UPDATED)) {
+            value = rows.readEasternInstant(row, UPDATED);
+            updatedInstant = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<Integer> getGames() {
+        return optionalInt(GAMES);
+    }
+
+    @Override
+    public boolean hasGames() {
+        return rows.isPresent(row, GAMES);
+    }
+
+    @Override
+    public int getGamesAsInt() {
+        return requireInt(GAMES);
+    }
+
+    @Override
+    public Optional<String> getFanDuelPosition() {
+        return Optional.ofNullable(fanDuelPosition());
+    }
+
+    private String fanDuelPosition() {
+        String value = fanDuelPosition;
+        if (value == null && rows.isPresent(row, FAN_DUEL_POSITION)) {
+            value = rows.readString(row, FAN_DUEL_POSITION);
+            fanDuelPosition = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getDraftKingsPosition() {
+        return Optional.ofNullable(draftKingsPosition());
+    }
+
+    private String draftKingsPosition() {
+        String value = draftKingsPosition;
+        if (value == null && rows.isPresent(row, DRAFT_KINGS_POSITION)) {
+            value = rows.readString(row, DRAFT_KINGS_POSITION);
+            draftKingsPosition = value;
+        }
+        return value;
+    }
+
+    @Override
+    public Optional<String> getYahooPosition() {
+        return Optional.ofNullable(yahooPosition());
+    }
+
+    private String yahooPosition() {
+        String value = yahooPosition;
+        if (value == null && rows.isPresent(row, YAHOO_POSITION)) {
+            value = rows.readString(row, YAHOO_POSITION);
+            yahooPosition = value;
+        }
+        return value;
+    }
+
+    /**
+     * Decodes every field into an eager {@link PlayerGame}
+     *
+     * @return the equal, eagerly decoded {@link PlayerGame}
+     */
+    PlayerGame decode() {
+        PlayerGame result = decoded;
+        if (result == null) {
+            result = PlayerGame.newBuilder()
+                    .withStatID(getStatId())
+                    .withTeamID(boxed(TEAM_ID))
+                    .withGlobalTeamID(boxed(GLOBAL_TEAM_ID))
+                    .withGameID(boxed(GAME_ID))
+                    .withGlobalGameID(boxed(GLOBAL_GAME_ID))
+                    .withPlayerID(boxed(PLAYER_ID))
+                    .withSeasonType(boxed(SEASON_TYPE))
+                    .withSeason(boxed(SEASON))
+                    .withName(name())
+                    .withTeam(team())
+                    .withPosition(position())
+                    .withInjuryStatus(injuryStatus())
+                    .withInjuryBodyPart(injuryBodyPart())
+                    .withInjuryStartDate(injuryStartDate())
+                    .withInjuryNotes(injuryNotes())
+                    .withOpponentID(boxed(OPPONENT_ID))
+                    .withGlobalOpponentID(boxed(GLOBAL_OPPONENT_ID))
+                    .withOpponent(opponent())
+                    .withOpponentRank(boxed(OPPONENT_RANK))
+                    .withOpponentPositionRank(boxed(OPPONENT_POSITION_RANK))
+                    .withGameInstant(gameInstant())
+                    .withHomeOrAway(homeOrAway())
+                    .withIsGameOver(isGameOver())
+                    .withUpdatedInstant(updatedInstant())
+                    .withGames(boxed(GAMES))
+                    .withFanDuelPosition(fanDuelPosition())
+                    .withDraftKingsPosition(draftKingsPosition())
+                    .withYahooPosition(yahooPosition())
+                    .build();
+            decoded = result;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PlayerGame)) return false;
+        return decode().equals(o instanceof LazyPlayerGame ? ((LazyPlayerGame) o).decode() : o);
+    }
+
+    @Override
+    public int hashCode() {
+        return decode().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return decode().toString();
+    }
+
+    private Integer boxed(final int field) {
+        return rows.isPresent(row, field) ? rows.readInt(row, field) : null;
+    }
+
+    private Optional<Integer> optionalInt(final int field) {
+        return rows.isPresent(row, field) ? Optional.of(rows.readInt(row, field)) : Optional.empty();
+    }
+
+    private int requireInt(final int field) {
+        if (!rows.isPresent(row, field)) {
+            throw new NoSuchElementException("No value present");
+        }
+        return rows.readInt(row, field);
+    }
+}
@@ -1,10 +1,13 @@
 package io.github.enemyghost.sportsdata.api.client.cbb.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player.Builder;
+import io.github.enemyghost.sportsdata.api.client.util.NullMask;
 
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
@@ -18,44 +21,65 @@ import static java.util.Objects.requireNonNull;
  */
 @JsonDeserialize(builder = Builder.class)
 public class Player {
+    private static final int TEAM_ID = 1 << 0;
+    private static final int JERSEY = 1 << 1;
+    private static final int HEIGHT = 1 << 2;
+    private static final int WEIGHT = 1 << 3;
+    private static final int ROTOWORLD_PLAYER_ID = 1 << 4;
+    private static final int ROTO_WIRE_PLAYER_ID = 1 << 5;
+    private static final int FANTASY_ALARM_PLAYER_ID = 1 << 6;
+    private static final int GLOBAL_TEAM_ID = 1 << 7;
+
     private final int playerId;
     private final String firstName;
     private final String lastName;
-    private final Integer teamId;
+    private final int teamId;
     private final String team;
-    private final Integer jersey;
+    private final int jersey;
     private final String position;
     private final String playerClass;
-    private final Integer height;
-    private final Integer weight;
+    private final int height;
+    private final int weight;
     private final String birthCity;
     private final String birthState;
     private final String highSchool;
     private final String sportRadarPlayerId;
-    private final Integer rotoworldPlayerId;
-    private final Integer rotoWirePlayerId;
-    private final Integer fantasyAlarmPlayerId;
-    private final Integer globalTeamID;
+    private final int rotoworldPlayerId;
+    private final int rotoWirePlayerId;
+    private final int fantasyAlarmPlayerId;
+    private final int globalTeamID;
+    /**
+     * Bit per nullable int field, set when the field is null
+     */
+    private final int nullMask;
 
-    private Player(final Builder builder) {
+    Player(final Builder builder) {
         playerId = builder.playerId;
         firstName = builder.firstName;
         lastName = builder.lastName;
-        teamId = builder.teamId;
+        teamId = NullMask.unbox(builder.teamId);
         team = builder.team;
-        jersey = builder.jersey;
+        jersey = NullMask.unbox(builder.jersey);
         position = builder.position;
         playerClass = builder.playerClass;
-        height = builder.height;
-        weight = builder.weight;
+        height = NullMask.unbox(builder.height);
+        weight = NullMask.unbox(builder.weight);
         birthCity = builder.birthCity;
         birthState = builder.birthState;
         highSchool = builder.highSchool;
         sportRadarPlayerId = builder.sportRadarPlayerId;
-        rotoworldPlayerId = builder.rotoworldPlayerId;
-        rotoWirePlayerId = builder.rotoWirePlayerId;
-        fantasyAlarmPlayerId = builder.fantasyAlarmPlayerId;
-        globalTeamID = builder.globalTeamID;
+        rotoworldPlayerId = NullMask.unbox(builder.rotoworldPlayerId);
+        rotoWirePlayerId = NullMask.unbox(builder.rotoWirePlayerId);
+        fantasyAlarmPlayerId = NullMask.unbox(builder.fantasyAlarmPlayerId);
+        globalTeamID = NullMask.unbox(builder.globalTeamID);
+        nullMask = NullMask.absent(builder.teamId, TEAM_ID)
+                | NullMask.absent(builder.jersey, JERSEY)
+                | NullMask.absent(builder.height, HEIGHT)
+                | NullMask.absent(builder.weight, WEIGHT)
+                | NullMask.absent(builder.rotoworldPlayerId, ROTOWORLD_PLAYER_ID)
+                | NullMask.absent(builder.rotoWirePlayerId, ROTO_WIRE_PLAYER_ID)
+                | NullMask.absent(builder.fantasyAlarmPlayerId, FANTASY_ALARM_PLAYER_ID)
+                | NullMask.absent(builder.globalTeamID, GLOBAL_TEAM_ID);
     }
 
     public static Builder newBuilder() {
@@ -95,7 +119,28 @@ public class Player {
      * @return the ID of the team this player is employed by.
      */
     public Optional<Integer> getTeamId() {
-        return Optional.ofNullable(teamId);
+        return NullMask.toOptional(nullMask, TEAM_ID, teamId);
+    }
+
+    /**
+     * Whether the ID of the team this player is employed by is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasTeamId() {
+        return NullMask.isPresent(nullMask, TEAM_ID);
+    }
+
+    /**
+     * The ID of the team this player is employed by, without boxing. Check {@link #hasTeamId()} first.
+     *
+     * @return the ID of the team this player is employed by
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getTeamIdAsInt() {
+        return NullMask.require(nullMask, TEAM_ID, teamId);
     }
 
     /**
@@ -113,7 +158,28 @@ public class Player {
      * @return the player's jersey number.
      */
     public Optional<Integer> getJersey() {
-        return Optional.ofNullable(jersey);
+        return NullMask.toOptional(nullMask, JERSEY, jersey);
+    }
+
+    /**
+     * Whether the player's jersey number is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasJersey() {
+        return NullMask.isPresent(nullMask, JERSEY);
+    }
+
+    /**
+     * The player's jersey number, without boxing. Check {@link #hasJersey()} first.
+     *
+     * @return the player's jersey number
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getJerseyAsInt() {
+        return NullMask.require(nullMask, JERSEY, jersey);
     }
 
     /**
@@ -142,7 +208,28 @@ public class Player {
      * @return the player's height in inches
      */
     public Optional<Integer> getHeight() {
-        return Optional.ofNullable(height);
+        return NullMask.toOptional(nullMask, HEIGHT, height);
+    }
+
+    /**
+     * Whether the player's height in inches is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasHeight() {
+        return NullMask.isPresent(nullMask, HEIGHT);
+    }
+
+    /**
+     * The player's height in inches, without boxing. Check {@link #hasHeight()} first.
+     *
+     * @return the player's height in inches
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getHeightAsInt() {
+        return NullMask.require(nullMask, HEIGHT, height);
     }
 
     /**
@@ -151,7 +238,28 @@ public class Player {
      * @return the player's weight in pounds (lbs)
      */
     public Optional<Integer> getWeight() {
-        return Optional.ofNullable(weight);
+        return NullMask.toOptional(nullMask, WEIGHT, weight);
+    }
+
+    /**
+     * Whether the player's weight in pounds (lbs) is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasWeight() {
+        return NullMask.isPresent(nullMask, WEIGHT);
+    }
+
+    /**
+     * The player's weight in pounds (lbs), without boxing. Check {@link #hasWeight()} first.
+     *
+     * @return the player's weight in pounds (lbs)
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getWeightAsInt() {
+        return NullMask.require(nullMask, WEIGHT, weight);
     }
 
     /**
@@ -196,7 +304,29 @@ public class Player {
      * @return the player's cross reference PlayerID to the Rotoworld news feed
      */
     public Optional<Integer> getRotoworldPlayerId() {
-        return Optional.ofNullable(rotoworldPlayerId);
+        return NullMask.toOptional(nullMask, ROTOWORLD_PLAYER_ID, rotoworldPlayerId);
+    }
+
+    /**
+     * Whether the player's cross reference PlayerID to the Rotoworld news feed is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasRotoworldPlayerId() {
+        return NullMask.isPresent(nullMask, ROTOWORLD_PLAYER_ID);
+    }
+
+    /**
+     * The player's cross reference PlayerID to the Rotoworld news feed, without boxing.
+     * Check {@link #hasRotoworldPlayerId()} first.
+     *
+     * @return the player's cross reference PlayerID to the Rotoworld news feed
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getRotoworldPlayerIdAsInt() {
+        return NullMask.require(nullMask, ROTOWORLD_PLAYER_ID, rotoworldPlayerId);
     }
 
     /**
@@ -205,7 +335,29 @@ public class Player {
      * @return the player's cross reference PlayerID to the RotoWire news feed
      */
     public Optional<Integer> getRotoWirePlayerId() {
-        return Optional.ofNullable(rotoWirePlayerId);
+        return NullMask.toOptional(nullMask, ROTO_WIRE_PLAYER_ID, rotoWirePlayerId);
+    }
+
+    /**
+     * Whether the player's cross reference PlayerID to the RotoWire news feed is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasRotoWirePlayerId() {
+        return NullMask.isPresent(nullMask, ROTO_WIRE_PLAYER_ID);
+    }
+
+    /**
+     * The player's cross reference PlayerID to the RotoWire news feed, without boxing.
+     * Check {@link #hasRotoWirePlayerId()} first.
+     *
+     * @return the player's cross reference PlayerID to the RotoWire news feed
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getRotoWirePlayerIdAsInt() {
+        return NullMask.require(nullMask, ROTO_WIRE_PLAYER_ID, rotoWirePlayerId);
     }
 
     /**
@@ -214,7 +366,29 @@ public class Player {
      * @return the player's cross reference PlayerID to the FantasyAlarm news feed
      */
     public Optional<Integer> getFantasyAlarmPlayerId() {
-        return Optional.ofNullable(fantasyAlarmPlayerId);
+        return NullMask.toOptional(nullMask, FANTASY_ALARM_PLAYER_ID, fantasyAlarmPlayerId);
+    }
+
+    /**
+     * Whether the player's cross reference PlayerID to the FantasyAlarm news feed is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasFantasyAlarmPlayerId() {
+        return NullMask.isPresent(nullMask, FANTASY_ALARM_PLAYER_ID);
+    }
+
+    /**
+     * The player's cross reference PlayerID to the FantasyAlarm news feed, without boxing.
+     * Check {@link #hasFantasyAlarmPlayerId()} first.
+     *
+     * @return the player's cross reference PlayerID to the FantasyAlarm news feed
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getFantasyAlarmPlayerIdAsInt() {
+        return NullMask.require(nullMask, FANTASY_ALARM_PLAYER_ID, fantasyAlarmPlayerId);
     }
 
     /**
@@ -223,37 +397,60 @@ public class Player {
      * @return a globally unique ID for this team
      */
     public Optional<Integer> getGlobalTeamID() {
-        return Optional.ofNullable(globalTeamID);
+        return NullMask.toOptional(nullMask, GLOBAL_TEAM_ID, globalTeamID);
+    }
+
+    /**
+     * Whether a globally unique ID for this team is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasGlobalTeamID() {
+        return NullMask.isPresent(nullMask, GLOBAL_TEAM_ID);
+    }
+
+    /**
+     * A globally unique ID for this team, without boxing. Check {@link #hasGlobalTeamID()} first.
+     *
+     * @return a globally unique ID for this team
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getGlobalTeamIDAsInt() {
+        return NullMask.require(nullMask, GLOBAL_TEAM_ID, globalTeamID);
     }
 
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
+        if (o instanceof LazyPlayer) return o.equals(this);
         if (o == null || getClass() != o.getClass()) return false;
         final Player player = (Player) o;
-        return playerId == player.playerId &&
+        return nullMask == player.nullMask &&
+                playerId == player.playerId &&
                 Objects.equals(firstName, player.firstName) &&
                 Objects.equals(lastName, player.lastName) &&
-                Objects.equals(teamId, player.teamId) &&
+                teamId == player.teamId &&
                 Objects.equals(team, player.team) &&
-                Objects.equals(jersey, player.jersey) &&
+                jersey == player.jersey &&
                 Objects.equals(position, player.position) &&
                 Objects.equals(playerClass, player.playerClass) &&
-                Objects.equals(height, player.height) &&
-                Objects.equals(weight, player.weight) &&
+                height == player.height &&
+                weight == player.weight &&
                 Objects.equals(birthCity, player.birthCity) &&
                 Objects.equals(birthState, player.birthState) &&
                 Objects.equals(highSchool, player.highSchool) &&
                 Objects.equals(sportRadarPlayerId, player.sportRadarPlayerId) &&
-                Objects.equals(rotoworldPlayerId, player.rotoworldPlayerId) &&
-                Objects.equals(rotoWirePlayerId, player.rotoWirePlayerId) &&
-                Objects.equals(fantasyAlarmPlayerId, player.fantasyAlarmPlayerId) &&
-                Objects.equals(globalTeamID, player.globalTeamID);
+                rotoworldPlayerId == player.rotoworldPlayerId &&
+                rotoWirePlayerId == player.rotoWirePlayerId &&
+                fantasyAlarmPlayerId == player.fantasyAlarmPlayerId &&
+                globalTeamID == player.globalTeamID;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(playerId, firstName, lastName, teamId, team, jersey, position, playerClass, height, weight, birthCity, birthState, highSchool, sportRadarPlayerId, rotoworldPlayerId, rotoWirePlayerId, fantasyAlarmPlayerId, globalTeamID);
+        return Objects.hash(playerId, firstName, lastName, teamId, team, jersey, position, playerClass, height, weight, birthCity, birthState, highSchool, sportRadarPlayerId, rotoworldPlayerId, rotoWirePlayerId, fantasyAlarmPlayerId, globalTeamID, nullMask);
     }
 
     @Override
@@ -262,21 +459,21 @@ public class Player {
                 .add("playerId=" + playerId)
                 .add("firstName='" + firstName + "'")
                 .add("lastName='" + lastName + "'")
-                .add("teamId=" + teamId)
+                .add("teamId=" + NullMask.box(nullMask, TEAM_ID, teamId))
                 .add("team='" + team + "'")
-                .add("jersey=" + jersey)
+                .add("jersey=" + NullMask.box(nullMask, JERSEY, jersey))
                 .add("position='" + position + "'")
                 .add("playerClass='" + playerClass + "'")
-                .add("height=" + height)
-                .add("weight=" + weight)
+                .add("height=" + NullMask.box(nullMask, HEIGHT, height))
+                .add("weight=" + NullMask.box(nullMask, WEIGHT, weight))
                 .add("birthCity='" + birthCity + "'")
                 .add("birthState='" + birthState + "'")
                 .add("highSchool='" + highSchool + "'")
                 .add("sportRadarPlayerId='" + sportRadarPlayerId + "'")
-                .add("rotoworldPlayerId=" + rotoworldPlayerId)
-                .add("rotoWirePlayerId=" + rotoWirePlayerId)
-                .add("fantasyAlarmPlayerId=" + fantasyAlarmPlayerId)
-                .add("globalTeamID=" + globalTeamID)
+                .add("rotoworldPlayerId=" + NullMask.box(nullMask, ROTOWORLD_PLAYER_ID, rotoworldPlayerId))
+                .add("rotoWirePlayerId=" + NullMask.box(nullMask, ROTO_WIRE_PLAYER_ID, rotoWirePlayerId))
+                .add("fantasyAlarmPlayerId=" + NullMask.box(nullMask, FANTASY_ALARM_PLAYER_ID, fantasyAlarmPlayerId))
+                .add("globalTeamID=" + NullMask.box(nullMask, GLOBAL_TEAM_ID, globalTeamID))
                 .toString();
     }
 
@@ -0,0 +1,63 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.entities;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The properties of a {@link Player}, by json name, for selecting which of them to decode
+ *
+ * @author enemyghost
+ */
+public enum PlayerField {
+    PLAYER_ID("PlayerID"),
+    FIRST_NAME("FirstName"),
+    LAST_NAME("LastName"),
+    TEAM_ID("TeamID"),
+    TEAM("Team"),
+    JERSEY("Jersey"),
+    POSITION("Position"),
+    CLASS("Class"),
+    HEIGHT("Height"),
+    WEIGHT("Weight"),
+    BIRTH_CITY("BirthCity"),
+    BIRTH_STATE("BirthState"),
+    HIGH_SCHOOL("HighSchool"),
+    SPORT_RADAR_PLAYER_ID("SportRadarPlayerID"),
+    ROTOWORLD_PLAYER_ID("RotoworldPlayerID"),
+    ROTO_WIRE_PLAYER_ID("RotoWirePlayerID"),
+    FANTASY_ALARM_PLAYER_ID("FantasyAlarmPlayerID"),
+    GLOBAL_TEAM_ID("GlobalTeamID");
+
+    private static final Map<String, PlayerField> BY_JSON_NAME = new HashMap<>();
+
+    static {
+        for (final PlayerField field : values()) {
+            BY_JSON_NAME.put(field.jsonName, field);
+        }
+    }
+
+    private final String jsonName;
+
+    PlayerField(final String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    /**
+     * Name of the property in the sportsdata.io json
+     *
+     * @return json property name
+     */
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Finds the field with the given json property name
+     *
+     * @param jsonName json property name
+     * @return the {@link PlayerField}, or null if {@link Player} has no such property
+     */
+    public static PlayerField forJsonName(final String jsonName) {
+        return BY_JSON_NAME.get(jsonName);
+    }
+}
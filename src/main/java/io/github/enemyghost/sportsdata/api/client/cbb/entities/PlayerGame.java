@@ -1,13 +1,18 @@
 package io.github.enemyghost.sportsdata.api.client.cbb.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame.Builder;
+import io.github.enemyghost.sportsdata.api.client.codec.SportsDataTimeModule.EasternInstantDeserializer;
 import io.github.enemyghost.sportsdata.api.client.util.DateFormatUtils;
+import io.github.enemyghost.sportsdata.api.client.util.NullMask;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
@@ -19,14 +24,27 @@ import java.util.StringJoiner;
  */
 @JsonDeserialize(builder = Builder.class)
 public class PlayerGame {
+    private static final int TEAM_ID = 1 << 0;
+    private static final int GLOBAL_TEAM_ID = 1 << 1;
+    private static final int GAME_ID = 1 << 2;
+    private static final int GLOBAL_GAME_ID = 1 << 3;
+    private static final int PLAYER_ID = 1 << 4;
+    private static final int SEASON_TYPE = 1 << 5;
+    private static final int SEASON = 1 << 6;
+    private static final int OPPONENT_ID = 1 << 7;
+    private static final int GLOBAL_OPPONENT_ID = 1 << 8;
+    private static final int OPPONENT_RANK = 1 << 9;
+    private static final int OPPONENT_POSITION_RANK = 1 << 10;
+    private static final int GAMES = 1 << 11;
+
     private final int statId;
-    private final Integer teamId;
-    private final Integer globalTeamId;
-    private final Integer gameId;
-    private final Integer globalGameId;
-    private final Integer playerId;
-    private final Integer seasonType;
-    private final Integer season;
+    private final int teamId;
+    private final int globalTeamId;
+    private final int gameId;
+    private final int globalGameId;
+    private final int playerId;
+    private final int seasonType;
+    private final int season;
     private final String name;
     private final String team;
     private final String position;
@@ -34,29 +52,33 @@ public class PlayerGame {
     private final String injuryBodyPart;
     private final LocalDate injuryStartDate;
     private final String injuryNotes;
-    private final Integer opponentId;
-    private final Integer globalOpponentId;
+    private final int opponentId;
+    private final int globalOpponentId;
     private final String opponent;
-    private final Integer opponentRank;
-    private final Integer opponentPositionRank;
+    private final int opponentRank;
+    private final int opponentPositionRank;
     private final Instant gameInstant;
     private final String homeOrAway;
     private final boolean isGameOver;
     private final Instant updatedInstant;
-    private final Integer games;
+    private final int games;
     private final String fanDuelPosition;
     private final String draftKingsPosition;
     private final String yahooPosition;
+    /**
+     * Bit per nullable int field, set when the field is null
+     */
+    private final int nullMask;
 
-    private PlayerGame(final Builder builder) {
+    PlayerGame(final Builder builder) {
         statId = builder.statId;
-        teamId = builder.teamId;
-        globalTeamId = builder.globalTeamId;
-        gameId = builder.gameId;
-        globalGameId = builder.globalGameId;
-        playerId = builder.playerId;
-        seasonType = builder.seasonType;
-        season = builder.season;
+        teamId = NullMask.unbox(builder.teamId);
+        globalTeamId = NullMask.unbox(builder.globalTeamId);
+        gameId = NullMask.unbox(builder.gameId);
+        globalGameId = NullMask.unbox(builder.globalGameId);
+        playerId = NullMask.unbox(builder.playerId);
+        seasonType = NullMask.unbox(builder.seasonType);
+        season = NullMask.unbox(builder.season);
         name = builder.name;
         team = builder.team;
         position = builder.position;
@@ -64,19 +86,31 @@ public class PlayerGame {
         injuryBodyPart = builder.injuryBodyPart;
         injuryStartDate = builder.injuryStartDate;
         injuryNotes = builder.injuryNotes;
-        opponentId = builder.opponentId;
-        globalOpponentId = builder.globalOpponentId;
+        opponentId = NullMask.unbox(builder.opponentId);
+        globalOpponentId = NullMask.unbox(builder.globalOpponentId);
         opponent = builder.opponent;
-        opponentRank = builder.opponentRank;
-        opponentPositionRank = builder.opponentPositionRank;
-        gameInstant = DateFormatUtils.toInstant(builder.dateTime);
+        opponentRank = NullMask.unbox(builder.opponentRank);
+        opponentPositionRank = NullMask.unbox(builder.opponentPositionRank);
+        gameInstant = builder.gameInstant;
         homeOrAway = builder.homeOrAway;
         isGameOver = builder.isGameOver;
-        updatedInstant = DateFormatUtils.toInstant(builder.updated);
-        games = builder.games;
+        updatedInstant = builder.updatedInstant;
+        games = NullMask.unbox(builder.games);
         fanDuelPosition = builder.fanDuelPosition;
         draftKingsPosition = builder.draftKingsPosition;
         yahooPosition = builder.yahooPosition;
+        nullMask = NullMask.absent(builder.teamId, TEAM_ID)
+                | NullMask.absent(builder.globalTeamId, GLOBAL_TEAM_ID)
+                | NullMask.absent(builder.gameId, GAME_ID)
+                | NullMask.absent(builder.globalGameId, GLOBAL_GAME_ID)
+                | NullMask.absent(builder.playerId, PLAYER_ID)
+                | NullMask.absent(builder.seasonType, SEASON_TYPE)
+                | NullMask.absent(builder.season, SEASON)
+                | NullMask.absent(builder.opponentId, OPPONENT_ID)
+                | NullMask.absent(builder.globalOpponentId, GLOBAL_OPPONENT_ID)
+                | NullMask.absent(builder.opponentRank, OPPONENT_RANK)
+                | NullMask.absent(builder.opponentPositionRank, OPPONENT_POSITION_RANK)
+                | NullMask.absent(builder.games, GAMES);
     }
 
     public static Builder newBuilder() {
@@ -92,13 +126,64 @@ public class PlayerGame {
         return statId;
     }
 
+    /**
+     * The ID of the team
+     *
+     * @return the ID of the team
+     */
+    public Optional<Integer> getTeamId() {
+        return NullMask.toOptional(nullMask, TEAM_ID, teamId);
+    }
+
+    /**
+     * Whether the ID of the team is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasTeamId() {
+        return NullMask.isPresent(nullMask, TEAM_ID);
+    }
+
+    /**
+     * The ID of the team, without boxing. Check {@link #hasTeamId()} first.
+     *
+     * @return the ID of the team
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getTeamIdAsInt() {
+        return NullMask.require(nullMask, TEAM_ID, teamId);
+    }
+
     /**
      * The unique ID of the team
      *
      * @return the unique ID of the team
      */
     public Optional<Integer> getGlobalTeamId() {
-        return Optional.ofNullable(globalTeamId);
+        return NullMask.toOptional(nullMask, GLOBAL_TEAM_ID, globalTeamId);
+    }
+
+    /**
+     * Whether the unique ID of the team is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasGlobalTeamId() {
+        return NullMask.isPresent(nullMask, GLOBAL_TEAM_ID);
+    }
+
+    /**
+     * The unique ID of the team, without boxing. Check {@link #hasGlobalTeamId()} first.
+     *
+     * @return the unique ID of the team
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getGlobalTeamIdAsInt() {
+        return NullMask.require(nullMask, GLOBAL_TEAM_ID, globalTeamId);
     }
 
     /**
@@ -107,7 +192,28 @@ public class PlayerGame {
      * @return the unique ID of this game
      */
     public Optional<Integer> getGameId() {
-        return Optional.ofNullable(gameId);
+        return NullMask.toOptional(nullMask, GAME_ID, gameId);
+    }
+
+    /**
+     * Whether the unique ID of this game is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasGameId() {
+        return NullMask.isPresent(nullMask, GAME_ID);
+    }
+
+    /**
+     * The unique ID of this game, without boxing. Check {@link #hasGameId()} first.
+     *
+     * @return the unique ID of this game
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getGameIdAsInt() {
+        return NullMask.require(nullMask, GAME_ID, gameId);
     }
 
     /**
@@ -116,7 +222,28 @@ public class PlayerGame {
      * @return globally unique ID for this game
      */
     public Optional<Integer> getGlobalGameId() {
-        return Optional.ofNullable(globalGameId);
+        return NullMask.toOptional(nullMask, GLOBAL_GAME_ID, globalGameId);
+    }
+
+    /**
+     * Whether globally unique ID for this game is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasGlobalGameId() {
+        return NullMask.isPresent(nullMask, GLOBAL_GAME_ID);
+    }
+
+    /**
+     * Globally unique ID for this game, without boxing. Check {@link #hasGlobalGameId()} first.
+     *
+     * @return globally unique ID for this game
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getGlobalGameIdAsInt() {
+        return NullMask.require(nullMask, GLOBAL_GAME_ID, globalGameId);
     }
 
     /**
@@ -125,7 +252,28 @@ public class PlayerGame {
      * @return the unique ID for the player
      */
     public Optional<Integer> getPlayerId() {
-        return Optional.ofNullable(playerId);
+        return NullMask.toOptional(nullMask, PLAYER_ID, playerId);
+    }
+
+    /**
+     * Whether the unique ID for the player is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasPlayerId() {
+        return NullMask.isPresent(nullMask, PLAYER_ID);
+    }
+
+    /**
+     * The unique ID for the player, without boxing. Check {@link #hasPlayerId()} first.
+     *
+     * @return the unique ID for the player
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getPlayerIdAsInt() {
+        return NullMask.require(nullMask, PLAYER_ID, playerId);
     }
 
     /**
@@ -134,7 +282,28 @@ public class PlayerGame {
      * @return the type of season that this record corresponds to
      */
     public Optional<Integer> getSeasonType() {
-        return Optional.ofNullable(seasonType);
+        return NullMask.toOptional(nullMask, SEASON_TYPE, seasonType);
+    }
+
+    /**
+     * Whether the type of season that this record corresponds to is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasSeasonType() {
+        return NullMask.isPresent(nullMask, SEASON_TYPE);
+    }
+
+    /**
+     * The type of season that this record corresponds to, without boxing. Check {@link #hasSeasonType()} first.
+     *
+     * @return the type of season that this record corresponds to
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getSeasonTypeAsInt() {
+        return NullMask.require(nullMask, SEASON_TYPE, seasonType);
     }
 
     /**
@@ -143,7 +312,28 @@ public class PlayerGame {
      * @return the college basketball season of the game
      */
     public Optional<Integer> getSeason() {
-        return Optional.ofNullable(season);
+        return NullMask.toOptional(nullMask, SEASON, season);
+    }
+
+    /**
+     * Whether the college basketball season of the game is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasSeason() {
+        return NullMask.isPresent(nullMask, SEASON);
+    }
+
+    /**
+     * The college basketball season of the game, without boxing. Check {@link #hasSeason()} first.
+     *
+     * @return the college basketball season of the game
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getSeasonAsInt() {
+        return NullMask.require(nullMask, SEASON, season);
     }
 
     /**
@@ -215,7 +405,28 @@ public class PlayerGame {
      * @return the unique ID of the team's opponent
      */
     public Optional<Integer> getOpponentId() {
-        return Optional.ofNullable(opponentId);
+        return NullMask.toOptional(nullMask, OPPONENT_ID, opponentId);
+    }
+
+    /**
+     * Whether the unique ID of the team's opponent is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasOpponentId() {
+        return NullMask.isPresent(nullMask, OPPONENT_ID);
+    }
+
+    /**
+     * The unique ID of the team's opponent, without boxing. Check {@link #hasOpponentId()} first.
+     *
+     * @return the unique ID of the team's opponent
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getOpponentIdAsInt() {
+        return NullMask.require(nullMask, OPPONENT_ID, opponentId);
     }
 
     /**
@@ -224,7 +435,28 @@ public class PlayerGame {
      * @return globally unique ID for this team's opponent
      */
     public Optional<Integer> getGlobalOpponentId() {
-        return Optional.ofNullable(globalOpponentId);
+        return NullMask.toOptional(nullMask, GLOBAL_OPPONENT_ID, globalOpponentId);
+    }
+
+    /**
+     * Whether globally unique ID for this team's opponent is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasGlobalOpponentId() {
+        return NullMask.isPresent(nullMask, GLOBAL_OPPONENT_ID);
+    }
+
+    /**
+     * Globally unique ID for this team's opponent, without boxing. Check {@link #hasGlobalOpponentId()} first.
+     *
+     * @return globally unique ID for this team's opponent
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getGlobalOpponentIdAsInt() {
+        return NullMask.require(nullMask, GLOBAL_OPPONENT_ID, globalOpponentId);
     }
 
     /**
@@ -242,7 +474,29 @@ public class PlayerGame {
      * @return the ranking of the player's opponent with regards to fantasy points allowed
      */
     public Optional<Integer> getOpponentRank() {
-        return Optional.ofNullable(opponentRank);
+        return NullMask.toOptional(nullMask, OPPONENT_RANK, opponentRank);
+    }
+
+    /**
+     * Whether the ranking of the player's opponent with regards to fantasy points allowed is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasOpponentRank() {
+        return NullMask.isPresent(nullMask, OPPONENT_RANK);
+    }
+
+    /**
+     * The ranking of the player's opponent with regards to fantasy points allowed, without boxing.
+     * Check {@link #hasOpponentRank()} first.
+     *
+     * @return the ranking of the player's opponent with regards to fantasy points allowed
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getOpponentRankAsInt() {
+        return NullMask.require(nullMask, OPPONENT_RANK, opponentRank);
     }
 
     /**
@@ -251,7 +505,29 @@ public class PlayerGame {
      * @return the ranking of the player's opponent by position with regards to fantasy points allowed.
      */
     public Optional<Integer> getOpponentPositionRank() {
-        return Optional.ofNullable(opponentPositionRank);
+        return NullMask.toOptional(nullMask, OPPONENT_POSITION_RANK, opponentPositionRank);
+    }
+
+    /**
+     * Whether the ranking of the player's opponent by position with regards to fantasy points allowed is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasOpponentPositionRank() {
+        return NullMask.isPresent(nullMask, OPPONENT_POSITION_RANK);
+    }
+
+    /**
+     * The ranking of the player's opponent by position with regards to fantasy points allowed, without boxing.
+     * Check {@link #hasOpponentPositionRank()} first.
+     *
+     * @return the ranking of the player's opponent by position with regards to fantasy points allowed
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getOpponentPositionRankAsInt() {
+        return NullMask.require(nullMask, OPPONENT_POSITION_RANK, opponentPositionRank);
     }
 
     /**
@@ -305,7 +581,28 @@ public class PlayerGame {
      * @return the number of games played.
      */
     public Optional<Integer> getGames() {
-        return Optional.ofNullable(games);
+        return NullMask.toOptional(nullMask, GAMES, games);
+    }
+
+    /**
+     * Whether the number of games played is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasGames() {
+        return NullMask.isPresent(nullMask, GAMES);
+    }
+
+    /**
+     * The number of games played, without boxing. Check {@link #hasGames()} first.
+     *
+     * @return the number of games played
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getGamesAsInt() {
+        return NullMask.require(nullMask, GAMES, games);
     }
 
     /**
@@ -356,17 +653,19 @@ public class PlayerGame {
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
+        if (o instanceof LazyPlayerGame) return o.equals(this);
         if (o == null || getClass() != o.getClass()) return false;
         final PlayerGame that = (PlayerGame) o;
-        return statId == that.statId &&
+        return nullMask == that.nullMask &&
+                statId == that.statId &&
                 isGameOver == that.isGameOver &&
-                Objects.equals(teamId, that.teamId) &&
-                Objects.equals(globalTeamId, that.globalTeamId) &&
-                Objects.equals(gameId, that.gameId) &&
-                Objects.equals(globalGameId, that.globalGameId) &&
-                Objects.equals(playerId, that.playerId) &&
-                Objects.equals(seasonType, that.seasonType) &&
-                Objects.equals(season, that.season) &&
+                teamId == that.teamId &&
+                globalTeamId == that.globalTeamId &&
+                gameId == that.gameId &&
+                globalGameId == that.globalGameId &&
+                playerId == that.playerId &&
+                seasonType == that.seasonType &&
+                season == that.season &&
                 Objects.equals(name, that.name) &&
                 Objects.equals(team, that.team) &&
                 Objects.equals(position, that.position) &&
@@ -374,15 +673,15 @@ public class PlayerGame {
                 Objects.equals(injuryBodyPart, that.injuryBodyPart) &&
                 Objects.equals(injuryStartDate, that.injuryStartDate) &&
                 Objects.equals(injuryNotes, that.injuryNotes) &&
-                Objects.equals(opponentId, that.opponentId) &&
-                Objects.equals(globalOpponentId, that.globalOpponentId) &&
+                opponentId == that.opponentId &&
+                globalOpponentId == that.globalOpponentId &&
                 Objects.equals(opponent, that.opponent) &&
-                Objects.equals(opponentRank, that.opponentRank) &&
-                Objects.equals(opponentPositionRank, that.opponentPositionRank) &&
+                opponentRank == that.opponentRank &&
+                opponentPositionRank == that.opponentPositionRank &&
                 Objects.equals(gameInstant, that.gameInstant) &&
                 Objects.equals(homeOrAway, that.homeOrAway) &&
                 Objects.equals(updatedInstant, that.updatedInstant) &&
-                Objects.equals(games, that.games) &&
+                games == that.games &&
                 Objects.equals(fanDuelPosition, that.fanDuelPosition) &&
                 Objects.equals(draftKingsPosition, that.draftKingsPosition) &&
                 Objects.equals(yahooPosition, that.yahooPosition);
@@ -390,20 +689,20 @@ public class PlayerGame {
 
     @Override
     public int hashCode() {
-        return Objects.hash(statId, teamId, globalTeamId, gameId, globalGameId, playerId, seasonType, season, name, team, position, injuryStatus, injuryBodyPart, injuryStartDate, injuryNotes, opponentId, globalOpponentId, opponent, opponentRank, opponentPositionRank, gameInstant, homeOrAway, isGameOver, updatedInstant, games, fanDuelPosition, draftKingsPosition, yahooPosition);
+        return Objects.hash(statId, teamId, globalTeamId, gameId, globalGameId, playerId, seasonType, season, name, team, position, injuryStatus, injuryBodyPart, injuryStartDate, injuryNotes, opponentId, globalOpponentId, opponent, opponentRank, opponentPositionRank, gameInstant, homeOrAway, isGameOver, updatedInstant, games, fanDuelPosition, draftKingsPosition, yahooPosition, nullMask);
     }
 
     @Override
     public String toString() {
         return new StringJoiner(", ", PlayerGame.class.getSimpleName() + "[", "]")
                 .add("statId=" + statId)
-                .add("teamId=" + teamId)
-                .add("globalTeamId=" + globalTeamId)
-                .add("gameId=" + gameId)
-                .add("globalGameId=" + globalGameId)
-                .add("playerId=" + playerId)
-                .add("seasonType=" + seasonType)
-                .add("season=" + season)
+                .add("teamId=" + NullMask.box(nullMask, TEAM_ID, teamId))
+                .add("globalTeamId=" + NullMask.box(nullMask, GLOBAL_TEAM_ID, globalTeamId))
+                .add("gameId=" + NullMask.box(nullMask, GAME_ID, gameId))
+                .add("globalGameId=" + NullMask.box(nullMask, GLOBAL_GAME_ID, globalGameId))
+                .add("playerId=" + NullMask.box(nullMask, PLAYER_ID, playerId))
+                .add("seasonType=" + NullMask.box(nullMask, SEASON_TYPE, seasonType))
+                .add("season=" + NullMask.box(nullMask, SEASON, season))
                 .add("name='" + name + "'")
                 .add("team='" + team + "'")
                 .add("position='" + position + "'")
@@ -411,16 +710,16 @@ public class PlayerGame {
                 .add("injuryBodyPart='" + injuryBodyPart + "'")
                 .add("injuryStartDate=" + injuryStartDate)
                 .add("injuryNotes='" + injuryNotes + "'")
-                .add("opponentId=" + opponentId)
-                .add("globalOpponentId=" + globalOpponentId)
+                .add("opponentId=" + NullMask.box(nullMask, OPPONENT_ID, opponentId))
+                .add("globalOpponentId=" + NullMask.box(nullMask, GLOBAL_OPPONENT_ID, globalOpponentId))
                 .add("opponent='" + opponent + "'")
-                .add("opponentRank=" + opponentRank)
-                .add("opponentPositionRank=" + opponentPositionRank)
+                .add("opponentRank=" + NullMask.box(nullMask, OPPONENT_RANK, opponentRank))
+                .add("opponentPositionRank=" + NullMask.box(nullMask, OPPONENT_POSITION_RANK, opponentPositionRank))
                 .add("gameInstant=" + gameInstant)
                 .add("homeOrAway='" + homeOrAway + "'")
                 .add("isGameOver=" + isGameOver)
                 .add("updatedInstant=" + updatedInstant)
-                .add("games=" + games)
+                .add("games=" + NullMask.box(nullMask, GAMES, games))
                 .add("fanDuelPosition='" + fanDuelPosition + "'")
                 .add("draftKingsPosition='" + draftKingsPosition + "'")
                 .add("yahooPosition='" + yahooPosition + "'")
@@ -449,10 +748,10 @@ public class PlayerGame {
         private String opponent;
         private Integer opponentRank;
         private Integer opponentPositionRank;
-        private LocalDateTime dateTime;
+        private Instant gameInstant;
         private String homeOrAway;
         private boolean isGameOver;
-        private LocalDateTime updated;
+        private Instant updatedInstant;
         private Integer games;
         private String fanDuelPosition;
         private String draftKingsPosition;
@@ -561,8 +860,22 @@ public class PlayerGame {
             return this;
         }
 
+        /**
+         * Sets the game's date and time, as represented by the sportsdata.io API
+         *
+         * @param val local date and time of the game, in US Eastern time
+         * @return this builder
+         */
+        @JsonIgnore
         public Builder withDateTime(final LocalDateTime val) {
-            dateTime = val;
+            gameInstant = val == null ? null : DateFormatUtils.toInstant(val);
+            return this;
+        }
+
+        @JsonProperty("DateTime")
+        @JsonDeserialize(using = EasternInstantDeserializer.class)
+        public Builder withGameInstant(final Instant val) {
+            gameInstant = val;
             return this;
         }
 
@@ -576,8 +889,22 @@ public class PlayerGame {
             return this;
         }
 
+        /**
+         * Sets when the stats were last updated, as represented by the sportsdata.io API
+         *
+         * @param val local date and time of the update, in US Eastern time
+         * @return this builder
+         */
+        @JsonIgnore
         public Builder withUpdated(final LocalDateTime val) {
-            updated = val;
+            updatedInstant = val == null ? null : DateFormatUtils.toInstant(val);
+            return this;
+        }
+
+        @JsonProperty("Updated")
+        @JsonDeserialize(using = EasternInstantDeserializer.class)
+        public Builder withUpdatedInstant(final Instant val) {
+            updatedInstant = val;
             return this;
         }
 
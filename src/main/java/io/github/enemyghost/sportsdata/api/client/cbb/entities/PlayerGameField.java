@@ -0,0 +1,73 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.entities;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The properties of a {@link PlayerGame}, by json name, for selecting which of them to decode
+ *
+ * @author enemyghost
+ */
+public enum PlayerGameField {
+    STAT_ID("StatID"),
+    TEAM_ID("TeamID"),
+    GLOBAL_TEAM_ID("GlobalTeamID"),
+    GAME_ID("GameID"),
+    GLOBAL_GAME_ID("GlobalGameID"),
+    PLAYER_ID("PlayerID"),
+    SEASON_TYPE("SeasonType"),
+    SEASON("Season"),
+    NAME("Name"),
+    TEAM("Team"),
+    POSITION("Position"),
+    INJURY_STATUS("InjuryStatus"),
+    INJURY_BODY_PART("InjuryBodyPart"),
+    INJURY_START_DATE("InjuryStartDate"),
+    INJURY_NOTES("InjuryNotes"),
+    OPPONENT_ID("OpponentID"),
+    GLOBAL_OPPONENT_ID("GlobalOpponentID"),
+    OPPONENT("Opponent"),
+    OPPONENT_RANK("OpponentRank"),
+    OPPONENT_POSITION_RANK("OpponentPositionRank"),
+    DATE_TIME("DateTime"),
+    HOME_OR_AWAY("HomeOrAway"),
+    IS_GAME_OVER("IsGameOver"),
+    UPDATED("Updated"),
+    GAMES("Games"),
+    FAN_DUEL_POSITION("FanDuelPosition"),
+    DRAFT_KINGS_POSITION("DraftKingsPosition"),
+    YAHOO_POSITION("YahooPosition");
+
+    private static final Map<String, PlayerGameField> BY_JSON_NAME = new HashMap<>();
+
+    static {
+        for (final PlayerGameField field : values()) {
+            BY_JSON_NAME.put(field.jsonName, field);
+        }
+    }
+
+    private final String jsonName;
+
+    PlayerGameField(final String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    /**
+     * Name of the property in the sportsdata.io json
+     *
+     * @return json property name
+     */
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Finds the field with the given json property name
+     *
+     * @param jsonName json property name
+     * @return the {@link PlayerGameField}, or null if {@link PlayerGame} has no such property
+     */
+    public static PlayerGameField forJsonName(final String jsonName) {
+        return BY_JSON_NAME.get(jsonName);
+    }
+}
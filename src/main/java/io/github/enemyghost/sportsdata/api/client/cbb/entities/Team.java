@@ -1,9 +1,12 @@
 package io.github.enemyghost.sportsdata.api.client.cbb.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team.Builder;
+import io.github.enemyghost.sportsdata.api.client.util.NullMask;
 
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
@@ -18,22 +21,33 @@ import static java.util.Objects.requireNonNull;
  */
 @JsonDeserialize(builder = Builder.class)
 public class Team {
+    private static final int AP_RANK = 1 << 0;
+    private static final int WINS = 1 << 1;
+    private static final int LOSSES = 1 << 2;
+    private static final int CONFERENCE_WINS = 1 << 3;
+    private static final int CONFERENCE_LOSSES = 1 << 4;
+    private static final int CONFERENCE_ID = 1 << 5;
+
     private final int teamId;
     private final String key;
     private final boolean active;
     private final int globalTeamId;
     private final String school;
     private final String name;
-    private final Integer apRank;
-    private final Integer wins;
-    private final Integer losses;
-    private final Integer conferenceWins;
-    private final Integer conferenceLosses;
-    private final Integer conferenceId;
+    private final int apRank;
+    private final int wins;
+    private final int losses;
+    private final int conferenceWins;
+    private final int conferenceLosses;
+    private final int conferenceId;
     private final String conference;
     private final String teamLogoUrl;
     private final String shortDisplayName;
     private final Stadium stadium;
+    /**
+     * Bit per nullable int field, set when the field is null
+     */
+    private final int nullMask;
 
     private Team(final Builder builder) {
         teamId = builder.teamId;
@@ -42,16 +56,22 @@ public class Team {
         globalTeamId = builder.globalTeamId;
         school = builder.school;
         name = builder.name;
-        apRank = builder.apRank;
-        wins = builder.wins;
-        losses = builder.losses;
-        conferenceWins = builder.conferenceWins;
-        conferenceLosses = builder.conferenceLosses;
-        conferenceId = builder.conferenceId;
+        apRank = NullMask.unbox(builder.apRank);
+        wins = NullMask.unbox(builder.wins);
+        losses = NullMask.unbox(builder.losses);
+        conferenceWins = NullMask.unbox(builder.conferenceWins);
+        conferenceLosses = NullMask.unbox(builder.conferenceLosses);
+        conferenceId = NullMask.unbox(builder.conferenceId);
         conference = builder.conference;
         teamLogoUrl = builder.teamLogoUrl;
         shortDisplayName = builder.shortDisplayName;
         stadium = builder.stadium;
+        nullMask = NullMask.absent(builder.apRank, AP_RANK)
+                | NullMask.absent(builder.wins, WINS)
+                | NullMask.absent(builder.losses, LOSSES)
+                | NullMask.absent(builder.conferenceWins, CONFERENCE_WINS)
+                | NullMask.absent(builder.conferenceLosses, CONFERENCE_LOSSES)
+                | NullMask.absent(builder.conferenceId, CONFERENCE_ID);
     }
 
     public static Builder newBuilder() {
@@ -119,7 +139,28 @@ public class Team {
      * @return the AP Rank of the team
      */
     public Optional<Integer> getApRank() {
-        return Optional.ofNullable(apRank);
+        return NullMask.toOptional(nullMask, AP_RANK, apRank);
+    }
+
+    /**
+     * Whether the AP Rank of the team is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasApRank() {
+        return NullMask.isPresent(nullMask, AP_RANK);
+    }
+
+    /**
+     * The AP Rank of the team, without boxing. Check {@link #hasApRank()} first.
+     *
+     * @return the AP Rank of the team
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getApRankAsInt() {
+        return NullMask.require(nullMask, AP_RANK, apRank);
     }
 
     /**
@@ -128,7 +169,28 @@ public class Team {
      * @return the total number of wins by the school
      */
     public Optional<Integer> getWins() {
-        return Optional.ofNullable(wins);
+        return NullMask.toOptional(nullMask, WINS, wins);
+    }
+
+    /**
+     * Whether the total number of wins by the school is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasWins() {
+        return NullMask.isPresent(nullMask, WINS);
+    }
+
+    /**
+     * The total number of wins by the school, without boxing. Check {@link #hasWins()} first.
+     *
+     * @return the total number of wins by the school
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getWinsAsInt() {
+        return NullMask.require(nullMask, WINS, wins);
     }
 
     /**
@@ -137,7 +199,28 @@ public class Team {
      * @return the total number of losses by the school
      */
     public Optional<Integer> getLosses() {
-        return Optional.ofNullable(losses);
+        return NullMask.toOptional(nullMask, LOSSES, losses);
+    }
+
+    /**
+     * Whether the total number of losses by the school is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasLosses() {
+        return NullMask.isPresent(nullMask, LOSSES);
+    }
+
+    /**
+     * The total number of losses by the school, without boxing. Check {@link #hasLosses()} first.
+     *
+     * @return the total number of losses by the school
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getLossesAsInt() {
+        return NullMask.require(nullMask, LOSSES, losses);
     }
 
     /**
@@ -146,7 +229,28 @@ public class Team {
      * @return the total number of conference wins by the school
      */
     public Optional<Integer> getConferenceWins() {
-        return Optional.ofNullable(conferenceWins);
+        return NullMask.toOptional(nullMask, CONFERENCE_WINS, conferenceWins);
+    }
+
+    /**
+     * Whether the total number of conference wins by the school is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasConferenceWins() {
+        return NullMask.isPresent(nullMask, CONFERENCE_WINS);
+    }
+
+    /**
+     * The total number of conference wins by the school, without boxing. Check {@link #hasConferenceWins()} first.
+     *
+     * @return the total number of conference wins by the school
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getConferenceWinsAsInt() {
+        return NullMask.require(nullMask, CONFERENCE_WINS, conferenceWins);
     }
 
     /**
@@ -155,7 +259,28 @@ public class Team {
      * @return the total number of conference losses by the school
      */
     public Optional<Integer> getConferenceLosses() {
-        return Optional.ofNullable(conferenceLosses);
+        return NullMask.toOptional(nullMask, CONFERENCE_LOSSES, conferenceLosses);
+    }
+
+    /**
+     * Whether the total number of conference losses by the school is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasConferenceLosses() {
+        return NullMask.isPresent(nullMask, CONFERENCE_LOSSES);
+    }
+
+    /**
+     * The total number of conference losses by the school, without boxing. Check {@link #hasConferenceLosses()} first.
+     *
+     * @return the total number of conference losses by the school
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getConferenceLossesAsInt() {
+        return NullMask.require(nullMask, CONFERENCE_LOSSES, conferenceLosses);
     }
 
     /**
@@ -164,7 +289,28 @@ public class Team {
      * @return the ID of the team's conference
      */
     public Optional<Integer> getConferenceId() {
-        return Optional.ofNullable(conferenceId);
+        return NullMask.toOptional(nullMask, CONFERENCE_ID, conferenceId);
+    }
+
+    /**
+     * Whether the ID of the team's conference is present
+     *
+     * @return true if present, false otherwise
+     */
+    @JsonIgnore
+    public boolean hasConferenceId() {
+        return NullMask.isPresent(nullMask, CONFERENCE_ID);
+    }
+
+    /**
+     * The ID of the team's conference, without boxing. Check {@link #hasConferenceId()} first.
+     *
+     * @return the ID of the team's conference
+     * @throws NoSuchElementException if not present
+     */
+    @JsonIgnore
+    public int getConferenceIdAsInt() {
+        return NullMask.require(nullMask, CONFERENCE_ID, conferenceId);
     }
 
     /**
@@ -208,18 +354,19 @@ public class Team {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final Team team = (Team) o;
-        return teamId == team.teamId &&
+        return nullMask == team.nullMask &&
+                teamId == team.teamId &&
                 active == team.active &&
                 globalTeamId == team.globalTeamId &&
                 Objects.equals(key, team.key) &&
                 Objects.equals(school, team.school) &&
                 Objects.equals(name, team.name) &&
-                Objects.equals(apRank, team.apRank) &&
-                Objects.equals(wins, team.wins) &&
-                Objects.equals(losses, team.losses) &&
-                Objects.equals(conferenceWins, team.conferenceWins) &&
-                Objects.equals(conferenceLosses, team.conferenceLosses) &&
-                Objects.equals(conferenceId, team.conferenceId) &&
+                apRank == team.apRank &&
+                wins == team.wins &&
+                losses == team.losses &&
+                conferenceWins == team.conferenceWins &&
+                conferenceLosses == team.conferenceLosses &&
+                conferenceId == team.conferenceId &&
                 Objects.equals(conference, team.conference) &&
                 Objects.equals(teamLogoUrl, team.teamLogoUrl) &&
                 Objects.equals(shortDisplayName, team.shortDisplayName) &&
@@ -228,7 +375,7 @@ public class Team {
 
     @Override
     public int hashCode() {
-        return Objects.hash(teamId, key, active, globalTeamId, school, name, apRank, wins, losses, conferenceWins, conferenceLosses, conferenceId, conference, teamLogoUrl, shortDisplayName, stadium);
+        return Objects.hash(teamId, key, active, globalTeamId, school, name, apRank, wins, losses, conferenceWins, conferenceLosses, conferenceId, conference, teamLogoUrl, shortDisplayName, stadium, nullMask);
     }
 
     @Override
@@ -240,12 +387,12 @@ public class Team {
                 .add("globalTeamId=" + globalTeamId)
                 .add("school='" + school + "'")
                 .add("name='" + name + "'")
-                .add("apRank=" + apRank)
-                .add("wins=" + wins)
-                .add("losses=" + losses)
-                .add("conferenceWins=" + conferenceWins)
-                .add("conferenceLosses=" + conferenceLosses)
-                .add("conferenceId=" + conferenceId)
+                .add("apRank=" + NullMask.box(nullMask, AP_RANK, apRank))
+                .add("wins=" + NullMask.box(nullMask, WINS, wins))
+                .add("losses=" + NullMask.box(nullMask, LOSSES, losses))
+                .add("conferenceWins=" + NullMask.box(nullMask, CONFERENCE_WINS, conferenceWins))
+                .add("conferenceLosses=" + NullMask.box(nullMask, CONFERENCE_LOSSES, conferenceLosses))
+                .add("conferenceId=" + NullMask.box(nullMask, CONFERENCE_ID, conferenceId))
                 .add("conference='" + conference + "'")
                 .add("teamLogoUrl='" + teamLogoUrl + "'")
                 .add("shortDisplayName='" + shortDisplayName + "'")
@@ -0,0 +1,154 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.repository;
+
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A registry of canonical {@link Team} and {@link Stadium} instances, keyed by team and stadium ID, which replaces
+ * structurally equal copies decoded from different responses with one shared instance.
+ * <p>
+ * The same team appears in {@code leagueHierarchy()} and again in {@code teams()}, and each copy embeds its own copy of
+ * its stadium, which {@code stadiums()} repeats once more. Passing every response through one canonicalizer leaves a
+ * single object graph per team, and lets {@code equals()} between them return on its identity check instead of
+ * comparing every field.
+ * <p>
+ * An entity that differs from the registered one with its ID, e.g. because a refresh changed its record, replaces it,
+ * and later equal copies canonicalize to the new instance. Instances are thread-safe.
+ *
+ * @author enemyghost
+ */
+public final class EntityCanonicalizer {
+    private final Map<Integer, Stadium> stadiums = new ConcurrentHashMap<>();
+    private final Map<Integer, Team> teams = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the registered stadium equal to the given one, registering it if there is none
+     *
+     * @param stadium {@link Stadium} to canonicalize
+     * @return the canonical, equal {@link Stadium}
+     */
+    public Stadium canonicalize(final Stadium stadium) {
+        requireNonNull(stadium, "Null stadium");
+        return stadiums.compute(stadium.getStadiumId(),
+                (stadiumId, registered) -> stadium.equals(registered) ? registered : stadium);
+    }
+
+    /**
+     * Returns the registered team equal to the given one, registering it, with its stadium canonicalized, if there is
+     * none
+     *
+     * @param team {@link Team} to canonicalize
+     * @return the canonical, equal {@link Team}
+     */
+    public Team canonicalize(final Team team) {
+        requireNonNull(team, "Null team");
+        final Optional<Stadium> stadium = team.getStadium();
+        final Stadium canonicalStadium = stadium.map(this::canonicalize).orElse(null);
+        return teams.compute(team.getTeamId(), (teamId, registered) -> {
+            if (team.equals(registered)) {
+                return registered;
+            }
+            return stadium.isEmpty() || stadium.get() == canonicalStadium ? team : withStadium(team, canonicalStadium);
+        });
+    }
+
+    /**
+     * Returns the conference with its teams canonicalized
+     *
+     * @param conference {@link Conference} to canonicalize
+     * @return an equal {@link Conference} of canonical teams
+     */
+    public Conference canonicalize(final Conference conference) {
+        requireNonNull(conference, "Null conference");
+        final List<Team> canonicalTeams = canonicalizeTeams(conference.getTeams());
+        return Conference.newBuilder()
+                .withConferenceID(conference.getConferenceId())
+                .withName(conference.getName())
+                .withTeams(canonicalTeams)
+                .build();
+    }
+
+    /**
+     * Canonicalizes each of a list of stadiums
+     *
+     * @param stadiums {@link Stadium}s to canonicalize
+     * @return a new list of the canonical, equal {@link Stadium}s, in the same order
+     */
+    public List<Stadium> canonicalizeStadiums(final List<Stadium> stadiums) {
+        final List<Stadium> canonical = new ArrayList<>(stadiums.size());
+        stadiums.forEach(stadium -> canonical.add(canonicalize(stadium)));
+        return canonical;
+    }
+
+    /**
+     * Canonicalizes each of a list of teams
+     *
+     * @param teams {@link Team}s to canonicalize
+     * @return a new list of the canonical, equal {@link Team}s, in the same order
+     */
+    public List<Team> canonicalizeTeams(final List<Team> teams) {
+        final List<Team> canonical = new ArrayList<>(teams.size());
+        teams.forEach(team -> canonical.add(canonicalize(team)));
+        return canonical;
+    }
+
+    /**
+     * Canonicalizes each of a list of conferences
+     *
+     * @param conferences {@link Conference}s to canonicalize
+     * @return a new list of the canonical, equal {@link Conference}s, in the same order
+     */
+    public List<Conference> canonicalizeConferences(final List<Conference> conferences) {
+        final List<Conference> canonical = new ArrayList<>(conferences.size());
+        conferences.forEach(conference -> canonical.add(canonicalize(conference)));
+        return canonical;
+    }
+
+    /**
+     * Number of registered teams
+     *
+     * @return number of registered teams
+     */
+    public int teamCount() {
+        return teams.size();
+    }
+
+    /**
+     * Number of registered stadiums
+     *
+     * @return number of registered stadiums
+     */
+    public int stadiumCount() {
+        return stadiums.size();
+    }
+
+    private static Team withStadium(final Team team, final Stadium stadium) {
+        return Team.newBuilder()
+                .withTeamID(team.getTeamId())
+                .withKey(team.getKey())
+                .withActive(team.isActive())
+                .withGlobalTeamID(team.getGlobalTeamId())
+                .withSchool(team.getSchool().orElse(null))
+                .withName(team.getName().orElse(null))
+                .withApRank(team.getApRank().orElse(null))
+                .withWins(team.getWins().orElse(null))
+                .withLosses(team.getLosses().orElse(null))
+                .withConferenceWins(team.getConferenceWins().orElse(null))
+                .withConferenceLosses(team.getConferenceLosses().orElse(null))
+                .withConferenceID(team.getConferenceId().orElse(null))
+                .withConference(team.getConference().orElse(null))
+                .withTeamLogoUrl(team.getTeamLogoUrl().orElse(null))
+                .withShortDisplayName(team.getShortDisplayName().orElse(null))
+                .withStadium(stadium)
+                .build();
+    }
+}
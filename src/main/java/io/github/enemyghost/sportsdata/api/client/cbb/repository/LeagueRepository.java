@@ -0,0 +1,227 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.repository;
+
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import io.github.enemyghost.sportsdata.api.client.util.IntObjectMap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable, indexed view of the league: its conferences, teams and players, with lookups by each of their IDs.
+ * <p>
+ * All indexes are built in a single pass over the {@code leagueHierarchy()}, {@code teams()} and {@code players()}
+ * responses. ID lookups go through {@link IntObjectMap}s, so they never box, and each index holds pre-built
+ * {@link Optional}s, so lookups on a request path take nanoseconds and allocate nothing.
+ * <p>
+ * Teams are taken from {@code teams()} where present, since it carries more detail than the teams nested in
+ * {@code leagueHierarchy()}; teams which only appear in the hierarchy are indexed from there.
+ * <p>
+ * Instances are immutable once built, and are safe to read from any number of threads without synchronization.
+ *
+ * @author enemyghost
+ */
+public final class LeagueRepository {
+    private final List<Conference> conferences;
+    private final List<Team> teams;
+    private final List<Player> players;
+    private final IntObjectMap<Optional<Conference>> conferencesById;
+    private final IntObjectMap<Optional<Team>> teamsById;
+    private final IntObjectMap<Optional<Team>> teamsByGlobalId;
+    private final Map<String, Optional<Team>> teamsByKey;
+    private final IntObjectMap<Optional<Player>> playersById;
+    private final IntObjectMap<List<Player>> rostersByTeamId;
+
+    private LeagueRepository(final Builder builder) {
+        conferences = List.copyOf(builder.conferences);
+        players = List.copyOf(builder.players);
+
+        final IntObjectMap.Builder<Optional<Conference>> conferenceIndex = IntObjectMap.newBuilder(conferences.size());
+        final Map<Integer, Team> teamsInOrder = new LinkedHashMap<>();
+        for (final Conference conference : conferences) {
+            conferenceIndex.put(conference.getConferenceId(), Optional.of(conference));
+            conference.getTeams().forEach(team -> teamsInOrder.put(team.getTeamId(), team));
+        }
+        builder.teams.forEach(team -> teamsInOrder.put(team.getTeamId(), team));
+        teams = List.copyOf(teamsInOrder.values());
+
+        final IntObjectMap.Builder<Optional<Team>> teamIndex = IntObjectMap.newBuilder(teams.size());
+        final IntObjectMap.Builder<Optional<Team>> globalTeamIndex = IntObjectMap.newBuilder(teams.size());
+        final Map<String, Optional<Team>> keyIndex = new HashMap<>();
+        for (final Team team : teams) {
+            final Optional<Team> optionalTeam = Optional.of(team);
+            teamIndex.put(team.getTeamId(), optionalTeam);
+            globalTeamIndex.put(team.getGlobalTeamId(), optionalTeam);
+            keyIndex.put(team.getKey(), optionalTeam);
+        }
+
+        final IntObjectMap.Builder<Optional<Player>> playerIndex = IntObjectMap.newBuilder(players.size());
+        final IntObjectMap.Builder<List<Player>> rosters = IntObjectMap.newBuilder(teams.size());
+        for (final Player player : players) {
+            playerIndex.put(player.getPlayerId(), Optional.of(player));
+            if (player.hasTeamId()) {
+                List<Player> roster = rosters.get(player.getTeamIdAsInt());
+                if (roster == null) {
+                    roster = new ArrayList<>();
+                    rosters.put(player.getTeamIdAsInt(), roster);
+                }
+                roster.add(player);
+            }
+        }
+        final IntObjectMap<List<Player>> mutableRosters = rosters.build();
+        final IntObjectMap.Builder<List<Player>> immutableRosters = IntObjectMap.newBuilder(mutableRosters.size());
+        mutableRosters.forEach((teamId, roster) -> immutableRosters.put(teamId, List.copyOf(roster)));
+
+        conferencesById = conferenceIndex.build();
+        teamsById = teamIndex.build();
+        teamsByGlobalId = globalTeamIndex.build();
+        teamsByKey = Map.copyOf(keyIndex);
+        playersById = playerIndex.build();
+        rostersByTeamId = immutableRosters.build();
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Fetches the league hierarchy, teams and players from the client and indexes them. Teams and stadiums that appear
+     * in both the hierarchy and {@code teams()} are canonicalized to one instance with an {@link EntityCanonicalizer}.
+     *
+     * @param client {@link NcaaBasketballV3ApiClient} to fetch from
+     * @return {@link LeagueRepository} of the fetched entities
+     */
+    public static LeagueRepository load(final NcaaBasketballV3ApiClient client) {
+        requireNonNull(client, "Null client");
+        final EntityCanonicalizer canonicalizer = new EntityCanonicalizer();
+        return newBuilder()
+                .withConferences(canonicalizer.canonicalizeConferences(client.leagueHierarchy()))
+                .withTeams(canonicalizer.canonicalizeTeams(client.teams()))
+                .withPlayers(client.players())
+                .build();
+    }
+
+    /**
+     * All conferences, in {@code leagueHierarchy()} order
+     *
+     * @return unmodifiable list of {@link Conference}s
+     */
+    public List<Conference> getConferences() {
+        return conferences;
+    }
+
+    /**
+     * All teams, in {@code leagueHierarchy()} order followed by any teams only returned by {@code teams()}
+     *
+     * @return unmodifiable list of {@link Team}s
+     */
+    public List<Team> getTeams() {
+        return teams;
+    }
+
+    /**
+     * All players, in {@code players()} order
+     *
+     * @return unmodifiable list of {@link Player}s
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Looks up a conference by its ID
+     *
+     * @param conferenceId ID of the conference
+     * @return the {@link Conference}, or {@link Optional#empty()} if not found
+     */
+    public Optional<Conference> getConference(final int conferenceId) {
+        return conferencesById.getOrDefault(conferenceId, Optional.empty());
+    }
+
+    /**
+     * Looks up a team by its ID
+     *
+     * @param teamId ID of the team
+     * @return the {@link Team}, or {@link Optional#empty()} if not found
+     */
+    public Optional<Team> getTeam(final int teamId) {
+        return teamsById.getOrDefault(teamId, Optional.empty());
+    }
+
+    /**
+     * Looks up a team by its unique global ID
+     *
+     * @param globalTeamId unique ID of the team
+     * @return the {@link Team}, or {@link Optional#empty()} if not found
+     */
+    public Optional<Team> getTeamByGlobalId(final int globalTeamId) {
+        return teamsByGlobalId.getOrDefault(globalTeamId, Optional.empty());
+    }
+
+    /**
+     * Looks up a team by its {@code key} abbreviation
+     *
+     * @param key abbreviation of the team
+     * @return the {@link Team}, or {@link Optional#empty()} if not found
+     */
+    public Optional<Team> getTeamByKey(final String key) {
+        return teamsByKey.getOrDefault(requireNonNull(key, "Null key"), Optional.empty());
+    }
+
+    /**
+     * Looks up a player by their ID
+     *
+     * @param playerId ID of the player
+     * @return the {@link Player}, or {@link Optional#empty()} if not found
+     */
+    public Optional<Player> getPlayer(final int playerId) {
+        return playersById.getOrDefault(playerId, Optional.empty());
+    }
+
+    /**
+     * The players on a team
+     *
+     * @param teamId ID of the team
+     * @return unmodifiable list of {@link Player}s on the team, empty if the team has none or is not found
+     */
+    public List<Player> getRoster(final int teamId) {
+        return rostersByTeamId.getOrDefault(teamId, List.of());
+    }
+
+    public static final class Builder {
+        private Collection<Conference> conferences = List.of();
+        private Collection<Team> teams = List.of();
+        private Collection<Player> players = List.of();
+
+        private Builder() {
+        }
+
+        public Builder withConferences(final Collection<Conference> val) {
+            conferences = requireNonNull(val, "Null conferences");
+            return this;
+        }
+
+        public Builder withTeams(final Collection<Team> val) {
+            teams = requireNonNull(val, "Null teams");
+            return this;
+        }
+
+        public Builder withPlayers(final Collection<Player> val) {
+            players = requireNonNull(val, "Null players");
+            return this;
+        }
+
+        public LeagueRepository build() {
+            return new LeagueRepository(this);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.repository;
+
+import java.time.Instant;
+import java.util.StringJoiner;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * One immutable, consistent version of the league: a {@link LeagueRepository} of conferences, teams and players which
+ * were all loaded together, along with its version number and when it was published.
+ *
+ * @author enemyghost
+ * @see LeagueSnapshotHolder
+ */
+public final class LeagueSnapshot {
+    private final long version;
+    private final Instant publishedAt;
+    private final LeagueRepository repository;
+
+    LeagueSnapshot(final long version, final Instant publishedAt, final LeagueRepository repository) {
+        this.version = version;
+        this.publishedAt = requireNonNull(publishedAt, "Null published at");
+        this.repository = requireNonNull(repository, "Null repository");
+    }
+
+    /**
+     * Version of the snapshot, starting at {@code 1} and incremented by each publish
+     *
+     * @return version of the snapshot
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * When the snapshot was published
+     *
+     * @return {@link Instant} the snapshot was published
+     */
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    /**
+     * The league as of this snapshot
+     *
+     * @return {@link LeagueRepository} of this snapshot
+     */
+    public LeagueRepository getRepository() {
+        return repository;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", LeagueSnapshot.class.getSimpleName() + "[", "]")
+                .add("version=" + version)
+                .add("publishedAt=" + publishedAt)
+                .add("teams=" + repository.getTeams().size())
+                .add("players=" + repository.getPlayers().size())
+                .toString();
+    }
+}
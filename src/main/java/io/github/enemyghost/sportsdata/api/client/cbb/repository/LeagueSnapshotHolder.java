@@ -0,0 +1,150 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.repository;
+
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Holds the current {@link LeagueSnapshot} and replaces it copy-on-write.
+ * <p>
+ * A refresh loads a complete new {@link LeagueRepository} off to the side and then publishes it with a single atomic
+ * reference swap. Readers call {@link #get()}, which is one volatile read: they never block, never contend with each
+ * other or with a refresh, and always see the teams, players and hierarchy of exactly one snapshot. Keep the returned
+ * snapshot for the duration of a unit of work to read a consistent view across several lookups.
+ * <p>
+ * Schedule {@link #run()} on an executor to refresh periodically. A failed refresh is logged and the previous
+ * snapshot keeps being served; watch {@link #getAge()} to tell when it has gone stale.
+ *
+ * @author enemyghost
+ */
+public final class LeagueSnapshotHolder implements Runnable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LeagueSnapshotHolder.class);
+
+    private final Supplier<LeagueRepository> loader;
+    private final Clock clock;
+    private final AtomicReference<LeagueSnapshot> current;
+
+    private LeagueSnapshotHolder(final Builder builder) {
+        loader = requireNonNull(builder.loader, "Null loader");
+        clock = requireNonNull(builder.clock, "Null clock");
+        current = new AtomicReference<>(new LeagueSnapshot(1, clock.instant(), loadRepository()));
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * The current snapshot
+     *
+     * @return current {@link LeagueSnapshot}
+     */
+    public LeagueSnapshot get() {
+        return current.get();
+    }
+
+    /**
+     * Version of the current snapshot
+     *
+     * @return version of the current snapshot
+     */
+    public long getVersion() {
+        return current.get().getVersion();
+    }
+
+    /**
+     * Time since the current snapshot was published
+     *
+     * @return age of the current snapshot
+     */
+    public Duration getAge() {
+        return Duration.between(current.get().getPublishedAt(), clock.instant());
+    }
+
+    /**
+     * Loads a new repository and publishes it as the current snapshot. Readers keep seeing the previous snapshot until
+     * the load completes.
+     *
+     * @return the published {@link LeagueSnapshot}
+     * @throws RuntimeException if the load fails, in which case the current snapshot is unchanged
+     */
+    public LeagueSnapshot refresh() {
+        return publish(loadRepository());
+    }
+
+    /**
+     * Publishes a repository as the current snapshot
+     *
+     * @param repository {@link LeagueRepository} to publish
+     * @return the published {@link LeagueSnapshot}
+     */
+    public LeagueSnapshot publish(final LeagueRepository repository) {
+        requireNonNull(repository, "Null repository");
+        return current.updateAndGet(previous ->
+                new LeagueSnapshot(previous.getVersion() + 1, clock.instant(), repository));
+    }
+
+    /**
+     * Refreshes the snapshot, logging rather than throwing on failure so that a scheduled refresh keeps running
+     */
+    @Override
+    public void run() {
+        try {
+            final LeagueSnapshot snapshot = refresh();
+            LOGGER.debug("Published league snapshot {}", snapshot);
+        } catch (final RuntimeException e) {
+            LOGGER.warn("Failed to refresh league snapshot, still serving version {} published {} ago",
+                    getVersion(), getAge(), e);
+        }
+    }
+
+    private LeagueRepository loadRepository() {
+        return requireNonNull(loader.get(), "Loader returned a null repository");
+    }
+
+    public static final class Builder {
+        private Supplier<LeagueRepository> loader;
+        private Clock clock = Clock.systemUTC();
+
+        private Builder() {
+        }
+
+        /**
+         * Loads each snapshot with {@link LeagueRepository#load(NcaaBasketballV3ApiClient)}
+         *
+         * @param client client to load from
+         * @return this builder
+         */
+        public Builder withClient(final NcaaBasketballV3ApiClient client) {
+            requireNonNull(client, "Null client");
+            loader = () -> LeagueRepository.load(client);
+            return this;
+        }
+
+        public Builder withLoader(final Supplier<LeagueRepository> val) {
+            loader = val;
+            return this;
+        }
+
+        public Builder withClock(final Clock val) {
+            clock = val;
+            return this;
+        }
+
+        /**
+         * Builds the holder, loading its first snapshot synchronously
+         *
+         * @return {@link LeagueSnapshotHolder} holding snapshot version {@code 1}
+         */
+        public LeagueSnapshotHolder build() {
+            return new LeagueSnapshotHolder(this);
+        }
+    }
+}
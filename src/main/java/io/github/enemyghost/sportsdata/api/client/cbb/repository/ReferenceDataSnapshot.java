@@ -0,0 +1,257 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.repository;
+
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.cbb.codec.EntityEncoding;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import io.github.enemyghost.sportsdata.api.client.codec.BinaryReader;
+import io.github.enemyghost.sportsdata.api.client.codec.BinaryWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A point-in-time copy of the reference data endpoints, which can be written to a compact binary file and read back
+ * at startup instead of fetching and decoding every endpoint before serving traffic.
+ * <p>
+ * The file is a magic number and format version, the snapshot time, a table of every distinct string, and then the
+ * current season, league hierarchy, stadiums, teams and players in the {@link EntityEncoding} format. It is read
+ * through a read-only memory map, so booting from it is a sequential scan of the page cache with no JSON parsing.
+ * <p>
+ * Equal teams and stadiums across the responses are canonicalized to one instance with an
+ * {@link EntityCanonicalizer}. Seed {@link io.github.enemyghost.sportsdata.api.client.cbb.CachedReferenceData} or a
+ * {@link LeagueSnapshotHolder} from a snapshot to serve immediately, and let their refresh bring the data up to date in
+ * the background.
+ *
+ * @author enemyghost
+ */
+public final class ReferenceDataSnapshot {
+    private static final byte[] MAGIC = "SDRS".getBytes(StandardCharsets.US_ASCII);
+    private static final int FORMAT_VERSION = 1;
+
+    private final Instant createdAt;
+    private final Optional<Season> currentSeason;
+    private final List<Conference> leagueHierarchy;
+    private final List<Stadium> stadiums;
+    private final List<Team> teams;
+    private final List<Player> players;
+
+    private ReferenceDataSnapshot(final Builder builder) {
+        createdAt = requireNonNull(builder.createdAt, "Null created at");
+        currentSeason = requireNonNull(builder.currentSeason, "Null current season");
+        final EntityCanonicalizer canonicalizer = new EntityCanonicalizer();
+        leagueHierarchy = List.copyOf(canonicalizer.canonicalizeConferences(builder.leagueHierarchy));
+        stadiums = List.copyOf(canonicalizer.canonicalizeStadiums(builder.stadiums));
+        teams = List.copyOf(canonicalizer.canonicalizeTeams(builder.teams));
+        players = List.copyOf(builder.players);
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Fetches every reference data endpoint from the client
+     *
+     * @param client {@link NcaaBasketballV3ApiClient} to fetch from
+     * @return {@link ReferenceDataSnapshot} of the fetched responses
+     */
+    public static ReferenceDataSnapshot fetch(final NcaaBasketballV3ApiClient client) {
+        requireNonNull(client, "Null client");
+        return newBuilder()
+                .withCreatedAt(Instant.now())
+                .withCurrentSeason(client.currentSeason())
+                .withLeagueHierarchy(client.leagueHierarchy())
+                .withStadiums(client.stadiums())
+                .withTeams(client.teams())
+                .withPlayers(client.players())
+                .build();
+    }
+
+    /**
+     * Reads a snapshot file written by {@link #write(Path)}
+     *
+     * @param file snapshot file
+     * @return the {@link ReferenceDataSnapshot}
+     * @throws IOException if the file cannot be read, or is truncated or corrupt
+     * @throws IllegalArgumentException if the file is not a snapshot or has an unsupported format version
+     */
+    public static ReferenceDataSnapshot read(final Path file) throws IOException {
+        final MappedByteBuffer mapped;
+        try (FileChannel channel = FileChannel.open(requireNonNull(file, "Null file"), StandardOpenOption.READ)) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        final byte[] magic = new byte[MAGIC.length];
+        if (mapped.remaining() >= MAGIC.length) {
+            mapped.get(magic);
+        }
+        checkArgument(Arrays.equals(MAGIC, magic), "Not a reference data snapshot: " + file);
+        final BinaryReader in = new BinaryReader(mapped);
+        final int formatVersion = readOrThrow(file, in::readUnsignedVarInt);
+        checkArgument(formatVersion == FORMAT_VERSION, "Unsupported snapshot format version " + formatVersion);
+        return readOrThrow(file, () -> {
+            final Builder builder = newBuilder().withCreatedAt(Instant.ofEpochMilli(in.readVarLong()));
+            in.withStrings(in.readStringTable());
+            return builder
+                    .withCurrentSeason(in.readBoolean() ? Optional.of(EntityEncoding.readSeason(in)) : Optional.empty())
+                    .withLeagueHierarchy(EntityEncoding.readConferences(in))
+                    .withStadiums(EntityEncoding.readStadiums(in))
+                    .withTeams(EntityEncoding.readTeams(in))
+                    .withPlayers(EntityEncoding.readPlayers(in))
+                    .build();
+        });
+    }
+
+    /**
+     * Decodes part of a snapshot file, reporting the failures of a truncated or corrupt file, such as buffer
+     * underflows, out of range string references and malformed varints, as an {@link IOException}
+     */
+    private static <T> T readOrThrow(final Path file, final Supplier<T> decode) throws IOException {
+        try {
+            return decode.get();
+        } catch (final RuntimeException e) {
+            throw new IOException("Corrupt snapshot: " + file, e);
+        }
+    }
+
+    /**
+     * Writes the snapshot to a file, replacing it atomically so that a concurrent {@link #read(Path)} never sees a
+     * partial snapshot
+     *
+     * @param file snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(final Path file) throws IOException {
+        requireNonNull(file, "Null file");
+        final BinaryWriter body = new BinaryWriter(64 * 1024);
+        body.writeBoolean(currentSeason.isPresent());
+        currentSeason.ifPresent(season -> EntityEncoding.writeSeason(body, season));
+        EntityEncoding.writeConferences(body, leagueHierarchy);
+        EntityEncoding.writeStadiums(body, stadiums);
+        EntityEncoding.writeTeams(body, teams);
+        EntityEncoding.writePlayers(body, players);
+
+        final BinaryWriter header = new BinaryWriter()
+                .writeBytes(MAGIC, 0, MAGIC.length)
+                .writeUnsignedVarInt(FORMAT_VERSION)
+                .writeVarLong(createdAt.toEpochMilli());
+        body.writeStringTable(header).writeBytes(body);
+
+        final Path directory = file.toAbsolutePath().getParent();
+        final Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                out.write(header.toByteArray());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Indexes the snapshot's league hierarchy, teams and players
+     *
+     * @return {@link LeagueRepository} of this snapshot
+     */
+    public LeagueRepository toLeagueRepository() {
+        return LeagueRepository.newBuilder()
+                .withConferences(leagueHierarchy)
+                .withTeams(teams)
+                .withPlayers(players)
+                .build();
+    }
+
+    /**
+     * When the snapshot's responses were fetched
+     *
+     * @return {@link Instant} the snapshot was taken
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Optional<Season> getCurrentSeason() {
+        return currentSeason;
+    }
+
+    public List<Conference> getLeagueHierarchy() {
+        return leagueHierarchy;
+    }
+
+    public List<Stadium> getStadiums() {
+        return stadiums;
+    }
+
+    public List<Team> getTeams() {
+        return teams;
+    }
+
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    public static final class Builder {
+        private Instant createdAt;
+        private Optional<Season> currentSeason = Optional.empty();
+        private List<Conference> leagueHierarchy = List.of();
+        private List<Stadium> stadiums = List.of();
+        private List<Team> teams = List.of();
+        private List<Player> players = List.of();
+
+        private Builder() {
+        }
+
+        public Builder withCreatedAt(final Instant val) {
+            createdAt = val;
+            return this;
+        }
+
+        public Builder withCurrentSeason(final Optional<Season> val) {
+            currentSeason = val;
+            return this;
+        }
+
+        public Builder withLeagueHierarchy(final List<Conference> val) {
+            leagueHierarchy = val;
+            return this;
+        }
+
+        public Builder withStadiums(final List<Stadium> val) {
+            stadiums = val;
+            return this;
+        }
+
+        public Builder withTeams(final List<Team> val) {
+            teams = val;
+            return this;
+        }
+
+        public Builder withPlayers(final List<Player> val) {
+            players = val;
+            return this;
+        }
+
+        public ReferenceDataSnapshot build() {
+            return new ReferenceDataSnapshot(this);
+        }
+    }
+}
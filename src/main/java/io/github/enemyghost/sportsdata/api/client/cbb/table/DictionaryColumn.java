@@ -0,0 +1,160 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable, dictionary-encoded column of nullable strings. Each distinct value is stored once in the dictionary
+ * and each row holds an {@code int} code into it, or {@link #NULL_CODE} if the row is null. Filters compare codes, so
+ * they never touch the strings themselves.
+ *
+ * @author enemyghost
+ */
+public final class DictionaryColumn {
+    /**
+     * Code of a null row
+     */
+    public static final int NULL_CODE = -1;
+
+    private final int[] codes;
+    private final List<String> dictionary;
+    private final Map<String, Integer> index;
+
+    private DictionaryColumn(final int[] codes, final List<String> dictionary, final Map<String, Integer> index) {
+        this.codes = codes;
+        this.dictionary = dictionary;
+        this.index = index;
+    }
+
+    /**
+     * Number of rows in the column
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return codes.length;
+    }
+
+    /**
+     * The distinct values of the column, indexed by code
+     *
+     * @return unmodifiable list of distinct values
+     */
+    public List<String> getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Whether the value at the given row is present
+     *
+     * @param row row index
+     * @return true if present, false otherwise
+     */
+    public boolean isPresent(final int row) {
+        return codes[row] != NULL_CODE;
+    }
+
+    /**
+     * The dictionary code of the value at the given row
+     *
+     * @param row row index
+     * @return the dictionary code, or {@link #NULL_CODE} if the row is null
+     */
+    public int getCode(final int row) {
+        return codes[row];
+    }
+
+    /**
+     * The value at the given row
+     *
+     * @param row row index
+     * @return the value at the row, or null if the row is null
+     */
+    public String get(final int row) {
+        final int code = codes[row];
+        return code == NULL_CODE ? null : dictionary.get(code);
+    }
+
+    /**
+     * The dictionary code of the given value
+     *
+     * @param value value to look up
+     * @return the dictionary code, or {@link #NULL_CODE} if no row has the value
+     */
+    public int codeOf(final String value) {
+        return index.getOrDefault(value, NULL_CODE);
+    }
+
+    /**
+     * Selects the rows whose value equals the given value
+     *
+     * @param value value to match
+     * @return selection of matching rows, empty if no row has the value
+     */
+    public RowSelection equalTo(final String value) {
+        final int code = codeOf(value);
+        final long[] words = new long[RowSelection.wordCount(codes.length)];
+        if (code == NULL_CODE) {
+            return new RowSelection(words, codes.length);
+        }
+        for (int w = 0; w < words.length; w++) {
+            final int base = w << 6;
+            final int end = Math.min(base + 64, codes.length);
+            long word = 0;
+            for (int i = base; i < end; i++) {
+                word |= (codes[i] == code ? 1L : 0L) << (i - base);
+            }
+            words[w] = word;
+        }
+        return new RowSelection(words, codes.length);
+    }
+
+    static Builder newBuilder(final int capacity) {
+        return new Builder(capacity);
+    }
+
+    /**
+     * Appends rows to a column. Each row is appended null and then optionally set.
+     */
+    static final class Builder {
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> index = new HashMap<>();
+        private int[] codes;
+        private int size;
+
+        private Builder(final int capacity) {
+            codes = new int[Math.max(capacity, 16)];
+        }
+
+        void appendNull() {
+            if (size == codes.length) {
+                codes = Arrays.copyOf(codes, size * 2);
+            }
+            codes[size++] = NULL_CODE;
+        }
+
+        void set(final int row, final String value) {
+            if (value == null) {
+                codes[row] = NULL_CODE;
+                return;
+            }
+            Integer code = index.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                index.put(value, code);
+            }
+            codes[row] = code;
+        }
+
+        DictionaryColumn build() {
+            return new DictionaryColumn(Arrays.copyOf(codes, size),
+                    Collections.unmodifiableList(new ArrayList<>(dictionary)),
+                    new HashMap<>(index));
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable column of nullable {@code long} values, stored as a primitive array plus a null bitmap with one bit per
+ * row. Absent values are stored as {@code 0}. Used for instants, as seconds since the epoch.
+ *
+ * @author enemyghost
+ */
+public final class LongColumn {
+    private final long[] values;
+    private final long[] nulls;
+    private final int size;
+    private final int nullCount;
+
+    private LongColumn(final long[] values, final long[] nulls, final int size) {
+        this.values = values;
+        this.nulls = nulls;
+        this.size = size;
+        int count = 0;
+        for (final long word : nulls) {
+            count += Long.bitCount(word);
+        }
+        this.nullCount = count;
+    }
+
+    /**
+     * Number of rows in the column
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of rows whose value is absent
+     *
+     * @return number of null rows
+     */
+    public int nullCount() {
+        return nullCount;
+    }
+
+    /**
+     * Whether the value at the given row is present
+     *
+     * @param row row index
+     * @return true if present, false otherwise
+     */
+    public boolean isPresent(final int row) {
+        checkRow(row);
+        return (nulls[row >>> 6] & (1L << row)) == 0;
+    }
+
+    /**
+     * The value at the given row. Check {@link #isPresent(int)} first.
+     *
+     * @param row row index
+     * @return the value at the row
+     * @throws NoSuchElementException if the value is not present
+     */
+    public long get(final int row) {
+        if (!isPresent(row)) {
+            throw new NoSuchElementException("No value present");
+        }
+        return values[row];
+    }
+
+    /**
+     * The value at the given row, or a default if it is absent
+     *
+     * @param row          row index
+     * @param defaultValue value to return if the row is null
+     * @return the value at the row, or {@code defaultValue}
+     */
+    public long getOrDefault(final int row, final long defaultValue) {
+        return isPresent(row) ? values[row] : defaultValue;
+    }
+
+    /**
+     * Selects the rows whose value is present and equal to the given value
+     *
+     * @param value value to match
+     * @return selection of matching rows
+     */
+    public RowSelection equalTo(final long value) {
+        return between(value, value);
+    }
+
+    /**
+     * Selects the rows whose value is present and between the given bounds, inclusive
+     *
+     * @param from lower bound, inclusive
+     * @param to   upper bound, inclusive
+     * @return selection of matching rows
+     */
+    public RowSelection between(final long from, final long to) {
+        final long[] words = new long[nulls.length];
+        for (int w = 0; w < words.length; w++) {
+            final int base = w << 6;
+            final int end = Math.min(base + 64, size);
+            long word = 0;
+            for (int i = base; i < end; i++) {
+                final long value = values[i];
+                word |= (value >= from && value <= to ? 1L : 0L) << (i - base);
+            }
+            words[w] = word & ~nulls[w];
+        }
+        return new RowSelection(words, size);
+    }
+
+    /**
+     * Selects the rows whose value is present
+     *
+     * @return selection of non-null rows
+     */
+    public RowSelection present() {
+        final long[] words = new long[nulls.length];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = ~nulls[i];
+        }
+        if ((size & 63) != 0) {
+            words[words.length - 1] &= -1L >>> (64 - (size & 63));
+        }
+        return new RowSelection(words, size);
+    }
+
+    /**
+     * Copies the values of the column into a new array, with {@code 0} for absent values
+     *
+     * @return copy of the column values
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    static Builder newBuilder(final int capacity) {
+        return new Builder(capacity);
+    }
+
+    private void checkRow(final int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+
+    private void checkSelection(final RowSelection selection) {
+        if (selection.size() != size) {
+            throw new IllegalArgumentException("Selection is over a different table");
+        }
+    }
+
+    /**
+     * Appends rows to a column. Each row is appended null and then optionally set.
+     */
+    static final class Builder {
+        private long[] values;
+        private long[] nulls;
+        private int size;
+
+        private Builder(final int capacity) {
+            values = new long[Math.max(capacity, 16)];
+            nulls = new long[RowSelection.wordCount(values.length)];
+        }
+
+        void appendNull() {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+                nulls = Arrays.copyOf(nulls, RowSelection.wordCount(values.length));
+            }
+            nulls[size >>> 6] |= 1L << size;
+            size++;
+        }
+
+        void set(final int row, final long value) {
+            values[row] = value;
+            nulls[row >>> 6] &= ~(1L << row);
+        }
+
+        boolean isPresent(final int row) {
+            return (nulls[row >>> 6] & (1L << row)) == 0;
+        }
+
+        LongColumn build() {
+            return new LongColumn(Arrays.copyOf(values, size), Arrays.copyOf(nulls, RowSelection.wordCount(size)), size);
+        }
+    }
+}
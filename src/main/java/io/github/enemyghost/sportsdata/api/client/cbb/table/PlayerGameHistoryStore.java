@@ -0,0 +1,578 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Persistent, off-heap store of {@link PlayerGame} history, for keeping several seasons of player games without
+ * growing the heap.
+ * <p>
+ * Rows are fixed-width records in memory-mapped segment files, so their contents live in the page cache rather than
+ * the heap and survive restarts. Rows are keyed by stat ID: appending a stat ID which is already stored overwrites
+ * its row in place, so the stats endpoints can be re-polled as games progress. A stat ID to row index and a player ID
+ * to rows index are kept in direct buffers and rebuilt from the rows when the store is opened. Strings are
+ * dictionary-encoded in a {@link StringPool}, the only structure held on the heap, which grows with the number of
+ * distinct strings rather than with history size.
+ * <p>
+ * Rows can be read back by index, stat ID or player ID, scanned by column with {@link #sum(PlayerGameIntField)} and
+ * {@link #between(PlayerGameIntField, int, int)}, or copied out as a {@link PlayerGameTable} for heavier analysis.
+ * <p>
+ * Instances are not thread-safe. Call {@link #flush()} to force appended rows to disk, and {@link #close()} when done.
+ *
+ * @author enemyghost
+ */
+public final class PlayerGameHistoryStore implements Closeable {
+    static final int ROW_WIDTH = 128;
+
+    private static final int MAGIC = 0x53445047;
+    private static final int VERSION = 1;
+    private static final int META_SIZE = 20;
+    private static final int META_ROW_COUNT = 16;
+    private static final int DEFAULT_SEGMENT_ROWS = 1 << 18;
+
+    private static final int GAME_INSTANT = 0;
+    private static final int UPDATED_INSTANT = 8;
+    private static final int NULL_MASK = 20;
+    private static final int FLAGS = 24;
+    private static final int INJURY_START_DATE = 76;
+    private static final int NAME = 80;
+    private static final int TEAM = 84;
+    private static final int POSITION = 88;
+    private static final int INJURY_STATUS = 92;
+    private static final int INJURY_BODY_PART = 96;
+    private static final int INJURY_NOTES = 100;
+    private static final int OPPONENT = 104;
+    private static final int HOME_OR_AWAY = 108;
+    private static final int FAN_DUEL_POSITION = 112;
+    private static final int DRAFT_KINGS_POSITION = 116;
+    private static final int YAHOO_POSITION = 120;
+
+    private static final int INJURY_START_DATE_NULL = 1 << 12;
+    private static final int GAME_INSTANT_NULL = 1 << 13;
+    private static final int UPDATED_INSTANT_NULL = 1 << 14;
+    private static final int GAME_OVER_FLAG = 1;
+
+    private final Path directory;
+    private final int segmentRows;
+    private final MappedByteBuffer meta;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final StringPool strings;
+    private final StatIdIndex index;
+    private final PlayerIdIndex playerIndex;
+    private int size;
+
+    private PlayerGameHistoryStore(final Builder builder) throws IOException {
+        directory = Files.createDirectories(requireNonNull(builder.directory, "Null directory"));
+        final Path metaFile = directory.resolve("meta.bin");
+        final boolean exists = Files.exists(metaFile);
+        meta = map(metaFile, META_SIZE);
+        if (exists) {
+            checkArgument(meta.getInt(0) == MAGIC, "Not a player game history store: " + directory);
+            checkArgument(meta.getInt(4) == VERSION, "Unsupported store version " + meta.getInt(4));
+            checkArgument(meta.getInt(8) == ROW_WIDTH, "Unsupported row width " + meta.getInt(8));
+            segmentRows = meta.getInt(12);
+            size = meta.getInt(META_ROW_COUNT);
+        } else {
+            segmentRows = builder.segmentRows;
+            meta.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, ROW_WIDTH).putInt(12, segmentRows)
+                    .putInt(META_ROW_COUNT, 0);
+        }
+        strings = StringPool.open(directory.resolve("strings.bin"));
+        while ((long) segments.size() * segmentRows < size) {
+            mapSegment();
+        }
+        index = new StatIdIndex(size);
+        playerIndex = new PlayerIdIndex(size);
+        for (int row = 0; row < size; row++) {
+            index.put(statIdAt(row), row);
+            if (isPresent(row, PlayerGameIntField.PLAYER_ID)) {
+                playerIndex.add(getInt(row, PlayerGameIntField.PLAYER_ID), row);
+            }
+        }
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Number of rows in the store
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Appends a player game, or overwrites the stored row with the same stat ID
+     *
+     * @param playerGame player game to store
+     * @return the row the player game was stored at
+     * @throws IOException if the row cannot be written
+     */
+    public int append(final PlayerGame playerGame) throws IOException {
+        requireNonNull(playerGame, "Null player game");
+        final int row = rowFor(playerGame.getStatId());
+        final boolean hadPlayer = row < size && isPresent(row, PlayerGameIntField.PLAYER_ID);
+        final int previousPlayerId = hadPlayer ? getInt(row, PlayerGameIntField.PLAYER_ID) : 0;
+        final MappedByteBuffer segment = segment(row);
+        final int base = offset(row);
+        for (int i = 0; i < ROW_WIDTH; i += Long.BYTES) {
+            segment.putLong(base + i, 0L);
+        }
+        int nullMask = 0;
+        segment.putInt(base + PlayerGameIntField.STAT_ID.offset(), playerGame.getStatId());
+        if (playerGame.hasTeamId()) {
+            segment.putInt(base + PlayerGameIntField.TEAM_ID.offset(), playerGame.getTeamIdAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.TEAM_ID.nullBit();
+        }
+        if (playerGame.hasGlobalTeamId()) {
+            segment.putInt(base + PlayerGameIntField.GLOBAL_TEAM_ID.offset(), playerGame.getGlobalTeamIdAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.GLOBAL_TEAM_ID.nullBit();
+        }
+        if (playerGame.hasGameId()) {
+            segment.putInt(base + PlayerGameIntField.GAME_ID.offset(), playerGame.getGameIdAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.GAME_ID.nullBit();
+        }
+        if (playerGame.hasGlobalGameId()) {
+            segment.putInt(base + PlayerGameIntField.GLOBAL_GAME_ID.offset(), playerGame.getGlobalGameIdAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.GLOBAL_GAME_ID.nullBit();
+        }
+        if (playerGame.hasPlayerId()) {
+            segment.putInt(base + PlayerGameIntField.PLAYER_ID.offset(), playerGame.getPlayerIdAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.PLAYER_ID.nullBit();
+        }
+        if (playerGame.hasSeasonType()) {
+            segment.putInt(base + PlayerGameIntField.SEASON_TYPE.offset(), playerGame.getSeasonTypeAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.SEASON_TYPE.nullBit();
+        }
+        if (playerGame.hasSeason()) {
+            segment.putInt(base + PlayerGameIntField.SEASON.offset(), playerGame.getSeasonAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.SEASON.nullBit();
+        }
+        if (playerGame.hasOpponentId()) {
+            segment.putInt(base + PlayerGameIntField.OPPONENT_ID.offset(), playerGame.getOpponentIdAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.OPPONENT_ID.nullBit();
+        }
+        if (playerGame.hasGlobalOpponentId()) {
+            segment.putInt(base + PlayerGameIntField.GLOBAL_OPPONENT_ID.offset(),
+                    playerGame.getGlobalOpponentIdAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.GLOBAL_OPPONENT_ID.nullBit();
+        }
+        if (playerGame.hasOpponentRank()) {
+            segment.putInt(base + PlayerGameIntField.OPPONENT_RANK.offset(), playerGame.getOpponentRankAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.OPPONENT_RANK.nullBit();
+        }
+        if (playerGame.hasOpponentPositionRank()) {
+            segment.putInt(base + PlayerGameIntField.OPPONENT_POSITION_RANK.offset(),
+                    playerGame.getOpponentPositionRankAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.OPPONENT_POSITION_RANK.nullBit();
+        }
+        if (playerGame.hasGames()) {
+            segment.putInt(base + PlayerGameIntField.GAMES.offset(), playerGame.getGamesAsInt());
+        } else {
+            nullMask |= PlayerGameIntField.GAMES.nullBit();
+        }
+
+        final Optional<LocalDate> injuryStartDate = playerGame.getInjuryStartDate();
+        if (injuryStartDate.isPresent()) {
+            segment.putInt(base + INJURY_START_DATE, (int) injuryStartDate.get().toEpochDay());
+        } else {
+            nullMask |= INJURY_START_DATE_NULL;
+        }
+        final Optional<Instant> gameInstant = playerGame.getGameInstant();
+        if (gameInstant.isPresent()) {
+            segment.putLong(base + GAME_INSTANT, gameInstant.get().getEpochSecond());
+        } else {
+            nullMask |= GAME_INSTANT_NULL;
+        }
+        final Optional<Instant> updatedInstant = playerGame.getUpdatedInstant();
+        if (updatedInstant.isPresent()) {
+            segment.putLong(base + UPDATED_INSTANT, updatedInstant.get().getEpochSecond());
+        } else {
+            nullMask |= UPDATED_INSTANT_NULL;
+        }
+
+        segment.putInt(base + NAME, strings.codeOf(playerGame.getName().orElse(null)));
+        segment.putInt(base + TEAM, strings.codeOf(playerGame.getTeam().orElse(null)));
+        segment.putInt(base + POSITION, strings.codeOf(playerGame.getPosition().orElse(null)));
+        segment.putInt(base + INJURY_STATUS, strings.codeOf(playerGame.getInjuryStatus().orElse(null)));
+        segment.putInt(base + INJURY_BODY_PART, strings.codeOf(playerGame.getInjuryBodyPart().orElse(null)));
+        segment.putInt(base + INJURY_NOTES, strings.codeOf(playerGame.getInjuryNotes().orElse(null)));
+        segment.putInt(base + OPPONENT, strings.codeOf(playerGame.getOpponent().orElse(null)));
+        segment.putInt(base + HOME_OR_AWAY, strings.codeOf(playerGame.getHomeOrAway().orElse(null)));
+        segment.putInt(base + FAN_DUEL_POSITION, strings.codeOf(playerGame.getFanDuelPosition().orElse(null)));
+        segment.putInt(base + DRAFT_KINGS_POSITION, strings.codeOf(playerGame.getDraftKingsPosition().orElse(null)));
+        segment.putInt(base + YAHOO_POSITION, strings.codeOf(playerGame.getYahooPosition().orElse(null)));
+
+        segment.putInt(base + FLAGS, playerGame.isGameOver() ? GAME_OVER_FLAG : 0);
+        segment.putInt(base + NULL_MASK, nullMask);
+        commit(row, playerGame.getStatId());
+        final boolean samePlayer = hadPlayer && playerGame.hasPlayerId()
+                && playerGame.getPlayerIdAsInt() == previousPlayerId;
+        if (hadPlayer && !samePlayer) {
+            playerIndex.remove(previousPlayerId, row);
+        }
+        if (playerGame.hasPlayerId() && !samePlayer) {
+            playerIndex.add(playerGame.getPlayerIdAsInt(), row);
+        }
+        return row;
+    }
+
+    /**
+     * Appends each player game, overwriting stored rows with the same stat IDs
+     *
+     * @param playerGames player games to store
+     * @throws IOException if a row cannot be written
+     */
+    public void appendAll(final Collection<PlayerGame> playerGames) throws IOException {
+        for (final PlayerGame playerGame : requireNonNull(playerGames, "Null player games")) {
+            append(playerGame);
+        }
+    }
+
+    /**
+     * Appends each row of a table, overwriting stored rows with the same stat IDs
+     *
+     * @param table player games to store
+     * @throws IOException if a row cannot be written
+     */
+    public void appendAll(final PlayerGameTable table) throws IOException {
+        requireNonNull(table, "Null table");
+        for (int i = 0; i < table.size(); i++) {
+            append(table.toPlayerGame(i));
+        }
+    }
+
+    /**
+     * Returns the row a stat ID is stored at
+     *
+     * @param statId stat ID
+     * @return the row, or {@link OptionalInt#empty()} if the stat ID is not stored
+     */
+    public OptionalInt rowOf(final int statId) {
+        final int row = index.get(statId);
+        return row == StatIdIndex.ABSENT ? OptionalInt.empty() : OptionalInt.of(row);
+    }
+
+    /**
+     * Returns the rows a player's games are stored at, without scanning the store
+     *
+     * @param playerId player ID
+     * @return the rows in ascending order, empty if the player has no stored games
+     */
+    public int[] rowsOf(final int playerId) {
+        return playerIndex.rows(playerId);
+    }
+
+    /**
+     * Reads the player game stored at a row
+     *
+     * @param row row index
+     * @return the stored {@link PlayerGame}
+     */
+    public PlayerGame get(final int row) {
+        checkRow(row);
+        final MappedByteBuffer segment = segment(row);
+        final int base = offset(row);
+        final int nullMask = segment.getInt(base + NULL_MASK);
+        final PlayerGame.Builder builder = PlayerGame.newBuilder()
+                .withStatID(segment.getInt(base + PlayerGameIntField.STAT_ID.offset()))
+                .withTeamID(getBoxed(segment, base, nullMask, PlayerGameIntField.TEAM_ID))
+                .withGlobalTeamID(getBoxed(segment, base, nullMask, PlayerGameIntField.GLOBAL_TEAM_ID))
+                .withGameID(getBoxed(segment, base, nullMask, PlayerGameIntField.GAME_ID))
+                .withGlobalGameID(getBoxed(segment, base, nullMask, PlayerGameIntField.GLOBAL_GAME_ID))
+                .withPlayerID(getBoxed(segment, base, nullMask, PlayerGameIntField.PLAYER_ID))
+                .withSeasonType(getBoxed(segment, base, nullMask, PlayerGameIntField.SEASON_TYPE))
+                .withSeason(getBoxed(segment, base, nullMask, PlayerGameIntField.SEASON))
+                .withOpponentID(getBoxed(segment, base, nullMask, PlayerGameIntField.OPPONENT_ID))
+                .withGlobalOpponentID(getBoxed(segment, base, nullMask, PlayerGameIntField.GLOBAL_OPPONENT_ID))
+                .withOpponentRank(getBoxed(segment, base, nullMask, PlayerGameIntField.OPPONENT_RANK))
+                .withOpponentPositionRank(
+                        getBoxed(segment, base, nullMask, PlayerGameIntField.OPPONENT_POSITION_RANK))
+                .withGames(getBoxed(segment, base, nullMask, PlayerGameIntField.GAMES))
+                .withName(strings.get(segment.getInt(base + NAME)))
+                .withTeam(strings.get(segment.getInt(base + TEAM)))
+                .withPosition(strings.get(segment.getInt(base + POSITION)))
+                .withInjuryStatus(strings.get(segment.getInt(base + INJURY_STATUS)))
+                .withInjuryBodyPart(strings.get(segment.getInt(base + INJURY_BODY_PART)))
+                .withInjuryNotes(strings.get(segment.getInt(base + INJURY_NOTES)))
+                .withOpponent(strings.get(segment.getInt(base + OPPONENT)))
+                .withHomeOrAway(strings.get(segment.getInt(base + HOME_OR_AWAY)))
+                .withFanDuelPosition(strings.get(segment.getInt(base + FAN_DUEL_POSITION)))
+                .withDraftKingsPosition(strings.get(segment.getInt(base + DRAFT_KINGS_POSITION)))
+                .withYahooPosition(strings.get(segment.getInt(base + YAHOO_POSITION)))
+                .withIsGameOver((segment.getInt(base + FLAGS) & GAME_OVER_FLAG) != 0);
+        if ((nullMask & INJURY_START_DATE_NULL) == 0) {
+            builder.withInjuryStartDate(LocalDate.ofEpochDay(segment.getInt(base + INJURY_START_DATE)));
+        }
+        if ((nullMask & GAME_INSTANT_NULL) == 0) {
+            builder.withGameInstant(Instant.ofEpochSecond(segment.getLong(base + GAME_INSTANT)));
+        }
+        if ((nullMask & UPDATED_INSTANT_NULL) == 0) {
+            builder.withUpdatedInstant(Instant.ofEpochSecond(segment.getLong(base + UPDATED_INSTANT)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads the player game stored for a stat ID
+     *
+     * @param statId stat ID
+     * @return the stored {@link PlayerGame}, or {@link Optional#empty()} if the stat ID is not stored
+     */
+    public Optional<PlayerGame> getByStatId(final int statId) {
+        final int row = index.get(statId);
+        return row == StatIdIndex.ABSENT ? Optional.empty() : Optional.of(get(row));
+    }
+
+    /**
+     * Reads the player games stored for a player ID
+     *
+     * @param playerId player ID
+     * @return the stored {@link PlayerGame}s of the player, in row order
+     */
+    public List<PlayerGame> getByPlayerId(final int playerId) {
+        final int[] rows = playerIndex.rows(playerId);
+        final List<PlayerGame> playerGames = new ArrayList<>(rows.length);
+        for (final int row : rows) {
+            playerGames.add(get(row));
+        }
+        return playerGames;
+    }
+
+    /**
+     * Whether an integer field is present at a row
+     *
+     * @param row   row index
+     * @param field field to read
+     * @return true if present, false otherwise
+     */
+    public boolean isPresent(final int row, final PlayerGameIntField field) {
+        checkRow(row);
+        return (segment(row).getInt(offset(row) + NULL_MASK) & field.nullBit()) == 0;
+    }
+
+    /**
+     * Reads an integer field at a row, without materializing the row
+     *
+     * @param row   row index
+     * @param field field to read
+     * @return the field value, or {@code 0} if it is absent
+     */
+    public int getInt(final int row, final PlayerGameIntField field) {
+        checkRow(row);
+        return segment(row).getInt(offset(row) + field.offset());
+    }
+
+    /**
+     * Sums an integer field over every row, treating absent values as {@code 0}
+     *
+     * @param field field to sum
+     * @return sum of the field's present values
+     */
+    public long sum(final PlayerGameIntField field) {
+        requireNonNull(field, "Null field");
+        long sum = 0;
+        for (int s = 0; s < segments.size(); s++) {
+            final MappedByteBuffer segment = segments.get(s);
+            final int rows = Math.min(segmentRows, size - s * segmentRows);
+            for (int i = 0, position = field.offset(); i < rows; i++, position += ROW_WIDTH) {
+                sum += segment.getInt(position);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Sums an integer field over the selected rows, treating absent values as {@code 0}
+     *
+     * @param field     field to sum
+     * @param selection rows to sum, from a scan of this store
+     * @return sum of the field's present values in the selected rows
+     */
+    public long sum(final PlayerGameIntField field, final RowSelection selection) {
+        requireNonNull(field, "Null field");
+        checkArgument(requireNonNull(selection, "Null selection").size() == size, "Selection is over a different size");
+        final long[] sum = {0};
+        selection.forEach(row -> sum[0] += segment(row).getInt(offset(row) + field.offset()));
+        return sum[0];
+    }
+
+    /**
+     * Selects the rows where an integer field is present and between the given bounds, inclusive
+     *
+     * @param field field to scan
+     * @param from  lower bound, inclusive
+     * @param to    upper bound, inclusive
+     * @return selection of matching rows
+     */
+    public RowSelection between(final PlayerGameIntField field, final int from, final int to) {
+        requireNonNull(field, "Null field");
+        final long[] words = new long[RowSelection.wordCount(size)];
+        for (int row = 0; row < size; row++) {
+            final MappedByteBuffer segment = segment(row);
+            final int base = offset(row);
+            final int value = segment.getInt(base + field.offset());
+            final boolean present = (segment.getInt(base + NULL_MASK) & field.nullBit()) == 0;
+            words[row >>> 6] |= (present && value >= from && value <= to ? 1L : 0L) << row;
+        }
+        return new RowSelection(words, size);
+    }
+
+    /**
+     * Copies a range of rows into a heap {@link PlayerGameTable}
+     *
+     * @param fromRow first row, inclusive
+     * @param toRow   last row, exclusive
+     * @return {@link PlayerGameTable} of the rows
+     */
+    public PlayerGameTable toTable(final int fromRow, final int toRow) {
+        checkArgument(fromRow >= 0 && fromRow <= toRow && toRow <= size, "Invalid row range");
+        final List<PlayerGame> playerGames = new ArrayList<>(toRow - fromRow);
+        for (int row = fromRow; row < toRow; row++) {
+            playerGames.add(get(row));
+        }
+        return PlayerGameTable.copyOf(playerGames);
+    }
+
+    /**
+     * Forces appended rows and strings to disk
+     *
+     * @throws IOException if the string pool cannot be forced
+     */
+    public void flush() throws IOException {
+        strings.force();
+        segments.forEach(MappedByteBuffer::force);
+        meta.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        strings.close();
+    }
+
+    private int rowFor(final int statId) throws IOException {
+        final int existing = index.get(statId);
+        if (existing != StatIdIndex.ABSENT) {
+            return existing;
+        }
+        if (size / segmentRows >= segments.size()) {
+            mapSegment();
+        }
+        return size;
+    }
+
+    /**
+     * Makes a written row visible; the row count is only advanced once the row is fully written
+     */
+    private void commit(final int row, final int statId) {
+        if (row == size) {
+            size++;
+            meta.putInt(META_ROW_COUNT, size);
+            index.put(statId, row);
+        }
+    }
+
+    private void mapSegment() throws IOException {
+        segments.add(map(directory.resolve(String.format("rows-%05d.bin", segments.size())),
+                (long) segmentRows * ROW_WIDTH));
+    }
+
+    private MappedByteBuffer segment(final int row) {
+        return segments.get(row / segmentRows);
+    }
+
+    private int offset(final int row) {
+        return (row % segmentRows) * ROW_WIDTH;
+    }
+
+    private int statIdAt(final int row) {
+        return segment(row).getInt(offset(row) + PlayerGameIntField.STAT_ID.offset());
+    }
+
+    private void checkRow(final int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+
+
+    private static Integer getBoxed(final MappedByteBuffer segment,
+                                    final int base,
+                                    final int nullMask,
+                                    final PlayerGameIntField field) {
+        return (nullMask & field.nullBit()) == 0 ? segment.getInt(base + field.offset()) : null;
+    }
+
+    private static MappedByteBuffer map(final Path file, final long length) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            final MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, length);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    public static final class Builder {
+        private Path directory;
+        private int segmentRows = DEFAULT_SEGMENT_ROWS;
+
+        private Builder() {
+        }
+
+        public Builder withDirectory(final Path val) {
+            directory = val;
+            return this;
+        }
+
+        /**
+         * Rows per segment file, only used when creating a new store. Defaults to 262,144 rows, or 32MB.
+         *
+         * @param val rows per segment file
+         * @return this builder
+         */
+        public Builder withSegmentRows(final int val) {
+            segmentRows = val;
+            return this;
+        }
+
+        public PlayerGameHistoryStore open() throws IOException {
+            checkArgument(segmentRows > 0 && (long) segmentRows * ROW_WIDTH <= Integer.MAX_VALUE,
+                    "Segment rows must be positive and fit a segment in 2GB");
+            return new PlayerGameHistoryStore(this);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+/**
+ * The integer fields of a player game which {@link PlayerGameHistoryStore} can scan by column
+ *
+ * @author enemyghost
+ */
+public enum PlayerGameIntField {
+    STAT_ID(16, 0),
+    TEAM_ID(28, 1),
+    GLOBAL_TEAM_ID(32, 1 << 1),
+    GAME_ID(36, 1 << 2),
+    GLOBAL_GAME_ID(40, 1 << 3),
+    PLAYER_ID(44, 1 << 4),
+    SEASON_TYPE(48, 1 << 5),
+    SEASON(52, 1 << 6),
+    OPPONENT_ID(56, 1 << 7),
+    GLOBAL_OPPONENT_ID(60, 1 << 8),
+    OPPONENT_RANK(64, 1 << 9),
+    OPPONENT_POSITION_RANK(68, 1 << 10),
+    GAMES(72, 1 << 11);
+
+    private final int offset;
+    private final int nullBit;
+
+    PlayerGameIntField(final int offset, final int nullBit) {
+        this.offset = offset;
+        this.nullBit = nullBit;
+    }
+
+    /**
+     * Byte offset of the field within a stored row
+     */
+    int offset() {
+        return offset;
+    }
+
+    /**
+     * Bit of the field in a stored row's null mask, or {@code 0} if the field is never null
+     */
+    int nullBit() {
+        return nullBit;
+    }
+}
@@ -0,0 +1,1018 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A batch of {@link PlayerGame}s stored column by column: nullable integers in primitive {@link IntColumn}s, strings in
+ * dictionary-encoded {@link DictionaryColumn}s and instants as epoch seconds in {@link LongColumn}s.
+ * <p>
+ * Scanning one or two fields across a whole slate or season reads contiguous primitive arrays instead of chasing a
+ * pointer per row, and the table holds a fraction of the heap of the equivalent {@code List<PlayerGame>}. Response
+ * bodies decode straight into the columns, without materializing a {@link PlayerGame} per row; use {@link #row(int)}
+ * for a lightweight view of a single row or {@link #toPlayerGame(int)} to materialize one.
+ *
+ * @author enemyghost
+ */
+@JsonDeserialize(using = PlayerGameTableDeserializer.class)
+public final class PlayerGameTable {
+    private final int size;
+    private final IntColumn statId;
+    private final IntColumn teamId;
+    private final IntColumn globalTeamId;
+    private final IntColumn gameId;
+    private final IntColumn globalGameId;
+    private final IntColumn playerId;
+    private final IntColumn seasonType;
+    private final IntColumn season;
+    private final IntColumn opponentId;
+    private final IntColumn globalOpponentId;
+    private final IntColumn opponentRank;
+    private final IntColumn opponentPositionRank;
+    private final IntColumn games;
+    private final IntColumn injuryStartDate;
+    private final DictionaryColumn name;
+    private final DictionaryColumn team;
+    private final DictionaryColumn position;
+    private final DictionaryColumn injuryStatus;
+    private final DictionaryColumn injuryBodyPart;
+    private final DictionaryColumn injuryNotes;
+    private final DictionaryColumn opponent;
+    private final DictionaryColumn homeOrAway;
+    private final DictionaryColumn fanDuelPosition;
+    private final DictionaryColumn draftKingsPosition;
+    private final DictionaryColumn yahooPosition;
+    private final LongColumn gameInstant;
+    private final LongColumn updatedInstant;
+    private final RowSelection gameOver;
+
+    private PlayerGameTable(final Builder builder) {
+        size = builder.size;
+        statId = builder.statId.build();
+        teamId = builder.teamId.build();
+        globalTeamId = builder.globalTeamId.build();
+        gameId = builder.gameId.build();
+        globalGameId = builder.globalGameId.build();
+        playerId = builder.playerId.build();
+        seasonType = builder.seasonType.build();
+        season = builder.season.build();
+        opponentId = builder.opponentId.build();
+        globalOpponentId = builder.globalOpponentId.build();
+        opponentRank = builder.opponentRank.build();
+        opponentPositionRank = builder.opponentPositionRank.build();
+        games = builder.games.build();
+        injuryStartDate = builder.injuryStartDate.build();
+        name = builder.name.build();
+        team = builder.team.build();
+        position = builder.position.build();
+        injuryStatus = builder.injuryStatus.build();
+        injuryBodyPart = builder.injuryBodyPart.build();
+        injuryNotes = builder.injuryNotes.build();
+        opponent = builder.opponent.build();
+        homeOrAway = builder.homeOrAway.build();
+        fanDuelPosition = builder.fanDuelPosition.build();
+        draftKingsPosition = builder.draftKingsPosition.build();
+        yahooPosition = builder.yahooPosition.build();
+        gameInstant = builder.gameInstant.build();
+        updatedInstant = builder.updatedInstant.build();
+        gameOver = new RowSelection(Arrays.copyOf(builder.gameOver, RowSelection.wordCount(size)), size);
+    }
+
+    /**
+     * Copies a collection of {@link PlayerGame}s into a table, preserving their order
+     *
+     * @param playerGames player games to copy
+     * @return {@link PlayerGameTable} of the player games
+     */
+    public static PlayerGameTable copyOf(final Collection<PlayerGame> playerGames) {
+        final Builder builder = newBuilder(requireNonNull(playerGames, "Null player games").size());
+        for (final PlayerGame playerGame : playerGames) {
+            final int row = builder.newRow();
+            builder.statId.set(row, requireNonNull(playerGame, "Null player game").getStatId());
+            if (playerGame.hasTeamId()) {
+                builder.teamId.set(row, playerGame.getTeamIdAsInt());
+            }
+            if (playerGame.hasGlobalTeamId()) {
+                builder.globalTeamId.set(row, playerGame.getGlobalTeamIdAsInt());
+            }
+            if (playerGame.hasGameId()) {
+                builder.gameId.set(row, playerGame.getGameIdAsInt());
+            }
+            if (playerGame.hasGlobalGameId()) {
+                builder.globalGameId.set(row, playerGame.getGlobalGameIdAsInt());
+            }
+            if (playerGame.hasPlayerId()) {
+                builder.playerId.set(row, playerGame.getPlayerIdAsInt());
+            }
+            if (playerGame.hasSeasonType()) {
+                builder.seasonType.set(row, playerGame.getSeasonTypeAsInt());
+            }
+            if (playerGame.hasSeason()) {
+                builder.season.set(row, playerGame.getSeasonAsInt());
+            }
+            if (playerGame.hasOpponentId()) {
+                builder.opponentId.set(row, playerGame.getOpponentIdAsInt());
+            }
+            if (playerGame.hasGlobalOpponentId()) {
+                builder.globalOpponentId.set(row, playerGame.getGlobalOpponentIdAsInt());
+            }
+            if (playerGame.hasOpponentRank()) {
+                builder.opponentRank.set(row, playerGame.getOpponentRankAsInt());
+            }
+            if (playerGame.hasOpponentPositionRank()) {
+                builder.opponentPositionRank.set(row, playerGame.getOpponentPositionRankAsInt());
+            }
+            if (playerGame.hasGames()) {
+                builder.games.set(row, playerGame.getGamesAsInt());
+            }
+            playerGame.getInjuryStartDate().ifPresent(date -> builder.injuryStartDate.set(row, (int) date.toEpochDay()));
+            playerGame.getName().ifPresent(val -> builder.name.set(row, val));
+            playerGame.getTeam().ifPresent(val -> builder.team.set(row, val));
+            playerGame.getPosition().ifPresent(val -> builder.position.set(row, val));
+            playerGame.getInjuryStatus().ifPresent(val -> builder.injuryStatus.set(row, val));
+            playerGame.getInjuryBodyPart().ifPresent(val -> builder.injuryBodyPart.set(row, val));
+            playerGame.getInjuryNotes().ifPresent(val -> builder.injuryNotes.set(row, val));
+            playerGame.getOpponent().ifPresent(val -> builder.opponent.set(row, val));
+            playerGame.getHomeOrAway().ifPresent(val -> builder.homeOrAway.set(row, val));
+            playerGame.getFanDuelPosition().ifPresent(val -> builder.fanDuelPosition.set(row, val));
+            playerGame.getDraftKingsPosition().ifPresent(val -> builder.draftKingsPosition.set(row, val));
+            playerGame.getYahooPosition().ifPresent(val -> builder.yahooPosition.set(row, val));
+            playerGame.getGameInstant().ifPresent(val -> builder.gameInstant.set(row, val.getEpochSecond()));
+            playerGame.getUpdatedInstant().ifPresent(val -> builder.updatedInstant.set(row, val.getEpochSecond()));
+            builder.setGameOver(row, playerGame.isGameOver());
+        }
+        return builder.build();
+    }
+
+    static Builder newBuilder(final int capacity) {
+        return new Builder(capacity);
+    }
+
+    /**
+     * Number of rows in the table
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * The unique ID of the stat, never null
+     *
+     * @return stat ID column
+     */
+    public IntColumn getStatId() {
+        return statId;
+    }
+
+    /**
+     * The ID of the team
+     *
+     * @return teamId column
+     */
+    public IntColumn getTeamId() {
+        return teamId;
+    }
+
+    /**
+     * The unique ID of the team
+     *
+     * @return globalTeamId column
+     */
+    public IntColumn getGlobalTeamId() {
+        return globalTeamId;
+    }
+
+    /**
+     * The unique ID of the game
+     *
+     * @return gameId column
+     */
+    public IntColumn getGameId() {
+        return gameId;
+    }
+
+    /**
+     * The globally unique ID of the game
+     *
+     * @return globalGameId column
+     */
+    public IntColumn getGlobalGameId() {
+        return globalGameId;
+    }
+
+    /**
+     * The unique ID of the player
+     *
+     * @return playerId column
+     */
+    public IntColumn getPlayerId() {
+        return playerId;
+    }
+
+    /**
+     * The type of season (1=Regular Season, 2=Preseason, 3=Postseason, 4=Offseason, 5=AllStar)
+     *
+     * @return seasonType column
+     */
+    public IntColumn getSeasonType() {
+        return seasonType;
+    }
+
+    /**
+     * The college basketball season of the game
+     *
+     * @return season column
+     */
+    public IntColumn getSeason() {
+        return season;
+    }
+
+    /**
+     * The unique ID of the team's opponent
+     *
+     * @return opponentId column
+     */
+    public IntColumn getOpponentId() {
+        return opponentId;
+    }
+
+    /**
+     * The globally unique ID of the team's opponent
+     *
+     * @return globalOpponentId column
+     */
+    public IntColumn getGlobalOpponentId() {
+        return globalOpponentId;
+    }
+
+    /**
+     * The ranking of the player's opponent with regards to fantasy points allowed
+     *
+     * @return opponentRank column
+     */
+    public IntColumn getOpponentRank() {
+        return opponentRank;
+    }
+
+    /**
+     * The ranking of the player's opponent by position with regards to fantasy points allowed
+     *
+     * @return opponentPositionRank column
+     */
+    public IntColumn getOpponentPositionRank() {
+        return opponentPositionRank;
+    }
+
+    /**
+     * The number of games played
+     *
+     * @return games column
+     */
+    public IntColumn getGames() {
+        return games;
+    }
+
+    /**
+     * The day that the injury started or was first discovered, as days since the epoch
+     *
+     * @return injury start date column
+     * @see LocalDate#ofEpochDay(long)
+     */
+    public IntColumn getInjuryStartDate() {
+        return injuryStartDate;
+    }
+
+    /**
+     * The player's name
+     *
+     * @return name column
+     */
+    public DictionaryColumn getName() {
+        return name;
+    }
+
+    /**
+     * The abbreviation of the team
+     *
+     * @return team column
+     */
+    public DictionaryColumn getTeam() {
+        return team;
+    }
+
+    /**
+     * The player's position
+     *
+     * @return position column
+     */
+    public DictionaryColumn getPosition() {
+        return position;
+    }
+
+    /**
+     * The player's injury status
+     *
+     * @return injuryStatus column
+     */
+    public DictionaryColumn getInjuryStatus() {
+        return injuryStatus;
+    }
+
+    /**
+     * The body part that is injured
+     *
+     * @return injuryBodyPart column
+     */
+    public DictionaryColumn getInjuryBodyPart() {
+        return injuryBodyPart;
+    }
+
+    /**
+     * The brief description of the player's injury
+     *
+     * @return injuryNotes column
+     */
+    public DictionaryColumn getInjuryNotes() {
+        return injuryNotes;
+    }
+
+    /**
+     * The name of the opponent
+     *
+     * @return opponent column
+     */
+    public DictionaryColumn getOpponent() {
+        return opponent;
+    }
+
+    /**
+     * Whether the team is home or away
+     *
+     * @return homeOrAway column
+     */
+    public DictionaryColumn getHomeOrAway() {
+        return homeOrAway;
+    }
+
+    /**
+     * The player's eligible FanDuel position
+     *
+     * @return fanDuelPosition column
+     */
+    public DictionaryColumn getFanDuelPosition() {
+        return fanDuelPosition;
+    }
+
+    /**
+     * The player's eligible DraftKings position
+     *
+     * @return draftKingsPosition column
+     */
+    public DictionaryColumn getDraftKingsPosition() {
+        return draftKingsPosition;
+    }
+
+    /**
+     * The player's eligible Yahoo position
+     *
+     * @return yahooPosition column
+     */
+    public DictionaryColumn getYahooPosition() {
+        return yahooPosition;
+    }
+
+    /**
+     * The date and time of the game, as seconds since the epoch
+     *
+     * @return gameInstant column
+     * @see Instant#ofEpochSecond(long)
+     */
+    public LongColumn getGameInstant() {
+        return gameInstant;
+    }
+
+    /**
+     * The timestamp of when the record was last updated, as seconds since the epoch
+     *
+     * @return updatedInstant column
+     * @see Instant#ofEpochSecond(long)
+     */
+    public LongColumn getUpdatedInstant() {
+        return updatedInstant;
+    }
+
+    /**
+     * The rows whose game is over
+     *
+     * @return selection of rows whose game is over
+     */
+    public RowSelection getGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Returns a lightweight view of a single row. The view reads from the columns; it copies nothing.
+     *
+     * @param row row index
+     * @return {@link Row} view of the row
+     */
+    public Row row(final int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+        return new Row(row);
+    }
+
+    /**
+     * Materializes a single row as a {@link PlayerGame}
+     *
+     * @param row row index
+     * @return {@link PlayerGame} equal to the one the row was decoded or copied from
+     */
+    public PlayerGame toPlayerGame(final int row) {
+        final PlayerGame.Builder builder = PlayerGame.newBuilder()
+                .withStatID(statId.get(row))
+                .withTeamID(box(teamId, row))
+                .withGlobalTeamID(box(globalTeamId, row))
+                .withGameID(box(gameId, row))
+                .withGlobalGameID(box(globalGameId, row))
+                .withPlayerID(box(playerId, row))
+                .withSeasonType(box(seasonType, row))
+                .withSeason(box(season, row))
+                .withOpponentID(box(opponentId, row))
+                .withGlobalOpponentID(box(globalOpponentId, row))
+                .withOpponentRank(box(opponentRank, row))
+                .withOpponentPositionRank(box(opponentPositionRank, row))
+                .withGames(box(games, row))
+                .withInjuryStartDate(injuryStartDate.isPresent(row) ? LocalDate.ofEpochDay(injuryStartDate.get(row)) : null)
+                .withName(name.get(row))
+                .withTeam(team.get(row))
+                .withPosition(position.get(row))
+                .withInjuryStatus(injuryStatus.get(row))
+                .withInjuryBodyPart(injuryBodyPart.get(row))
+                .withInjuryNotes(injuryNotes.get(row))
+                .withOpponent(opponent.get(row))
+                .withHomeOrAway(homeOrAway.get(row))
+                .withFanDuelPosition(fanDuelPosition.get(row))
+                .withDraftKingsPosition(draftKingsPosition.get(row))
+                .withYahooPosition(yahooPosition.get(row))
+                .withIsGameOver(gameOver.contains(row));
+        if (gameInstant.isPresent(row)) {
+            builder.withGameInstant(Instant.ofEpochSecond(gameInstant.get(row)));
+        }
+        if (updatedInstant.isPresent(row)) {
+            builder.withUpdatedInstant(Instant.ofEpochSecond(updatedInstant.get(row)));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Materializes every row as a {@link PlayerGame}
+     *
+     * @return list of {@link PlayerGame}s, in row order
+     */
+    public List<PlayerGame> toPlayerGames() {
+        final List<PlayerGame> playerGames = new ArrayList<>(size);
+        for (int row = 0; row < size; row++) {
+            playerGames.add(toPlayerGame(row));
+        }
+        return playerGames;
+    }
+
+    private static Integer box(final IntColumn column, final int row) {
+        return column.isPresent(row) ? column.get(row) : null;
+    }
+
+    /**
+     * A view of a single row of a {@link PlayerGameTable}, with the same accessors as {@link PlayerGame}
+     */
+    public final class Row {
+        private final int row;
+
+        private Row(final int row) {
+            this.row = row;
+        }
+
+        /**
+         * The index of this row in its table
+         *
+         * @return row index
+         */
+        public int getRowIndex() {
+            return row;
+        }
+
+        /**
+         * The unique ID of the stat
+         *
+         * @return the unique ID of the stat
+         */
+        public int getStatId() {
+            return statId.get(row);
+        }
+
+        /**
+         * Whether the ID of the team is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasTeamId() {
+            return teamId.isPresent(row);
+        }
+
+        /**
+         * The ID of the team. Check {@link #hasTeamId()} first.
+         *
+         * @return the ID of the team
+         * @throws NoSuchElementException if not present
+         */
+        public int getTeamIdAsInt() {
+            return teamId.get(row);
+        }
+
+        /**
+         * Whether the unique ID of the team is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasGlobalTeamId() {
+            return globalTeamId.isPresent(row);
+        }
+
+        /**
+         * The unique ID of the team. Check {@link #hasGlobalTeamId()} first.
+         *
+         * @return the unique ID of the team
+         * @throws NoSuchElementException if not present
+         */
+        public int getGlobalTeamIdAsInt() {
+            return globalTeamId.get(row);
+        }
+
+        /**
+         * Whether the unique ID of the game is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasGameId() {
+            return gameId.isPresent(row);
+        }
+
+        /**
+         * The unique ID of the game. Check {@link #hasGameId()} first.
+         *
+         * @return the unique ID of the game
+         * @throws NoSuchElementException if not present
+         */
+        public int getGameIdAsInt() {
+            return gameId.get(row);
+        }
+
+        /**
+         * Whether the globally unique ID of the game is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasGlobalGameId() {
+            return globalGameId.isPresent(row);
+        }
+
+        /**
+         * The globally unique ID of the game. Check {@link #hasGlobalGameId()} first.
+         *
+         * @return the globally unique ID of the game
+         * @throws NoSuchElementException if not present
+         */
+        public int getGlobalGameIdAsInt() {
+            return globalGameId.get(row);
+        }
+
+        /**
+         * Whether the unique ID of the player is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasPlayerId() {
+            return playerId.isPresent(row);
+        }
+
+        /**
+         * The unique ID of the player. Check {@link #hasPlayerId()} first.
+         *
+         * @return the unique ID of the player
+         * @throws NoSuchElementException if not present
+         */
+        public int getPlayerIdAsInt() {
+            return playerId.get(row);
+        }
+
+        /**
+         * Whether the type of season (1=Regular Season, 2=Preseason, 3=Postseason, 4=Offseason, 5=AllStar) is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasSeasonType() {
+            return seasonType.isPresent(row);
+        }
+
+        /**
+         * The type of season (1=Regular Season, 2=Preseason, 3=Postseason, 4=Offseason, 5=AllStar). Check {@link #hasSeasonType()} first.
+         *
+         * @return the type of season (1=Regular Season, 2=Preseason, 3=Postseason, 4=Offseason, 5=AllStar)
+         * @throws NoSuchElementException if not present
+         */
+        public int getSeasonTypeAsInt() {
+            return seasonType.get(row);
+        }
+
+        /**
+         * Whether the college basketball season of the game is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasSeason() {
+            return season.isPresent(row);
+        }
+
+        /**
+         * The college basketball season of the game. Check {@link #hasSeason()} first.
+         *
+         * @return the college basketball season of the game
+         * @throws NoSuchElementException if not present
+         */
+        public int getSeasonAsInt() {
+            return season.get(row);
+        }
+
+        /**
+         * Whether the unique ID of the team's opponent is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasOpponentId() {
+            return opponentId.isPresent(row);
+        }
+
+        /**
+         * The unique ID of the team's opponent. Check {@link #hasOpponentId()} first.
+         *
+         * @return the unique ID of the team's opponent
+         * @throws NoSuchElementException if not present
+         */
+        public int getOpponentIdAsInt() {
+            return opponentId.get(row);
+        }
+
+        /**
+         * Whether the globally unique ID of the team's opponent is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasGlobalOpponentId() {
+            return globalOpponentId.isPresent(row);
+        }
+
+        /**
+         * The globally unique ID of the team's opponent. Check {@link #hasGlobalOpponentId()} first.
+         *
+         * @return the globally unique ID of the team's opponent
+         * @throws NoSuchElementException if not present
+         */
+        public int getGlobalOpponentIdAsInt() {
+            return globalOpponentId.get(row);
+        }
+
+        /**
+         * Whether the ranking of the player's opponent with regards to fantasy points allowed is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasOpponentRank() {
+            return opponentRank.isPresent(row);
+        }
+
+        /**
+         * The ranking of the player's opponent with regards to fantasy points allowed. Check {@link #hasOpponentRank()} first.
+         *
+         * @return the ranking of the player's opponent with regards to fantasy points allowed
+         * @throws NoSuchElementException if not present
+         */
+        public int getOpponentRankAsInt() {
+            return opponentRank.get(row);
+        }
+
+        /**
+         * Whether the ranking of the player's opponent by position with regards to fantasy points allowed is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasOpponentPositionRank() {
+            return opponentPositionRank.isPresent(row);
+        }
+
+        /**
+         * The ranking of the player's opponent by position with regards to fantasy points allowed. Check {@link #hasOpponentPositionRank()} first.
+         *
+         * @return the ranking of the player's opponent by position with regards to fantasy points allowed
+         * @throws NoSuchElementException if not present
+         */
+        public int getOpponentPositionRankAsInt() {
+            return opponentPositionRank.get(row);
+        }
+
+        /**
+         * Whether the number of games played is present
+         *
+         * @return true if present, false otherwise
+         */
+        public boolean hasGames() {
+            return games.isPresent(row);
+        }
+
+        /**
+         * The number of games played. Check {@link #hasGames()} first.
+         *
+         * @return the number of games played
+         * @throws NoSuchElementException if not present
+         */
+        public int getGamesAsInt() {
+            return games.get(row);
+        }
+
+        /**
+         * The day that the injury started or first discovered.
+         *
+         * @return the day that the injury started or first discovered.
+         */
+        public Optional<LocalDate> getInjuryStartDate() {
+            return injuryStartDate.isPresent(row)
+                    ? Optional.of(LocalDate.ofEpochDay(injuryStartDate.get(row)))
+                    : Optional.empty();
+        }
+
+        /**
+         * The player's name
+         *
+         * @return the player's name
+         */
+        public Optional<String> getName() {
+            return Optional.ofNullable(name.get(row));
+        }
+
+        /**
+         * The abbreviation of the team
+         *
+         * @return the abbreviation of the team
+         */
+        public Optional<String> getTeam() {
+            return Optional.ofNullable(team.get(row));
+        }
+
+        /**
+         * The player's position
+         *
+         * @return the player's position
+         */
+        public Optional<String> getPosition() {
+            return Optional.ofNullable(position.get(row));
+        }
+
+        /**
+         * The player's injury status
+         *
+         * @return the player's injury status
+         */
+        public Optional<String> getInjuryStatus() {
+            return Optional.ofNullable(injuryStatus.get(row));
+        }
+
+        /**
+         * The body part that is injured
+         *
+         * @return the body part that is injured
+         */
+        public Optional<String> getInjuryBodyPart() {
+            return Optional.ofNullable(injuryBodyPart.get(row));
+        }
+
+        /**
+         * The brief description of the player's injury
+         *
+         * @return the brief description of the player's injury
+         */
+        public Optional<String> getInjuryNotes() {
+            return Optional.ofNullable(injuryNotes.get(row));
+        }
+
+        /**
+         * The name of the opponent
+         *
+         * @return the name of the opponent
+         */
+        public Optional<String> getOpponent() {
+            return Optional.ofNullable(opponent.get(row));
+        }
+
+        /**
+         * Whether the team is home or away
+         *
+         * @return whether the team is home or away
+         */
+        public Optional<String> getHomeOrAway() {
+            return Optional.ofNullable(homeOrAway.get(row));
+        }
+
+        /**
+         * The player's eligible FanDuel position
+         *
+         * @return the player's eligible FanDuel position
+         */
+        public Optional<String> getFanDuelPosition() {
+            return Optional.ofNullable(fanDuelPosition.get(row));
+        }
+
+        /**
+         * The player's eligible DraftKings position
+         *
+         * @return the player's eligible DraftKings position
+         */
+        public Optional<String> getDraftKingsPosition() {
+            return Optional.ofNullable(draftKingsPosition.get(row));
+        }
+
+        /**
+         * The player's eligible Yahoo position
+         *
+         * @return the player's eligible Yahoo position
+         */
+        public Optional<String> getYahooPosition() {
+            return Optional.ofNullable(yahooPosition.get(row));
+        }
+
+        /**
+         * The date and time of the game
+         *
+         * @return the date and time of the game
+         */
+        public Optional<Instant> getGameInstant() {
+            return gameInstant.isPresent(row) ? Optional.of(Instant.ofEpochSecond(gameInstant.get(row))) : Optional.empty();
+        }
+
+        /**
+         * The timestamp of when the record was last updated
+         *
+         * @return the timestamp of when the record was last updated
+         */
+        public Optional<Instant> getUpdatedInstant() {
+            return updatedInstant.isPresent(row) ? Optional.of(Instant.ofEpochSecond(updatedInstant.get(row))) : Optional.empty();
+        }
+
+        /**
+         * Whether the game is over
+         *
+         * @return true if the game is over, false otherwise
+         */
+        public boolean isGameOver() {
+            return gameOver.contains(row);
+        }
+
+        /**
+         * Materializes this row as a {@link PlayerGame}
+         *
+         * @return {@link PlayerGame} for this row
+         */
+        public PlayerGame toPlayerGame() {
+            return PlayerGameTable.this.toPlayerGame(row);
+        }
+    }
+
+    /**
+     * Appends rows to the columns of a table. Each row is appended null and then its fields are set.
+     */
+    static final class Builder {
+        final IntColumn.Builder statId;
+        final IntColumn.Builder teamId;
+        final IntColumn.Builder globalTeamId;
+        final IntColumn.Builder gameId;
+        final IntColumn.Builder globalGameId;
+        final IntColumn.Builder playerId;
+        final IntColumn.Builder seasonType;
+        final IntColumn.Builder season;
+        final IntColumn.Builder opponentId;
+        final IntColumn.Builder globalOpponentId;
+        final IntColumn.Builder opponentRank;
+        final IntColumn.Builder opponentPositionRank;
+        final IntColumn.Builder games;
+        final IntColumn.Builder injuryStartDate;
+        final DictionaryColumn.Builder name;
+        final DictionaryColumn.Builder team;
+        final DictionaryColumn.Builder position;
+        final DictionaryColumn.Builder injuryStatus;
+        final DictionaryColumn.Builder injuryBodyPart;
+        final DictionaryColumn.Builder injuryNotes;
+        final DictionaryColumn.Builder opponent;
+        final DictionaryColumn.Builder homeOrAway;
+        final DictionaryColumn.Builder fanDuelPosition;
+        final DictionaryColumn.Builder draftKingsPosition;
+        final DictionaryColumn.Builder yahooPosition;
+        final LongColumn.Builder gameInstant;
+        final LongColumn.Builder updatedInstant;
+        private long[] gameOver;
+        private int size;
+
+        private Builder(final int capacity) {
+            statId = IntColumn.newBuilder(capacity);
+            teamId = IntColumn.newBuilder(capacity);
+            globalTeamId = IntColumn.newBuilder(capacity);
+            gameId = IntColumn.newBuilder(capacity);
+            globalGameId = IntColumn.newBuilder(capacity);
+            playerId = IntColumn.newBuilder(capacity);
+            seasonType = IntColumn.newBuilder(capacity);
+            season = IntColumn.newBuilder(capacity);
+            opponentId = IntColumn.newBuilder(capacity);
+            globalOpponentId = IntColumn.newBuilder(capacity);
+            opponentRank = IntColumn.newBuilder(capacity);
+            opponentPositionRank = IntColumn.newBuilder(capacity);
+            games = IntColumn.newBuilder(capacity);
+            injuryStartDate = IntColumn.newBuilder(capacity);
+            name = DictionaryColumn.newBuilder(capacity);
+            team = DictionaryColumn.newBuilder(capacity);
+            position = DictionaryColumn.newBuilder(capacity);
+            injuryStatus = DictionaryColumn.newBuilder(capacity);
+            injuryBodyPart = DictionaryColumn.newBuilder(capacity);
+            injuryNotes = DictionaryColumn.newBuilder(capacity);
+            opponent = DictionaryColumn.newBuilder(capacity);
+            homeOrAway = DictionaryColumn.newBuilder(capacity);
+            fanDuelPosition = DictionaryColumn.newBuilder(capacity);
+            draftKingsPosition = DictionaryColumn.newBuilder(capacity);
+            yahooPosition = DictionaryColumn.newBuilder(capacity);
+            gameInstant = LongColumn.newBuilder(capacity);
+            updatedInstant = LongColumn.newBuilder(capacity);
+            gameOver = new long[RowSelection.wordCount(Math.max(capacity, 16))];
+        }
+
+        int newRow() {
+            statId.appendNull();
+            teamId.appendNull();
+            globalTeamId.appendNull();
+            gameId.appendNull();
+            globalGameId.appendNull();
+            playerId.appendNull();
+            seasonType.appendNull();
+            season.appendNull();
+            opponentId.appendNull();
+            globalOpponentId.appendNull();
+            opponentRank.appendNull();
+            opponentPositionRank.appendNull();
+            games.appendNull();
+            injuryStartDate.appendNull();
+            name.appendNull();
+            team.appendNull();
+            position.appendNull();
+            injuryStatus.appendNull();
+            injuryBodyPart.appendNull();
+            injuryNotes.appendNull();
+            opponent.appendNull();
+            homeOrAway.appendNull();
+            fanDuelPosition.appendNull();
+            draftKingsPosition.appendNull();
+            yahooPosition.appendNull();
+            gameInstant.appendNull();
+            updatedInstant.appendNull();
+            if (RowSelection.wordCount(size + 1) > gameOver.length) {
+                gameOver = Arrays.copyOf(gameOver, gameOver.length * 2);
+            }
+            return size++;
+        }
+
+        void setGameOver(final int row, final boolean val) {
+            if (val) {
+                gameOver[row >>> 6] |= 1L << row;
+            } else {
+                gameOver[row >>> 6] &= ~(1L << row);
+            }
+        }
+
+        PlayerGameTable build() {
+            for (int row = 0; row < size; row++) {
+                if (!statId.isPresent(row)) {
+                    throw new NullPointerException("Stat ID is not nullable");
+                }
+            }
+            return new PlayerGameTable(this);
+        }
+    }
+}
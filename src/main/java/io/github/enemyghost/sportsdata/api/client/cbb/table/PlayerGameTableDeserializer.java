@@ -0,0 +1,157 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGameField;
+import io.github.enemyghost.sportsdata.api.client.util.SportsDataTimeCodec;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Streams a json array of player games straight into the columns of a {@link PlayerGameTable}, without creating a
+ * {@link io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame} or any boxed values per row. Properties
+ * which {@link io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame} ignores are skipped, as are those
+ * outside the set of {@link PlayerGameField}s in the context attribute keyed by {@code PlayerGameField.class}, if any.
+ *
+ * @author enemyghost
+ */
+final class PlayerGameTableDeserializer extends StdDeserializer<PlayerGameTable> {
+    private static final long serialVersionUID = 1L;
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    PlayerGameTableDeserializer() {
+        super(PlayerGameTable.class);
+    }
+
+    @Override
+    public PlayerGameTable deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        if (!p.isExpectedStartArrayToken()) {
+            return (PlayerGameTable) ctxt.handleUnexpectedToken(PlayerGameTable.class, p);
+        }
+        @SuppressWarnings("unchecked")
+        final Set<PlayerGameField> fields = (Set<PlayerGameField>) ctxt.getAttribute(PlayerGameField.class);
+        final PlayerGameTable.Builder builder = PlayerGameTable.newBuilder(INITIAL_CAPACITY);
+        JsonToken token;
+        while ((token = p.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                return (PlayerGameTable) ctxt.handleUnexpectedToken(PlayerGameTable.class, p);
+            }
+            readRow(p, fields, builder, builder.newRow());
+        }
+        return builder.build();
+    }
+
+    private static void readRow(final JsonParser p,
+                                final Set<PlayerGameField> fields,
+                                final PlayerGameTable.Builder builder,
+                                final int row) throws IOException {
+        String name;
+        while ((name = p.nextFieldName()) != null) {
+            if (p.nextToken() == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            final PlayerGameField field = PlayerGameField.forJsonName(name);
+            if (field == null || fields != null && !fields.contains(field)) {
+                p.skipChildren();
+                continue;
+            }
+            switch (field) {
+                case STAT_ID:
+                    builder.statId.set(row, p.getValueAsInt());
+                    break;
+                case TEAM_ID:
+                    builder.teamId.set(row, p.getValueAsInt());
+                    break;
+                case GLOBAL_TEAM_ID:
+                    builder.globalTeamId.set(row, p.getValueAsInt());
+                    break;
+                case GAME_ID:
+                    builder.gameId.set(row, p.getValueAsInt());
+                    break;
+                case GLOBAL_GAME_ID:
+                    builder.globalGameId.set(row, p.getValueAsInt());
+                    break;
+                case PLAYER_ID:
+                    builder.playerId.set(row, p.getValueAsInt());
+                    break;
+                case SEASON_TYPE:
+                    builder.seasonType.set(row, p.getValueAsInt());
+                    break;
+                case SEASON:
+                    builder.season.set(row, p.getValueAsInt());
+                    break;
+                case OPPONENT_ID:
+                    builder.opponentId.set(row, p.getValueAsInt());
+                    break;
+                case GLOBAL_OPPONENT_ID:
+                    builder.globalOpponentId.set(row, p.getValueAsInt());
+                    break;
+                case OPPONENT_RANK:
+                    builder.opponentRank.set(row, p.getValueAsInt());
+                    break;
+                case OPPONENT_POSITION_RANK:
+                    builder.opponentPositionRank.set(row, p.getValueAsInt());
+                    break;
+                case GAMES:
+                    builder.games.set(row, p.getValueAsInt());
+                    break;
+                case NAME:
+                    builder.name.set(row, p.getText());
+                    break;
+                case TEAM:
+                    builder.team.set(row, p.getText());
+                    break;
+                case POSITION:
+                    builder.position.set(row, p.getText());
+                    break;
+                case INJURY_STATUS:
+                    builder.injuryStatus.set(row, p.getText());
+                    break;
+                case INJURY_BODY_PART:
+                    builder.injuryBodyPart.set(row, p.getText());
+                    break;
+                case INJURY_NOTES:
+                    builder.injuryNotes.set(row, p.getText());
+                    break;
+                case OPPONENT:
+                    builder.opponent.set(row, p.getText());
+                    break;
+                case HOME_OR_AWAY:
+                    builder.homeOrAway.set(row, p.getText());
+                    break;
+                case FAN_DUEL_POSITION:
+                    builder.fanDuelPosition.set(row, p.getText());
+                    break;
+                case DRAFT_KINGS_POSITION:
+                    builder.draftKingsPosition.set(row, p.getText());
+                    break;
+                case YAHOO_POSITION:
+                    builder.yahooPosition.set(row, p.getText());
+                    break;
+                case INJURY_START_DATE:
+                    builder.injuryStartDate.set(row, (int) SportsDataTimeCodec.parseEpochDay(
+                            p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
+                    break;
+                case DATE_TIME:
+                    builder.gameInstant.set(row, toEpochSecond(p));
+                    break;
+                case UPDATED:
+                    builder.updatedInstant.set(row, toEpochSecond(p));
+                    break;
+                case IS_GAME_OVER:
+                    builder.setGameOver(row, p.getValueAsBoolean());
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
+    }
+
+    private static long toEpochSecond(final JsonParser p) throws IOException {
+        return SportsDataTimeCodec.parseEpochSecond(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * Off-heap index from player ID to the rows of that player's games, held in direct buffers like {@link StatIdIndex}.
+ * Each player's rows form a chain, newest row first: an open-addressing table maps the player ID to its newest row,
+ * and a link per row holds the player's next older row. The index costs one {@code int} per row and one {@code long}
+ * per player, and finding a player's rows visits only those rows.
+ * <p>
+ * Each slot is a single {@code long}: the player ID in the high 32 bits and the newest row plus two in the low 32
+ * bits, so that an all-zero slot is empty and a player whose rows were all removed keeps its slot. Each link is the
+ * older row plus one, so that zero ends the chain.
+ *
+ * @author enemyghost
+ */
+final class PlayerIdIndex {
+    private static final int NONE = -1;
+    private static final int MIN_CAPACITY = 1 << 10;
+
+    private LongBuffer slots;
+    private int mask;
+    private int players;
+    private IntBuffer links;
+
+    PlayerIdIndex(final int expectedRows) {
+        allocate(MIN_CAPACITY);
+        links = allocateLinks(Math.max(MIN_CAPACITY, expectedRows));
+    }
+
+    /**
+     * Returns the rows of a player's games
+     *
+     * @param playerId player ID
+     * @return the rows in ascending order, empty if the player has none
+     */
+    int[] rows(final int playerId) {
+        final int slot = find(playerId);
+        if (slot == NONE) {
+            return new int[0];
+        }
+        int count = 0;
+        for (int row = newest(slot); row != NONE; row = older(row)) {
+            count++;
+        }
+        final int[] rows = new int[count];
+        for (int row = newest(slot); row != NONE; row = older(row)) {
+            rows[--count] = row;
+        }
+        return rows;
+    }
+
+    /**
+     * Indexes a row under a player ID; the row must not already be indexed
+     *
+     * @param playerId player ID
+     * @param row      row index
+     */
+    void add(final int playerId, final int row) {
+        if (row >= links.capacity()) {
+            final IntBuffer old = links;
+            links = allocateLinks(Math.max(old.capacity() * 2, row + 1));
+            links.put(old.rewind());
+            links.clear();
+        }
+        int slot = find(playerId);
+        if (slot == NONE) {
+            if ((players + 1) * 2L > slots.capacity()) {
+                resize();
+            }
+            slot = insert(slots, mask, playerId, NONE);
+            players++;
+        }
+        final int newest = newest(slot);
+        if (newest == NONE || row > newest) {
+            link(row, newest);
+            slots.put(slot, entry(playerId, row));
+            return;
+        }
+        // rows are added in ascending order, except when an overwritten row changes player
+        int newer = newest;
+        while (older(newer) > row) {
+            newer = older(newer);
+        }
+        link(row, older(newer));
+        link(newer, row);
+    }
+
+    /**
+     * Removes a row from a player ID's rows
+     *
+     * @param playerId player ID
+     * @param row      row index
+     */
+    void remove(final int playerId, final int row) {
+        final int slot = find(playerId);
+        if (slot == NONE) {
+            return;
+        }
+        final int newest = newest(slot);
+        if (newest == row) {
+            slots.put(slot, entry(playerId, older(row)));
+        } else {
+            for (int newer = newest; newer != NONE; newer = older(newer)) {
+                if (older(newer) == row) {
+                    link(newer, older(row));
+                    break;
+                }
+            }
+        }
+        link(row, NONE);
+    }
+
+    private int find(final int playerId) {
+        for (int i = hash(playerId) & mask; ; i = (i + 1) & mask) {
+            final long slot = slots.get(i);
+            if (slot == 0) {
+                return NONE;
+            } else if ((int) (slot >>> 32) == playerId) {
+                return i;
+            }
+        }
+    }
+
+    private int newest(final int slot) {
+        return (int) slots.get(slot) - 2;
+    }
+
+    private int older(final int row) {
+        return links.get(row) - 1;
+    }
+
+    private void link(final int row, final int older) {
+        links.put(row, older + 1);
+    }
+
+    private void resize() {
+        final LongBuffer old = slots;
+        allocate(old.capacity() * 2);
+        for (int i = 0; i < old.capacity(); i++) {
+            final long slot = old.get(i);
+            if (slot != 0) {
+                insert(slots, mask, (int) (slot >>> 32), (int) slot - 2);
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        slots = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+        mask = capacity - 1;
+    }
+
+    private static IntBuffer allocateLinks(final int capacity) {
+        return ByteBuffer.allocateDirect(capacity * Integer.BYTES).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    private static int insert(final LongBuffer slots, final int mask, final int playerId, final int newest) {
+        for (int i = hash(playerId) & mask; ; i = (i + 1) & mask) {
+            if (slots.get(i) == 0) {
+                slots.put(i, entry(playerId, newest));
+                return i;
+            }
+        }
+    }
+
+    private static long entry(final int playerId, final int newest) {
+        return ((long) playerId << 32) | ((newest + 2) & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Player IDs are sequential, so spread them before masking to avoid long probe runs
+     */
+    private static int hash(final int playerId) {
+        final int h = playerId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable set of row indexes in a table, stored as a bitmap with one bit per row. Selections are produced by
+ * column scans and combined with {@link #and(RowSelection)} and {@link #or(RowSelection)} to express filters over
+ * several columns.
+ *
+ * @author enemyghost
+ */
+public final class RowSelection {
+    private final long[] words;
+    private final int size;
+
+    RowSelection(final long[] words, final int size) {
+        this.words = words;
+        this.size = size;
+    }
+
+    /**
+     * Selects every row of a table
+     *
+     * @param size number of rows in the table
+     * @return selection of every row
+     */
+    public static RowSelection all(final int size) {
+        checkArgument(size >= 0, "Negative size");
+        final long[] words = new long[wordCount(size)];
+        Arrays.fill(words, -1L);
+        if ((size & 63) != 0) {
+            words[words.length - 1] = -1L >>> (64 - (size & 63));
+        }
+        return new RowSelection(words, size);
+    }
+
+    /**
+     * Number of rows in the table this selection is over
+     *
+     * @return number of rows in the table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Number of rows selected
+     *
+     * @return number of rows selected
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (final long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Whether the given row is selected
+     *
+     * @param row row index
+     * @return true if the row is selected, false otherwise
+     */
+    public boolean contains(final int row) {
+        return (words[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Rows selected by both this and the other selection
+     *
+     * @param other selection over the same table
+     * @return intersection of the two selections
+     */
+    public RowSelection and(final RowSelection other) {
+        checkSameTable(other);
+        final long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] & other.words[i];
+        }
+        return new RowSelection(result, size);
+    }
+
+    /**
+     * Rows selected by either this or the other selection
+     *
+     * @param other selection over the same table
+     * @return union of the two selections
+     */
+    public RowSelection or(final RowSelection other) {
+        checkSameTable(other);
+        final long[] result = new long[words.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = words[i] | other.words[i];
+        }
+        return new RowSelection(result, size);
+    }
+
+    /**
+     * Calls the consumer with each selected row index, in ascending order
+     *
+     * @param consumer row index consumer
+     */
+    public void forEach(final IntConsumer consumer) {
+        requireNonNull(consumer, "Null consumer");
+        for (int i = 0; i < words.length; i++) {
+            long word = words[i];
+            while (word != 0) {
+                consumer.accept((i << 6) + Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    long word(final int index) {
+        return words[index];
+    }
+
+    static int wordCount(final int size) {
+        return (size + 63) >>> 6;
+    }
+
+    private void checkSameTable(final RowSelection other) {
+        checkArgument(requireNonNull(other, "Null selection").size == size, "Selections are over different tables");
+    }
+}
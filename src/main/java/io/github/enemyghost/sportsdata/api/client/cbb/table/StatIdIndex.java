@@ -0,0 +1,104 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * Off-heap open-addressing hash index from stat ID to row, held in a direct buffer so that it adds nothing to the
+ * heap however many rows are indexed. Each slot is a single {@code long}: the stat ID in the high 32 bits and the row
+ * plus one in the low 32 bits, so that an all-zero slot is empty.
+ *
+ * @author enemyghost
+ */
+final class StatIdIndex {
+    static final int ABSENT = -1;
+
+    private static final int MIN_CAPACITY = 1 << 10;
+
+    private LongBuffer slots;
+    private int mask;
+    private int size;
+
+    StatIdIndex(final int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the row of a stat ID
+     *
+     * @param statId stat ID
+     * @return the row, or {@link #ABSENT} if the stat ID is not indexed
+     */
+    int get(final int statId) {
+        for (int i = hash(statId) & mask; ; i = (i + 1) & mask) {
+            final long slot = slots.get(i);
+            if (slot == 0) {
+                return ABSENT;
+            } else if ((int) (slot >>> 32) == statId) {
+                return (int) slot - 1;
+            }
+        }
+    }
+
+    /**
+     * Indexes a stat ID at a row, replacing any existing row for it
+     *
+     * @param statId stat ID
+     * @param row    row index
+     */
+    void put(final int statId, final int row) {
+        if ((size + 1) * 2L > slots.capacity()) {
+            resize();
+        }
+        if (insert(slots, mask, statId, row)) {
+            size++;
+        }
+    }
+
+    private void resize() {
+        final LongBuffer old = slots;
+        allocate(old.capacity() * 2);
+        for (int i = 0; i < old.capacity(); i++) {
+            final long slot = old.get(i);
+            if (slot != 0) {
+                insert(slots, mask, (int) (slot >>> 32), (int) slot - 1);
+            }
+        }
+    }
+
+    private void allocate(final int capacity) {
+        slots = ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer();
+        mask = capacity - 1;
+    }
+
+    private static boolean insert(final LongBuffer slots, final int mask, final int statId, final int row) {
+        final long entry = ((long) statId << 32) | ((row + 1) & 0xFFFFFFFFL);
+        for (int i = hash(statId) & mask; ; i = (i + 1) & mask) {
+            final long slot = slots.get(i);
+            if (slot == 0) {
+                slots.put(i, entry);
+                return true;
+            } else if ((int) (slot >>> 32) == statId) {
+                slots.put(i, entry);
+                return false;
+            }
+        }
+    }
+
+    private static int capacityFor(final int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2L) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    /**
+     * Stat IDs are sequential, so spread them before masking to avoid long probe runs
+     */
+    private static int hash(final int statId) {
+        final int h = statId * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
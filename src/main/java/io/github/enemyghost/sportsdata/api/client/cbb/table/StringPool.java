@@ -0,0 +1,118 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An append-only, file-backed dictionary of strings. Each distinct string is written once, as a length-prefixed UTF-8
+ * entry, and identified by its code: the index of its entry, counting from 0 in the order the entries were written,
+ * not its byte offset in the file. The dictionary is read back into memory when opened, so memory use grows with the
+ * number of distinct strings, not with the number of rows that refer to them.
+ *
+ * @author enemyghost
+ */
+final class StringPool implements Closeable {
+    static final int NULL_CODE = -1;
+
+    private final FileChannel channel;
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+
+    private StringPool(final FileChannel channel) {
+        this.channel = channel;
+    }
+
+    static StringPool open(final Path file) throws IOException {
+        final FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final StringPool pool = new StringPool(channel);
+        final ByteBuffer length = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        final long size = channel.size();
+        long position = 0;
+        while (position + Integer.BYTES <= size) {
+            length.clear();
+            readFully(channel, length, position);
+            if (position + Integer.BYTES + length.getInt(0) > size) {
+                break;
+            }
+            final ByteBuffer bytes = ByteBuffer.allocate(length.getInt(0));
+            readFully(channel, bytes, position + Integer.BYTES);
+            pool.add(new String(bytes.array(), StandardCharsets.UTF_8));
+            position += Integer.BYTES + bytes.capacity();
+        }
+        // drop a partially written trailing entry
+        channel.truncate(position);
+        channel.position(position);
+        return pool;
+    }
+
+    /**
+     * Returns the code of a string, adding it to the pool if it is not already present
+     *
+     * @param value string, may be null
+     * @return the string's code, or {@link #NULL_CODE} if it is null
+     * @throws IOException if the string cannot be written
+     */
+    int codeOf(final String value) throws IOException {
+        if (value == null) {
+            return NULL_CODE;
+        }
+        final Integer code = codes.get(value);
+        if (code != null) {
+            return code;
+        }
+        final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer entry = ByteBuffer.allocate(Integer.BYTES + utf8.length).order(ByteOrder.LITTLE_ENDIAN);
+        entry.putInt(utf8.length).put(utf8).flip();
+        while (entry.hasRemaining()) {
+            channel.write(entry);
+        }
+        return add(value);
+    }
+
+    /**
+     * Returns the string with the given code
+     *
+     * @param code string code
+     * @return the string, or null if the code is {@link #NULL_CODE}
+     */
+    String get(final int code) {
+        return code == NULL_CODE ? null : strings.get(code);
+    }
+
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int add(final String value) {
+        final int code = strings.size();
+        strings.add(value);
+        codes.put(value, code);
+        return code;
+    }
+
+    private static void readFully(final FileChannel channel,
+                                  final ByteBuffer buffer,
+                                  final long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of string pool");
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Reads the compact binary encoding written by {@link BinaryWriter} from a {@link ByteBuffer}, which may be a heap,
+ * direct or memory-mapped buffer.
+ * <p>
+ * String references are resolved against a string table, read with {@link #readStringTable()} and installed with
+ * {@link #withStrings(String[])}. Instances are not thread-safe.
+ *
+ * @author enemyghost
+ */
+public final class BinaryReader {
+    private static final String[] NO_STRINGS = new String[0];
+
+    private final ByteBuffer buffer;
+    private String[] strings = NO_STRINGS;
+    private byte[] scratch = new byte[64];
+
+    public BinaryReader(final ByteBuffer buffer) {
+        this.buffer = requireNonNull(buffer, "Null buffer");
+    }
+
+    public BinaryReader(final byte[] bytes) {
+        this(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * Resolves string references against the given table
+     *
+     * @param val string table, indexed by reference minus one
+     * @return this reader
+     */
+    public BinaryReader withStrings(final String[] val) {
+        strings = requireNonNull(val, "Null strings");
+        return this;
+    }
+
+    /**
+     * Whether there are bytes left to read
+     *
+     * @return true if there are bytes left to read, false otherwise
+     */
+    public boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    public int position() {
+        return buffer.position();
+    }
+
+    public int readByte() {
+        return buffer.get() & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    public int readUnsignedVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final int b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint at position " + buffer.position());
+    }
+
+    public int readVarInt() {
+        final int zigZag = readUnsignedVarInt();
+        return (zigZag >>> 1) ^ -(zigZag & 1);
+    }
+
+    public long readVarLong() {
+        long zigZag = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            final int b = buffer.get();
+            zigZag |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IllegalStateException("Malformed varint at position " + buffer.position());
+    }
+
+    /**
+     * Reads a string reference written by {@link BinaryWriter#writeString(String)}
+     *
+     * @return the referenced string, or null
+     */
+    public String readString() {
+        final int reference = readUnsignedVarInt();
+        return reference == 0 ? null : strings[reference - 1];
+    }
+
+    /**
+     * Reads an inline string written by {@link BinaryWriter#writeUtf8(String)}
+     *
+     * @return the string
+     */
+    public String readUtf8() {
+        final int length = readUnsignedVarInt();
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a string table written by {@link BinaryWriter#writeStringTable(BinaryWriter)}
+     *
+     * @return the string table
+     */
+    public String[] readStringTable() {
+        final String[] table = new String[readUnsignedVarInt()];
+        for (int i = 0; i < table.length; i++) {
+            table[i] = readUtf8();
+        }
+        return table;
+    }
+
+    @Override
+    public String toString() {
+        return "BinaryReader[position=" + buffer.position() + ", limit=" + buffer.limit()
+                + ", strings=" + strings.length + "]";
+    }
+}
@@ -0,0 +1,196 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the compact binary encoding read by {@link BinaryReader} into a growable byte array.
+ * <p>
+ * Integers are written as LEB128 varints, zig-zag encoded when signed, so small values take one byte. Strings written
+ * with {@link #writeString(String)} are interned into this writer's string table and written as a varint reference to
+ * it, so a string repeated across many entities is stored once; the table itself must be written ahead of the
+ * references, e.g. with {@link #writeStringTable(BinaryWriter)}.
+ * <p>
+ * Instances are not thread-safe. Call {@link #reset()} to reuse a writer and its buffer.
+ *
+ * @author enemyghost
+ */
+public final class BinaryWriter {
+    private final Map<String, Integer> stringCodes = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private byte[] buffer;
+    private int size;
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(final int initialCapacity) {
+        buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    /**
+     * Number of bytes written
+     *
+     * @return number of bytes written
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Strings interned by {@link #writeString(String)}, in reference order
+     *
+     * @return unmodifiable list of interned strings
+     */
+    public List<String> getStrings() {
+        return Collections.unmodifiableList(strings);
+    }
+
+    /**
+     * Discards the written bytes and the string table, keeping the allocated buffer
+     */
+    public void reset() {
+        size = 0;
+        strings.clear();
+        stringCodes.clear();
+    }
+
+    /**
+     * Copies the written bytes
+     *
+     * @return the written bytes
+     */
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, size);
+    }
+
+    public BinaryWriter writeByte(final int value) {
+        ensureCapacity(1);
+        buffer[size++] = (byte) value;
+        return this;
+    }
+
+    public BinaryWriter writeBoolean(final boolean value) {
+        return writeByte(value ? 1 : 0);
+    }
+
+    /**
+     * Writes a non-negative int as an unsigned varint, e.g. a count or a length
+     *
+     * @param value non-negative value
+     * @return this writer
+     */
+    public BinaryWriter writeUnsignedVarInt(final int value) {
+        ensureCapacity(5);
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            buffer[size++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        buffer[size++] = (byte) remaining;
+        return this;
+    }
+
+    /**
+     * Writes an int as a zig-zag encoded varint, so that small negative values are also short
+     *
+     * @param value value
+     * @return this writer
+     */
+    public BinaryWriter writeVarInt(final int value) {
+        return writeUnsignedVarInt((value << 1) ^ (value >> 31));
+    }
+
+    /**
+     * Writes a long as a zig-zag encoded varint
+     *
+     * @param value value
+     * @return this writer
+     */
+    public BinaryWriter writeVarLong(final long value) {
+        ensureCapacity(10);
+        long remaining = (value << 1) ^ (value >> 63);
+        while ((remaining & ~0x7FL) != 0) {
+            buffer[size++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        buffer[size++] = (byte) remaining;
+        return this;
+    }
+
+    /**
+     * Writes a string as a reference into this writer's string table, interning it on first use
+     *
+     * @param value string, may be null
+     * @return this writer
+     */
+    public BinaryWriter writeString(final String value) {
+        if (value == null) {
+            return writeUnsignedVarInt(0);
+        }
+        Integer code = stringCodes.get(value);
+        if (code == null) {
+            code = strings.size();
+            strings.add(value);
+            stringCodes.put(value, code);
+        }
+        return writeUnsignedVarInt(code + 1);
+    }
+
+    /**
+     * Writes a string inline, as a varint length and its UTF-8 bytes
+     *
+     * @param value non-null string
+     * @return this writer
+     */
+    public BinaryWriter writeUtf8(final String value) {
+        final byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeUnsignedVarInt(utf8.length);
+        return writeBytes(utf8, 0, utf8.length);
+    }
+
+    public BinaryWriter writeBytes(final byte[] bytes, final int offset, final int length) {
+        ensureCapacity(length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+        return this;
+    }
+
+    /**
+     * Writes this writer's string table inline to another writer, in the form read by
+     * {@link BinaryReader#readStringTable()}
+     *
+     * @param out writer to write the table to
+     * @return {@code out}
+     */
+    public BinaryWriter writeStringTable(final BinaryWriter out) {
+        out.writeUnsignedVarInt(strings.size());
+        for (final String string : strings) {
+            out.writeUtf8(string);
+        }
+        return out;
+    }
+
+    /**
+     * Appends the bytes written to another writer. String references are copied as-is, so the other writer's string
+     * table must not be used by the appended bytes.
+     *
+     * @param other writer whose bytes to append
+     * @return this writer
+     */
+    public BinaryWriter writeBytes(final BinaryWriter other) {
+        return writeBytes(other.buffer, 0, other.size);
+    }
+
+    private void ensureCapacity(final int bytes) {
+        if (size + bytes > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + bytes));
+        }
+    }
+}
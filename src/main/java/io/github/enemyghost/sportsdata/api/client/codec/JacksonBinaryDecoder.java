@@ -0,0 +1,57 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import feign.Response;
+import feign.Util;
+import feign.codec.Decoder;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Feign {@link Decoder} that reads response bodies with a binary Jackson {@link ObjectMapper}, such as
+ * {@link io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton#SMILE_INSTANCE}. Behaves like feign's
+ * {@code JacksonDecoder}, but reads the body as bytes rather than through a character {@code Reader}, which corrupts
+ * binary formats.
+ *
+ * @author enemyghost
+ */
+public final class JacksonBinaryDecoder implements Decoder {
+    private final ObjectMapper mapper;
+
+    public JacksonBinaryDecoder(final ObjectMapper mapper) {
+        this.mapper = requireNonNull(mapper, "Null mapper");
+    }
+
+    @Override
+    public Object decode(final Response response, final Type type) throws IOException {
+        if (response.status() == 404 || response.status() == 204) {
+            return Util.emptyValueOf(type);
+        }
+        if (response.body() == null) {
+            return null;
+        }
+        InputStream body = response.body().asInputStream();
+        if (!body.markSupported()) {
+            body = new BufferedInputStream(body);
+        }
+        try {
+            body.mark(1);
+            if (body.read() == -1) {
+                return null;
+            }
+            body.reset();
+            return mapper.readValue(body, mapper.constructType(type));
+        } catch (final RuntimeJsonMappingException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.codec.EncodeException;
+import feign.codec.Encoder;
+
+import java.lang.reflect.Type;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Feign {@link Encoder} that writes request bodies with a binary Jackson {@link ObjectMapper}, such as
+ * {@link io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton#SMILE_INSTANCE}, as raw bytes with the
+ * matching {@code Content-Type}. Feign's {@code JacksonEncoder} writes bodies as strings, which corrupts binary
+ * formats.
+ *
+ * @author enemyghost
+ */
+public final class JacksonBinaryEncoder implements Encoder {
+    private final ObjectMapper mapper;
+    private final String contentType;
+
+    public JacksonBinaryEncoder(final ObjectMapper mapper) {
+        this.mapper = requireNonNull(mapper, "Null mapper");
+        contentType = contentType(mapper);
+    }
+
+    @Override
+    public void encode(final Object object, final Type bodyType, final RequestTemplate template) {
+        try {
+            final byte[] body = mapper.writerFor(mapper.constructType(bodyType)).writeValueAsBytes(object);
+            template.body(Request.Body.encoded(body, null));
+            template.header("Content-Type", contentType);
+        } catch (final JsonProcessingException e) {
+            throw new EncodeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Media type of the encoded bodies: {@code application/x-jackson-smile}, {@code application/cbor} or
+     * {@code application/json}
+     *
+     * @return media type of the encoded bodies
+     */
+    public String getContentType() {
+        return contentType;
+    }
+
+    private static String contentType(final ObjectMapper mapper) {
+        final String formatName = mapper.getFactory().getFormatName();
+        if (SmileFactory.FORMAT_NAME_SMILE.equals(formatName)) {
+            return "application/x-jackson-smile";
+        } else if (CBORFactory.FORMAT_NAME.equals(formatName)) {
+            return "application/cbor";
+        }
+        return "application/json";
+    }
+}
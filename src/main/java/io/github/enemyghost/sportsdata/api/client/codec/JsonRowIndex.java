@@ -0,0 +1,422 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.util.SportsDataTimeCodec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static io.github.enemyghost.sportsdata.api.client.codec.JsonStructure.isDelimiter;
+import static io.github.enemyghost.sportsdata.api.client.codec.JsonStructure.malformed;
+import static io.github.enemyghost.sportsdata.api.client.codec.JsonStructure.skipString;
+import static io.github.enemyghost.sportsdata.api.client.codec.JsonStructure.skipValue;
+import static io.github.enemyghost.sportsdata.api.client.codec.JsonStructure.skipWhitespace;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An index of where the values of a fixed set of properties start in a json body holding an array of flat objects,
+ * or a single object, so that each value can be decoded only when it is needed.
+ * <p>
+ * Indexing makes one structural pass over the body's bytes: it matches property names against the indexed ones and
+ * skips over every value, without decoding strings or numbers and without allocating per value. Values are then
+ * decoded from the retained body by the {@code read} methods, which handle the common forms directly and defer
+ * anything else, such as escaped strings and numbers written as strings, to {@link ObjectMapperSingleton#INSTANCE}, so
+ * that they decode exactly as they would eagerly. A property that appears twice in an object is indexed at its last
+ * occurrence, as Jackson keeps the last one.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @author enemyghost
+ */
+public final class JsonRowIndex {
+    private static final int ABSENT = -1;
+
+    private final byte[] body;
+    private final int fieldCount;
+    private final int rowCount;
+    private final int[] offsets;
+
+    private JsonRowIndex(final byte[] body, final int fieldCount, final int rowCount, final int[] offsets) {
+        this.body = body;
+        this.fieldCount = fieldCount;
+        this.rowCount = rowCount;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Indexes a json body holding an array of objects, or a single object, which is indexed as one row
+     *
+     * @param body   json body, in UTF-8
+     * @param fields names of the properties to index
+     * @return {@link JsonRowIndex} of the body
+     * @throws IllegalArgumentException if the body is not an array of objects or an object
+     */
+    public static JsonRowIndex of(final byte[] body, final Fields fields) {
+        return new Scanner(requireNonNull(body, "Null body"), requireNonNull(fields, "Null fields")).scan();
+    }
+
+    /**
+     * Whether a json body is the literal {@code null}
+     *
+     * @param body json body, in UTF-8
+     * @return true if the body is {@code null}
+     */
+    public static boolean isNull(final byte[] body) {
+        final int start = skipWhitespace(body, 0);
+        return start < body.length && body[start] == 'n';
+    }
+
+    /**
+     * Number of indexed objects
+     *
+     * @return number of rows
+     */
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Whether a row has the property at all, even if it is {@code null}
+     *
+     * @param row   row index
+     * @param field index of the property in the {@link Fields}
+     * @return true if the row has the property
+     */
+    public boolean contains(final int row, final int field) {
+        return offset(row, field) != ABSENT;
+    }
+
+    /**
+     * Whether a row has a non-null value for the property
+     *
+     * @param row   row index
+     * @param field index of the property in the {@link Fields}
+     * @return true if the row has a value
+     */
+    public boolean isPresent(final int row, final int field) {
+        final int offset = offset(row, field);
+        return offset != ABSENT && body[offset] != 'n';
+    }
+
+    /**
+     * Decodes a present property as an {@code int}
+     *
+     * @param row   row index
+     * @param field index of the property in the {@link Fields}
+     * @return the value
+     */
+    public int readInt(final int row, final int field) {
+        final int start = offset(row, field);
+        int i = start;
+        final boolean negative = body[i] == '-';
+        if (negative) {
+            i++;
+        }
+        int value = 0;
+        final int digitsStart = i;
+        while (i < body.length && i - digitsStart < 10 && body[i] >= '0' && body[i] <= '9') {
+            value = value * 10 + (body[i++] - '0');
+        }
+        if (i == digitsStart || i - digitsStart == 10 || i < body.length && !isDelimiter(body[i])) {
+            return fallback(start, Integer.class);
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Decodes a property as a {@code boolean}, {@code null} being false
+     *
+     * @param row   row index
+     * @param field index of the property in the {@link Fields}
+     * @return the value, or false if absent
+     */
+    public boolean readBoolean(final int row, final int field) {
+        final int start = offset(row, field);
+        if (start == ABSENT) {
+            return false;
+        }
+        switch (body[start]) {
+            case 't':
+                return true;
+            case 'f':
+            case 'n':
+                return false;
+            default:
+                return fallback(start, Boolean.class);
+        }
+    }
+
+    /**
+     * Decodes a property as a string
+     *
+     * @param row   row index
+     * @param field index of the property in the {@link Fields}
+     * @return the value, or null if absent or {@code null}
+     */
+    public String readString(final int row, final int field) {
+        if (!isPresent(row, field)) {
+            return null;
+        }
+        final int start = offset(row, field);
+        final int length = simpleStringLength(start);
+        return length >= 0
+                ? new String(body, start + 1, length, StandardCharsets.UTF_8)
+                : fallback(start, String.class);
+    }
+
+    /**
+     * Decodes a property holding a timestamp in the sportsdata.io API's Eastern time zone
+     *
+     * @param row   row index
+     * @param field index of the property in the {@link Fields}
+     * @return the instant, or null if absent or {@code null}
+     */
+    public Instant readEasternInstant(final int row, final int field) {
+        if (!isPresent(row, field)) {
+            return null;
+        }
+        final int start = offset(row, field);
+        final int length = simpleStringLength(start);
+        if (length > 0) {
+            try {
+                return SportsDataTimeCodec.parseInstant(toChars(start + 1, length), 0, length);
+            } catch (final DateTimeParseException e) {
+                // not an Eastern timestamp, decoded as an ISO instant below
+            }
+        }
+        return fallback(start, Instant.class);
+    }
+
+    /**
+     * Decodes a property holding a date, or a timestamp whose time is discarded
+     *
+     * @param row   row index
+     * @param field index of the property in the {@link Fields}
+     * @return the date, or null if absent or {@code null}
+     */
+    public LocalDate readLocalDate(final int row, final int field) {
+        if (!isPresent(row, field)) {
+            return null;
+        }
+        final int start = offset(row, field);
+        final int length = simpleStringLength(start);
+        if (length > 0) {
+            try {
+                return LocalDate.ofEpochDay(SportsDataTimeCodec.parseEpochDay(toChars(start + 1, length), 0, length));
+            } catch (final DateTimeParseException e) {
+                // reported by the fallback below
+            }
+        }
+        return fallback(start, LocalDate.class);
+    }
+
+    /**
+     * Length of the string starting at {@code start} if it has no escapes, or -1
+     */
+    private int simpleStringLength(final int start) {
+        if (body[start] != '"') {
+            return -1;
+        }
+        for (int i = start + 1; i < body.length; i++) {
+            if (body[i] == '"') {
+                return i - start - 1;
+            } else if (body[i] == '\\') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private char[] toChars(final int start, final int length) {
+        final char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (body[start + i] & 0xFF);
+        }
+        return chars;
+    }
+
+    private int offset(final int row, final int field) {
+        checkArgument(row >= 0 && row < rowCount, "Row out of bounds");
+        checkArgument(field >= 0 && field < fieldCount, "Field out of bounds");
+        return offsets[row * fieldCount + field];
+    }
+
+    private <T> T fallback(final int start, final Class<T> type) {
+        final ObjectMapper mapper = ObjectMapperSingleton.INSTANCE;
+        try {
+            return mapper.readValue(body, start, skipValue(body, start) - start, type);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Names of the properties to index, numbered in the order they are given
+     */
+    public static final class Fields {
+        private final byte[][] names;
+        private final int[] slots;
+
+        private Fields(final List<String> names) {
+            this.names = new byte[names.size()][];
+            slots = new int[Integer.highestOneBit(Math.max(names.size(), 1) * 4 - 1) << 1];
+            Arrays.fill(slots, ABSENT);
+            for (int field = 0; field < names.size(); field++) {
+                final byte[] name = names.get(field).getBytes(StandardCharsets.UTF_8);
+                checkArgument(find(name, 0, name.length) == ABSENT, "Duplicate field " + names.get(field));
+                this.names[field] = name;
+                int slot = hash(name, 0, name.length) & (slots.length - 1);
+                while (slots[slot] != ABSENT) {
+                    slot = (slot + 1) & (slots.length - 1);
+                }
+                slots[slot] = field;
+            }
+        }
+
+        /**
+         * Creates a set of property names to index
+         *
+         * @param names property names, as they appear in the json
+         * @return {@link Fields}
+         */
+        public static Fields of(final String... names) {
+            return new Fields(List.of(names));
+        }
+
+        /**
+         * Number of properties
+         *
+         * @return number of properties
+         */
+        public int size() {
+            return names.length;
+        }
+
+        private int find(final byte[] body, final int start, final int end) {
+            int slot = hash(body, start, end) & (slots.length - 1);
+            while (slots[slot] != ABSENT) {
+                final byte[] name = names[slots[slot]];
+                if (Arrays.equals(name, 0, name.length, body, start, end)) {
+                    return slots[slot];
+                }
+                slot = (slot + 1) & (slots.length - 1);
+            }
+            return ABSENT;
+        }
+
+        private static int hash(final byte[] bytes, final int start, final int end) {
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * Single structural pass over a body
+     */
+    private static final class Scanner {
+        private final byte[] body;
+        private final Fields fields;
+        private final int fieldCount;
+        private int[] offsets;
+        private int rowCount;
+
+        Scanner(final byte[] body, final Fields fields) {
+            this.body = body;
+            this.fields = fields;
+            fieldCount = fields.size();
+            offsets = new int[fieldCount * 16];
+        }
+
+        JsonRowIndex scan() {
+            int i = skipWhitespace(body, 0);
+            if (i < body.length && body[i] == '{') {
+                i = scanObject(i);
+            } else if (i < body.length && body[i] == '[') {
+                i = skipWhitespace(body, i + 1);
+                if (i < body.length && body[i] == ']') {
+                    i++;
+                } else {
+                    while (true) {
+                        i = scanObject(skipWhitespace(body, i));
+                        i = skipWhitespace(body, i);
+                        if (i >= body.length) {
+                            throw malformed(i);
+                        } else if (body[i] == ']') {
+                            i++;
+                            break;
+                        } else if (body[i] != ',') {
+                            throw malformed(i);
+                        }
+                        i++;
+                    }
+                }
+            } else {
+                throw malformed(i);
+            }
+            if (skipWhitespace(body, i) != body.length) {
+                throw malformed(i);
+            }
+            // not trimmed: the retained body dwarfs the unused capacity
+            return new JsonRowIndex(body, fieldCount, rowCount, offsets);
+        }
+
+        private int scanObject(int i) {
+            if (i >= body.length || body[i] != '{') {
+                throw malformed(i);
+            }
+            final int base = newRow();
+            i = skipWhitespace(body, i + 1);
+            if (i < body.length && body[i] == '}') {
+                return i + 1;
+            }
+            while (true) {
+                if (i >= body.length || body[i] != '"') {
+                    throw malformed(i);
+                }
+                final int nameEnd = skipString(body, i);
+                final int field = fields.find(body, i + 1, nameEnd - 1);
+                i = skipWhitespace(body, nameEnd);
+                if (i >= body.length || body[i] != ':') {
+                    throw malformed(i);
+                }
+                i = skipWhitespace(body, i + 1);
+                if (i >= body.length) {
+                    throw malformed(i);
+                }
+                if (field != ABSENT) {
+                    offsets[base + field] = i;
+                }
+                i = skipWhitespace(body, skipValue(body, i));
+                if (i >= body.length) {
+                    throw malformed(i);
+                } else if (body[i] == '}') {
+                    return i + 1;
+                } else if (body[i] != ',') {
+                    throw malformed(i);
+                }
+                i = skipWhitespace(body, i + 1);
+            }
+        }
+
+        private int newRow() {
+            final int base = rowCount * fieldCount;
+            if (base + fieldCount > offsets.length) {
+                offsets = Arrays.copyOf(offsets, Math.max(offsets.length * 2, base + fieldCount));
+            }
+            Arrays.fill(offsets, base, base + fieldCount, ABSENT);
+            rowCount++;
+            return base;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+/**
+ * Byte-level structural scanning of UTF-8 json, which finds where values start and end without decoding them
+ *
+ * @author enemyghost
+ */
+final class JsonStructure {
+    private static final byte QUOTE = 2;
+
+    /**
+     * Change in nesting depth at each byte, or {@link #QUOTE} at the start of a string
+     */
+    private static final byte[] STRUCTURAL = new byte[256];
+
+    static {
+        STRUCTURAL['{'] = 1;
+        STRUCTURAL['['] = 1;
+        STRUCTURAL['}'] = -1;
+        STRUCTURAL[']'] = -1;
+        STRUCTURAL['"'] = QUOTE;
+    }
+
+    /**
+     * Private ctor.
+     */
+    private JsonStructure() {
+    }
+
+    static boolean isDelimiter(final byte b) {
+        return b == ',' || b == '}' || b == ']' || isWhitespace(b);
+    }
+
+    static boolean isWhitespace(final byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    static int skipWhitespace(final byte[] body, int i) {
+        while (i < body.length && isWhitespace(body[i])) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Returns the offset just after the value starting at {@code start}
+     */
+    static int skipValue(final byte[] body, final int start) {
+        int i = start;
+        switch (body[i]) {
+            case '"':
+                return skipString(body, i);
+            case '{':
+            case '[':
+                int depth = 0;
+                do {
+                    final byte type = STRUCTURAL[body[i] & 0xFF];
+                    if (type == QUOTE) {
+                        i = skipString(body, i);
+                        continue;
+                    }
+                    depth += type;
+                    i++;
+                } while (depth > 0 && i < body.length);
+                if (depth > 0) {
+                    throw malformed(i);
+                }
+                return i;
+            default:
+                while (i < body.length && !isDelimiter(body[i])) {
+                    i++;
+                }
+                if (i == start) {
+                    throw malformed(i);
+                }
+                return i;
+        }
+    }
+
+    static int skipString(final byte[] body, final int start) {
+        int i = start + 1;
+        while (i < body.length) {
+            final byte b = body[i];
+            if (b == '"') {
+                return i + 1;
+            }
+            i += b == '\\' ? 2 : 1;
+        }
+        throw malformed(i);
+    }
+
+    static IllegalArgumentException malformed(final int offset) {
+        return new IllegalArgumentException("Malformed json at offset " + offset);
+    }
+}
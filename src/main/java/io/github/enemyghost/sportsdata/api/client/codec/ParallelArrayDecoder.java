@@ -0,0 +1,296 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static io.github.enemyghost.sportsdata.api.client.codec.JsonStructure.malformed;
+import static io.github.enemyghost.sportsdata.api.client.codec.JsonStructure.skipValue;
+import static io.github.enemyghost.sportsdata.api.client.codec.JsonStructure.skipWhitespace;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decodes large json array bodies on a {@link ForkJoinPool}. A structural scan on the calling thread splits the array
+ * into runs of elements of roughly equal size, in bytes, and hands each run to the pool as soon as it is found, so
+ * that the runs are decoded in parallel with each other and with the rest of the scan. The decoded runs are joined into
+ * one list, in the order of the array. Where the runtime has the Vector API, the scan skips over nested arrays and
+ * objects with a {@link StructuralIndex} of the body's brackets, built a vector at a time, rather than byte by byte.
+ * <p>
+ * Bodies smaller than the {@link Builder#withMinParallelBytes(int) threshold}, bodies which are not well-formed arrays,
+ * and any body when the pool has a parallelism of one are decoded on the calling thread, as the mapper would decode
+ * them.
+ * Either way the decoded list is equal to the one the mapper would decode. Instances are thread-safe.
+ *
+ * @author enemyghost
+ */
+public final class ParallelArrayDecoder {
+    /**
+     * Default size below which bodies are decoded on the calling thread
+     */
+    public static final int DEFAULT_MIN_PARALLEL_BYTES = 256 * 1024;
+
+    /**
+     * Smallest range of elements worth handing to another thread
+     */
+    private static final int MIN_CHUNK_BYTES = 32 * 1024;
+
+    /**
+     * Number of chunks per thread of the pool, so that threads which finish early can steal work
+     */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool;
+    private final int minParallelBytes;
+    private final StructuralIndexer indexer;
+
+    private ParallelArrayDecoder(final Builder builder) {
+        objectMapper = builder.objectMapper;
+        pool = builder.pool;
+        minParallelBytes = builder.minParallelBytes;
+        indexer = builder.indexer;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Decodes a json array body into a list
+     *
+     * @param body        json body, in UTF-8
+     * @param elementType type of the array's elements
+     * @param <T>         type of the array's elements
+     * @return decoded list, or null if the body is {@code null}
+     * @throws IOException if the body cannot be decoded
+     */
+    public <T> List<T> decodeList(final byte[] body, final Type elementType) throws IOException {
+        requireNonNull(body, "Null body");
+        requireNonNull(elementType, "Null element type");
+        final int start = skipWhitespace(body, 0);
+        if (body.length < minParallelBytes || pool.getParallelism() < 2 || start == body.length || body[start] != '[') {
+            return decodeSequentially(body, elementType);
+        }
+        final List<ForkJoinTask<Object[]>> chunks;
+        try {
+            final ObjectReader reader = objectMapper.readerFor(objectMapper.constructType(elementType));
+            chunks = split(body, start, reader);
+        } catch (final IllegalArgumentException e) {
+            // malformed; let the mapper report it
+            return decodeSequentially(body, elementType);
+        }
+        final List<T> list = new ArrayList<>();
+        try {
+            // the calling thread decodes the last run while the pool decodes the others
+            chunks.get(chunks.size() - 1).invoke();
+            for (final ForkJoinTask<Object[]> chunk : chunks) {
+                @SuppressWarnings("unchecked")
+                final List<T> elements = (List<T>) Arrays.asList(chunk.join());
+                list.addAll(elements);
+            }
+        } catch (final RuntimeException e) {
+            chunks.forEach(chunk -> chunk.cancel(false));
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+            }
+            throw e;
+        }
+        return list;
+    }
+
+    private <T> List<T> decodeSequentially(final byte[] body, final Type elementType) throws IOException {
+        return objectMapper.readerFor(objectMapper.getTypeFactory().constructCollectionType(List.class,
+                objectMapper.constructType(elementType))).readValue(body);
+    }
+
+    /**
+     * Scans the array starting at {@code start}, submitting each run of elements spanning a chunk to the pool as soon
+     * as it is found, so that decoding overlaps the scan. The bracket index, if any, is built before the scan starts.
+     *
+     * @return the chunks, in the order of the array; all but the last have been submitted
+     * @throws IllegalArgumentException if the array is malformed
+     */
+    private List<ForkJoinTask<Object[]>> split(final byte[] body, final int start, final ObjectReader reader) {
+        final StructuralIndex brackets = indexer == null ? null : indexer.indexBrackets(body);
+        if (brackets != null && brackets.hasUnterminatedString()) {
+            throw malformed(body.length);
+        }
+        final int chunkBytes = Math.max(MIN_CHUNK_BYTES, body.length / (pool.getParallelism() * CHUNKS_PER_THREAD));
+        final List<ForkJoinTask<Object[]>> chunks = new ArrayList<>();
+        int[] bounds = new int[64];
+        int count = 0;
+        int k = 0;
+        int i = skipWhitespace(body, start + 1);
+        try {
+            if (i < body.length && body[i] == ']') {
+                i++;
+            } else {
+                while (true) {
+                    if (i >= body.length) {
+                        throw malformed(i);
+                    }
+                    if (count + 2 > bounds.length) {
+                        bounds = Arrays.copyOf(bounds, bounds.length * 2);
+                    }
+                    bounds[count++] = i;
+                    if (brackets != null && (body[i] == '{' || body[i] == '[')) {
+                        k = skipNested(body, brackets, k, i);
+                        i = brackets.offset(k - 1) + 1;
+                    } else {
+                        i = skipValue(body, i);
+                    }
+                    bounds[count++] = i;
+                    if (i - bounds[0] >= chunkBytes) {
+                        chunks.add(pool.submit(new DecodeChunk(reader, body, Arrays.copyOf(bounds, count))));
+                        count = 0;
+                    }
+                    i = skipWhitespace(body, i);
+                    if (i >= body.length) {
+                        throw malformed(i);
+                    } else if (body[i] == ']') {
+                        i++;
+                        break;
+                    } else if (body[i] != ',') {
+                        throw malformed(i);
+                    }
+                    i = skipWhitespace(body, i + 1);
+                }
+            }
+            if (skipWhitespace(body, i) != body.length) {
+                throw malformed(i);
+            }
+        } catch (final IllegalArgumentException e) {
+            chunks.forEach(chunk -> chunk.cancel(false));
+            throw e;
+        }
+        chunks.add(new DecodeChunk(reader, body, Arrays.copyOf(bounds, count)));
+        return chunks;
+    }
+
+    /**
+     * Returns the index of the bracket after the one closing the array or object whose opening bracket is at
+     * {@code start}, searching the bracket index from {@code k}
+     */
+    private static int skipNested(final byte[] body, final StructuralIndex brackets, int k, final int start) {
+        while (k < brackets.size() && brackets.offset(k) < start) {
+            k++;
+        }
+        if (k == brackets.size() || brackets.offset(k) != start) {
+            throw malformed(start);
+        }
+        int depth = 0;
+        do {
+            final byte b = body[brackets.offset(k++)];
+            depth += b == '{' || b == '[' ? 1 : -1;
+        } while (depth > 0 && k < brackets.size());
+        if (depth > 0) {
+            throw malformed(body.length);
+        }
+        return k;
+    }
+
+    /**
+     * Decodes a run of elements, given by their bounds
+     */
+    private static final class DecodeChunk extends RecursiveTask<Object[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient ObjectReader reader;
+        private final byte[] body;
+        private final int[] bounds;
+
+        DecodeChunk(final ObjectReader reader, final byte[] body, final int[] bounds) {
+            this.reader = reader;
+            this.body = body;
+            this.bounds = bounds;
+        }
+
+        @Override
+        protected Object[] compute() {
+            final Object[] elements = new Object[bounds.length / 2];
+            for (int i = 0; i < elements.length; i++) {
+                final int start = bounds[2 * i];
+                try {
+                    elements[i] = reader.readValue(body, start, bounds[2 * i + 1] - start);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return elements;
+        }
+    }
+
+    public static final class Builder {
+        private ObjectMapper objectMapper = ObjectMapperSingleton.INSTANCE;
+        private ForkJoinPool pool = ForkJoinPool.commonPool();
+        private int minParallelBytes = DEFAULT_MIN_PARALLEL_BYTES;
+        private StructuralIndexer indexer = StructuralIndexer.vectorized().orElse(null);
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the json mapper which decodes the elements, {@link ObjectMapperSingleton#INSTANCE} by default
+         *
+         * @param val json {@link ObjectMapper}
+         * @return this builder
+         */
+        public Builder withObjectMapper(final ObjectMapper val) {
+            objectMapper = requireNonNull(val, "Null object mapper");
+            return this;
+        }
+
+        /**
+         * Sets the pool which decodes the elements, {@link ForkJoinPool#commonPool()} by default
+         *
+         * @param val {@link ForkJoinPool}
+         * @return this builder
+         */
+        public Builder withPool(final ForkJoinPool val) {
+            pool = requireNonNull(val, "Null pool");
+            return this;
+        }
+
+        /**
+         * Sets the size below which bodies are decoded on the calling thread,
+         * {@value ParallelArrayDecoder#DEFAULT_MIN_PARALLEL_BYTES} bytes by default
+         *
+         * @param val body size, in bytes
+         * @return this builder
+         */
+        public Builder withMinParallelBytes(final int val) {
+            checkArgument(val >= 0, "Negative body size");
+            minParallelBytes = val;
+            return this;
+        }
+
+        /**
+         * Sets the indexer whose bracket index the array is split with, {@link StructuralIndexer#vectorized()} if the
+         * runtime has it, or null to scan every byte, which is faster than {@link StructuralIndexer#scalar()}
+         *
+         * @param val {@link StructuralIndexer}, or null
+         * @return this builder
+         */
+        public Builder withStructuralIndexer(final StructuralIndexer val) {
+            indexer = val;
+            return this;
+        }
+
+        public ParallelArrayDecoder build() {
+            return new ParallelArrayDecoder(this);
+        }
+    }
+}
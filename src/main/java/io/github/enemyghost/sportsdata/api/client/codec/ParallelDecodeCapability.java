@@ -0,0 +1,51 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import feign.Util;
+import feign.codec.Decoder;
+import io.github.enemyghost.sportsdata.api.client.ClientCapability;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ClientCapability} which decodes json responses of {@code List}s with a {@link ParallelArrayDecoder}, so that
+ * large bodies, such as a full slate of player games, are decoded on all cores. Small bodies and all other responses
+ * are decoded as before. Intended for the default json client.
+ *
+ * @author enemyghost
+ */
+public final class ParallelDecodeCapability implements ClientCapability {
+    private final ParallelArrayDecoder arrayDecoder;
+
+    /**
+     * Creates a capability decoding on the common {@link java.util.concurrent.ForkJoinPool}
+     */
+    public ParallelDecodeCapability() {
+        this(ParallelArrayDecoder.newBuilder().build());
+    }
+
+    public ParallelDecodeCapability(final ParallelArrayDecoder arrayDecoder) {
+        this.arrayDecoder = requireNonNull(arrayDecoder, "Null array decoder");
+    }
+
+    @Override
+    public Decoder enrichDecoder(final Decoder decoder) {
+        return (response, type) -> {
+            if (!(type instanceof ParameterizedType) || ((ParameterizedType) type).getRawType() != List.class) {
+                return decoder.decode(response, type);
+            }
+            if (response.status() == 404 || response.status() == 204) {
+                return Util.emptyValueOf(type);
+            }
+            if (response.body() == null) {
+                return null;
+            }
+            final byte[] body = Util.toByteArray(response.body().asInputStream());
+            return body.length == 0
+                    ? null
+                    : arrayDecoder.decodeList(body, ((ParameterizedType) type).getActualTypeArguments()[0]);
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import io.github.enemyghost.sportsdata.api.client.util.SportsDataTimeCodec;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Jackson module that decodes the dates and timestamps of the sportsdata.io API with {@link SportsDataTimeCodec},
+ * straight from the parser's text buffer, in place of the {@code JavaTimeModule} deserializers, which parse each value
+ * with a {@link java.time.format.DateTimeFormatter}. Register it after {@code JavaTimeModule}, which still serializes
+ * dates and decodes the values the codec doesn't parse, such as arrays, numbers and malformed strings.
+ * <p>
+ * Eastern timestamps that the entities keep as instants, such as a player game's {@code DateTime}, are decoded by
+ * {@link EasternInstantDeserializer}, which the entities' builders name explicitly so that they decode the same way
+ * with any mapper.
+ *
+ * @author enemyghost
+ */
+public final class SportsDataTimeModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    public SportsDataTimeModule() {
+        super(SportsDataTimeModule.class.getSimpleName());
+        addDeserializer(LocalDate.class, new FastLocalDateDeserializer());
+        addDeserializer(LocalDateTime.class, new FastLocalDateTimeDeserializer());
+    }
+
+    /**
+     * Decodes a timestamp written without an offset, in the API's Eastern time zone, to the {@link Instant} it
+     * represents, without creating a {@link LocalDateTime}. Other values are decoded as by {@code JavaTimeModule}.
+     */
+    public static final class EasternInstantDeserializer extends StdScalarDeserializer<Instant> {
+        private static final long serialVersionUID = 1L;
+
+        public EasternInstantDeserializer() {
+            super(Instant.class);
+        }
+
+        @Override
+        public Instant deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING) && p.getTextLength() > 0) {
+                try {
+                    return SportsDataTimeCodec.parseInstant(
+                            p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                } catch (final DateTimeParseException e) {
+                    // not an Eastern timestamp, e.g. an ISO instant with an offset
+                }
+            }
+            return InstantDeserializer.INSTANT.deserialize(p, ctxt);
+        }
+    }
+
+    private static final class FastLocalDateDeserializer extends StdScalarDeserializer<LocalDate> {
+        private static final long serialVersionUID = 1L;
+
+        FastLocalDateDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING) && p.getTextLength() > 0) {
+                try {
+                    return LocalDate.ofEpochDay(SportsDataTimeCodec.parseEpochDay(
+                            p.getTextCharacters(), p.getTextOffset(), p.getTextLength()));
+                } catch (final DateTimeParseException e) {
+                    // reported by LocalDateDeserializer
+                }
+            }
+            return LocalDateDeserializer.INSTANCE.deserialize(p, ctxt);
+        }
+    }
+
+    private static final class FastLocalDateTimeDeserializer extends StdScalarDeserializer<LocalDateTime> {
+        private static final long serialVersionUID = 1L;
+
+        FastLocalDateTimeDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING) && p.getTextLength() > 0) {
+                try {
+                    return SportsDataTimeCodec.parseLocalDateTime(
+                            p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                } catch (final DateTimeParseException e) {
+                    // reported by LocalDateTimeDeserializer
+                }
+            }
+            return LocalDateTimeDeserializer.INSTANCE.deserialize(p, ctxt);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+/**
+ * Offsets, in order, of the structural bytes of a json body: the brackets, braces, commas and colons outside strings,
+ * the opening quote of each string and the first byte of each number or literal. Built by a {@link StructuralIndexer}.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @author enemyghost
+ */
+public final class StructuralIndex {
+    private final int[] offsets;
+    private final int size;
+    private final boolean unterminatedString;
+
+    StructuralIndex(final int[] offsets, final int size, final boolean unterminatedString) {
+        this.offsets = offsets;
+        this.size = size;
+        this.unterminatedString = unterminatedString;
+    }
+
+    /**
+     * @return number of structural bytes
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param i index of a structural byte, from zero to {@link #size()}, exclusive
+     * @return its offset in the body
+     */
+    public int offset(final int i) {
+        return offsets[i];
+    }
+
+    /**
+     * @return true if the body ends inside a string, in which case it is malformed
+     */
+    public boolean hasUnterminatedString() {
+        return unterminatedString;
+    }
+}
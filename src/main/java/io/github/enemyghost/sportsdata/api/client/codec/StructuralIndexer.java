@@ -0,0 +1,185 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builds the {@link StructuralIndex} of a json body 64 bytes at a time, in the manner of simdjson's first stage. Each
+ * block is classified into bitmasks of its quotes, backslashes, brackets, punctuation and whitespace, from which
+ * escaped quotes, the insides of strings and the starts of scalars are derived with word-wide bitwise arithmetic,
+ * carrying state from one block to the next.
+ * <p>
+ * This class classifies bytes one at a time. On JDK 17 and later, with {@code --add-modules jdk.incubator.vector},
+ * {@link #vectorized()} returns an indexer which classifies whole blocks with the Vector API. It is compiled from
+ * {@code src/main/java17} into the multi-release part of the jar, so older runtimes never see it, and it shares the
+ * bitwise stage, so both build identical indexes of any input.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @author enemyghost
+ */
+public class StructuralIndexer {
+    static final int BLOCK = 64;
+
+    static final int QUOTES = 0;
+    static final int BACKSLASHES = 1;
+    static final int BRACKETS = 2;
+    static final int PUNCTUATION = 3;
+    static final int WHITESPACE = 4;
+
+    private static final StructuralIndexer SCALAR = new StructuralIndexer();
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_INDEXER = StructuralIndexer.class.getPackageName() + ".VectorStructuralIndexer";
+
+    /**
+     * One plus the mask each byte belongs to, or zero
+     */
+    private static final byte[] CLASSES = new byte[256];
+
+    static {
+        CLASSES['"'] = QUOTES + 1;
+        CLASSES['\\'] = BACKSLASHES + 1;
+        for (final char c : new char[]{'{', '}', '[', ']'}) {
+            CLASSES[c] = BRACKETS + 1;
+        }
+        CLASSES[','] = PUNCTUATION + 1;
+        CLASSES[':'] = PUNCTUATION + 1;
+        for (final char c : new char[]{' ', '\n', '\r', '\t'}) {
+            CLASSES[c] = WHITESPACE + 1;
+        }
+    }
+
+    private static final StructuralIndexer VECTORIZED = loadVectorized();
+
+    StructuralIndexer() {
+    }
+
+    /**
+     * @return the indexer which classifies bytes one at a time
+     */
+    public static StructuralIndexer scalar() {
+        return SCALAR;
+    }
+
+    /**
+     * @return the Vector API indexer, if the runtime has it
+     */
+    public static Optional<StructuralIndexer> vectorized() {
+        return Optional.ofNullable(VECTORIZED);
+    }
+
+    private static StructuralIndexer loadVectorized() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return null;
+        }
+        try {
+            return (StructuralIndexer) Class.forName(VECTOR_INDEXER)
+                    .getDeclaredConstructor()
+                    .newInstance();
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            // not a multi-release runtime, or the jar was built without the java17 sources
+            return null;
+        }
+    }
+
+    /**
+     * Indexes the structural bytes of a json body
+     *
+     * @param body json body, in UTF-8
+     * @return {@link StructuralIndex} of the body
+     */
+    public final StructuralIndex index(final byte[] body) {
+        requireNonNull(body, "Null body");
+        return index(body, false);
+    }
+
+    /**
+     * Indexes only the brackets and braces outside strings of a json body, which is enough to skip over arrays and
+     * objects, and much smaller
+     *
+     * @param body json body, in UTF-8
+     * @return {@link StructuralIndex} of the body's brackets and braces
+     */
+    public final StructuralIndex indexBrackets(final byte[] body) {
+        requireNonNull(body, "Null body");
+        return index(body, true);
+    }
+
+    private StructuralIndex index(final byte[] body, final boolean bracketsOnly) {
+        final long[] masks = new long[WHITESPACE + 1];
+        int[] offsets = new int[Math.max(16, bracketsOnly ? body.length / 256 : body.length / 8)];
+        int size = 0;
+        long escapedCarry = 0;
+        long inStringCarry = 0;
+        long separatorCarry = 1;
+        for (int block = 0; block < body.length; block += BLOCK) {
+            classify(body, block, bracketsOnly, masks);
+
+            // backslashes are rare, so find the bytes they escape one by one
+            long escaped = escapedCarry;
+            escapedCarry = 0;
+            for (long backslashes = masks[BACKSLASHES]; backslashes != 0; backslashes &= backslashes - 1) {
+                final int bit = Long.numberOfTrailingZeros(backslashes);
+                if ((escaped & 1L << bit) == 0) {
+                    if (bit == BLOCK - 1) {
+                        escapedCarry = 1;
+                    } else {
+                        escaped |= 2L << bit;
+                    }
+                }
+            }
+            final long quotes = masks[QUOTES] & ~escaped;
+            // each bit is the parity of the quotes up to it: set from an opening quote to just before its closing one
+            final long inString = prefixXor(quotes) ^ inStringCarry;
+            inStringCarry = inString >> 63;
+            long structurals;
+            if (bracketsOnly) {
+                structurals = masks[BRACKETS] & ~inString;
+            } else {
+                final long separators = masks[BRACKETS] | masks[PUNCTUATION] | masks[WHITESPACE] | quotes;
+                final long scalars = ~separators & ~inString & (separators << 1 | separatorCarry);
+                separatorCarry = separators >>> 63;
+                structurals = (masks[BRACKETS] | masks[PUNCTUATION]) & ~inString | quotes & inString | scalars;
+            }
+            if (size + Long.bitCount(structurals) > offsets.length) {
+                offsets = Arrays.copyOf(offsets, Math.max(offsets.length * 2, size + BLOCK));
+            }
+            for (; structurals != 0; structurals &= structurals - 1) {
+                offsets[size++] = block + Long.numberOfTrailingZeros(structurals);
+            }
+        }
+        return new StructuralIndex(offsets, size, inStringCarry != 0);
+    }
+
+    /**
+     * Sets each of {@code masks[QUOTES]} to {@code masks[WHITESPACE]} to a bitmask of the bytes in that class of the
+     * block starting at {@code offset}, lowest bit first. Bytes past the end of the body are whitespace. Punctuation
+     * and whitespace may be left out when only brackets are indexed.
+     */
+    void classify(final byte[] body, final int offset, final boolean bracketsOnly, final long[] masks) {
+        Arrays.fill(masks, 0);
+        final int length = Math.min(BLOCK, body.length - offset);
+        for (int i = 0; i < length; i++) {
+            final int type = CLASSES[body[offset + i] & 0xFF];
+            if (type != 0) {
+                masks[type - 1] |= 1L << i;
+            }
+        }
+        if (length < BLOCK) {
+            masks[WHITESPACE] |= -1L << length;
+        }
+    }
+
+    private static long prefixXor(long bits) {
+        bits ^= bits << 1;
+        bits ^= bits << 2;
+        bits ^= bits << 4;
+        bits ^= bits << 8;
+        bits ^= bits << 16;
+        bits ^= bits << 32;
+        return bits;
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.enemyghost.sportsdata.api.client.contract;
+
+import feign.Contract;
+import feign.MethodMetadata;
+import feign.jaxrs.JAXRSContract;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Contract} for a single client interface whose {@link MethodMetadata} was worked out when the interface was
+ * compiled, rather than by reflecting over its JAX-RS annotations with a {@link JAXRSContract} each time a client is
+ * created.
+ * <p>
+ * Subclasses are generated by {@code GeneratedContractProcessor} into the package of their interface, named after it
+ * with a {@code Contract} suffix. They build each method's metadata with the same {@link feign.RequestTemplate} calls
+ * a {@link JAXRSContract} makes, in the same order, from values the processor resolved at build time, so that feign
+ * cannot tell the two apart. Interfaces the processor could not describe get no subclass, and any other interface a
+ * generated contract is asked to parse is handed to a {@link JAXRSContract}.
+ * <p>
+ * Generated contracts depend on a feign internal: {@link MethodMetadata}'s constructor is package-private, and is
+ * called reflectively. This holds for feign 10.7, which {@code GeneratedContractTest} checks against
+ * {@link JAXRSContract}. If a later feign removes the constructor or denies access to it, {@link #forType(Class)} finds
+ * no generated contracts, and clients fall back to parsing their annotations.
+ *
+ * @author enemyghost
+ */
+public abstract class GeneratedContract implements Contract {
+    /**
+     * Suffix of the simple name of a generated contract, after the simple name of its interface
+     */
+    public static final String SUFFIX = "Contract";
+
+    private static final Constructor<MethodMetadata> NEW_METADATA = metadataConstructor();
+
+    private final Class<?> apiType;
+
+    protected GeneratedContract(final Class<?> apiType) {
+        this.apiType = requireNonNull(apiType, "Null API type");
+    }
+
+    /**
+     * Finds the generated contract of a client interface
+     *
+     * @param apiType client interface
+     * @return generated {@link Contract} of the interface, or {@link Optional#empty()} if it has none or feign's
+     * {@link MethodMetadata} cannot be created
+     */
+    public static Optional<Contract> forType(final Class<?> apiType) {
+        requireNonNull(apiType, "Null API type");
+        if (NEW_METADATA == null) {
+            return Optional.empty();
+        }
+        final Class<?> contractType;
+        try {
+            contractType = Class.forName(apiType.getName() + SUFFIX, false, apiType.getClassLoader());
+        } catch (final ClassNotFoundException e) {
+            return Optional.empty();
+        }
+        if (!GeneratedContract.class.isAssignableFrom(contractType)) {
+            return Optional.empty();
+        }
+        try {
+            final GeneratedContract contract = (GeneratedContract) contractType.getConstructor().newInstance();
+            return contract.apiType == apiType ? Optional.of(contract) : Optional.empty();
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot instantiate " + contractType.getName(), e);
+        }
+    }
+
+    @Override
+    public final List<MethodMetadata> parseAndValidateMetadata(final Class<?> targetType) {
+        if (targetType != apiType) {
+            return new JAXRSContract().parseAndValidateMetadata(targetType);
+        }
+        final List<MethodMetadata> methods = new ArrayList<>();
+        addMethods(methods);
+        return methods;
+    }
+
+    /**
+     * Adds the metadata of each abstract method of the interface, built afresh on each call
+     *
+     * @param methods list to add to
+     */
+    protected abstract void addMethods(List<MethodMetadata> methods);
+
+    /**
+     * Starts the metadata of a method
+     *
+     * @param configKey  feign's config key of the method, e.g. {@code NcaaBasketballV3ApiClient#player(int)}
+     * @param returnType generic return type of the method
+     * @return {@link MethodMetadata} with only its config key and return type set
+     */
+    protected static MethodMetadata method(final String configKey, final Type returnType) {
+        final MethodMetadata metadata;
+        try {
+            metadata = NEW_METADATA.newInstance();
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create method metadata", e);
+        }
+        return metadata.configKey(configKey).returnType(returnType);
+    }
+
+    /**
+     * Names a parameter, as {@link JAXRSContract} does for each {@code @PathParam}, {@code @QueryParam} and
+     * {@code @HeaderParam}
+     *
+     * @param metadata method metadata
+     * @param name     template variable the parameter expands
+     * @param index    index of the parameter
+     */
+    protected static void nameParam(final MethodMetadata metadata, final String name, final int index) {
+        final Collection<String> names = metadata.indexToName().computeIfAbsent(index, i -> new ArrayList<>());
+        names.add(name);
+    }
+
+    /**
+     * @param rawType       generic class or interface
+     * @param typeArguments its type arguments
+     * @return {@link ParameterizedType} equal to the one reflection returns for the same type
+     */
+    protected static ParameterizedType parameterized(final Class<?> rawType, final Type... typeArguments) {
+        return new SimpleParameterizedType(rawType, typeArguments);
+    }
+
+    /**
+     * {@link MethodMetadata}'s constructor is package-private, as feign expects only its own contracts to create it
+     *
+     * @return the constructor, or null if this version of feign does not have one this class can call
+     */
+    private static Constructor<MethodMetadata> metadataConstructor() {
+        try {
+            final Constructor<MethodMetadata> constructor = MethodMetadata.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * {@link ParameterizedType} whose {@code equals} and {@code hashCode} agree with the JDK's own
+     */
+    private static final class SimpleParameterizedType implements ParameterizedType {
+        private final Class<?> rawType;
+        private final Type[] typeArguments;
+
+        SimpleParameterizedType(final Class<?> rawType, final Type[] typeArguments) {
+            this.rawType = requireNonNull(rawType, "Null raw type");
+            this.typeArguments = typeArguments.clone();
+        }
+
+        @Override
+        public Type[] getActualTypeArguments() {
+            return typeArguments.clone();
+        }
+
+        @Override
+        public Type getRawType() {
+            return rawType;
+        }
+
+        @Override
+        public Type getOwnerType() {
+            return rawType.getDeclaringClass();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof ParameterizedType)) {
+                return false;
+            }
+            final ParameterizedType that = (ParameterizedType) o;
+            return rawType.equals(that.getRawType())
+                    && Objects.equals(getOwnerType(), that.getOwnerType())
+                    && Arrays.equals(typeArguments, that.getActualTypeArguments());
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(typeArguments) ^ Objects.hashCode(getOwnerType()) ^ rawType.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            final StringBuilder builder = new StringBuilder(rawType.getTypeName()).append('<');
+            for (int i = 0; i < typeArguments.length; i++) {
+                builder.append(i == 0 ? "" : ", ").append(typeArguments[i].getTypeName());
+            }
+            return builder.append('>').toString();
+        }
+    }
+}
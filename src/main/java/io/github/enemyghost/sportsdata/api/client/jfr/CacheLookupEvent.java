@@ -0,0 +1,31 @@
+package io.github.enemyghost.sportsdata.api.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Records a lookup of a cached endpoint response
+ *
+ * @author enemyghost
+ */
+@Name(CacheLookupEvent.NAME)
+@Label("sportsdata.io Cache Lookup")
+@Category({"sportsdata.io", "Cache"})
+@Description("A lookup of a cached sportsdata.io endpoint response")
+@StackTrace(false)
+final class CacheLookupEvent extends Event {
+    static final String NAME = "io.github.enemyghost.sportsdata.CacheLookup";
+
+    @Label("Endpoint")
+    String endpoint;
+
+    @Label("Hit")
+    boolean hit;
+
+    @Label("Entity Count")
+    int entityCount;
+}
@@ -0,0 +1,44 @@
+package io.github.enemyghost.sportsdata.api.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spans decoding a response body into entities with Jackson
+ *
+ * @author enemyghost
+ */
+@Name(DecodeEvent.NAME)
+@Label("sportsdata.io Decode")
+@Category({"sportsdata.io", "Client"})
+@Description("Decoding of a sportsdata.io response body into entities")
+@StackTrace(false)
+final class DecodeEvent extends Event {
+    static final String NAME = "io.github.enemyghost.sportsdata.Decode";
+
+    @Label("Endpoint")
+    @Description("Client interface method config key")
+    String endpoint;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    int status;
+
+    @Label("Response Size")
+    @Description("Declared response body size, or -1 if unknown")
+    @DataAmount
+    long bytes;
+
+    @Label("Entity Count")
+    int entityCount;
+
+    @Label("Type")
+    String type;
+}
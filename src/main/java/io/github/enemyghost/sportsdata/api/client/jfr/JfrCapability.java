@@ -0,0 +1,205 @@
+package io.github.enemyghost.sportsdata.api.client.jfr;
+
+import feign.Client;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.codec.Decoder;
+import io.github.enemyghost.sportsdata.api.client.ClientCapability;
+import io.github.enemyghost.sportsdata.api.client.EndpointContext;
+import io.github.enemyghost.sportsdata.api.client.util.CountingResponseBody;
+import io.github.enemyghost.sportsdata.api.client.util.DecodedEntities;
+import jdk.jfr.EventType;
+
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link ClientCapability} which emits Java Flight Recorder events for the request lifecycle ({@code Request}),
+ * Jackson decoding ({@code Decode}) and {@code Retry-After} back-offs ({@code RateLimitWait}), so client activity
+ * can be correlated with GC and thread activity in the same recording. Cache lookups are emitted by caching layers
+ * through {@link JfrEvents}.
+ * <p>
+ * Events are named {@code io.github.enemyghost.sportsdata.*}; see {@code jfr/sportsdataio.jfc} for a sample
+ * configuration. When none of the events are enabled each decorated call costs a few flag checks and allocates
+ * nothing.
+ *
+ * @author enemyghost
+ */
+public final class JfrCapability implements ClientCapability {
+    private static final EventType REQUEST = EventType.getEventType(RequestEvent.class);
+    private static final EventType DECODE = EventType.getEventType(DecodeEvent.class);
+    private static final EventType RATE_LIMIT_WAIT = EventType.getEventType(RateLimitWaitEvent.class);
+
+    /**
+     * The {@link RequestEvent} of the call in flight on the current thread, if it is being recorded
+     */
+    private static final ThreadLocal<RequestEvent> IN_FLIGHT = new ThreadLocal<>();
+
+    @Override
+    public InvocationHandlerFactory enrichInvocationHandlerFactory(
+            final InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            final Map<Method, MethodHandler> recorded = new LinkedHashMap<>();
+            dispatch.forEach((method, handler) -> recorded.put(method, method.isDefault()
+                    ? handler
+                    : new RecordedMethodHandler(EndpointContext.endpointOf(target.type(), method), handler)));
+            return invocationHandlerFactory.create(target, recorded);
+        };
+    }
+
+    @Override
+    public Client enrichClient(final Client client) {
+        return (request, options) -> {
+            final RequestEvent event = IN_FLIGHT.get();
+            final Response response = client.execute(request, options);
+            if (event == null) {
+                return response;
+            }
+            event.path = path(request);
+            event.status = response.status();
+            if (response.body() == null) {
+                event.bytes = 0;
+                return response;
+            } else if (response.body().length() != null) {
+                event.bytes = response.body().length();
+                return response;
+            }
+            return response.toBuilder()
+                    .body(new CountingResponseBody(response.body(), bytes -> event.bytes = bytes))
+                    .build();
+        };
+    }
+
+    @Override
+    public Decoder enrichDecoder(final Decoder decoder) {
+        return (response, type) -> {
+            final RequestEvent requestEvent = IN_FLIGHT.get();
+            if (requestEvent == null && !DECODE.isEnabled()) {
+                return decoder.decode(response, type);
+            }
+            final DecodeEvent event = new DecodeEvent();
+            event.begin();
+            final Object decoded = decoder.decode(response, type);
+            event.end();
+            final int entityCount = DecodedEntities.count(decoded);
+            if (requestEvent != null) {
+                requestEvent.entityCount = entityCount;
+            }
+            if (event.shouldCommit()) {
+                event.endpoint = EndpointContext.current();
+                event.path = path(response.request());
+                event.status = response.status();
+                event.bytes = response.body() == null || response.body().length() == null ? -1 : response.body().length();
+                event.entityCount = entityCount;
+                event.type = type.getTypeName();
+                event.commit();
+            }
+            return decoded;
+        };
+    }
+
+    @Override
+    public Retryer enrichRetryer(final Retryer retryer) {
+        return new RecordedRetryer(retryer);
+    }
+
+    private static String path(final Request request) {
+        if (request == null) {
+            return null;
+        }
+        try {
+            return URI.create(request.url()).getRawPath();
+        } catch (final IllegalArgumentException e) {
+            return request.url();
+        }
+    }
+
+    /**
+     * Records a {@link RequestEvent} around calls to a single feign method
+     */
+    private static final class RecordedMethodHandler implements MethodHandler {
+        private final String endpoint;
+        private final MethodHandler delegate;
+
+        RecordedMethodHandler(final String endpoint, final MethodHandler delegate) {
+            this.endpoint = endpoint;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(final Object[] argv) throws Throwable {
+            if (!REQUEST.isEnabled() && !DECODE.isEnabled() && !RATE_LIMIT_WAIT.isEnabled()) {
+                return delegate.invoke(argv);
+            }
+            final String previousEndpoint = EndpointContext.enter(endpoint);
+            final RequestEvent previousEvent = IN_FLIGHT.get();
+            final RequestEvent event = REQUEST.isEnabled() ? new RequestEvent() : null;
+            if (event != null) {
+                event.endpoint = endpoint;
+                IN_FLIGHT.set(event);
+                event.begin();
+            }
+            try {
+                final Object result = delegate.invoke(argv);
+                if (event != null) {
+                    event.success = true;
+                }
+                return result;
+            } finally {
+                if (event != null) {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.commit();
+                    }
+                    if (previousEvent == null) {
+                        IN_FLIGHT.remove();
+                    } else {
+                        IN_FLIGHT.set(previousEvent);
+                    }
+                }
+                EndpointContext.restore(previousEndpoint);
+            }
+        }
+    }
+
+    /**
+     * Records a {@link RateLimitWaitEvent} when the delegate backs off from a request rejected with
+     * {@code Retry-After}
+     */
+    private static final class RecordedRetryer implements Retryer {
+        private final Retryer delegate;
+
+        RecordedRetryer(final Retryer delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void continueOrPropagate(final RetryableException e) {
+            if (e.retryAfter() == null || !RATE_LIMIT_WAIT.isEnabled()) {
+                delegate.continueOrPropagate(e);
+                return;
+            }
+            final RateLimitWaitEvent event = new RateLimitWaitEvent();
+            event.begin();
+            delegate.continueOrPropagate(e);
+            event.end();
+            if (event.shouldCommit()) {
+                event.endpoint = EndpointContext.current();
+                event.path = e.hasRequest() ? path(e.request()) : null;
+                event.status = e.status();
+                event.commit();
+            }
+        }
+
+        @Override
+        public Retryer clone() {
+            return new RecordedRetryer(delegate.clone());
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.enemyghost.sportsdata.api.client.jfr;
+
+import jdk.jfr.EventType;
+
+/**
+ * Emits sportsdata.io client JFR events from outside the feign call path, e.g. from caching layers. Each method is a
+ * single flag check when the event is disabled.
+ *
+ * @author enemyghost
+ */
+public final class JfrEvents {
+    private static final EventType CACHE_LOOKUP = EventType.getEventType(CacheLookupEvent.class);
+
+    /**
+     * Private ctor.
+     */
+    private JfrEvents() {
+    }
+
+    /**
+     * Records a lookup of a cached endpoint response
+     *
+     * @param endpoint    endpoint config key
+     * @param hit         true if the lookup was served from cache
+     * @param entityCount number of entities served, or 0 on a miss
+     */
+    public static void cacheLookup(final String endpoint, final boolean hit, final int entityCount) {
+        if (!CACHE_LOOKUP.isEnabled()) {
+            return;
+        }
+        final CacheLookupEvent event = new CacheLookupEvent();
+        if (event.shouldCommit()) {
+            event.endpoint = endpoint;
+            event.hit = hit;
+            event.entityCount = entityCount;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.enemyghost.sportsdata.api.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spans the back-off before retrying a request the server rejected with a {@code Retry-After} header
+ *
+ * @author enemyghost
+ */
+@Name(RateLimitWaitEvent.NAME)
+@Label("sportsdata.io Rate Limit Wait")
+@Category({"sportsdata.io", "Client"})
+@Description("Back-off before retrying a request rejected with a Retry-After header")
+@StackTrace(false)
+final class RateLimitWaitEvent extends Event {
+    static final String NAME = "io.github.enemyghost.sportsdata.RateLimitWait";
+
+    @Label("Endpoint")
+    @Description("Client interface method config key")
+    String endpoint;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,44 @@
+package io.github.enemyghost.sportsdata.api.client.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Spans a call to a client endpoint from start to end, including retries and decoding
+ *
+ * @author enemyghost
+ */
+@Name(RequestEvent.NAME)
+@Label("sportsdata.io Request")
+@Category({"sportsdata.io", "Client"})
+@Description("A call to a sportsdata.io client endpoint, from start to end, including retries and decoding")
+@StackTrace(false)
+final class RequestEvent extends Event {
+    static final String NAME = "io.github.enemyghost.sportsdata.Request";
+
+    @Label("Endpoint")
+    @Description("Client interface method config key")
+    String endpoint;
+
+    @Label("Path")
+    String path;
+
+    @Label("Status")
+    @Description("HTTP status of the last response, or 0 if no response was received")
+    int status;
+
+    @Label("Response Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Entity Count")
+    int entityCount;
+
+    @Label("Success")
+    boolean success;
+}
@@ -0,0 +1,119 @@
+package io.github.enemyghost.sportsdata.api.client.metrics;
+
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live measurements for a single client endpoint, held by {@link InProcessMetricsRegistry}
+ *
+ * @author enemyghost
+ */
+public final class EndpointMetrics {
+    private final String endpoint;
+    private final Histogram latencyNanos = new Histogram();
+    private final Histogram timeToFirstByteNanos = new Histogram();
+    private final Histogram responseBytes = new Histogram();
+    private final Histogram decodeNanos = new Histogram();
+    private final Histogram entityCount = new Histogram();
+    private final LongAdder errors = new LongAdder();
+
+    EndpointMetrics(final String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * The endpoint config key, e.g. {@code NcaaBasketballV3ApiClient#players(String)}
+     *
+     * @return the endpoint config key
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Wall-clock call latency in nanoseconds, including retries and decoding
+     *
+     * @return call latency histogram
+     */
+    public Histogram getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    /**
+     * Time from sending a request until the response status and headers were received, in nanoseconds
+     *
+     * @return time to first byte histogram
+     */
+    public Histogram getTimeToFirstByteNanos() {
+        return timeToFirstByteNanos;
+    }
+
+    /**
+     * Response body sizes in bytes
+     *
+     * @return response size histogram
+     */
+    public Histogram getResponseBytes() {
+        return responseBytes;
+    }
+
+    /**
+     * Time spent decoding response bodies, in nanoseconds
+     *
+     * @return decode time histogram
+     */
+    public Histogram getDecodeNanos() {
+        return decodeNanos;
+    }
+
+    /**
+     * Number of entities decoded per response
+     *
+     * @return entity count histogram
+     */
+    public Histogram getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Number of calls which threw an exception
+     *
+     * @return number of failed calls
+     */
+    public long getErrorCount() {
+        return errors.sum();
+    }
+
+    void recordRequest(final long nanos, final boolean success) {
+        latencyNanos.record(nanos);
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    void recordTimeToFirstByte(final long nanos) {
+        timeToFirstByteNanos.record(nanos);
+    }
+
+    void recordResponseSize(final long bytes) {
+        responseBytes.record(bytes);
+    }
+
+    void recordDecode(final long nanos, final int count) {
+        decodeNanos.record(nanos);
+        entityCount.record(count);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", EndpointMetrics.class.getSimpleName() + "[", "]")
+                .add("endpoint='" + endpoint + "'")
+                .add("latencyNanos=" + latencyNanos.snapshot())
+                .add("timeToFirstByteNanos=" + timeToFirstByteNanos.snapshot())
+                .add("responseBytes=" + responseBytes.snapshot())
+                .add("decodeNanos=" + decodeNanos.snapshot())
+                .add("entityCount=" + entityCount.snapshot())
+                .add("errors=" + errors.sum())
+                .toString();
+    }
+}
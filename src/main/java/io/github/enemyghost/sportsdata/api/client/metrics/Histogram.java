@@ -0,0 +1,87 @@
+package io.github.enemyghost.sportsdata.api.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free, fixed-footprint histogram of non-negative {@code long} values using HdrHistogram-style log-linear
+ * buckets: values below 128 are counted exactly and larger values are counted in buckets whose width is at most
+ * 1/64th of their magnitude, bounding the relative error of any reported percentile to under 1.6%.
+ * <p>
+ * Recording is a single atomic increment plus a {@link LongAdder} update, so it is safe and cheap to call from any
+ * number of threads concurrently.
+ *
+ * @author enemyghost
+ */
+public final class Histogram {
+    /**
+     * Number of bits of precision within each power-of-two magnitude
+     */
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT_BITS = SUB_BUCKET_BITS - 1;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_COUNT_BITS;
+    private static final long SUB_BUCKET_MASK = SUB_BUCKET_COUNT - 1;
+
+    /**
+     * Largest trackable value is {@code 2^44 - 1}: about 4.9 hours in nanoseconds, or 16 TiB in bytes. Larger values
+     * are clamped.
+     */
+    private static final int MAX_VALUE_BITS = 44;
+    static final long MAX_TRACKABLE_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    static final int BUCKET_COUNT = (MAX_VALUE_BITS - SUB_BUCKET_BITS + 2) << SUB_BUCKET_HALF_COUNT_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a single value. Negative values are recorded as zero and values above {@link #MAX_TRACKABLE_VALUE} are
+     * clamped.
+     *
+     * @param value value to record
+     */
+    public void record(final long value) {
+        final long clamped = Math.max(0, Math.min(value, MAX_TRACKABLE_VALUE));
+        counts.incrementAndGet(indexOf(clamped));
+        sum.add(clamped);
+        if (clamped > max.get()) {
+            max.accumulateAndGet(clamped, Math::max);
+        }
+    }
+
+    /**
+     * Takes a point-in-time copy of this histogram. Values recorded concurrently may or may not be included.
+     *
+     * @return {@link HistogramSnapshot} of this histogram
+     */
+    public HistogramSnapshot snapshot() {
+        final long[] copy = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            copy[i] = counts.get(i);
+            count += copy[i];
+        }
+        return new HistogramSnapshot(copy, count, sum.sum(), max.get());
+    }
+
+    static int indexOf(final long value) {
+        final int bucketIndex = 64 - Long.numberOfLeadingZeros(value | SUB_BUCKET_MASK) - SUB_BUCKET_BITS;
+        final int subBucketIndex = (int) (value >>> bucketIndex);
+        return ((bucketIndex + 1) << SUB_BUCKET_HALF_COUNT_BITS) + subBucketIndex - SUB_BUCKET_HALF_COUNT;
+    }
+
+    /**
+     * Returns the highest value that maps to the same bucket as {@code index}
+     */
+    static long highestEquivalentValue(final int index) {
+        int bucketIndex = (index >> SUB_BUCKET_HALF_COUNT_BITS) - 1;
+        int subBucketIndex = (index & (SUB_BUCKET_HALF_COUNT - 1)) + SUB_BUCKET_HALF_COUNT;
+        if (bucketIndex < 0) {
+            subBucketIndex -= SUB_BUCKET_HALF_COUNT;
+            bucketIndex = 0;
+        }
+        return ((long) subBucketIndex << bucketIndex) + (1L << bucketIndex) - 1;
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.enemyghost.sportsdata.api.client.metrics;
+
+import java.util.StringJoiner;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+
+/**
+ * Immutable point-in-time copy of a {@link Histogram}
+ *
+ * @author enemyghost
+ */
+public final class HistogramSnapshot {
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(final long[] counts, final long count, final long sum, final long max) {
+        this.counts = counts;
+        this.count = count;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * The number of recorded values
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * The sum of all recorded values
+     *
+     * @return the sum of all recorded values
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * The largest recorded value
+     *
+     * @return the largest recorded value, or 0 if no values were recorded
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * The arithmetic mean of the recorded values
+     *
+     * @return the mean of the recorded values, or 0 if no values were recorded
+     */
+    public double getMean() {
+        return count == 0 ? 0 : (double) sum / count;
+    }
+
+    /**
+     * The value at the given percentile, e.g. {@code 99.9}. The result is the highest value equivalent to the
+     * percentile's bucket, capped at {@link #getMax()}.
+     *
+     * @param percentile percentile between 0 and 100 inclusive
+     * @return the value at the given percentile, or 0 if no values were recorded
+     */
+    public long getValueAtPercentile(final double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        if (count == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(Histogram.highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", HistogramSnapshot.class.getSimpleName() + "[", "]")
+                .add("count=" + count)
+                .add("mean=" + getMean())
+                .add("p50=" + getValueAtPercentile(50))
+                .add("p99=" + getValueAtPercentile(99))
+                .add("max=" + max)
+                .toString();
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.enemyghost.sportsdata.api.client.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Dependency-free {@link MetricsRecorder} which keeps an {@link EndpointMetrics} of lock-free histograms per endpoint
+ * in process.
+ *
+ * @author enemyghost
+ */
+public final class InProcessMetricsRegistry implements MetricsRecorder {
+    private final ConcurrentHashMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the metrics recorded for the given endpoint
+     *
+     * @param endpoint endpoint config key, e.g. {@code NcaaBasketballV3ApiClient#players(String)}
+     * @return {@link EndpointMetrics} for the endpoint, or {@link Optional#empty()} if nothing was recorded
+     */
+    public Optional<EndpointMetrics> getEndpoint(final String endpoint) {
+        return Optional.ofNullable(endpoints.get(requireNonNull(endpoint, "Null endpoint")));
+    }
+
+    /**
+     * Returns a live, unmodifiable view of the metrics for every endpoint recorded so far
+     *
+     * @return endpoint config key to {@link EndpointMetrics}
+     */
+    public Map<String, EndpointMetrics> getEndpoints() {
+        return Collections.unmodifiableMap(endpoints);
+    }
+
+    @Override
+    public void recordRequest(final String endpoint, final long latencyNanos, final boolean success) {
+        endpoint(endpoint).recordRequest(latencyNanos, success);
+    }
+
+    @Override
+    public void recordTimeToFirstByte(final String endpoint, final long nanos) {
+        endpoint(endpoint).recordTimeToFirstByte(nanos);
+    }
+
+    @Override
+    public void recordResponseSize(final String endpoint, final long bytes) {
+        endpoint(endpoint).recordResponseSize(bytes);
+    }
+
+    @Override
+    public void recordDecode(final String endpoint, final long decodeNanos, final int entityCount) {
+        endpoint(endpoint).recordDecode(decodeNanos, entityCount);
+    }
+
+    private EndpointMetrics endpoint(final String endpoint) {
+        final EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics != null ? metrics : endpoints.computeIfAbsent(endpoint, EndpointMetrics::new);
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.enemyghost.sportsdata.api.client.metrics;
+
+import feign.Client;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Response;
+import feign.codec.Decoder;
+import io.github.enemyghost.sportsdata.api.client.ClientCapability;
+import io.github.enemyghost.sportsdata.api.client.EndpointContext;
+import io.github.enemyghost.sportsdata.api.client.util.CountingResponseBody;
+import io.github.enemyghost.sportsdata.api.client.util.DecodedEntities;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ClientCapability} which records, for every method of the client interface, the call latency, time to first
+ * byte, response size, decode time and decoded entity count to a {@link MetricsRecorder}.
+ * <p>
+ * The endpoint being called is tracked per thread by {@link EndpointContext} for the duration of the call, so the
+ * transport and decoder measurements are attributed to the interface method that caused them. Default interface
+ * methods are not measured themselves; the feign method they delegate to is.
+ *
+ * @author enemyghost
+ */
+public final class MetricsCapability implements ClientCapability {
+    private final MetricsRecorder recorder;
+
+    public MetricsCapability(final MetricsRecorder recorder) {
+        this.recorder = requireNonNull(recorder, "Null metrics recorder");
+    }
+
+    @Override
+    public InvocationHandlerFactory enrichInvocationHandlerFactory(
+            final InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            final Map<Method, MethodHandler> measured = new LinkedHashMap<>();
+            dispatch.forEach((method, handler) -> measured.put(method, method.isDefault()
+                    ? handler
+                    : new MeasuredMethodHandler(EndpointContext.endpointOf(target.type(), method), handler)));
+            return invocationHandlerFactory.create(target, measured);
+        };
+    }
+
+    @Override
+    public Client enrichClient(final Client client) {
+        return (request, options) -> {
+            final String endpoint = EndpointContext.current();
+            if (endpoint == null) {
+                return client.execute(request, options);
+            }
+            final long start = System.nanoTime();
+            final Response response = client.execute(request, options);
+            recorder.recordTimeToFirstByte(endpoint, System.nanoTime() - start);
+            if (response.body() == null) {
+                recorder.recordResponseSize(endpoint, 0);
+                return response;
+            } else if (response.body().length() != null) {
+                recorder.recordResponseSize(endpoint, response.body().length());
+                return response;
+            }
+            return response.toBuilder()
+                    .body(new CountingResponseBody(response.body(), bytes -> recorder.recordResponseSize(endpoint, bytes)))
+                    .build();
+        };
+    }
+
+    @Override
+    public Decoder enrichDecoder(final Decoder decoder) {
+        return (response, type) -> {
+            final String endpoint = EndpointContext.current();
+            if (endpoint == null) {
+                return decoder.decode(response, type);
+            }
+            final long start = System.nanoTime();
+            final Object decoded = decoder.decode(response, type);
+            recorder.recordDecode(endpoint, System.nanoTime() - start, DecodedEntities.count(decoded));
+            return decoded;
+        };
+    }
+
+    /**
+     * Measures calls to a single feign method and marks it as the current endpoint while it runs
+     */
+    private final class MeasuredMethodHandler implements MethodHandler {
+        private final String endpoint;
+        private final MethodHandler delegate;
+
+        MeasuredMethodHandler(final String endpoint, final MethodHandler delegate) {
+            this.endpoint = endpoint;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(final Object[] argv) throws Throwable {
+            final String previous = EndpointContext.enter(endpoint);
+            final long start = System.nanoTime();
+            boolean success = false;
+            try {
+                final Object result = delegate.invoke(argv);
+                success = true;
+                return result;
+            } finally {
+                recorder.recordRequest(endpoint, System.nanoTime() - start, success);
+                EndpointContext.restore(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.enemyghost.sportsdata.api.client.metrics;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Receives per-endpoint client measurements from {@link MetricsCapability}. Implement this interface to adapt the
+ * client's metrics to an external metrics system; {@link InProcessMetricsRegistry} is the dependency-free default.
+ * <p>
+ * Endpoints are identified by their feign config key, e.g. {@code NcaaBasketballV3ApiClient#players(String)}.
+ * Implementations must be thread-safe and should not block.
+ *
+ * @author enemyghost
+ */
+public interface MetricsRecorder {
+    /**
+     * Records a completed call to an endpoint, including retries and decoding
+     *
+     * @param endpoint     endpoint config key
+     * @param latencyNanos wall-clock duration of the call in nanoseconds
+     * @param success      true if the call returned normally, false if it threw
+     */
+    void recordRequest(String endpoint, long latencyNanos, boolean success);
+
+    /**
+     * Records the time from sending a request until the response status and headers were received
+     *
+     * @param endpoint endpoint config key
+     * @param nanos    time to first byte in nanoseconds
+     */
+    void recordTimeToFirstByte(String endpoint, long nanos);
+
+    /**
+     * Records the size of a response body
+     *
+     * @param endpoint endpoint config key
+     * @param bytes    response body size in bytes
+     */
+    void recordResponseSize(String endpoint, long bytes);
+
+    /**
+     * Records decoding a response body into entities
+     *
+     * @param endpoint    endpoint config key
+     * @param decodeNanos time spent decoding in nanoseconds
+     * @param entityCount number of entities decoded; collection size for list endpoints, 0 or 1 otherwise
+     */
+    void recordDecode(String endpoint, long decodeNanos, int entityCount);
+
+    /**
+     * Creates a {@link MetricsRecorder} which forwards every measurement to each of the given recorders, in order
+     *
+     * @param recorders recorders to forward to
+     * @return composite {@link MetricsRecorder}
+     */
+    static MetricsRecorder composite(final MetricsRecorder... recorders) {
+        final List<MetricsRecorder> delegates = List.of(requireNonNull(recorders, "Null recorders"));
+        return new MetricsRecorder() {
+            @Override
+            public void recordRequest(final String endpoint, final long latencyNanos, final boolean success) {
+                delegates.forEach(r -> r.recordRequest(endpoint, latencyNanos, success));
+            }
+
+            @Override
+            public void recordTimeToFirstByte(final String endpoint, final long nanos) {
+                delegates.forEach(r -> r.recordTimeToFirstByte(endpoint, nanos));
+            }
+
+            @Override
+            public void recordResponseSize(final String endpoint, final long bytes) {
+                delegates.forEach(r -> r.recordResponseSize(endpoint, bytes));
+            }
+
+            @Override
+            public void recordDecode(final String endpoint, final long decodeNanos, final int entityCount) {
+                delegates.forEach(r -> r.recordDecode(endpoint, decodeNanos, entityCount));
+            }
+        };
+    }
+}
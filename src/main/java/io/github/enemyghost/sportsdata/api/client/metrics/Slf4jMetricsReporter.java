@@ -0,0 +1,51 @@
+package io.github.enemyghost.sportsdata.api.client.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Logs a one-line summary per endpoint of an {@link InProcessMetricsRegistry}. Schedule {@link #run()} on an executor
+ * to report periodically.
+ *
+ * @author enemyghost
+ */
+public final class Slf4jMetricsReporter implements Runnable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Slf4jMetricsReporter.class);
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final InProcessMetricsRegistry registry;
+
+    public Slf4jMetricsReporter(final InProcessMetricsRegistry registry) {
+        this.registry = requireNonNull(registry, "Null registry");
+    }
+
+    @Override
+    public void run() {
+        if (!LOGGER.isInfoEnabled()) {
+            return;
+        }
+        registry.getEndpoints().values().forEach(metrics -> {
+            final HistogramSnapshot latency = metrics.getLatencyNanos().snapshot();
+            final HistogramSnapshot ttfb = metrics.getTimeToFirstByteNanos().snapshot();
+            final HistogramSnapshot decode = metrics.getDecodeNanos().snapshot();
+            final HistogramSnapshot bytes = metrics.getResponseBytes().snapshot();
+            final HistogramSnapshot entities = metrics.getEntityCount().snapshot();
+            LOGGER.info(String.format("%s calls=%d errors=%d latency p50=%.2fms p99=%.2fms max=%.2fms "
+                            + "ttfb p50=%.2fms p99=%.2fms decode p50=%.2fms p99=%.2fms bytes mean=%.0f entities mean=%.1f",
+                    metrics.getEndpoint(),
+                    latency.getCount(),
+                    metrics.getErrorCount(),
+                    latency.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    latency.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    latency.getMax() / NANOS_PER_MILLI,
+                    ttfb.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    ttfb.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    decode.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                    decode.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                    bytes.getMean(),
+                    entities.getMean()));
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package io.github.enemyghost.sportsdata.api.client.request;
+
+import feign.Client;
+import feign.FeignException;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Request;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import feign.Util;
+import feign.codec.DecodeException;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import io.github.enemyghost.sportsdata.api.client.request.PrecompiledRequestCapability.RecordedRequest;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link MethodHandler} of one client method which records the request feign builds for each distinct set of
+ * arguments and executes later calls with equal arguments from the recording. Executing mirrors feign's own handler,
+ * as configured by {@link io.github.enemyghost.sportsdata.api.client.FeignClientFactory}: 2xx and 404 responses are
+ * decoded, other statuses go to the error decoder, and {@link RetryableException}s are retried.
+ *
+ * @author enemyghost
+ */
+final class PrecompiledMethodHandler implements MethodHandler {
+    private final MethodHandler delegate;
+    private final String configKey;
+    private final Type returnType;
+    private final Client client;
+    private final Decoder decoder;
+    private final Retryer retryer;
+    private final ErrorDecoder errorDecoder;
+    private final ThreadLocal<RecordedRequest> recording;
+    private final int maxRequests;
+    private final ConcurrentMap<List<Object>, RecordedRequest> requests = new ConcurrentHashMap<>();
+
+    /**
+     * Set once the method is found to send something other than a {@code GET} without a body
+     */
+    private volatile boolean uncompilable;
+
+    PrecompiledMethodHandler(final MethodHandler delegate,
+                             final String configKey,
+                             final Type returnType,
+                             final PrecompiledRequestCapability capability) {
+        this.delegate = delegate;
+        this.configKey = configKey;
+        this.returnType = returnType;
+        client = capability.getClient();
+        decoder = capability.getDecoder();
+        retryer = capability.getRetryer();
+        errorDecoder = capability.getErrorDecoder();
+        recording = capability.getRecording();
+        maxRequests = capability.getMaxRequestsPerMethod();
+    }
+
+    @Override
+    public Object invoke(final Object[] argv) throws Throwable {
+        final List<Object> key = uncompilable ? null : keyOf(argv);
+        if (key == null) {
+            return delegate.invoke(argv);
+        }
+        final RecordedRequest recorded = requests.get(key);
+        return recorded == null ? record(key, argv) : execute(recorded.request, recorded.options);
+    }
+
+    /**
+     * @return number of recorded requests
+     */
+    int size() {
+        return requests.size();
+    }
+
+    private Object record(final List<Object> key, final Object[] argv) throws Throwable {
+        final RecordedRequest recorded = new RecordedRequest();
+        recording.set(recorded);
+        try {
+            return delegate.invoke(argv);
+        } finally {
+            recording.remove();
+            if (recorded.request != null) {
+                if (recorded.request.httpMethod() != Request.HttpMethod.GET
+                        || recorded.request.requestBody().asBytes() != null) {
+                    uncompilable = true;
+                } else {
+                    if (requests.size() >= maxRequests) {
+                        requests.clear();
+                    }
+                    requests.put(key, recorded);
+                }
+            }
+        }
+    }
+
+    private Object execute(final Request request, final Request.Options options) throws Throwable {
+        final Retryer attempts = retryer.clone();
+        while (true) {
+            try {
+                return executeAndDecode(request, options);
+            } catch (final RetryableException e) {
+                attempts.continueOrPropagate(e);
+            }
+        }
+    }
+
+    private Object executeAndDecode(final Request request, final Request.Options options) throws Throwable {
+        final Response response;
+        try {
+            response = client.execute(request, options).toBuilder().request(request).build();
+        } catch (final IOException e) {
+            throw new RetryableException(-1, String.format("%s executing %s %s",
+                    e.getMessage(), request.httpMethod(), request.url()), request.httpMethod(), e, null, request);
+        }
+        try {
+            if (response.status() >= 200 && response.status() < 300) {
+                return returnType == void.class ? null : decode(response);
+            } else if (response.status() == 404 && returnType != void.class) {
+                return decode(response);
+            }
+            throw errorDecoder.decode(configKey, response);
+        } catch (final IOException e) {
+            throw new DecodeException(response.status(), String.format("%s reading %s %s",
+                    e.getMessage(), request.httpMethod(), request.url()), request, e);
+        } finally {
+            Util.ensureClosed(response.body());
+        }
+    }
+
+    private Object decode(final Response response) throws IOException {
+        try {
+            return decoder.decode(response, returnType);
+        } catch (final FeignException e) {
+            throw e;
+        } catch (final RuntimeException e) {
+            throw new DecodeException(response.status(), e.getMessage(), response.request(), e);
+        }
+    }
+
+    /**
+     * @return the arguments as a map key, or null if any of them might change or be compared by identity
+     */
+    private static List<Object> keyOf(final Object[] argv) {
+        if (argv == null || argv.length == 0) {
+            return Collections.emptyList();
+        }
+        for (final Object arg : argv) {
+            if (!(arg instanceof String || arg instanceof Integer || arg instanceof Long || arg instanceof Short
+                    || arg instanceof Byte || arg instanceof Double || arg instanceof Float
+                    || arg instanceof Boolean || arg instanceof Character || arg instanceof Enum)) {
+                return null;
+            }
+        }
+        return Arrays.asList(argv.clone());
+    }
+}
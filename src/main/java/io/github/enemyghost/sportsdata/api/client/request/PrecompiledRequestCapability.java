@@ -0,0 +1,179 @@
+package io.github.enemyghost.sportsdata.api.client.request;
+
+import feign.Client;
+import feign.InvocationHandlerFactory;
+import feign.InvocationHandlerFactory.MethodHandler;
+import feign.Request;
+import feign.Response;
+import feign.Retryer;
+import feign.codec.Decoder;
+import feign.codec.ErrorDecoder;
+import io.github.enemyghost.sportsdata.api.client.ClientCapability;
+import io.github.enemyghost.sportsdata.api.client.EndpointContext;
+
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link ClientCapability} which builds the request of each client method once per distinct set of arguments and
+ * reuses it, for polls that call the same URLs over and over. The first call with some arguments takes feign's usual
+ * path, which resolves the JAX-RS path template, runs the request interceptors, such as the one adding the API key,
+ * and builds the {@link Request}. This capability records that request and the {@link Request.Options} it was sent
+ * with, and later calls with equal arguments send the recorded request straight to the transport and decode the
+ * response as feign would, retrying with a clone of the configured {@link Retryer}.
+ * <p>
+ * Only {@code GET}s without a body whose arguments are all strings, boxed primitives or enums are precompiled. Other
+ * calls, and default interface methods, take feign's usual path. Each method keeps at most
+ * {@code maxRequestsPerMethod} requests and starts over once it has that many, so that polls of a changing date do not
+ * accumulate requests.
+ * <p>
+ * Precompiled calls do not see configuration added to the {@link feign.Feign.Builder} after the factory creates it:
+ * they handle error responses with this capability's {@link ErrorDecoder}, {@link ErrorDecoder.Default} unless
+ * configured, and they are not logged. Interceptors which add something different to every request are run only for
+ * the first. List this capability last, so that the transports and decoders of the others apply to precompiled calls
+ * and their method handlers wrap it. An instance applies to the client of a single builder.
+ *
+ * @author enemyghost
+ */
+public final class PrecompiledRequestCapability implements ClientCapability {
+    private final int maxRequestsPerMethod;
+    private final ErrorDecoder errorDecoder;
+    private final ThreadLocal<RecordedRequest> recording = new ThreadLocal<>();
+
+    private Client client;
+    private Decoder decoder;
+    private Retryer retryer;
+
+    /**
+     * Creates a capability keeping up to 256 requests per method
+     */
+    public PrecompiledRequestCapability() {
+        this(newBuilder());
+    }
+
+    private PrecompiledRequestCapability(final Builder builder) {
+        checkArgument(builder.maxRequestsPerMethod > 0, "Max requests per method must be positive");
+        maxRequestsPerMethod = builder.maxRequestsPerMethod;
+        errorDecoder = requireNonNull(builder.errorDecoder, "Null error decoder");
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    @Override
+    public synchronized Client enrichClient(final Client client) {
+        if (this.client != null) {
+            throw new IllegalStateException("Capability already applied to a client");
+        }
+        this.client = (request, options) -> {
+            final RecordedRequest recorded = recording.get();
+            if (recorded != null && recorded.request == null) {
+                recorded.request = request;
+                recorded.options = options;
+            }
+            return client.execute(request, options);
+        };
+        return this.client;
+    }
+
+    @Override
+    public synchronized Decoder enrichDecoder(final Decoder decoder) {
+        this.decoder = decoder;
+        return decoder;
+    }
+
+    @Override
+    public synchronized Retryer enrichRetryer(final Retryer retryer) {
+        this.retryer = retryer;
+        return retryer;
+    }
+
+    @Override
+    public InvocationHandlerFactory enrichInvocationHandlerFactory(
+            final InvocationHandlerFactory invocationHandlerFactory) {
+        return (target, dispatch) -> {
+            final Map<Method, MethodHandler> precompiled = new LinkedHashMap<>();
+            synchronized (this) {
+                if (client == null || decoder == null || retryer == null) {
+                    throw new IllegalStateException("Capability must also decorate the client, decoder and retryer");
+                }
+                dispatch.forEach((method, handler) -> precompiled.put(method,
+                        method.isDefault() || method.getReturnType() == Response.class
+                                ? handler
+                                : new PrecompiledMethodHandler(handler,
+                                        EndpointContext.endpointOf(target.type(), method),
+                                        method.getGenericReturnType(),
+                                        this)));
+            }
+            return invocationHandlerFactory.create(target, precompiled);
+        };
+    }
+
+    int getMaxRequestsPerMethod() {
+        return maxRequestsPerMethod;
+    }
+
+    ErrorDecoder getErrorDecoder() {
+        return errorDecoder;
+    }
+
+    ThreadLocal<RecordedRequest> getRecording() {
+        return recording;
+    }
+
+    Client getClient() {
+        return client;
+    }
+
+    Decoder getDecoder() {
+        return decoder;
+    }
+
+    Retryer getRetryer() {
+        return retryer;
+    }
+
+    /**
+     * Request sent by feign for one set of arguments, filled in by the transport while it is recorded
+     */
+    static final class RecordedRequest {
+        Request request;
+        Request.Options options;
+    }
+
+    public static final class Builder {
+        private int maxRequestsPerMethod = 256;
+        private ErrorDecoder errorDecoder = new ErrorDecoder.Default();
+
+        private Builder() {
+        }
+
+        /**
+         * @param maxRequestsPerMethod number of distinct argument sets to keep requests for, per method
+         * @return this builder
+         */
+        public Builder withMaxRequestsPerMethod(final int maxRequestsPerMethod) {
+            this.maxRequestsPerMethod = maxRequestsPerMethod;
+            return this;
+        }
+
+        /**
+         * @param errorDecoder decodes the error responses of precompiled calls; set it to the builder's, if that is
+         *                     not the default
+         * @return this builder
+         */
+        public Builder withErrorDecoder(final ErrorDecoder errorDecoder) {
+            this.errorDecoder = errorDecoder;
+            return this;
+        }
+
+        public PrecompiledRequestCapability build() {
+            return new PrecompiledRequestCapability(this);
+        }
+    }
+}
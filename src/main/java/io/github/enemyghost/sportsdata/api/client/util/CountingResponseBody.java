@@ -0,0 +1,82 @@
+package io.github.enemyghost.sportsdata.api.client.util;
+
+import feign.Response;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.function.LongConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * {@link Response.Body} decorator which counts the bytes read from the body and reports the total once, when the body
+ * is closed. Used to measure responses whose length is not known up front.
+ *
+ * @author enemyghost
+ */
+public final class CountingResponseBody implements Response.Body {
+    private final Response.Body delegate;
+    private final LongConsumer onClose;
+    private long bytesRead;
+    private boolean reported;
+
+    /**
+     * @param delegate body to count
+     * @param onClose  receives the number of bytes read when the body is closed
+     */
+    public CountingResponseBody(final Response.Body delegate, final LongConsumer onClose) {
+        this.delegate = requireNonNull(delegate, "Null body");
+        this.onClose = requireNonNull(onClose, "Null close listener");
+    }
+
+    @Override
+    public Integer length() {
+        return delegate.length();
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return delegate.isRepeatable();
+    }
+
+    @Override
+    public InputStream asInputStream() throws IOException {
+        return new FilterInputStream(delegate.asInputStream()) {
+            @Override
+            public int read() throws IOException {
+                final int b = super.read();
+                if (b >= 0) {
+                    bytesRead++;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                final int n = super.read(b, off, len);
+                if (n > 0) {
+                    bytesRead += n;
+                }
+                return n;
+            }
+        };
+    }
+
+    @Override
+    public Reader asReader(final Charset charset) throws IOException {
+        return new InputStreamReader(asInputStream(), charset);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!reported) {
+            reported = true;
+            onClose.accept(bytesRead);
+        }
+        delegate.close();
+    }
+}
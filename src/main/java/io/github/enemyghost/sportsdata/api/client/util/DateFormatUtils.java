@@ -3,18 +3,13 @@ package io.github.enemyghost.sportsdata.api.client.util;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 
 /**
- * Utilities for formatting dates for sportsdata.io endpoints.
+ * Utilities for formatting dates for sportsdata.io endpoints, backed by {@link SportsDataTimeCodec}.
  *
  * @author enemyghost
  */
 public final class DateFormatUtils {
-    private static final DateTimeFormatter DATE_PARAM_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MMM-dd");
-    private static final ZoneId SPORTSDATA_IO_ZONE = ZoneId.of("America/New_York");
-
     private DateFormatUtils() {
     }
 
@@ -25,7 +20,7 @@ public final class DateFormatUtils {
      * @return formatted date string
      */
     public static String toDatePathParam(final LocalDate localDate) {
-        return DATE_PARAM_FORMATTER.format(localDate).toUpperCase();
+        return SportsDataTimeCodec.toDatePathParam(localDate);
     }
 
     /**
@@ -35,6 +30,17 @@ public final class DateFormatUtils {
      * @return {@link Instant}
      */
     public static Instant toInstant(final LocalDateTime localDateTime) {
-        return localDateTime.atZone(SPORTSDATA_IO_ZONE).toInstant();
+        return Instant.ofEpochSecond(SportsDataTimeCodec.toEpochSecond(localDateTime), localDateTime.getNano());
+    }
+
+    /**
+     * Converts an instant to the {@link LocalDateTime} the sportsdata.io API would represent it as. Inverse of
+     * {@link #toInstant(LocalDateTime)}.
+     *
+     * @param instant {@link Instant}
+     * @return {@link LocalDateTime}
+     */
+    public static LocalDateTime toLocalDateTime(final Instant instant) {
+        return SportsDataTimeCodec.toLocalDateTime(instant.getEpochSecond(), instant.getNano());
     }
 }
@@ -0,0 +1,35 @@
+package io.github.enemyghost.sportsdata.api.client.util;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Utilities for describing values produced by the client's decoders.
+ *
+ * @author enemyghost
+ */
+public final class DecodedEntities {
+    /**
+     * Private ctor.
+     */
+    private DecodedEntities() {
+    }
+
+    /**
+     * Counts the entities in a decoded response: the size of a collection, 0 or 1 for an {@link Optional}, 0 for
+     * null and 1 for anything else.
+     *
+     * @param decoded decoded response
+     * @return number of entities in the decoded response
+     */
+    public static int count(final Object decoded) {
+        if (decoded == null) {
+            return 0;
+        } else if (decoded instanceof Collection) {
+            return ((Collection<?>) decoded).size();
+        } else if (decoded instanceof Optional) {
+            return ((Optional<?>) decoded).map(DecodedEntities::count).orElse(0);
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.enemyghost.sportsdata.api.client.util;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable open-addressing hash map from primitive {@code int} keys to non-null values, for lookups by ID which
+ * neither box the key nor allocate. Keys and values are held in parallel arrays probed linearly; an empty slot is one
+ * whose value is null, so every {@code int} is a valid key.
+ * <p>
+ * Instances are immutable once built, and are safe to read from any number of threads without synchronization.
+ *
+ * @param <V> value type
+ * @author enemyghost
+ */
+public final class IntObjectMap<V> {
+    private static final IntObjectMap<?> EMPTY = new Builder<>(0).build();
+
+    private final int[] keys;
+    private final Object[] values;
+    private final int mask;
+    private final int size;
+
+    private IntObjectMap(final int[] keys, final Object[] values, final int size) {
+        this.keys = keys;
+        this.values = values;
+        this.mask = keys.length - 1;
+        this.size = size;
+    }
+
+    public static <V> Builder<V> newBuilder(final int expectedSize) {
+        return new Builder<>(expectedSize);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <V> IntObjectMap<V> empty() {
+        return (IntObjectMap<V>) EMPTY;
+    }
+
+    /**
+     * Number of keys in the map
+     *
+     * @return number of keys
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the value of a key
+     *
+     * @param key key to look up
+     * @return the value, or null if the key is not present
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final int key) {
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            final Object value = values[i];
+            if (value == null || keys[i] == key) {
+                return (V) value;
+            }
+        }
+    }
+
+    /**
+     * Returns the value of a key, or a default if the key is not present
+     *
+     * @param key          key to look up
+     * @param defaultValue value to return if the key is not present
+     * @return the value, or {@code defaultValue} if the key is not present
+     */
+    public V getOrDefault(final int key, final V defaultValue) {
+        final V value = get(key);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Whether the key is present
+     *
+     * @param key key to look up
+     * @return true if present, false otherwise
+     */
+    public boolean containsKey(final int key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Calls {@code action} for each entry, in no particular order
+     *
+     * @param action action to call with each key and value
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(final IntObjectConsumer<? super V> action) {
+        requireNonNull(action, "Null action");
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                action.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    /**
+     * Stat and team IDs are mostly sequential, so spread them before masking to avoid long probe runs
+     */
+    private static int hash(final int key) {
+        final int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * An {@link IntObjectMap} entry consumer, the primitive specialization of {@link BiConsumer}
+     *
+     * @param <V> value type
+     */
+    @FunctionalInterface
+    public interface IntObjectConsumer<V> {
+        void accept(int key, V value);
+    }
+
+    /**
+     * Accumulates entries for an {@link IntObjectMap}. Putting a key which is already present replaces its value.
+     *
+     * @param <V> value type
+     */
+    public static final class Builder<V> {
+        private int[] keys;
+        private Object[] values;
+        private int size;
+
+        private Builder(final int expectedSize) {
+            allocate(capacityFor(expectedSize));
+        }
+
+        public Builder<V> put(final int key, final V value) {
+            requireNonNull(value, "Null value");
+            if ((size + 1) * 2L > keys.length) {
+                resize();
+            }
+            if (insert(keys, values, key, value)) {
+                size++;
+            }
+            return this;
+        }
+
+        /**
+         * Returns the value of a key put so far
+         *
+         * @param key key to look up
+         * @return the value, or null if the key has not been put
+         */
+        @SuppressWarnings("unchecked")
+        public V get(final int key) {
+            final int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                final Object value = values[i];
+                if (value == null || keys[i] == key) {
+                    return (V) value;
+                }
+            }
+        }
+
+        public IntObjectMap<V> build() {
+            return new IntObjectMap<>(Arrays.copyOf(keys, keys.length), Arrays.copyOf(values, values.length), size);
+        }
+
+        private void resize() {
+            final int[] oldKeys = keys;
+            final Object[] oldValues = values;
+            allocate(oldKeys.length * 2);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldValues[i] != null) {
+                    insert(keys, values, oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private void allocate(final int capacity) {
+            keys = new int[capacity];
+            values = new Object[capacity];
+        }
+
+        private static boolean insert(final int[] keys, final Object[] values, final int key, final Object value) {
+            final int mask = keys.length - 1;
+            for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+                if (values[i] == null) {
+                    keys[i] = key;
+                    values[i] = value;
+                    return true;
+                } else if (keys[i] == key) {
+                    values[i] = value;
+                    return false;
+                }
+            }
+        }
+
+        private static int capacityFor(final int expectedSize) {
+            int capacity = 8;
+            while (capacity < expectedSize * 2L) {
+                capacity <<= 1;
+            }
+            return capacity;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.enemyghost.sportsdata.api.client.util;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Utilities for entities which store nullable integers as primitive {@code int} fields, recording which of them are
+ * null in a single {@code int} bitmask with one bit per field. A set bit means the field is absent, so a mask of
+ * {@code 0} means every field is present.
+ *
+ * @author enemyghost
+ */
+public final class NullMask {
+    private NullMask() {
+    }
+
+    /**
+     * Unboxes a nullable integer for storage in a primitive field
+     *
+     * @param val nullable integer
+     * @return the value, or {@code 0} if it is null
+     */
+    public static int unbox(final Integer val) {
+        return val == null ? 0 : val;
+    }
+
+    /**
+     * Returns the mask bit to set for a nullable integer
+     *
+     * @param val nullable integer
+     * @param bit the field's bit in the mask
+     * @return {@code bit} if the value is null, {@code 0} otherwise
+     */
+    public static int absent(final Integer val, final int bit) {
+        return val == null ? bit : 0;
+    }
+
+    /**
+     * Whether the field with the given bit is present
+     *
+     * @param mask null mask
+     * @param bit  the field's bit in the mask
+     * @return true if the field is present
+     */
+    public static boolean isPresent(final int mask, final int bit) {
+        return (mask & bit) == 0;
+    }
+
+    /**
+     * Returns the value of a field, failing if it is absent
+     *
+     * @param mask  null mask
+     * @param bit   the field's bit in the mask
+     * @param value the field's primitive value
+     * @return {@code value}
+     * @throws NoSuchElementException if the field is absent
+     */
+    public static int require(final int mask, final int bit, final int value) {
+        if (!isPresent(mask, bit)) {
+            throw new NoSuchElementException("No value present");
+        }
+        return value;
+    }
+
+    /**
+     * Boxes the value of a field
+     *
+     * @param mask  null mask
+     * @param bit   the field's bit in the mask
+     * @param value the field's primitive value
+     * @return the boxed value, or null if the field is absent
+     */
+    public static Integer box(final int mask, final int bit, final int value) {
+        return isPresent(mask, bit) ? value : null;
+    }
+
+    /**
+     * Wraps the value of a field in an {@link Optional}
+     *
+     * @param mask  null mask
+     * @param bit   the field's bit in the mask
+     * @param value the field's primitive value
+     * @return the value, or {@link Optional#empty()} if the field is absent
+     */
+    public static Optional<Integer> toOptional(final int mask, final int bit, final int value) {
+        return isPresent(mask, bit) ? Optional.of(value) : Optional.empty();
+    }
+}
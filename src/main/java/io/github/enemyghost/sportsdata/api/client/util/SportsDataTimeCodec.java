@@ -0,0 +1,402 @@
+package io.github.enemyghost.sportsdata.api.client.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Allocation-free conversions between the dates and times of the sportsdata.io API and their epoch values.
+ * <p>
+ * The API writes timestamps as {@code yyyy-MM-ddTHH:mm:ss} in US Eastern time, without an offset. Rather than build a
+ * {@link LocalDateTime} and resolve the zone's rules for each one, timestamps are parsed straight from a character
+ * range, such as a parser's text buffer, to epoch seconds, and Eastern offsets are looked up in a table of the zone's
+ * transitions between 1900 and 2100, computed once from the JDK's time-zone
+ * data. Outside of those years, the zone's rules are used directly. Local times in a spring-forward gap or a fall-back
+ * overlap resolve the way {@link LocalDateTime#atZone(ZoneId)} resolves them.
+ * <p>
+ * Path parameter strings are cached per date, since a poller requests the same few dates over and over.
+ *
+ * @author enemyghost
+ */
+public final class SportsDataTimeCodec {
+    /**
+     * Zone of the times returned by the sportsdata.io API
+     */
+    public static final ZoneId ZONE = ZoneId.of("America/New_York");
+
+    private static final int TABLE_START_YEAR = 1900;
+    private static final int TABLE_END_YEAR = 2100;
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+    private static final int PATH_PARAM_CACHE_SIZE = 1024;
+    private static final String[] MONTHS =
+            {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final DateTimeFormatter FALLBACK_PATH_PARAM_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MMM-dd", Locale.ENGLISH);
+
+    private static final ZoneRules RULES = ZONE.getRules();
+    private static final long TABLE_START_EPOCH_SECOND =
+            LocalDate.of(TABLE_START_YEAR, 1, 1).atStartOfDay(ZONE).toEpochSecond();
+    private static final long TABLE_END_EPOCH_SECOND =
+            LocalDate.of(TABLE_END_YEAR + 1, 1, 1).atStartOfDay(ZONE).toEpochSecond();
+    private static final long TABLE_START_LOCAL_SECOND =
+            LocalDate.of(TABLE_START_YEAR, 1, 2).toEpochDay() * SECONDS_PER_DAY;
+    private static final long TABLE_END_LOCAL_SECOND =
+            LocalDate.of(TABLE_END_YEAR, 12, 31).toEpochDay() * SECONDS_PER_DAY;
+    private static final int INITIAL_OFFSET = RULES.getOffset(Instant.ofEpochSecond(TABLE_START_EPOCH_SECOND))
+            .getTotalSeconds();
+
+    /**
+     * Epoch second of each transition
+     */
+    private static final long[] TRANSITION_EPOCH_SECONDS;
+
+    /**
+     * Local second from which each transition's offset applies to local times: the later of the local times just
+     * before and just after the transition, so that gaps and overlaps resolve to the earlier offset
+     */
+    private static final long[] TRANSITION_LOCAL_SECONDS;
+
+    /**
+     * Offset, in seconds, after each transition
+     */
+    private static final int[] OFFSETS_AFTER;
+
+    private static final AtomicReferenceArray<DatePathParam> PATH_PARAMS =
+            new AtomicReferenceArray<>(PATH_PARAM_CACHE_SIZE);
+
+    static {
+        final long[] epochSeconds = new long[1024];
+        final long[] localSeconds = new long[1024];
+        final int[] offsets = new int[1024];
+        int count = 0;
+        ZoneOffsetTransition transition = RULES.nextTransition(Instant.ofEpochSecond(TABLE_START_EPOCH_SECOND));
+        while (transition != null && transition.toEpochSecond() < TABLE_END_EPOCH_SECOND) {
+            final long epochSecond = transition.toEpochSecond();
+            final int before = transition.getOffsetBefore().getTotalSeconds();
+            final int after = transition.getOffsetAfter().getTotalSeconds();
+            epochSeconds[count] = epochSecond;
+            localSeconds[count] = epochSecond + Math.max(before, after);
+            offsets[count] = after;
+            count++;
+            transition = RULES.nextTransition(transition.getInstant());
+        }
+        TRANSITION_EPOCH_SECONDS = Arrays.copyOf(epochSeconds, count);
+        TRANSITION_LOCAL_SECONDS = Arrays.copyOf(localSeconds, count);
+        OFFSETS_AFTER = Arrays.copyOf(offsets, count);
+    }
+
+    private SportsDataTimeCodec() {
+    }
+
+    /**
+     * Formats the date for use in path parameters of sportsdata.io endpoints, e.g. {@code 2020-FEB-08}
+     *
+     * @param localDate {@link LocalDate} to format
+     * @return formatted date string
+     */
+    public static String toDatePathParam(final LocalDate localDate) {
+        final long epochDay = requireNonNull(localDate, "Null localDate").toEpochDay();
+        final int slot = (int) (epochDay & (PATH_PARAM_CACHE_SIZE - 1));
+        final DatePathParam cached = PATH_PARAMS.get(slot);
+        if (cached != null && cached.epochDay == epochDay) {
+            return cached.value;
+        }
+        final String value = formatDatePathParam(localDate);
+        PATH_PARAMS.lazySet(slot, new DatePathParam(epochDay, value));
+        return value;
+    }
+
+    /**
+     * Converts a local date and time in the API's zone to epoch seconds
+     *
+     * @param localDateTime {@link LocalDateTime} in the API's zone
+     * @return epoch second
+     */
+    public static long toEpochSecond(final LocalDateTime localDateTime) {
+        return toEpochSecond(localDateTime.toLocalDate().toEpochDay() * SECONDS_PER_DAY
+                + localDateTime.toLocalTime().toSecondOfDay());
+    }
+
+    /**
+     * Converts a local second, i.e. the epoch second a local date and time would have in UTC, in the API's zone to
+     * epoch seconds
+     *
+     * @param localSecond local date and time, as seconds since 1970-01-01T00:00:00
+     * @return epoch second
+     */
+    public static long toEpochSecond(final long localSecond) {
+        if (localSecond < TABLE_START_LOCAL_SECOND || localSecond >= TABLE_END_LOCAL_SECOND) {
+            return LocalDateTime.ofEpochSecond(localSecond, 0, ZoneOffset.UTC).atZone(ZONE).toEpochSecond();
+        }
+        int index = Arrays.binarySearch(TRANSITION_LOCAL_SECONDS, localSecond);
+        index = index >= 0 ? index + 1 : -index - 1;
+        return localSecond - (index == 0 ? INITIAL_OFFSET : OFFSETS_AFTER[index - 1]);
+    }
+
+    /**
+     * Offset of the API's zone at an instant
+     *
+     * @param epochSecond epoch second of the instant
+     * @return offset from UTC, in seconds
+     */
+    public static int offsetSeconds(final long epochSecond) {
+        if (epochSecond < TABLE_START_EPOCH_SECOND || epochSecond >= TABLE_END_EPOCH_SECOND) {
+            return RULES.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        int index = Arrays.binarySearch(TRANSITION_EPOCH_SECONDS, epochSecond);
+        index = index >= 0 ? index + 1 : -index - 1;
+        return index == 0 ? INITIAL_OFFSET : OFFSETS_AFTER[index - 1];
+    }
+
+    /**
+     * Converts an instant to the local date and time the API would represent it as
+     *
+     * @param epochSecond epoch second of the instant
+     * @param nanos       nanosecond of the second
+     * @return {@link LocalDateTime} in the API's zone
+     */
+    public static LocalDateTime toLocalDateTime(final long epochSecond, final int nanos) {
+        return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.ofTotalSeconds(offsetSeconds(epochSecond)));
+    }
+
+    /**
+     * Parses a timestamp as written by the API, {@code yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]} in the API's zone, to epoch
+     * seconds, discarding any fraction of a second
+     *
+     * @param chars  characters
+     * @param offset offset of the first character
+     * @param length number of characters
+     * @return epoch second
+     * @throws DateTimeParseException if the characters are not a valid timestamp
+     */
+    public static long parseEpochSecond(final char[] chars, final int offset, final int length) {
+        return toEpochSecond(parseLocalSecond(chars, offset, length));
+    }
+
+    /**
+     * Parses a timestamp as written by the API to epoch seconds
+     *
+     * @param text timestamp, {@code yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]} in the API's zone
+     * @return epoch second
+     * @throws DateTimeParseException if the text is not a valid timestamp
+     * @see #parseEpochSecond(char[], int, int)
+     */
+    public static long parseEpochSecond(final String text) {
+        return parseEpochSecond(text.toCharArray(), 0, text.length());
+    }
+
+    /**
+     * Parses a timestamp as written by the API, {@code yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]} in the API's zone, to an
+     * instant, allocating nothing but the instant
+     *
+     * @param chars  characters
+     * @param offset offset of the first character
+     * @param length number of characters
+     * @return {@link Instant}
+     * @throws DateTimeParseException if the characters are not a valid timestamp
+     */
+    public static Instant parseInstant(final char[] chars, final int offset, final int length) {
+        final long epochSecond = toEpochSecond(parseLocalSecond(chars, offset, length));
+        return Instant.ofEpochSecond(epochSecond, parseNanos(chars, offset, length));
+    }
+
+    /**
+     * Parses a timestamp as written by the API, {@code yyyy-MM-ddTHH:mm[:ss[.SSSSSSSSS]]}, to a {@link LocalDateTime},
+     * allocating nothing but the result
+     *
+     * @param chars  characters
+     * @param offset offset of the first character
+     * @param length number of characters
+     * @return {@link LocalDateTime}
+     * @throws DateTimeParseException if the characters are not a valid timestamp
+     */
+    public static LocalDateTime parseLocalDateTime(final char[] chars, final int offset, final int length) {
+        return LocalDateTime.ofEpochSecond(parseLocalSecond(chars, offset, length), parseNanos(chars, offset, length),
+                ZoneOffset.UTC);
+    }
+
+    /**
+     * Parses a date, {@code yyyy-MM-dd}, to its epoch day. Like Jackson's {@code LocalDateDeserializer}, a timestamp
+     * is accepted too, and its time is discarded.
+     *
+     * @param chars  characters
+     * @param offset offset of the first character
+     * @param length number of characters
+     * @return epoch day
+     * @throws DateTimeParseException if the characters are not a valid date or timestamp
+     */
+    public static long parseEpochDay(final char[] chars, final int offset, final int length) {
+        if (length > 10 && chars[offset + 10] == 'T') {
+            return Math.floorDiv(parseLocalSecond(chars, offset, length), SECONDS_PER_DAY);
+        }
+        if (length != 10) {
+            throw parseException(chars, offset, length, 0);
+        }
+        return parseDate(chars, offset, length);
+    }
+
+    /**
+     * Parses a date, {@code yyyy-MM-dd} or a timestamp, to its epoch day
+     *
+     * @param text date or timestamp
+     * @return epoch day
+     * @throws DateTimeParseException if the text is not a valid date or timestamp
+     * @see #parseEpochDay(char[], int, int)
+     */
+    public static long parseEpochDay(final String text) {
+        return parseEpochDay(text.toCharArray(), 0, text.length());
+    }
+
+    private static long parseLocalSecond(final char[] chars, final int offset, final int length) {
+        if (length < 16 || chars[offset + 10] != 'T' || chars[offset + 13] != ':') {
+            throw parseException(chars, offset, length, 0);
+        }
+        final long epochDay = parseDate(chars, offset, length);
+        final int hour = digits(chars, offset, length, 11, 2, 23);
+        final int minute = digits(chars, offset, length, 14, 2, 59);
+        int second = 0;
+        if (length > 16) {
+            if (length < 19 || chars[offset + 16] != ':') {
+                throw parseException(chars, offset, length, 16);
+            }
+            second = digits(chars, offset, length, 17, 2, 59);
+            if (length > 19) {
+                if (length > 29 || length == 20 || chars[offset + 19] != '.') {
+                    throw parseException(chars, offset, length, 19);
+                }
+                digits(chars, offset, length, 20, length - 20, Integer.MAX_VALUE);
+            }
+        }
+        return epochDay * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second;
+    }
+
+    private static int parseNanos(final char[] chars, final int offset, final int length) {
+        if (length <= 20) {
+            return 0;
+        }
+        int nanos = digits(chars, offset, length, 20, length - 20, Integer.MAX_VALUE);
+        for (int i = length - 20; i < 9; i++) {
+            nanos *= 10;
+        }
+        return nanos;
+    }
+
+    private static long parseDate(final char[] chars, final int offset, final int length) {
+        if (chars[offset + 4] != '-' || chars[offset + 7] != '-') {
+            throw parseException(chars, offset, length, 4);
+        }
+        final int year = digits(chars, offset, length, 0, 4, 9999);
+        final int month = digits(chars, offset, length, 5, 2, 12);
+        final int day = digits(chars, offset, length, 8, 2, 31);
+        if (month == 0 || day == 0 || day > lengthOfMonth(year, month)) {
+            throw parseException(chars, offset, length, 5);
+        }
+        return toEpochDay(year, month, day);
+    }
+
+    /**
+     * Reads a run of decimal digits
+     */
+    private static int digits(final char[] chars,
+                              final int offset,
+                              final int length,
+                              final int start,
+                              final int count,
+                              final int max) {
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            final int digit = chars[offset + i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw parseException(chars, offset, length, i);
+            }
+            value = value * 10 + digit;
+        }
+        if (value > max) {
+            throw parseException(chars, offset, length, start);
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        switch (month) {
+            case 2:
+                return isLeapYear(year) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static boolean isLeapYear(final int year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    /**
+     * Same arithmetic as {@link LocalDate#toEpochDay()}, for non-negative years
+     */
+    private static long toEpochDay(final int year, final int month, final int day) {
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!isLeapYear(year)) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static String formatDatePathParam(final LocalDate localDate) {
+        final int year = localDate.getYear();
+        if (year < 0 || year > 9999) {
+            return FALLBACK_PATH_PARAM_FORMATTER.format(localDate).toUpperCase(Locale.ENGLISH);
+        }
+        final int day = localDate.getDayOfMonth();
+        return new StringBuilder(11)
+                .append((char) ('0' + year / 1000))
+                .append((char) ('0' + year / 100 % 10))
+                .append((char) ('0' + year / 10 % 10))
+                .append((char) ('0' + year % 10))
+                .append('-')
+                .append(MONTHS[localDate.getMonthValue() - 1])
+                .append('-')
+                .append((char) ('0' + day / 10))
+                .append((char) ('0' + day % 10))
+                .toString();
+    }
+
+    private static DateTimeParseException parseException(final char[] chars,
+                                                         final int offset,
+                                                         final int length,
+                                                         final int index) {
+        final String text = new String(chars, offset, length);
+        return new DateTimeParseException("Text '" + text + "' could not be parsed at index " + index, text, index);
+    }
+
+    private static final class DatePathParam {
+        private final long epochDay;
+        private final String value;
+
+        DatePathParam(final long epochDay, final String value) {
+            this.epochDay = epochDay;
+            this.value = value;
+        }
+    }
+}
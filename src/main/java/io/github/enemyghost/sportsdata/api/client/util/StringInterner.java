@@ -0,0 +1,100 @@
+package io.github.enemyghost.sportsdata.api.client.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static io.github.enemyghost.lang.PreconditionUtils.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded, lock-free pool of canonical strings, for deduplicating the low-cardinality strings that decoded entities
+ * repeat many times over, such as team keys and positions.
+ * <p>
+ * Each string hashes to one slot of a fixed-size table. Interning returns the string already in its slot if it is
+ * equal, and otherwise replaces the slot, so the pool never grows and never blocks, at the cost of occasionally
+ * returning a non-canonical copy when two frequent strings share a slot. Unlike {@link String#intern()}, the pool is
+ * collected with its owner.
+ *
+ * @author enemyghost
+ */
+public final class StringInterner {
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+
+    /**
+     * Creates a pool with at least the given number of slots
+     *
+     * @param capacity minimum number of slots, rounded up to a power of two
+     */
+    public StringInterner(final int capacity) {
+        checkArgument(capacity > 0 && capacity <= 1 << 30, "Capacity must be in (0, 2^30]");
+        final int size = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+        slots = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+    }
+
+    /**
+     * Returns the pooled string equal to {@code value}, pooling {@code value} if there is none
+     *
+     * @param value string to intern
+     * @return an equal, usually canonical, string
+     */
+    public String intern(final String value) {
+        requireNonNull(value, "Null value");
+        final int slot = spread(value.hashCode()) & mask;
+        final String pooled = slots.get(slot);
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        slots.lazySet(slot, value);
+        return value;
+    }
+
+    /**
+     * Returns the pooled string equal to a range of characters, such as a parser's text buffer, creating and pooling
+     * one if there is none. Nothing is allocated when the string is already pooled.
+     *
+     * @param chars  characters
+     * @param offset offset of the first character
+     * @param length number of characters
+     * @return an equal, usually canonical, string
+     */
+    public String intern(final char[] chars, final int offset, final int length) {
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        final int slot = spread(hash) & mask;
+        final String pooled = slots.get(slot);
+        if (pooled != null && contentEquals(pooled, chars, offset, length)) {
+            return pooled;
+        }
+        final String value = new String(chars, offset, length);
+        slots.lazySet(slot, value);
+        return value;
+    }
+
+    /**
+     * Number of slots in the pool
+     *
+     * @return number of slots
+     */
+    public int capacity() {
+        return slots.length();
+    }
+
+    private static boolean contentEquals(final String pooled, final char[] chars, final int offset, final int length) {
+        if (pooled.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pooled.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link StructuralIndexer} which classifies each block with the Vector API, comparing every byte of a vector against
+ * each class at once and packing the lane masks into bitmasks. Loaded reflectively by
+ * {@link StructuralIndexer#vectorized()}, only on runtimes that resolve {@code jdk.incubator.vector}.
+ *
+ * @author enemyghost
+ */
+final class VectorStructuralIndexer extends StructuralIndexer {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED.length() <= BLOCK
+            ? ByteVector.SPECIES_PREFERRED
+            : ByteVector.SPECIES_512;
+
+    private static final VectorSpecies<Long> LONGS = SPECIES.vectorShape().withLanes(long.class);
+
+    /**
+     * Setting the case bit folds '[' and ']' onto '{' and '}'
+     */
+    private static final byte CASE_BIT = 0x20;
+
+    /**
+     * Multiplying eight bytes of zero or one by this gathers them, in order, into the top byte
+     */
+    private static final long GATHER_BITS = 0x0102040810204080L;
+
+    private static final ByteVector ZEROS = ByteVector.zero(SPECIES);
+
+    private static final LongVector BYTE_SHIFTS = LongVector.zero(LONGS).addIndex(Byte.SIZE);
+
+    VectorStructuralIndexer() {
+    }
+
+    @Override
+    void classify(final byte[] body, final int offset, final boolean bracketsOnly, final long[] masks) {
+        if (body.length - offset < BLOCK) {
+            super.classify(body, offset, bracketsOnly, masks);
+            return;
+        }
+        long quotes = 0;
+        long backslashes = 0;
+        long brackets = 0;
+        long punctuation = 0;
+        long whitespace = 0;
+        for (int lane = 0; lane < BLOCK; lane += SPECIES.length()) {
+            final ByteVector bytes = ByteVector.fromArray(SPECIES, body, offset + lane);
+            final ByteVector folded = bytes.or(CASE_BIT);
+            quotes |= bits(bytes.eq((byte) '"')) << lane;
+            final VectorMask<Byte> escapes = bytes.eq((byte) '\\');
+            if (escapes.anyTrue()) {
+                backslashes |= bits(escapes) << lane;
+            }
+            brackets |= bits(folded.eq((byte) '{').or(folded.eq((byte) '}'))) << lane;
+            if (!bracketsOnly) {
+                punctuation |= bits(bytes.eq((byte) ',').or(bytes.eq((byte) ':'))) << lane;
+                whitespace |= bits(bytes.eq((byte) ' ')
+                        .or(bytes.eq((byte) '\n'))
+                        .or(bytes.eq((byte) '\r'))
+                        .or(bytes.eq((byte) '\t'))) << lane;
+            }
+        }
+        masks[QUOTES] = quotes;
+        masks[BACKSLASHES] = backslashes;
+        masks[BRACKETS] = brackets;
+        masks[PUNCTUATION] = punctuation;
+        masks[WHITESPACE] = whitespace;
+    }
+
+    /**
+     * Packs a lane mask into a bitmask, lowest lane first. {@link VectorMask#toLong()} does the same, but JDK 17 does
+     * not compile it to vector instructions.
+     */
+    private static long bits(final VectorMask<Byte> mask) {
+        return ZEROS.blend((byte) 1, mask)
+                .reinterpretAsLongs()
+                .lanewise(VectorOperators.MUL, GATHER_BITS)
+                .lanewise(VectorOperators.LSHR, Long.SIZE - Byte.SIZE)
+                .lanewise(VectorOperators.LSHL, BYTE_SHIFTS)
+                .reduceLanesToLong(VectorOperators.OR);
+    }
+}
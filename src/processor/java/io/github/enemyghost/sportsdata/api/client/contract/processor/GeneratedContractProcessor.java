@@ -0,0 +1,464 @@
+package io.github.enemyghost.sportsdata.api.client.contract.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Annotation processor which generates a {@code GeneratedContract} for each interface with JAX-RS annotated methods,
+ * so that creating a client does not reflect over its annotations. The contract of {@code NcaaBasketballV3ApiClient}
+ * is generated as {@code NcaaBasketballV3ApiClientContract} in the same package.
+ * <p>
+ * The processor resolves what {@code JAXRSContract} would at runtime: each method's config key and generic return
+ * type, its paths, with regular expressions stripped from their variables, its HTTP method, {@code Accept} and
+ * {@code Content-Type} headers, and the names of its {@code @PathParam}, {@code @QueryParam} and {@code @HeaderParam}
+ * parameters. The generated code replays the calls {@code JAXRSContract} makes on each method's template, in the same
+ * order, with those values.
+ * <p>
+ * Interfaces with anything else, such as a body, form or URI parameter, a type variable, a superinterface or a method
+ * without an HTTP method, get a warning and no contract, and are parsed by {@code JAXRSContract} as before.
+ * <p>
+ * The processor is not registered as a service; the build names it explicitly when compiling the main sources.
+ *
+ * @author enemyghost
+ */
+@SupportedAnnotationTypes(GeneratedContractProcessor.PATH)
+public final class GeneratedContractProcessor extends AbstractProcessor {
+    static final String PATH = "javax.ws.rs.Path";
+
+    private static final String PACKAGE = "io.github.enemyghost.sportsdata.api.client.contract";
+    private static final String SUPERCLASS = PACKAGE + ".GeneratedContract";
+    private static final String SUFFIX = "Contract";
+
+    private static final String HTTP_METHOD = "javax.ws.rs.HttpMethod";
+    private static final String PRODUCES = "javax.ws.rs.Produces";
+    private static final String CONSUMES = "javax.ws.rs.Consumes";
+    private static final String PATH_PARAM = "javax.ws.rs.PathParam";
+    private static final String QUERY_PARAM = "javax.ws.rs.QueryParam";
+    private static final String HEADER_PARAM = "javax.ws.rs.HeaderParam";
+    private static final String FORM_PARAM = "javax.ws.rs.FormParam";
+
+    /**
+     * Methods of {@code feign.Request.HttpMethod}
+     */
+    private static final Set<String> HTTP_METHODS = new HashSet<>(Arrays.asList(
+            "GET", "HEAD", "POST", "PUT", "DELETE", "CONNECT", "OPTIONS", "TRACE", "PATCH"));
+
+    /**
+     * Path variable with an optional regular expression, which {@code JAXRSContract} reduces to the variable
+     */
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{\\s*(.+?)\\s*(:.+?)?\\}");
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final Set<TypeElement> interfaces = new LinkedHashSet<>();
+        for (final TypeElement annotation : annotations) {
+            for (final Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                final Element type = element.getKind() == ElementKind.METHOD ? element.getEnclosingElement() : element;
+                if (type.getKind() == ElementKind.INTERFACE) {
+                    interfaces.add((TypeElement) type);
+                }
+            }
+        }
+        for (final TypeElement type : interfaces) {
+            final List<String> statements;
+            try {
+                statements = describe(type);
+            } catch (final UnsupportedContractException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "Not generating a contract for " + type.getQualifiedName() + ": " + e.getMessage(),
+                        e.element);
+                continue;
+            }
+            try {
+                write(type, statements);
+            } catch (final IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        "Cannot write the contract of " + type.getQualifiedName() + ": " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return statements which build the metadata of every abstract method of the interface
+     */
+    private List<String> describe(final TypeElement type) throws UnsupportedContractException {
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL) {
+            throw new UnsupportedContractException("only top-level interfaces are supported", type);
+        }
+        if (!type.getTypeParameters().isEmpty()) {
+            throw new UnsupportedContractException("parameterized interfaces are not supported", type);
+        }
+        if (!type.getInterfaces().isEmpty()) {
+            throw new UnsupportedContractException("superinterfaces are not supported", type);
+        }
+        final List<String> statements = new ArrayList<>();
+        final Set<String> configKeys = new HashSet<>();
+        for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.isDefault() || method.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            final String configKey = configKey(type, method);
+            if (!configKeys.add(configKey)) {
+                throw new UnsupportedContractException("config key " + configKey + " is not unique", method);
+            }
+            statements.add("");
+            statements.add("md = method(" + literal(configKey) + ", " + typeExpression(method.getReturnType(), method)
+                    + ");");
+            final Template template = new Template(statements);
+            for (final AnnotationMirror annotation : type.getAnnotationMirrors()) {
+                classAnnotation(annotation, template, method);
+            }
+            for (final AnnotationMirror annotation : method.getAnnotationMirrors()) {
+                methodAnnotation(annotation, template, method);
+            }
+            if (template.method == null) {
+                throw new UnsupportedContractException("method has no HTTP method annotation", method);
+            }
+            final List<? extends VariableElement> parameters = method.getParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                parameter(parameters.get(i), i, statements);
+            }
+            statements.add("methods.add(md);");
+        }
+        return statements;
+    }
+
+    private void classAnnotation(final AnnotationMirror annotation, final Template template,
+                                 final ExecutableElement method) throws UnsupportedContractException {
+        final String name = annotationName(annotation);
+        if (PATH.equals(name)) {
+            String path = stringValue(annotation);
+            if (path == null || path.isEmpty()) {
+                return;
+            }
+            if (!path.startsWith("/")) {
+                path = "/" + path;
+            }
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            template.uri(PATH_VARIABLE.matcher(path).replaceAll("{$1}"), false);
+        } else if (PRODUCES.equals(name) || CONSUMES.equals(name)) {
+            mediaTypes(annotation, template, method);
+        }
+    }
+
+    private void methodAnnotation(final AnnotationMirror annotation, final Template template,
+                                  final ExecutableElement method) throws UnsupportedContractException {
+        final String name = annotationName(annotation);
+        final AnnotationMirror httpMethod = metaAnnotation(annotation, HTTP_METHOD);
+        if (httpMethod != null) {
+            final String value = stringValue(httpMethod);
+            if (template.method != null) {
+                throw new UnsupportedContractException("method has several HTTP methods", method);
+            }
+            if (!HTTP_METHODS.contains(value)) {
+                throw new UnsupportedContractException("HTTP method " + value + " is not supported by feign", method);
+            }
+            template.method(value);
+        } else if (PATH.equals(name)) {
+            String path = stringValue(annotation);
+            if (path == null || path.isEmpty()) {
+                return;
+            }
+            if (!path.startsWith("/") && !template.url.endsWith("/")) {
+                path = "/" + path;
+            }
+            template.uri(PATH_VARIABLE.matcher(path).replaceAll("{$1}"), true);
+        } else if (PRODUCES.equals(name) || CONSUMES.equals(name)) {
+            mediaTypes(annotation, template, method);
+        }
+    }
+
+    /**
+     * {@code @Produces} sets the {@code Accept} header to all of its media types, but {@code @Consumes} sets the
+     * {@code Content-Type} header to the first of them only
+     */
+    private void mediaTypes(final AnnotationMirror annotation, final Template template,
+                            final ExecutableElement method) throws UnsupportedContractException {
+        final boolean produces = PRODUCES.equals(annotationName(annotation));
+        final List<String> mediaTypes = new ArrayList<>();
+        for (final String mediaType : stringValues(annotation)) {
+            if (mediaType != null && !mediaType.isEmpty()) {
+                mediaTypes.add(mediaType);
+            }
+        }
+        if (mediaTypes.isEmpty()) {
+            throw new UnsupportedContractException((produces ? "@Produces" : "@Consumes") + " is empty", method);
+        }
+        template.header(produces ? "Accept" : "Content-Type", produces ? mediaTypes : mediaTypes.subList(0, 1));
+    }
+
+    private void parameter(final VariableElement parameter, final int index, final List<String> statements)
+            throws UnsupportedContractException {
+        boolean named = false;
+        for (final AnnotationMirror annotation : parameter.getAnnotationMirrors()) {
+            final String name = annotationName(annotation);
+            if (FORM_PARAM.equals(name)) {
+                throw new UnsupportedContractException("form parameters are not supported", parameter);
+            }
+            if (!PATH_PARAM.equals(name) && !QUERY_PARAM.equals(name) && !HEADER_PARAM.equals(name)) {
+                continue;
+            }
+            final String value = stringValue(annotation);
+            if (value == null || value.isEmpty()) {
+                throw new UnsupportedContractException("parameter name is empty", parameter);
+            }
+            if (QUERY_PARAM.equals(name)) {
+                statements.add("md.template().query(" + literal(value) + ", " + literal("{" + value + "}") + ");");
+            } else if (HEADER_PARAM.equals(name)) {
+                statements.add("md.template().header(" + literal(value) + ", " + literal("{" + value + "}") + ");");
+            }
+            statements.add("nameParam(md, " + literal(value) + ", " + index + ");");
+            named = true;
+        }
+        if (!named) {
+            throw new UnsupportedContractException("only path, query and header parameters are supported", parameter);
+        }
+        if (isType(parameter.asType(), "java.net.URI")) {
+            throw new UnsupportedContractException("URI parameters are not supported", parameter);
+        }
+    }
+
+    /**
+     * @return {@code feign.Feign#configKey} of the method: the interface's simple name, the method's and the simple
+     *         names of its parameters' raw types
+     */
+    private String configKey(final TypeElement type, final ExecutableElement method) {
+        final StringBuilder configKey = new StringBuilder(type.getSimpleName()).append('#')
+                .append(method.getSimpleName()).append('(');
+        final List<? extends VariableElement> parameters = method.getParameters();
+        for (int i = 0; i < parameters.size(); i++) {
+            configKey.append(i == 0 ? "" : ",").append(rawSimpleName(parameters.get(i).asType()));
+        }
+        return configKey.append(')').toString();
+    }
+
+    private String rawSimpleName(final TypeMirror type) {
+        final TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return rawSimpleName(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return ((DeclaredType) erased).asElement().getSimpleName().toString();
+        }
+        return erased.toString();
+    }
+
+    /**
+     * @return Java expression for the reflective {@code java.lang.reflect.Type} of a type
+     */
+    private String typeExpression(final TypeMirror type, final Element element) throws UnsupportedContractException {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+            case VOID:
+                return type.toString() + ".class";
+            case ARRAY:
+                final TypeMirror component = ((ArrayType) type).getComponentType();
+                if (component.getKind() == TypeKind.DECLARED
+                        && !((DeclaredType) component).getTypeArguments().isEmpty()) {
+                    throw new UnsupportedContractException("generic array types are not supported", element);
+                }
+                return typeExpression(component, element).replaceFirst("\\.class$", "[].class");
+            case DECLARED:
+                final DeclaredType declared = (DeclaredType) type;
+                final String raw = ((TypeElement) declared.asElement()).getQualifiedName() + ".class";
+                if (declared.getTypeArguments().isEmpty()) {
+                    return raw;
+                }
+                final StringBuilder expression = new StringBuilder("parameterized(").append(raw);
+                for (final TypeMirror argument : declared.getTypeArguments()) {
+                    expression.append(", ").append(typeExpression(argument, element));
+                }
+                return expression.append(')').toString();
+            default:
+                throw new UnsupportedContractException("type " + type + " is not supported", element);
+        }
+    }
+
+    private void write(final TypeElement type, final List<String> statements) throws IOException {
+        final String packageName = ((PackageElement) type.getEnclosingElement()).getQualifiedName().toString();
+        final String simpleName = type.getSimpleName() + SUFFIX;
+        final String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(name, type).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("import feign.MethodMetadata;\n"
+                    + "import feign.Request.HttpMethod;\n"
+                    + "import " + SUPERCLASS + ";\n\n"
+                    + "import java.util.Collections;\n"
+                    + "import java.util.List;\n\n"
+                    + "/**\n"
+                    + " * Feign contract of {@link " + type.getQualifiedName() + "}, generated from its JAX-RS"
+                    + " annotations\n"
+                    + " */\n"
+                    + "@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")\n"
+                    + "public final class " + simpleName + " extends GeneratedContract {\n"
+                    + "    public " + simpleName + "() {\n"
+                    + "        super(" + type.getQualifiedName() + ".class);\n"
+                    + "    }\n\n"
+                    + "    @Override\n"
+                    + "    protected void addMethods(final List<MethodMetadata> methods) {\n"
+                    + "        MethodMetadata md;\n");
+            for (final String statement : statements) {
+                writer.write(statement.isEmpty() ? "\n" : "        " + statement + "\n");
+            }
+            writer.write("    }\n}\n");
+        }
+    }
+
+    private static String annotationName(final AnnotationMirror annotation) {
+        return ((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().toString();
+    }
+
+    private static AnnotationMirror metaAnnotation(final AnnotationMirror annotation, final String name) {
+        for (final AnnotationMirror meta : annotation.getAnnotationType().asElement().getAnnotationMirrors()) {
+            if (name.equals(annotationName(meta))) {
+                return meta;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isType(final TypeMirror type, final String name) {
+        return type.getKind() == TypeKind.DECLARED
+                && ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().contentEquals(name);
+    }
+
+    /**
+     * @return the annotation's {@code value}, or null if it has none
+     */
+    private static AnnotationValue value(final AnnotationMirror annotation) {
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : annotation.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static String stringValue(final AnnotationMirror annotation) {
+        final AnnotationValue value = value(annotation);
+        return value == null ? null : (String) value.getValue();
+    }
+
+    /**
+     * @return the values of a {@code String[] value()}, which may be written as a single string
+     */
+    private static List<String> stringValues(final AnnotationMirror annotation) {
+        final AnnotationValue value = value(annotation);
+        final List<String> values = new ArrayList<>();
+        if (value == null) {
+            // the default of @Produces and @Consumes
+            values.add("*/*");
+        } else if (value.getValue() instanceof List) {
+            for (final Object element : (List<?>) value.getValue()) {
+                values.add((String) ((AnnotationValue) element).getValue());
+            }
+        } else {
+            values.add((String) value.getValue());
+        }
+        return values;
+    }
+
+    private static String literal(final String value) {
+        final StringBuilder literal = new StringBuilder("\"");
+        for (final char c : value.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                literal.append('\\').append(c);
+            } else if (c < ' ' || c > '~') {
+                literal.append(String.format("\\u%04x", (int) c));
+            } else {
+                literal.append(c);
+            }
+        }
+        return literal.append('"').toString();
+    }
+
+    /**
+     * Statements on the template of the method being described, tracking its method and url as
+     * {@code JAXRSContract} sees them
+     */
+    private static final class Template {
+        private final List<String> statements;
+        private String method;
+        private String url = "";
+
+        Template(final List<String> statements) {
+            this.statements = statements;
+        }
+
+        void uri(final String uri, final boolean append) {
+            statements.add("md.template().uri(" + literal(uri) + (append ? ", true" : "") + ");");
+            url = append ? url + uri : uri;
+        }
+
+        void method(final String method) {
+            statements.add("md.template().method(HttpMethod." + method + ");");
+            this.method = method;
+        }
+
+        void header(final String name, final List<String> values) {
+            final StringBuilder header = new StringBuilder("md.template().header(").append(literal(name));
+            for (final String value : values) {
+                header.append(", ").append(literal(value));
+            }
+            statements.add("md.template().header(" + literal(name) + ", Collections.emptyList());");
+            statements.add(header.append(");").toString());
+        }
+    }
+
+    private static final class UnsupportedContractException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Element element;
+
+        UnsupportedContractException(final String message, final Element element) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package io.github.enemyghost.sportsdata.api.client;
+
+import com.sun.net.httpserver.HttpServer;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link FeignClientFactory}
+ */
+class FeignClientFactoryTest {
+    private HttpServer server;
+    private List<String> requests;
+    private String baseUrl;
+
+    @BeforeEach
+    void setup() throws IOException {
+        requests = new CopyOnWriteArrayList<>();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            requests.add(exchange.getRequestURI().getPath());
+            final byte[] body = (exchange.getRequestURI().getPath().endsWith("AreAnyGamesInProgress") ? "true" : "[]")
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void testClientUsesGeneratedContract() {
+        final NcaaBasketballV3ApiClient client = FeignClientFactory.createClient(baseUrl, "my-api-key",
+                NcaaBasketballV3ApiClient.class);
+        assertTrue(client.areAnyGamesInProgress());
+        assertTrue(client.playerGameStatsByDate(LocalDate.of(2020, 2, 8)).isEmpty());
+        assertEquals(List.of("/v3/cbb/scores/json/AreAnyGamesInProgress",
+                "/v3/cbb/stats/json/PlayerGameStatsByDate/2020-FEB-08"), requests);
+    }
+
+    @Test
+    void testLazyClientCreatesClientOnFirstCall() {
+        final NcaaBasketballV3ApiClient client = FeignClientFactory.createLazyClient(baseUrl, "my-api-key",
+                NcaaBasketballV3ApiClient.class);
+        assertTrue(client.toString().contains("NcaaBasketballV3ApiClient"));
+        assertEquals(client, client);
+        assertNotEquals(client, FeignClientFactory.createLazyClient(baseUrl, "my-api-key",
+                NcaaBasketballV3ApiClient.class));
+        assertEquals(System.identityHashCode(client), client.hashCode());
+        assertTrue(requests.isEmpty());
+
+        assertTrue(client.areAnyGamesInProgress());
+        // default methods pass through to the feign client
+        assertTrue(client.playerGameStatsByDate(LocalDate.of(2020, 2, 8)).isEmpty());
+        assertFalse(client.players().iterator().hasNext());
+        assertEquals(List.of("/v3/cbb/scores/json/AreAnyGamesInProgress",
+                "/v3/cbb/stats/json/PlayerGameStatsByDate/2020-FEB-08",
+                "/v3/cbb/scores/json/Players"), requests);
+    }
+
+    @Test
+    void testLazyClientValidatesEagerly() {
+        assertThrows(NullPointerException.class, () -> FeignClientFactory.createLazyClient(baseUrl, "",
+                NcaaBasketballV3ApiClient.class));
+        assertThrows(NullPointerException.class, () -> FeignClientFactory.createLazyClient(baseUrl, "my-api-key",
+                NcaaBasketballV3ApiClient.class, (ClientCapability) null));
+    }
+}
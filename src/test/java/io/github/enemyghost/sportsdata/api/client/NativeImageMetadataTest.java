@@ -0,0 +1,148 @@
+package io.github.enemyghost.sportsdata.api.client;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.github.enemyghost.sportsdata.api.client.contract.GeneratedContract;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.Path;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the native-image reachability metadata in {@code META-INF/native-image} covers the classes Jackson and
+ * feign reflect on, and names only classes and members that exist
+ */
+class NativeImageMetadataTest {
+    private static final String METADATA = "META-INF/native-image/io.github.enemyghost/sportsdataio-api-client/";
+    private static final String PACKAGE = "io/github/enemyghost/sportsdata/api/client";
+
+    private static Map<String, JsonNode> reflection;
+    private static Set<String> proxies;
+    private static List<Class<?>> classes;
+
+    @BeforeAll
+    static void setup() throws IOException, URISyntaxException {
+        reflection = new HashMap<>();
+        for (final JsonNode entry : read("reflect-config.json")) {
+            reflection.put(entry.get("name").asText(), entry);
+        }
+        proxies = new HashSet<>();
+        for (final JsonNode entry : read("proxy-config.json")) {
+            entry.get("interfaces").forEach(type -> proxies.add(type.asText()));
+        }
+        // the main output directory
+        final java.nio.file.Path root = Paths.get(ObjectMapperSingleton.class.getProtectionDomain().getCodeSource()
+                .getLocation().toURI());
+        try (Stream<java.nio.file.Path> files = Files.walk(root.resolve(PACKAGE))) {
+            classes = new ArrayList<>();
+            for (final java.nio.file.Path file : files.filter(f -> f.toString().endsWith(".class"))
+                    .collect(Collectors.toList())) {
+                final String name = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), ".");
+                classes.add(Class.forName(name.substring(0, name.length() - ".class".length()), false,
+                        NativeImageMetadataTest.class.getClassLoader()));
+            }
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    void testRegistersJacksonTypes() {
+        int annotated = 0;
+        for (final Class<?> type : classes) {
+            final JsonDeserialize deserialize = type.getAnnotation(JsonDeserialize.class);
+            if (deserialize == null) {
+                continue;
+            }
+            annotated++;
+            assertRegistered(type);
+            if (deserialize.builder() != Void.class) {
+                assertRegistered(deserialize.builder());
+                for (final Method method : deserialize.builder().getDeclaredMethods()) {
+                    assertDeserializerRegistered(method);
+                }
+                for (final Field field : deserialize.builder().getDeclaredFields()) {
+                    assertDeserializerRegistered(field);
+                }
+            }
+            if (deserialize.using() != JsonDeserializer.None.class) {
+                assertRegistered(deserialize.using());
+            }
+        }
+        // the entities and the player game table
+        assertEquals(7, annotated);
+    }
+
+    @Test
+    void testRegistersClientInterfaces() {
+        for (final Class<?> type : classes) {
+            if (!type.isInterface() || type.getAnnotation(Path.class) == null) {
+                continue;
+            }
+            assertRegistered(type);
+            assertTrue(proxies.contains(type.getName()), type.getName() + " is not registered for proxies");
+            GeneratedContract.forType(type).ifPresent(contract -> assertRegistered(contract.getClass()));
+        }
+    }
+
+    @Test
+    void testNamesExistingClassesAndMembers() {
+        assertFalse(reflection.isEmpty());
+        reflection.forEach((name, entry) -> {
+            final Class<?> type = assertDoesNotThrow(() -> Class.forName(name, false, getClass().getClassLoader()),
+                    name);
+            if (entry.has("methods")) {
+                for (final JsonNode method : entry.get("methods")) {
+                    assertTrue("<init>".equals(method.get("name").asText())
+                            && method.get("parameterTypes").size() == 0, name);
+                    assertDoesNotThrow(() -> type.getDeclaredConstructor(), name);
+                }
+            }
+            if (entry.has("fields")) {
+                for (final JsonNode field : entry.get("fields")) {
+                    assertDoesNotThrow(() -> type.getDeclaredField(field.get("name").asText()), name);
+                }
+            }
+        });
+        proxies.forEach(name -> assertTrue(assertDoesNotThrow(() -> Class.forName(name)).isInterface(), name));
+    }
+
+    private static void assertDeserializerRegistered(final AccessibleObject member) {
+        final JsonDeserialize deserialize = member.getAnnotation(JsonDeserialize.class);
+        if (deserialize != null && deserialize.using() != JsonDeserializer.None.class) {
+            assertRegistered(deserialize.using());
+        }
+    }
+
+    private static void assertRegistered(final Class<?> type) {
+        assertTrue(reflection.containsKey(type.getName()), type.getName() + " is not registered for reflection");
+    }
+
+    private static JsonNode read(final String file) throws IOException {
+        try (InputStream in = NativeImageMetadataTest.class.getClassLoader().getResourceAsStream(METADATA + file)) {
+            return ObjectMapperSingleton.INSTANCE.readTree(in);
+        }
+    }
+}
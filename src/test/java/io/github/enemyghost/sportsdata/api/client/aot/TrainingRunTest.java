@@ -0,0 +1,16 @@
+package io.github.enemyghost.sportsdata.api.client.aot;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+
+/**
+ * Tests for {@link TrainingRun}
+ */
+class TrainingRunTest {
+    @Test
+    void testCallsEveryEndpoint() {
+        // train throws if any sample is not decoded
+        assertDoesNotThrow(() -> TrainingRun.main(new String[0]));
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.enemyghost.sportsdata.api.client.buffer;
+
+import feign.FeignException;
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.codec.ParallelDecodeCapability;
+import io.github.enemyghost.sportsdata.api.client.metrics.EndpointMetrics;
+import io.github.enemyghost.sportsdata.api.client.metrics.InProcessMetricsRegistry;
+import io.github.enemyghost.sportsdata.api.client.metrics.MetricsCapability;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link BufferPoolCapability}
+ */
+class BufferPoolCapabilityTest {
+    private static final String PLAYER_GAMES_PATH = "/v3/cbb/stats/json/PlayerGameStatsByDate/2020-FEB-08";
+
+    private BufferPool pool;
+    private MockClient mockClient;
+    private NcaaBasketballV3ApiClient apiClient;
+
+    @BeforeEach
+    void setup() {
+        pool = BufferPool.newBuilder().withLeakDetection(true).build();
+        mockClient = new MockClient();
+        apiClient = FeignClientFactory.createDefaultBuilder("my-api-key",
+                NcaaBasketballV3ApiClient.class,
+                mockClient,
+                new BufferPoolCapability(pool))
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+    }
+
+    @AfterEach
+    void checkNoLeaks() {
+        pool.checkNoLeaks();
+    }
+
+    @Test
+    void testDecodesFromPooledBody() throws IOException {
+        final byte[] body = JsonFixtures.playerGameStatsByDate(500);
+        mockClient.add(HttpMethod.GET, PLAYER_GAMES_PATH, 200, body);
+        final PlayerGame[] expected = ObjectMapperSingleton.INSTANCE.readValue(body, PlayerGame[].class);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Arrays.asList(expected), apiClient.playerGameStatsByDate(LocalDate.of(2020, 2, 8)));
+        }
+        assertTrue(pool.pooledByteBuffers() > 0);
+    }
+
+    @Test
+    void testOptionalAndEmptyResponses() throws IOException {
+        final byte[] season = JsonFixtures.load("CurrentSeason");
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/CurrentSeason", 200, season);
+        assertEquals(Optional.of(ObjectMapperSingleton.INSTANCE.readValue(season, Season.class)),
+                apiClient.currentSeason());
+
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Player/1", 404, "{}");
+        assertTrue(apiClient.player(1).isEmpty());
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Teams", 200, new byte[0]);
+        assertNull(apiClient.teams());
+    }
+
+    @Test
+    void testReleasesOnErrors() {
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Teams", 500, "oops");
+        assertThrows(FeignException.class, () -> apiClient.teams());
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Stadiums", 200, "[{\"StadiumID\": ");
+        assertThrows(FeignException.class, () -> apiClient.stadiums());
+    }
+
+    @Test
+    void testOtherDecodingCapabilitiesReadPooledBody() {
+        final NcaaBasketballV3ApiClient parallelClient = FeignClientFactory.createDefaultBuilder("my-api-key",
+                NcaaBasketballV3ApiClient.class,
+                mockClient,
+                new BufferPoolCapability(pool),
+                new ParallelDecodeCapability())
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+        mockClient.add(HttpMethod.GET, PLAYER_GAMES_PATH, 200, JsonFixtures.playerGameStatsByDate(50));
+        assertEquals(50, parallelClient.playerGameStatsByDate(LocalDate.of(2020, 2, 8)).size());
+    }
+
+    @Test
+    void testCapabilitiesListedAfterSeeDecodes() {
+        final InProcessMetricsRegistry registry = new InProcessMetricsRegistry();
+        final NcaaBasketballV3ApiClient metricsClient = FeignClientFactory.createDefaultBuilder("my-api-key",
+                NcaaBasketballV3ApiClient.class,
+                mockClient,
+                new BufferPoolCapability(pool),
+                new MetricsCapability(registry))
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+        mockClient.add(HttpMethod.GET, PLAYER_GAMES_PATH, 200, JsonFixtures.playerGameStatsByDate(50));
+        metricsClient.playerGameStatsByDate(LocalDate.of(2020, 2, 8));
+        metricsClient.playerGameStatsByDate(LocalDate.of(2020, 2, 8));
+
+        final EndpointMetrics metrics = registry
+                .getEndpoint("NcaaBasketballV3ApiClient#playerGameStatsByDate(String)").orElseThrow();
+        assertEquals(2, metrics.getDecodeNanos().snapshot().getCount());
+        assertEquals(50, metrics.getEntityCount().snapshot().getMax());
+        assertTrue(pool.pooledByteBuffers() > 0);
+    }
+
+    @Test
+    void testReadsBodiesOfUnknownLength() throws IOException {
+        final byte[] bytes = JsonFixtures.playerGameStatsByDate(100);
+        for (final int length : new int[]{0, 1024, 8 * 1024, 8 * 1024 + 1, bytes.length}) {
+            final InputStream in = new ByteArrayInputStream(bytes, 0, length);
+            final PooledResponseBody body = PooledResponseBody.read(pool, in, null);
+            assertEquals(length, body.length().intValue());
+            assertEquals(Arrays.toString(Arrays.copyOf(bytes, length)),
+                    Arrays.toString(Arrays.copyOf(body.array(), length)));
+            body.close();
+            body.close();
+            assertThrows(IOException.class, body::asInputStream);
+        }
+    }
+}
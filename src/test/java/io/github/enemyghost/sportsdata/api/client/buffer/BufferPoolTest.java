@@ -0,0 +1,124 @@
+package io.github.enemyghost.sportsdata.api.client.buffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link BufferPool} and {@link PooledJsonFactory}
+ */
+class BufferPoolTest {
+    @Test
+    void testSizeClasses() {
+        final BufferPool pool = BufferPool.newBuilder().withMaxBufferLength(64 * 1024).build();
+        assertEquals(BufferPool.MIN_BUFFER_LENGTH, pool.acquireBytes(0).length);
+        assertEquals(1024, pool.acquireBytes(1024).length);
+        assertEquals(2048, pool.acquireBytes(1025).length);
+        assertEquals(64 * 1024, pool.acquireChars(40_000).length);
+        // beyond the largest class, arrays are exactly as long as asked
+        assertEquals(64 * 1024 + 1, pool.acquireBytes(64 * 1024 + 1).length);
+        assertThrows(IllegalArgumentException.class, () -> BufferPool.newBuilder().withMaxBufferLength(3000).build());
+    }
+
+    @Test
+    void testReusesReleasedArrays() {
+        final BufferPool pool = BufferPool.newBuilder().withBuffersPerClass(1).build();
+        final byte[] first = pool.acquireBytes(5000);
+        final byte[] second = pool.acquireBytes(5000);
+        assertNotSame(first, second);
+        pool.release(first);
+        // the class holds one free array, so the second is dropped
+        pool.release(second);
+        assertEquals(1, pool.pooledByteBuffers());
+        assertSame(first, pool.acquireBytes(8192));
+        assertNotSame(first, pool.acquireBytes(8192));
+
+        final char[] chars = pool.acquireChars(100);
+        pool.release(chars);
+        assertSame(chars, pool.acquireChars(1000));
+        // arrays which do not fit a class are never pooled
+        pool.release(new byte[3000]);
+        assertEquals(0, pool.pooledByteBuffers());
+    }
+
+    @Test
+    void testLeakDetection() {
+        final BufferPool pool = BufferPool.newBuilder().withLeakDetection(true).build();
+        final byte[] bytes = pool.acquireBytes(100);
+        final char[] chars = pool.acquireChars(100);
+        final IllegalStateException leak = assertThrows(IllegalStateException.class, pool::checkNoLeaks);
+        assertTrue(leak.getMessage().startsWith("2 buffer(s)"));
+        assertTrue(leak.getCause().getStackTrace().length > 0);
+
+        pool.release(bytes);
+        pool.release(chars);
+        pool.checkNoLeaks();
+        assertThrows(IllegalStateException.class, () -> pool.release(bytes));
+        assertThrows(IllegalStateException.class, () -> pool.release(new char[1024]));
+        assertThrows(UnsupportedOperationException.class, () -> BufferPool.newBuilder().build().checkNoLeaks());
+    }
+
+    @Test
+    void testConcurrentAcquireNeverSharesArrays() throws Exception {
+        final BufferPool pool = BufferPool.newBuilder().withBuffersPerClass(4).withLeakDetection(true).build();
+        final Set<byte[]> inUse = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Object>> futures = executor.invokeAll(Collections.nCopies(8, () -> {
+                for (int i = 0; i < 20_000; i++) {
+                    final byte[] buffer = pool.acquireBytes(ThreadLocalRandom.current().nextInt(4096));
+                    assertTrue(inUse.add(buffer), "Array handed out twice");
+                    inUse.remove(buffer);
+                    pool.release(buffer);
+                }
+                return null;
+            }));
+            for (final Future<Object> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        pool.checkNoLeaks();
+    }
+
+    @Test
+    void testPooledMapperDecodesLikeDefault() throws Exception {
+        final BufferPool pool = BufferPool.newBuilder().build();
+        final ObjectMapper mapper = ObjectMapperSingleton.newPooledInstance(pool);
+        final byte[] body = JsonFixtures.fullD1Players(3);
+        final Player[] expected = ObjectMapperSingleton.INSTANCE.readValue(body, Player[].class);
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(expected, mapper.readValue(body, Player[].class));
+            assertEquals(Arrays.asList(expected), Arrays.asList(mapper.readValue(
+                    mapper.writeValueAsBytes(expected), Player[].class)));
+        }
+        // the parser's buffers were returned, and reused rather than multiplied
+        assertTrue(pool.pooledByteBuffers() > 0);
+        assertTrue(pool.pooledCharBuffers() > 0);
+        assertTrue(pool.pooledCharBuffers() <= 4);
+        assertTrue(mapper.getFactory() instanceof PooledJsonFactory);
+        assertTrue(mapper.getFactory().copy() instanceof PooledJsonFactory);
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.enemyghost.sportsdata.api.client.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link RefreshAheadCache}
+ */
+class RefreshAheadCacheTest {
+    @Test
+    void testReloadsAheadOfTtl() throws InterruptedException {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch reloaded = new CountDownLatch(4);
+        try (RefreshAheadCache cache = RefreshAheadCache.newBuilder().withRefreshAheadFraction(0.5).build()) {
+            final CachedEndpoint<Integer> endpoint = cache.register("test", Duration.ofMillis(40), () -> {
+                reloaded.countDown();
+                return loads.incrementAndGet();
+            });
+            assertEquals(1, endpoint.get().intValue());
+            assertTrue(reloaded.await(5, TimeUnit.SECONDS));
+            assertTrue(endpoint.get() >= 3);
+        }
+    }
+
+    @Test
+    void testFailedReloadKeepsLastValue() throws InterruptedException {
+        final AtomicBoolean fail = new AtomicBoolean();
+        final CountDownLatch failures = new CountDownLatch(2);
+        try (RefreshAheadCache cache = RefreshAheadCache.newBuilder().withRefreshAheadFraction(0.5).build()) {
+            final CachedEndpoint<String> endpoint = cache.register("test", Duration.ofMillis(20), () -> {
+                if (fail.get()) {
+                    failures.countDown();
+                    throw new IllegalStateException("Service unavailable");
+                }
+                return "good";
+            });
+            fail.set(true);
+            assertTrue(failures.await(5, TimeUnit.SECONDS));
+            assertEquals("good", endpoint.get());
+            assertTrue(endpoint.getConsecutiveFailures() >= 1);
+            assertThrows(IllegalStateException.class, endpoint::refresh);
+
+            fail.set(false);
+            assertEquals("good", endpoint.refresh());
+            assertEquals(0, endpoint.getConsecutiveFailures());
+        }
+    }
+
+    @Test
+    void testInitialLoadFailureThrows() {
+        try (RefreshAheadCache cache = RefreshAheadCache.newBuilder().build()) {
+            assertThrows(IllegalStateException.class, () -> cache.register("test", Duration.ofHours(1), () -> {
+                throw new IllegalStateException("Service unavailable");
+            }));
+        }
+    }
+
+    @Test
+    void testDelaysAreJitteredAroundRefreshAheadFraction() {
+        try (RefreshAheadCache cache = RefreshAheadCache.newBuilder()
+                .withRefreshAheadFraction(0.75)
+                .withJitterFraction(0.2)
+                .build()) {
+            final Duration ttl = Duration.ofHours(4);
+            final long expected = (long) (ttl.toNanos() * 0.75);
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < 1_000; i++) {
+                final long delay = cache.nextDelayNanos(ttl);
+                min = Math.min(min, delay);
+                max = Math.max(max, delay);
+            }
+            assertTrue(min >= expected * 0.8 && max <= expected * 1.2);
+            assertTrue(max - min > expected * 0.2, "Delays should be spread by jitter");
+        }
+    }
+}
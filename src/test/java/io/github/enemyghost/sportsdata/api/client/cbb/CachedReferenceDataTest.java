@@ -0,0 +1,100 @@
+package io.github.enemyghost.sportsdata.api.client.cbb;
+
+import feign.Client;
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.cache.RefreshAheadCache;
+import io.github.enemyghost.sportsdata.api.client.cbb.repository.ReferenceDataSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CachedReferenceData}
+ */
+class CachedReferenceDataTest {
+    private final MockClient mockClient = new MockClient()
+            .add(HttpMethod.GET, "/v3/cbb/scores/json/CurrentSeason", 200, JsonFixtures.load("CurrentSeason"))
+            .add(HttpMethod.GET, "/v3/cbb/scores/json/LeagueHierarchy", 200, JsonFixtures.load("LeagueHierarchy"))
+            .add(HttpMethod.GET, "/v3/cbb/scores/json/Players", 200, JsonFixtures.load("Players"))
+            .add(HttpMethod.GET, "/v3/cbb/scores/json/Stadiums", 200, JsonFixtures.load("Stadiums"))
+            .add(HttpMethod.GET, "/v3/cbb/scores/json/Teams", 200, JsonFixtures.load("Teams"));
+
+    @Test
+    void testServesCachedResponses() {
+        final AtomicInteger calls = new AtomicInteger();
+        final NcaaBasketballV3ApiClient client = client((request, options) -> {
+            calls.incrementAndGet();
+            return mockClient.execute(request, options);
+        });
+
+        try (RefreshAheadCache cache = RefreshAheadCache.newBuilder().build()) {
+            final CachedReferenceData referenceData = CachedReferenceData.newBuilder()
+                    .withClient(client)
+                    .withCache(cache)
+                    .withTtl(Duration.ofHours(1))
+                    .build();
+            for (int i = 0; i < 3; i++) {
+                assertEquals(Fixtures.CURRENT_SEASON, referenceData.currentSeason().orElseThrow());
+                assertEquals(Fixtures.LEAGUE_HIERARCHY, referenceData.leagueHierarchy());
+                assertEquals(Fixtures.SMU_PLAYERS, referenceData.players());
+                assertEquals(3, referenceData.teams().size());
+                assertEquals(referenceData.teams().size(), referenceData.stadiums().size());
+            }
+            assertEquals(5, calls.get());
+            assertEquals(5, referenceData.getEndpoints().size());
+        }
+    }
+
+    @Test
+    void testBootstrapsFromSnapshot() throws InterruptedException {
+        final CountDownLatch upstreamAvailable = new CountDownLatch(1);
+        final NcaaBasketballV3ApiClient client = client((request, options) -> {
+            try {
+                upstreamAvailable.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return mockClient.execute(request, options);
+        });
+        final ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.newBuilder()
+                .withCreatedAt(Instant.now().minus(Duration.ofDays(1)))
+                .withTeams(List.of(Fixtures.SMU))
+                .withPlayers(Fixtures.SMU_PLAYERS)
+                .build();
+
+        try (RefreshAheadCache cache = RefreshAheadCache.newBuilder().withThreads(5).build()) {
+            final CachedReferenceData referenceData = CachedReferenceData.newBuilder()
+                    .withClient(client)
+                    .withCache(cache)
+                    .withSnapshot(snapshot)
+                    .build();
+            assertEquals(List.of(Fixtures.SMU), referenceData.teams());
+            assertEquals(Fixtures.SMU_PLAYERS, referenceData.players());
+            assertTrue(referenceData.currentSeason().isEmpty());
+
+            upstreamAvailable.countDown();
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (referenceData.teams().size() < 3 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(3, referenceData.teams().size());
+        }
+    }
+
+    private static NcaaBasketballV3ApiClient client(final Client client) {
+        return FeignClientFactory.createDefaultBuilder("my-api-key", NcaaBasketballV3ApiClient.class)
+                .client(client)
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.enemyghost.sportsdata.api.client.cbb;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import io.github.enemyghost.sportsdata.api.client.util.AllocationMeter;
+import io.github.enemyghost.sportsdata.api.client.util.DecodedEntities;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Guards the bytes allocated per decoded entity for every fixture, so that allocation regressions on the decode hot
+ * path fail the build.
+ * <p>
+ * Budgets are roughly 1.5x what a warmed-up HotSpot measures today, leaving room for JDK and GC differences. When a
+ * change lowers allocation, tighten the affected budgets; when a change must raise them, raise them deliberately.
+ */
+class DecodeAllocationBudgetTest {
+    private static final TypeFactory TYPES = ObjectMapperSingleton.INSTANCE.getTypeFactory();
+
+    @TestFactory
+    Stream<DynamicTest> testBytesPerEntityWithinBudget() {
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation measurement is not supported on this JVM");
+        return Stream.of(
+                budget("CurrentSeason", TYPES.constructType(Season.class), 1_728),
+                budget("Player", TYPES.constructType(Player.class), 2_304),
+                budget("Players", TYPES.constructCollectionType(List.class, Player.class), 1_664),
+                budget("PlayerGameProjectionStatsByPlayer", TYPES.constructType(PlayerGame.class), 3_072),
+                budget("PlayerGameProjectionStatsByDate",
+                        TYPES.constructCollectionType(List.class, PlayerGame.class), 2_560),
+                budget("PlayerGameStatsByDate1k", JsonFixtures.playerGameStatsByDate(1_000),
+                        TYPES.constructCollectionType(List.class, PlayerGame.class), 1_920),
+                budget("Stadiums", TYPES.constructCollectionType(List.class, Stadium.class), 1_088),
+                budget("Teams", TYPES.constructCollectionType(List.class, Team.class), 2_432),
+                budget("LeagueHierarchy", TYPES.constructCollectionType(List.class, Conference.class), 2_944));
+    }
+
+    private static DynamicTest budget(final String fixture, final JavaType type, final long bytesPerEntity) {
+        return budget(fixture, JsonFixtures.load(fixture), type, bytesPerEntity);
+    }
+
+    private static DynamicTest budget(final String name,
+                                      final byte[] body,
+                                      final JavaType type,
+                                      final long bytesPerEntity) {
+        return DynamicTest.dynamicTest(name, () -> {
+            final ObjectReader reader = ObjectMapperSingleton.INSTANCE.readerFor(type);
+            final int entities = DecodedEntities.count(reader.readValue(body));
+            final long allocated = AllocationMeter.newBuilder()
+                    .withWarmupRuns(Math.max(20, 2_000 / entities))
+                    .build()
+                    .measure(() -> reader.readValue(body));
+            final long perEntity = allocated / entities;
+            assertTrue(perEntity <= bytesPerEntity, String.format(
+                    "Decoding %s allocated %d bytes per entity, over its budget of %d", name, perEntity, bytesPerEntity));
+        });
+    }
+}
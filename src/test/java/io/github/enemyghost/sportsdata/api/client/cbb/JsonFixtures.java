@@ -0,0 +1,168 @@
+package io.github.enemyghost.sportsdata.api.client.cbb;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.io.Resources;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads the raw json fixtures in {@code src/test/resources} and synthesizes scaled-up variants of them for
+ * benchmarks and allocation tests.
+ *
+ * @author enemyghost
+ */
+@SuppressWarnings("UnstableApiUsage")
+public final class JsonFixtures {
+    /**
+     * Number of NCAA Division I men's basketball conferences (including Independents)
+     */
+    public static final int D1_CONFERENCES = 33;
+
+    /**
+     * Number of NCAA Division I men's basketball programs
+     */
+    public static final int D1_TEAMS = 353;
+
+    private static final ObjectMapper PLAIN_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<LinkedHashMap<String, Object>>> ROWS = new TypeReference<>() {
+    };
+
+    /**
+     * Private ctor.
+     */
+    private JsonFixtures() {
+    }
+
+    /**
+     * Reads the named fixture from {@code fixtures/v3/json}
+     *
+     * @param fixtureName name of the fixture, without the {@code .json} extension
+     * @return raw UTF-8 bytes of the fixture
+     */
+    public static byte[] load(final String fixtureName) {
+        final String filePath = String.format("fixtures/v3/json/%s.json", fixtureName);
+        try {
+            return Resources.toByteArray(Resources.getResource(filePath));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(String.format("Unable to read resource %s from file", filePath), e);
+        }
+    }
+
+    /**
+     * Synthesizes a {@code PlayerGameStatsByDate} response body with {@code rows} rows, cycling through the rows of
+     * the {@code PlayerGameProjectionStatsByDate} fixture and assigning each a unique stat, player, team, game and
+     * opponent rank.
+     *
+     * @param rows number of rows to generate
+     * @return raw UTF-8 json array of player games
+     */
+    public static byte[] playerGameStatsByDate(final int rows) {
+        final List<LinkedHashMap<String, Object>> template = readRows("PlayerGameProjectionStatsByDate");
+        final List<Map<String, Object>> out = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            final Map<String, Object> row = new LinkedHashMap<>(template.get(i % template.size()));
+            final int teamId = 1 + (i / 13) % D1_TEAMS;
+            final int opponentId = 1 + (teamId + 17) % D1_TEAMS;
+            row.put("StatID", 700000 + i);
+            row.put("PlayerID", 60010000 + i);
+            row.put("Name", "Player " + i);
+            row.put("TeamID", teamId);
+            row.put("GlobalTeamID", 60000000 + teamId);
+            row.put("Team", "T" + teamId);
+            row.put("OpponentID", opponentId);
+            row.put("GlobalOpponentID", 60000000 + opponentId);
+            row.put("Opponent", "T" + opponentId);
+            row.put("OpponentRank", 1 + opponentId % D1_TEAMS);
+            row.put("GameID", 27000 + Math.min(teamId, opponentId));
+            row.put("GlobalGameID", 60027000 + Math.min(teamId, opponentId));
+            row.put("HomeOrAway", teamId < opponentId ? "HOME" : "AWAY");
+            out.add(row);
+        }
+        return write(out);
+    }
+
+    /**
+     * Synthesizes a {@code LeagueHierarchy} response body the size of NCAA Division I, cycling through the teams of
+     * the {@code LeagueHierarchy} fixture and assigning each a unique team and stadium.
+     *
+     * @return raw UTF-8 json array of conferences
+     */
+    @SuppressWarnings("unchecked")
+    public static byte[] fullD1LeagueHierarchy() {
+        final List<LinkedHashMap<String, Object>> template = readRows("LeagueHierarchy");
+        final List<Map<String, Object>> templateTeams = new ArrayList<>();
+        template.forEach(conference -> templateTeams.addAll((List<Map<String, Object>>) conference.get("Teams")));
+
+        final List<Map<String, Object>> conferences = new ArrayList<>(D1_CONFERENCES);
+        for (int c = 0; c < D1_CONFERENCES; c++) {
+            final Map<String, Object> conference = new LinkedHashMap<>();
+            conference.put("ConferenceID", c + 1);
+            conference.put("Name", "Conference " + (c + 1));
+            conference.put("Teams", new ArrayList<Map<String, Object>>());
+            conferences.add(conference);
+        }
+        for (int t = 0; t < D1_TEAMS; t++) {
+            final Map<String, Object> conference = conferences.get(t % D1_CONFERENCES);
+            final Map<String, Object> team = new LinkedHashMap<>(templateTeams.get(t % templateTeams.size()));
+            final Map<String, Object> stadium = new LinkedHashMap<>((Map<String, Object>) team.get("Stadium"));
+            team.put("TeamID", t + 1);
+            team.put("Key", "T" + (t + 1));
+            team.put("School", "School " + (t + 1));
+            team.put("GlobalTeamID", 60000000 + t + 1);
+            team.put("ConferenceID", conference.get("ConferenceID"));
+            team.put("Conference", conference.get("Name"));
+            stadium.put("StadiumID", 1000 + t);
+            stadium.put("Name", "Arena " + (t + 1));
+            team.put("Stadium", stadium);
+            ((List<Map<String, Object>>) conference.get("Teams")).add(team);
+        }
+        return write(conferences);
+    }
+
+    /**
+     * Synthesizes a {@code Players} response body for every player in NCAA Division I, cycling through the players of
+     * the {@code Players} fixture and assigning each a unique player and {@code playersPerTeam} players to each team.
+     *
+     * @param playersPerTeam number of players on each team
+     * @return raw UTF-8 json array of players
+     */
+    public static byte[] fullD1Players(final int playersPerTeam) {
+        final List<LinkedHashMap<String, Object>> template = readRows("Players");
+        final List<Map<String, Object>> out = new ArrayList<>(D1_TEAMS * playersPerTeam);
+        for (int i = 0; i < D1_TEAMS * playersPerTeam; i++) {
+            final Map<String, Object> player = new LinkedHashMap<>(template.get(i % template.size()));
+            final int teamId = 1 + i / playersPerTeam;
+            player.put("PlayerID", 60010000 + i);
+            player.put("FirstName", "First" + i);
+            player.put("LastName", "Last" + i);
+            player.put("TeamID", teamId);
+            player.put("Team", "T" + teamId);
+            player.put("Jersey", i % playersPerTeam);
+            player.put("GlobalTeamID", 60000000 + teamId);
+            out.add(player);
+        }
+        return write(out);
+    }
+
+    private static List<LinkedHashMap<String, Object>> readRows(final String fixtureName) {
+        try {
+            return PLAIN_MAPPER.readValue(load(fixtureName), ROWS);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(String.format("Unable to parse fixture %s", fixtureName), e);
+        }
+    }
+
+    private static byte[] write(final Object value) {
+        try {
+            return PLAIN_MAPPER.writeValueAsBytes(value);
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to write synthesized fixture", e);
+        }
+    }
+}
@@ -5,6 +5,9 @@ import feign.mock.HttpMethod;
 import feign.mock.MockClient;
 import feign.mock.MockTarget;
 import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -12,9 +15,11 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -143,6 +148,41 @@ class NcaaBasketballV3ApiClientTest {
         assertEquals(Fixtures.PLAYER_GAMES, apiClient.playerGameStatsByDate(LocalDate.of(2020, 2, 8)));
     }
 
+    @Test
+    void testGetPlayerGameStatsTableByDate() {
+        mockClient.add(HttpMethod.GET, "/v3/cbb/stats/json/PlayerGameStatsByDate/2020-FEB-08", 200, getResponseFixture("PlayerGameProjectionStatsByDate"));
+        assertEquals(Fixtures.PLAYER_GAMES, apiClient.playerGameStatsTableByDate(LocalDate.of(2020, 2, 8)).toPlayerGames());
+    }
+
+    @Test
+    void testGetPlayerGameProjectionStatsTableByDate() {
+        mockClient.add(HttpMethod.GET, "/v3/cbb/stats/json/PlayerGameProjectionStatsByDate/2020-FEB-08", 200, getResponseFixture("PlayerGameProjectionStatsByDate"));
+        assertEquals(Fixtures.PLAYER_GAMES, apiClient.playerGameProjectionStatsTableByDate(LocalDate.of(2020, 2, 8)).toPlayerGames());
+    }
+
+    @Test
+    void testPrimitiveAccessors() {
+        mockClient.add(HttpMethod.GET, "/v3/cbb/stats/json/PlayerGameStatsByPlayer/2020-FEB-08/60008866", 200, getResponseFixture("PlayerGameProjectionStatsByPlayer"));
+        final PlayerGame playerGame = apiClient.playerGameStatsByPlayer(60008866, LocalDate.of(2020, 2, 8)).orElseThrow();
+        assertTrue(playerGame.hasPlayerId());
+        assertEquals(60008866, playerGame.getPlayerIdAsInt());
+        assertEquals(177, playerGame.getTeamIdAsInt());
+        assertFalse(playerGame.hasOpponentRank());
+        assertTrue(playerGame.getOpponentRank().isEmpty());
+        assertThrows(NoSuchElementException.class, playerGame::getOpponentRankAsInt);
+
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Player/60007054", 200, getResponseFixture("Player"));
+        final Player player = apiClient.player(60007054).orElseThrow();
+        assertEquals(player.getHeight().orElseThrow().intValue(), player.getHeightAsInt());
+        assertFalse(player.hasRotoworldPlayerId());
+
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Teams", 200, getResponseFixture("Teams"));
+        for (final Team team : apiClient.teams()) {
+            assertEquals(team.getWins().isPresent(), team.hasWins());
+            team.getWins().ifPresent(wins -> assertEquals(wins.intValue(), team.getWinsAsInt()));
+        }
+    }
+
     @SuppressWarnings("UnstableApiUsage")
     private static String getResponseFixture(final String fixtureName) {
         final String filePath = String.format("fixtures/v3/json/%s.json", fixtureName);
@@ -0,0 +1,71 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link EntityCodec}
+ */
+class EntityCodecTest {
+    private static final TypeFactory TYPES = ObjectMapperSingleton.INSTANCE.getTypeFactory();
+
+    @Test
+    void testRoundTripsFixtures() throws IOException {
+        final Season season = ObjectMapperSingleton.INSTANCE.readerFor(Season.class)
+                .readValue(JsonFixtures.load("CurrentSeason"));
+        assertEquals(season, EntityCodec.SEASON.decode(EntityCodec.SEASON.encode(season)));
+        assertRoundTrips(EntityCodec.CONFERENCES, read(JsonFixtures.load("LeagueHierarchy"), Conference.class));
+        assertRoundTrips(EntityCodec.STADIUMS, read(JsonFixtures.load("Stadiums"), Stadium.class));
+        assertRoundTrips(EntityCodec.TEAMS, read(JsonFixtures.load("Teams"), Team.class));
+        assertRoundTrips(EntityCodec.PLAYERS, read(JsonFixtures.load("Players"), Player.class));
+        assertRoundTrips(EntityCodec.PLAYER_GAMES,
+                read(JsonFixtures.load("PlayerGameProjectionStatsByDate"), PlayerGame.class));
+
+        final Team team = read(JsonFixtures.load("Teams"), Team.class).get(0);
+        assertEquals(team, EntityCodec.TEAM.decode(EntityCodec.TEAM.encode(team)));
+    }
+
+    @Test
+    void testSmallerThanJson() throws IOException {
+        final byte[] json = JsonFixtures.playerGameStatsByDate(1000);
+        final List<PlayerGame> playerGames = read(json, PlayerGame.class);
+        final byte[] encoded = EntityCodec.PLAYER_GAMES.encode(playerGames);
+        assertTrue(encoded.length * 5 < json.length, encoded.length + " bytes vs " + json.length + " bytes of json");
+        assertEquals(playerGames, EntityCodec.PLAYER_GAMES.decode(ByteBuffer.wrap(encoded)));
+    }
+
+    @Test
+    void testRejectsOtherCodecsAndSchemaVersions() throws IOException {
+        final byte[] encoded = EntityCodec.PLAYERS.encode(read(JsonFixtures.load("Players"), Player.class));
+        assertThrows(IllegalArgumentException.class, () -> EntityCodec.TEAMS.decode(encoded));
+
+        encoded[0] = EntityCodec.SCHEMA_VERSION + 1;
+        assertThrows(IllegalArgumentException.class, () -> EntityCodec.PLAYERS.decode(encoded));
+    }
+
+    private static <T> void assertRoundTrips(final EntityCodec<List<T>> codec, final List<T> entities) {
+        assertTrue(entities.size() > 0);
+        assertEquals(entities, codec.decode(codec.encode(entities)));
+    }
+
+    private static <T> List<T> read(final byte[] json, final Class<T> type) throws IOException {
+        return ObjectMapperSingleton.INSTANCE.readerFor(TYPES.constructCollectionType(List.class, type))
+                .readValue(json);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link EntitySerializerModule}
+ */
+class EntitySerializerModuleTest {
+    private static final List<ObjectMapper> MAPPERS = List.of(ObjectMapperSingleton.INSTANCE,
+            ObjectMapperSingleton.SMILE_INSTANCE, ObjectMapperSingleton.CBOR_INSTANCE);
+
+    @Test
+    void testRoundTripsFixtures() throws IOException {
+        assertRoundTrips("CurrentSeason", ObjectMapperSingleton.INSTANCE.constructType(Season.class));
+        assertRoundTrips("LeagueHierarchy", listOf(Conference.class));
+        assertRoundTrips("Stadiums", listOf(Stadium.class));
+        assertRoundTrips("Teams", listOf(Team.class));
+        assertRoundTrips("Players", listOf(Player.class));
+        assertRoundTrips("PlayerGameProjectionStatsByDate", listOf(PlayerGame.class));
+        assertRoundTrips("PlayerGameProjectionStatsByPlayer",
+                ObjectMapperSingleton.INSTANCE.constructType(PlayerGame.class));
+    }
+
+    @Test
+    void testBinaryFormatsAreSmallerThanJson() throws IOException {
+        final byte[] json = JsonFixtures.playerGameStatsByDate(1000);
+        final List<PlayerGame> playerGames = ObjectMapperSingleton.INSTANCE.readValue(json, listOf(PlayerGame.class));
+        final int smile = ObjectMapperSingleton.SMILE_INSTANCE.writeValueAsBytes(playerGames).length;
+        final int cbor = ObjectMapperSingleton.CBOR_INSTANCE.writeValueAsBytes(playerGames).length;
+        assertTrue(smile < json.length / 2, smile + " bytes of Smile vs " + json.length + " bytes of json");
+        assertTrue(cbor < json.length, cbor + " bytes of CBOR vs " + json.length + " bytes of json");
+    }
+
+    private static void assertRoundTrips(final String fixture, final JavaType type) throws IOException {
+        final Object expected = ObjectMapperSingleton.INSTANCE.readValue(JsonFixtures.load(fixture), type);
+        for (final ObjectMapper mapper : MAPPERS) {
+            assertEquals(expected, mapper.readValue(mapper.writeValueAsBytes(expected), type),
+                    fixture + " through " + mapper.getFactory().getFormatName());
+        }
+    }
+
+    private static JavaType listOf(final Class<?> type) {
+        return ObjectMapperSingleton.INSTANCE.getTypeFactory().constructCollectionType(List.class, type);
+    }
+}
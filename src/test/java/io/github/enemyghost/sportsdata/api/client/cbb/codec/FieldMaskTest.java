@@ -0,0 +1,116 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerField;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGameField;
+import io.github.enemyghost.sportsdata.api.client.cbb.table.PlayerGameTable;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link FieldMask} and {@link FieldMaskCapability}
+ */
+class FieldMaskTest {
+    private static final ObjectReader PLAYER_GAMES = ObjectMapperSingleton.INSTANCE.readerFor(
+            ObjectMapperSingleton.INSTANCE.getTypeFactory().constructCollectionType(List.class, PlayerGame.class));
+    private static final FieldMask DASHBOARD = FieldMask.newBuilder()
+            .withPlayerGameFields(PlayerGameField.TEAM, PlayerGameField.OPPONENT_RANK, PlayerGameField.DATE_TIME)
+            .withPlayerFields(PlayerField.LAST_NAME, PlayerField.JERSEY)
+            .build();
+
+    @Test
+    void testProjectsPlayerGames() throws IOException {
+        final byte[] body = JsonFixtures.playerGameStatsByDate(500);
+        final List<PlayerGame> expected = projected(PLAYER_GAMES.readValue(body));
+        final List<PlayerGame> playerGames = DASHBOARD.getObjectMapper().readValue(body,
+                DASHBOARD.getObjectMapper().getTypeFactory().constructCollectionType(List.class, PlayerGame.class));
+        assertEquals(expected, playerGames);
+        assertTrue(playerGames.stream().allMatch(playerGame -> playerGame.getPlayerId().isEmpty()));
+    }
+
+    @Test
+    void testProjectsTables() throws IOException {
+        final byte[] body = JsonFixtures.playerGameStatsByDate(500);
+        final PlayerGameTable table = DASHBOARD.readerFor(PlayerGameTable.class).readValue(body);
+        assertEquals(projected(PLAYER_GAMES.readValue(body)), table.toPlayerGames());
+        assertEquals(table.size(), table.getPlayerId().nullCount());
+    }
+
+    @Test
+    void testProjectsPlayers() throws IOException {
+        final Player player = DASHBOARD.getObjectMapper().readValue(JsonFixtures.load("Player"), Player.class);
+        assertEquals(60006480, player.getPlayerId());
+        assertEquals("Jolly", player.getLastName().orElseThrow());
+        assertEquals(0, player.getJerseyAsInt());
+        assertTrue(player.getFirstName().isEmpty());
+        assertTrue(player.getTeamId().isEmpty());
+    }
+
+    @Test
+    void testUnmaskedEntitiesAreDecodedInFull() throws IOException {
+        final FieldMask mask = FieldMask.newBuilder().withPlayerFields(PlayerField.LAST_NAME).build();
+        assertEquals(PlayerGameField.values().length, mask.getPlayerGameFields().size());
+        assertEquals(Set.of(PlayerField.PLAYER_ID, PlayerField.LAST_NAME), mask.getPlayerFields());
+
+        final byte[] body = JsonFixtures.load("PlayerGameProjectionStatsByDate");
+        assertEquals(PLAYER_GAMES.<List<PlayerGame>>readValue(body),
+                mask.readerFor(PLAYER_GAMES.getValueType()).readValue(body));
+        assertThrows(IllegalArgumentException.class, () -> FieldMask.newBuilder().build());
+    }
+
+    @Test
+    void testCapabilityProjectsCallsInsideProject() {
+        final MockClient mockClient = new MockClient();
+        final NcaaBasketballV3ApiClient apiClient = FeignClientFactory.createDefaultBuilder("my-api-key",
+                NcaaBasketballV3ApiClient.class,
+                mockClient,
+                new FieldMaskCapability())
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+        final byte[] body = JsonFixtures.load("PlayerGameProjectionStatsByDate");
+        mockClient.add(HttpMethod.GET, "/v3/cbb/stats/json/PlayerGameStatsByDate/2020-FEB-08", 200, body);
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Player/1", 404);
+        final LocalDate date = LocalDate.of(2020, 2, 8);
+
+        final List<PlayerGame> full = apiClient.playerGameStatsByDate(date);
+        final List<PlayerGame> projected = DASHBOARD.project(() -> apiClient.playerGameStatsByDate(date));
+        assertEquals(projected(full), projected);
+        assertFalse(projected.equals(full));
+        assertEquals(full, apiClient.playerGameStatsByDate(date));
+        assertTrue(DASHBOARD.project(() -> apiClient.player(1)).isEmpty());
+        assertNull(FieldMask.current());
+    }
+
+    /**
+     * Eagerly decoded player games, reduced to the fields of {@link #DASHBOARD}
+     */
+    private static List<PlayerGame> projected(final List<PlayerGame> playerGames) {
+        return playerGames.stream()
+                .map(playerGame -> PlayerGame.newBuilder()
+                        .withStatID(playerGame.getStatId())
+                        .withTeam(playerGame.getTeam().orElse(null))
+                        .withOpponentRank(playerGame.getOpponentRank().orElse(null))
+                        .withGameInstant(playerGame.getGameInstant().orElse(null))
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import io.github.enemyghost.sportsdata.api.client.util.StringInterner;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link StringInterningModule}
+ */
+class StringInterningModuleTest {
+    private static final JavaType PLAYER_GAMES = ObjectMapperSingleton.INSTANCE.getTypeFactory()
+            .constructCollectionType(List.class, PlayerGame.class);
+
+    @Test
+    void testInternsLowCardinalityProperties() throws IOException {
+        final byte[] json = JsonFixtures.playerGameStatsByDate(2);
+        final byte[] smile = ObjectMapperSingleton.SMILE_INSTANCE.writeValueAsBytes(
+                ObjectMapperSingleton.INSTANCE.readValue(json, PLAYER_GAMES));
+        final List<PlayerGame> fromJson = ObjectMapperSingleton.INSTANCE.readValue(json, PLAYER_GAMES);
+        final List<PlayerGame> fromSmile = ObjectMapperSingleton.SMILE_INSTANCE.readValue(smile, PLAYER_GAMES);
+
+        final String team = fromJson.get(0).getTeam().orElseThrow();
+        assertEquals("T1", team);
+        assertSame(team, fromJson.get(1).getTeam().orElseThrow());
+        assertSame(team, fromSmile.get(0).getTeam().orElseThrow());
+        assertSame(fromJson.get(0).getOpponent().orElseThrow(), fromSmile.get(1).getOpponent().orElseThrow());
+        assertSame(fromJson.get(0).getHomeOrAway().orElseThrow(), fromJson.get(1).getHomeOrAway().orElseThrow());
+        assertNotSame(fromJson.get(0).getName().orElseThrow(), fromSmile.get(0).getName().orElseThrow());
+    }
+
+    @Test
+    void testInternsOnlyConfiguredProperties() throws IOException {
+        final ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .registerModule(new StringInterningModule(new StringInterner(64), Set.of("Team")))
+                .setPropertyNamingStrategy(PropertyNamingStrategy.UPPER_CAMEL_CASE);
+        final List<PlayerGame> playerGames = mapper.readValue(JsonFixtures.playerGameStatsByDate(2), PLAYER_GAMES);
+
+        assertSame(playerGames.get(0).getTeam().orElseThrow(), playerGames.get(1).getTeam().orElseThrow());
+        assertEquals(playerGames.get(0).getHomeOrAway(), playerGames.get(1).getHomeOrAway());
+        assertNotSame(playerGames.get(0).getHomeOrAway().orElseThrow(),
+                playerGames.get(1).getHomeOrAway().orElseThrow());
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.entities;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that {@link PlayerGame}, {@link Player} and {@link Team} serialize with Jackson's default bean serializer, as
+ * with a mapper configured by the caller, although their primitive accessors throw for absent values
+ */
+class BeanSerializationTest {
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new Jdk8Module())
+            .registerModule(new JavaTimeModule())
+            .setPropertyNamingStrategy(PropertyNamingStrategy.UPPER_CAMEL_CASE);
+
+    @Test
+    void testSerializesPlayersWithAbsentValues() throws IOException {
+        assertSerializes("Players", Player.class, "RotoworldPlayerId", Player::hasRotoworldPlayerId,
+                Player::getRotoworldPlayerIdAsInt);
+    }
+
+    @Test
+    void testSerializesTeamsWithAbsentValues() throws IOException {
+        assertSerializes("Teams", Team.class, "ApRank", Team::hasApRank, Team::getApRankAsInt);
+    }
+
+    @Test
+    void testSerializesPlayerGamesWithAbsentValues() throws IOException {
+        assertSerializes("PlayerGameProjectionStatsByDate", PlayerGame.class, "OpponentRank",
+                PlayerGame::hasOpponentRank, PlayerGame::getOpponentRankAsInt);
+    }
+
+    private static <T> void assertSerializes(final String fixture, final Class<T> type, final String property,
+                                             final Predicate<T> has, final ToIntFunction<T> asInt) throws IOException {
+        final JavaType listType = MAPPER.getTypeFactory().constructCollectionType(List.class, type);
+        final List<T> entities = ObjectMapperSingleton.INSTANCE.readValue(JsonFixtures.load(fixture), listType);
+        assertFalse(entities.stream().allMatch(has), fixture + " has no absent " + property);
+
+        final JsonNode written = MAPPER.readTree(MAPPER.writeValueAsBytes(entities));
+        assertEquals(entities.size(), written.size());
+        for (int i = 0; i < entities.size(); i++) {
+            final T entity = entities.get(i);
+            final JsonNode node = written.get(i);
+            if (has.test(entity)) {
+                assertEquals(asInt.applyAsInt(entity), node.get(property).asInt(), fixture);
+            } else {
+                assertTrue(node.get(property).isNull(), fixture);
+            }
+            node.fieldNames().forEachRemaining(name -> assertFalse(name.endsWith("AsInt") || name.startsWith("Has"),
+                    fixture + " wrote accessor " + name));
+        }
+    }
+}
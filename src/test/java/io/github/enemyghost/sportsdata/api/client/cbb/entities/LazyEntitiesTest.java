@@ -0,0 +1,133 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.entities;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LazyEntities}
+ */
+class LazyEntitiesTest {
+    private static final TypeReference<List<PlayerGame>> PLAYER_GAMES = new TypeReference<>() {
+    };
+    private static final TypeReference<List<Player>> PLAYERS = new TypeReference<>() {
+    };
+
+    @Test
+    void testPlayerGamesMatchEagerDecoding() throws Exception {
+        assertPlayerGamesMatch(JsonFixtures.load("PlayerGameProjectionStatsByDate"));
+        assertPlayerGamesMatch(JsonFixtures.playerGameStatsByDate(500));
+
+        final byte[] json = JsonFixtures.load("PlayerGameProjectionStatsByPlayer");
+        final PlayerGame lazy = LazyEntities.playerGame(json).orElseThrow();
+        assertIdentical(ObjectMapperSingleton.INSTANCE.readValue(json, PlayerGame.class), lazy, PlayerGame.class);
+    }
+
+    @Test
+    void testPlayersMatchEagerDecoding() throws Exception {
+        final byte[] json = JsonFixtures.load("Players");
+        final List<Player> eager = ObjectMapperSingleton.INSTANCE.readValue(json, PLAYERS);
+        final List<Player> lazy = LazyEntities.players(json);
+        assertEquals(eager.size(), lazy.size());
+        for (int i = 0; i < eager.size(); i++) {
+            assertIdentical(eager.get(i), lazy.get(i), Player.class);
+        }
+
+        final byte[] single = JsonFixtures.load("Player");
+        assertIdentical(ObjectMapperSingleton.INSTANCE.readValue(single, Player.class),
+                LazyEntities.player(single).orElseThrow(), Player.class);
+    }
+
+    @Test
+    void testValuesOutsideTheFastPathMatchEagerDecoding() throws Exception {
+        assertPlayerGamesMatch(bytes("[{\"StatID\": 1, \"TeamID\": \"12\", \"GameID\": 1234567890, "
+                + "\"Name\": \"D\\u00e9j\\u00e0 \\\"Vu\\\"\", "
+                + "\"Team\": \"\u00dcn\u00efc\u00f6d\u00e9\", \"OpponentRank\": -3, "
+                + "\"IsGameOver\": true, \"DateTime\": \"2020-02-08T14:00:00Z\", \"Updated\": null, "
+                + "\"Unknown\": {\"Nested\": [1, 2, {\"A\": \"}\"}]}, \"InjuryStartDate\": \"2020-01-09\", "
+                + "\"Season\": 2019, \"Season\": 2020}, {\"StatID\": 2}]"));
+        assertPlayerGamesMatch(bytes("[]"));
+    }
+
+    @Test
+    void testNullBodies() {
+        assertNull(LazyEntities.playerGames(bytes("null")));
+        assertNull(LazyEntities.players(bytes(" null ")));
+        assertTrue(LazyEntities.playerGame(bytes("null")).isEmpty());
+        assertTrue(LazyEntities.player(bytes("null")).isEmpty());
+    }
+
+    @Test
+    void testRequiredFields() {
+        assertThrows(IllegalArgumentException.class, () -> LazyEntities.playerGames(bytes("[{\"TeamID\": 1}]")));
+        assertThrows(IllegalArgumentException.class, () -> LazyEntities.players(bytes("[{\"PlayerID\": null}]")));
+        assertThrows(IllegalArgumentException.class, () -> LazyEntities.players(bytes("[{\"PlayerID\": 1")));
+        assertEquals(0, LazyEntities.playerGames(bytes("[{\"StatID\": null}]")).get(0).getStatId());
+    }
+
+    @Test
+    void testEqualityIsSymmetric() throws IOException {
+        final byte[] json = JsonFixtures.load("PlayerGameProjectionStatsByDate");
+        final List<PlayerGame> eager = ObjectMapperSingleton.INSTANCE.readValue(json, PLAYER_GAMES);
+        final List<PlayerGame> lazy = LazyEntities.playerGames(json);
+        assertEquals(eager, lazy);
+        assertEquals(lazy, eager);
+        assertEquals(lazy, LazyEntities.playerGames(json));
+        assertFalse(eager.get(0).equals(lazy.get(1)));
+        assertFalse(lazy.get(0).equals(eager.get(1)));
+    }
+
+    private static void assertPlayerGamesMatch(final byte[] json) throws Exception {
+        final List<PlayerGame> eager = ObjectMapperSingleton.INSTANCE.readValue(json, PLAYER_GAMES);
+        final List<PlayerGame> lazy = LazyEntities.playerGames(json);
+        assertEquals(eager.size(), lazy.size());
+        for (int i = 0; i < eager.size(); i++) {
+            assertIdentical(eager.get(i), lazy.get(i), PlayerGame.class);
+        }
+    }
+
+    /**
+     * Compares the result, or exception, of every public getter of the eager and lazy entity, reading each twice
+     */
+    private static <T> void assertIdentical(final T eager, final T lazy, final Class<T> type) throws Exception {
+        for (int pass = 0; pass < 2; pass++) {
+            for (final Method method : type.getDeclaredMethods()) {
+                if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())
+                        || method.getParameterCount() > 0) {
+                    continue;
+                }
+                assertEquals(invoke(method, eager), invoke(method, lazy), method::getName);
+            }
+        }
+        assertEquals(eager, lazy);
+        assertEquals(lazy, eager);
+        assertEquals(eager.hashCode(), lazy.hashCode());
+    }
+
+    private static Object invoke(final Method method, final Object target) throws IllegalAccessException {
+        try {
+            return method.invoke(target);
+        } catch (final InvocationTargetException e) {
+            return Optional.of(e.getCause().getClass());
+        }
+    }
+
+    private static byte[] bytes(final String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
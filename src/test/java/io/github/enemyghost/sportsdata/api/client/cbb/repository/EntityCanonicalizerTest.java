@@ -0,0 +1,86 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.repository;
+
+import com.fasterxml.jackson.databind.JavaType;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests for {@link EntityCanonicalizer}
+ */
+class EntityCanonicalizerTest {
+    @Test
+    void testSharesTeamsAndStadiumsAcrossResponses() throws IOException {
+        final List<Conference> hierarchy = read(JsonFixtures.fullD1LeagueHierarchy(), Conference.class);
+        final List<Team> teams = new ArrayList<>();
+        read(JsonFixtures.fullD1LeagueHierarchy(), Conference.class).forEach(c -> teams.addAll(c.getTeams()));
+        final List<Stadium> stadiums = new ArrayList<>();
+        read(JsonFixtures.fullD1LeagueHierarchy(), Conference.class)
+                .forEach(c -> c.getTeams().forEach(team -> stadiums.add(team.getStadium().orElseThrow())));
+        assertNotSame(hierarchy.get(0).getTeams().get(0), teams.get(0));
+
+        final EntityCanonicalizer canonicalizer = new EntityCanonicalizer();
+        final List<Conference> canonicalHierarchy = canonicalizer.canonicalizeConferences(hierarchy);
+        final List<Team> canonicalTeams = canonicalizer.canonicalizeTeams(teams);
+        final List<Stadium> canonicalStadiums = canonicalizer.canonicalizeStadiums(stadiums);
+        assertEquals(hierarchy, canonicalHierarchy);
+        assertEquals(teams, canonicalTeams);
+        assertEquals(stadiums, canonicalStadiums);
+        assertEquals(JsonFixtures.D1_TEAMS, canonicalizer.teamCount());
+        assertEquals(JsonFixtures.D1_TEAMS, canonicalizer.stadiumCount());
+
+        int i = 0;
+        for (final Conference conference : canonicalHierarchy) {
+            for (final Team team : conference.getTeams()) {
+                assertSame(team, canonicalTeams.get(i));
+                assertSame(team.getStadium().orElseThrow(), canonicalStadiums.get(i));
+                i++;
+            }
+        }
+    }
+
+    @Test
+    void testReplacesChangedEntities() throws IOException {
+        final Team team = read(JsonFixtures.load("Teams"), Team.class).get(0);
+        final Team changed = read(JsonFixtures.load("Teams"), Team.class).get(0);
+        final Team updated = Team.newBuilder()
+                .withTeamID(team.getTeamId())
+                .withKey(team.getKey())
+                .withActive(team.isActive())
+                .withGlobalTeamID(team.getGlobalTeamId())
+                .withWins(team.getWins().orElse(0) + 1)
+                .build();
+        assertNotEquals(team, updated);
+
+        final EntityCanonicalizer canonicalizer = new EntityCanonicalizer();
+        assertSame(team, canonicalizer.canonicalize(team));
+        assertSame(team, canonicalizer.canonicalize(changed));
+        assertSame(updated, canonicalizer.canonicalize(updated));
+        assertSame(updated, canonicalizer.canonicalize(Team.newBuilder()
+                .withTeamID(team.getTeamId())
+                .withKey(team.getKey())
+                .withActive(team.isActive())
+                .withGlobalTeamID(team.getGlobalTeamId())
+                .withWins(team.getWins().orElse(0) + 1)
+                .build()));
+        assertEquals(1, canonicalizer.teamCount());
+    }
+
+    private static <T> List<T> read(final byte[] json, final Class<T> type) throws IOException {
+        final JavaType listType = ObjectMapperSingleton.INSTANCE.getTypeFactory()
+                .constructCollectionType(List.class, type);
+        return ObjectMapperSingleton.INSTANCE.readValue(json, listType);
+    }
+}
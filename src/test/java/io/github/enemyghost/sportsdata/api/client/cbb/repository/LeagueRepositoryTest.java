@@ -0,0 +1,109 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.repository;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import io.github.enemyghost.sportsdata.api.client.util.AllocationMeter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link LeagueRepository}
+ */
+class LeagueRepositoryTest {
+    private LeagueRepository repository;
+
+    @BeforeEach
+    void setup() {
+        final MockClient mockClient = new MockClient()
+                .add(HttpMethod.GET, "/v3/cbb/scores/json/LeagueHierarchy", 200, JsonFixtures.load("LeagueHierarchy"))
+                .add(HttpMethod.GET, "/v3/cbb/scores/json/Teams", 200, JsonFixtures.load("Teams"))
+                .add(HttpMethod.GET, "/v3/cbb/scores/json/Players", 200, JsonFixtures.load("Players"));
+        repository = LeagueRepository.load(
+                FeignClientFactory.createDefaultBuilder("my-api-key", NcaaBasketballV3ApiClient.class)
+                        .client(mockClient)
+                        .target(new MockTarget<>(NcaaBasketballV3ApiClient.class)));
+    }
+
+    @Test
+    void testLookups() {
+        assertEquals(3, repository.getConferences().size());
+        assertEquals(3, repository.getTeams().size());
+        assertEquals(3, repository.getPlayers().size());
+
+        final Team smu = repository.getTeam(1).orElseThrow();
+        assertEquals("SMU", smu.getKey());
+        assertSame(smu, repository.getTeamByKey("SMU").orElseThrow());
+        assertSame(smu, repository.getTeamByGlobalId(60000001).orElseThrow());
+        assertEquals("America East", repository.getConference(2).map(Conference::getName).orElseThrow());
+        assertTrue(repository.getConference(15).orElseThrow().getTeams().isEmpty());
+        assertEquals(1, repository.getPlayer(60006480).flatMap(Player::getTeamId).orElseThrow().intValue());
+
+        assertEquals(repository.getPlayers(), repository.getRoster(1));
+        assertEquals(List.of(), repository.getRoster(2));
+        assertEquals(Optional.empty(), repository.getTeam(999));
+        assertEquals(Optional.empty(), repository.getTeamByKey("NOPE"));
+        assertEquals(Optional.empty(), repository.getPlayer(0));
+    }
+
+    @Test
+    void testTeamsPreferTeamsEndpoint() throws IOException {
+        final ObjectReader reader = ObjectMapperSingleton.INSTANCE.readerFor(
+                ObjectMapperSingleton.INSTANCE.getTypeFactory().constructCollectionType(List.class, Conference.class));
+        final List<Conference> conferences = reader.readValue(JsonFixtures.fullD1LeagueHierarchy());
+        final Team detailed = Team.newBuilder()
+                .withTeamID(1)
+                .withKey("T1")
+                .withActive(true)
+                .withGlobalTeamID(60000001)
+                .withWins(20)
+                .build();
+
+        final LeagueRepository league = LeagueRepository.newBuilder()
+                .withConferences(conferences)
+                .withTeams(List.of(detailed))
+                .build();
+        assertEquals(JsonFixtures.D1_TEAMS, league.getTeams().size());
+        assertSame(detailed, league.getTeam(1).orElseThrow());
+        assertSame(detailed, league.getTeamByKey("T1").orElseThrow());
+        for (int teamId = 1; teamId <= JsonFixtures.D1_TEAMS; teamId++) {
+            assertEquals(teamId, league.getTeam(teamId).orElseThrow().getTeamId());
+        }
+    }
+
+    @Test
+    void testLookupsDoNotAllocate() throws Exception {
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation measurement is not supported on this JVM");
+        final Object result = new Object();
+        final long allocated = AllocationMeter.newBuilder()
+                .withWarmupRuns(2_000)
+                .build()
+                .measure(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        repository.getTeam(i & 15);
+                        repository.getTeamByGlobalId(60000000 + (i & 15));
+                        repository.getPlayer(60006480 + (i & 1023));
+                        repository.getRoster(i & 3);
+                    }
+                    return result;
+                });
+        assertEquals(0, allocated);
+    }
+}
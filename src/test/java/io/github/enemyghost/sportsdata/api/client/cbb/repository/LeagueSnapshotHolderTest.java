@@ -0,0 +1,157 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.repository;
+
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link LeagueSnapshotHolder}
+ */
+class LeagueSnapshotHolderTest {
+    @Test
+    void testVersionAndAge() {
+        final MutableClock clock = new MutableClock(Instant.parse("2020-02-08T12:00:00Z"));
+        final AtomicInteger loads = new AtomicInteger();
+        final LeagueSnapshotHolder holder = LeagueSnapshotHolder.newBuilder()
+                .withLoader(() -> league(loads.incrementAndGet()))
+                .withClock(clock)
+                .build();
+
+        assertEquals(1, holder.getVersion());
+        assertEquals(1, holder.get().getRepository().getTeams().size());
+        clock.advance(Duration.ofMinutes(5));
+        assertEquals(Duration.ofMinutes(5), holder.getAge());
+
+        final LeagueSnapshot refreshed = holder.refresh();
+        assertSame(refreshed, holder.get());
+        assertEquals(2, refreshed.getVersion());
+        assertEquals(2, refreshed.getRepository().getTeams().size());
+        assertEquals(Duration.ZERO, holder.getAge());
+
+        final LeagueRepository published = league(10);
+        assertSame(published, holder.publish(published).getRepository());
+        assertEquals(3, holder.getVersion());
+    }
+
+    @Test
+    void testFailedRefreshKeepsSnapshot() {
+        final AtomicBoolean fail = new AtomicBoolean();
+        final LeagueSnapshotHolder holder = LeagueSnapshotHolder.newBuilder()
+                .withLoader(() -> {
+                    if (fail.get()) {
+                        throw new IllegalStateException("Service unavailable");
+                    }
+                    return league(1);
+                })
+                .build();
+        final LeagueSnapshot initial = holder.get();
+
+        fail.set(true);
+        assertThrows(IllegalStateException.class, holder::refresh);
+        holder.run();
+        assertSame(initial, holder.get());
+
+        fail.set(false);
+        holder.run();
+        assertEquals(2, holder.getVersion());
+    }
+
+    @Test
+    void testReadersSeeConsistentSnapshots() throws Exception {
+        final LeagueSnapshotHolder holder = LeagueSnapshotHolder.newBuilder().withLoader(() -> league(1)).build();
+        final AtomicBoolean done = new AtomicBoolean();
+        final ExecutorService readers = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                results.add(readers.submit(() -> {
+                    long lastVersion = 0;
+                    while (!done.get()) {
+                        final LeagueSnapshot snapshot = holder.get();
+                        final LeagueRepository league = snapshot.getRepository();
+                        assertTrue(snapshot.getVersion() >= lastVersion);
+                        assertEquals(league.getTeams().size(), league.getPlayers().size());
+                        assertEquals(league.getTeams().size(), league.getRoster(league.getTeams().size()).size());
+                        lastVersion = snapshot.getVersion();
+                    }
+                    return lastVersion;
+                }));
+            }
+            for (int size = 2; size <= 200; size++) {
+                holder.publish(league(size));
+            }
+            done.set(true);
+            for (final Future<Long> result : results) {
+                assertTrue(result.get() <= holder.getVersion());
+            }
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    /**
+     * A league of {@code size} teams with one player each, all of whom are on the last team
+     */
+    private static LeagueRepository league(final int size) {
+        final List<Team> teams = new ArrayList<>();
+        final List<Player> players = new ArrayList<>();
+        for (int i = 1; i <= size; i++) {
+            teams.add(Team.newBuilder()
+                    .withTeamID(i)
+                    .withKey("T" + i)
+                    .withActive(true)
+                    .withGlobalTeamID(60000000 + i)
+                    .build());
+            players.add(Player.newBuilder()
+                    .withPlayerID(i)
+                    .withTeamID(size)
+                    .build());
+        }
+        return LeagueRepository.newBuilder().withTeams(teams).withPlayers(players).build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(final Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(final Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.repository;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Season;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Stadium;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link ReferenceDataSnapshot}
+ */
+class ReferenceDataSnapshotTest {
+    private static final TypeFactory TYPES = ObjectMapperSingleton.INSTANCE.getTypeFactory();
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        file = Files.createTempFile("reference-data", ".bin");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void testRoundTripsFixtures() throws IOException {
+        final ReferenceDataSnapshot snapshot = fixtureSnapshot();
+        snapshot.write(file);
+
+        final ReferenceDataSnapshot read = ReferenceDataSnapshot.read(file);
+        assertEquals(snapshot.getCreatedAt(), read.getCreatedAt());
+        assertEquals(snapshot.getCurrentSeason(), read.getCurrentSeason());
+        assertEquals(snapshot.getLeagueHierarchy(), read.getLeagueHierarchy());
+        assertEquals(snapshot.getStadiums(), read.getStadiums());
+        assertEquals(snapshot.getTeams(), read.getTeams());
+        assertEquals(snapshot.getPlayers(), read.getPlayers());
+        assertEquals(snapshot.getPlayers(), read.toLeagueRepository().getRoster(1));
+    }
+
+    @Test
+    void testRoundTripsFullLeague() throws IOException {
+        final List<Conference> conferences = ObjectMapperSingleton.INSTANCE
+                .readerFor(TYPES.constructCollectionType(List.class, Conference.class))
+                .readValue(JsonFixtures.fullD1LeagueHierarchy());
+        final List<Player> players = ObjectMapperSingleton.INSTANCE
+                .readerFor(TYPES.constructCollectionType(List.class, Player.class))
+                .readValue(JsonFixtures.fullD1Players(15));
+        final ReferenceDataSnapshot snapshot = ReferenceDataSnapshot.newBuilder()
+                .withCreatedAt(Instant.now())
+                .withLeagueHierarchy(conferences)
+                .withPlayers(players)
+                .build();
+        snapshot.write(file);
+
+        final ReferenceDataSnapshot read = ReferenceDataSnapshot.read(file);
+        assertEquals(Optional.empty(), read.getCurrentSeason());
+        assertEquals(conferences, read.getLeagueHierarchy());
+        assertEquals(players, read.getPlayers());
+        assertTrue(Files.size(file) < JsonFixtures.fullD1Players(15).length / 4,
+                "Snapshot should be much smaller than the json it replaces");
+    }
+
+    @Test
+    void testRejectsOtherFiles() throws IOException {
+        Files.write(file, "[{\"TeamID\":1}]".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> ReferenceDataSnapshot.read(file));
+        Files.write(file, new byte[]{'S', 'D'});
+        assertThrows(IllegalArgumentException.class, () -> ReferenceDataSnapshot.read(file));
+    }
+
+    @Test
+    void testReportsTruncatedFilesAsIOException() throws IOException {
+        fixtureSnapshot().write(file);
+        final byte[] bytes = Files.readAllBytes(file);
+        // every cut past the magic number, from within the header to within the last player
+        for (int length = 4; length < bytes.length; length += length < 64 ? 1 : 97) {
+            Files.write(file, Arrays.copyOf(bytes, length));
+            final IOException e = assertThrows(IOException.class, () -> ReferenceDataSnapshot.read(file),
+                    "Truncated to " + length + " bytes");
+            assertTrue(e.getMessage().startsWith("Corrupt snapshot"), e.getMessage());
+        }
+    }
+
+    @Test
+    void testReportsCorruptFilesAsIOException() throws IOException {
+        fixtureSnapshot().write(file);
+        final byte[] bytes = Files.readAllBytes(file);
+        // a varint that never ends, after the magic number and format version
+        Arrays.fill(bytes, 5, bytes.length, (byte) 0xff);
+        Files.write(file, bytes);
+        assertThrows(IOException.class, () -> ReferenceDataSnapshot.read(file));
+    }
+
+    private static ReferenceDataSnapshot fixtureSnapshot() throws IOException {
+        return ReferenceDataSnapshot.newBuilder()
+                .withCreatedAt(Instant.parse("2020-02-08T12:00:00Z"))
+                .withCurrentSeason(Optional.of(ObjectMapperSingleton.INSTANCE.readerFor(Season.class)
+                        .readValue(JsonFixtures.load("CurrentSeason"))))
+                .withLeagueHierarchy(read("LeagueHierarchy", Conference.class))
+                .withStadiums(read("Stadiums", Stadium.class))
+                .withTeams(read("Teams", Team.class))
+                .withPlayers(read("Players", Player.class))
+                .build();
+    }
+
+    private static <T> List<T> read(final String fixture, final Class<T> type) throws IOException {
+        final ObjectReader reader = ObjectMapperSingleton.INSTANCE
+                .readerFor(TYPES.constructCollectionType(List.class, type));
+        return reader.readValue(JsonFixtures.load(fixture));
+    }
+}
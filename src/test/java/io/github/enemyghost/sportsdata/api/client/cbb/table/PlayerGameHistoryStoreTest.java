@@ -0,0 +1,191 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PlayerGameHistoryStore}
+ */
+class PlayerGameHistoryStoreTest {
+    private static final ObjectReader LIST_READER = ObjectMapperSingleton.INSTANCE.readerFor(
+            ObjectMapperSingleton.INSTANCE.getTypeFactory().constructCollectionType(List.class, PlayerGame.class));
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("player-game-history");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.walk(directory)
+                .sorted(Comparator.reverseOrder())
+                .map(Path::toFile)
+                .forEach(File::delete);
+    }
+
+    @Test
+    void testRoundTripsAcrossReopen() throws IOException {
+        final List<PlayerGame> fixture = LIST_READER.readValue(JsonFixtures.load("PlayerGameProjectionStatsByDate"));
+        final List<PlayerGame> generated = LIST_READER.readValue(JsonFixtures.playerGameStatsByDate(700));
+
+        try (PlayerGameHistoryStore store = open()) {
+            store.appendAll(fixture);
+            store.appendAll(generated);
+            assertEquals(fixture.size() + generated.size(), store.size());
+            assertEquals(fixture.get(0), store.get(0));
+        }
+
+        try (PlayerGameHistoryStore store = open()) {
+            assertEquals(fixture.size() + generated.size(), store.size());
+            for (int i = 0; i < fixture.size(); i++) {
+                assertEquals(fixture.get(i), store.get(i));
+            }
+            for (int i = 0; i < generated.size(); i++) {
+                assertEquals(generated.get(i), store.get(fixture.size() + i));
+            }
+            assertEquals(generated.get(5), store.getByStatId(generated.get(5).getStatId()).orElseThrow());
+            assertFalse(store.getByStatId(-1).isPresent());
+            assertThrows(IndexOutOfBoundsException.class, () -> store.get(store.size()));
+        }
+    }
+
+    @Test
+    void testAppendOverwritesSameStatId() throws IOException {
+        final PlayerGame first = PlayerGame.newBuilder()
+                .withStatID(42)
+                .withPlayerID(7)
+                .withGames(0)
+                .withOpponentRank(10)
+                .withName("Original Name")
+                .withDateTime(LocalDateTime.of(2019, 12, 1, 19, 0))
+                .withUpdated(LocalDateTime.of(2019, 12, 1, 12, 0))
+                .build();
+        final PlayerGame updated = PlayerGame.newBuilder()
+                .withStatID(42)
+                .withPlayerID(7)
+                .withGames(1)
+                .withName("Updated Name")
+                .withIsGameOver(true)
+                .withDateTime(LocalDateTime.of(2019, 12, 1, 19, 0))
+                .withUpdated(LocalDateTime.of(2019, 12, 1, 21, 30))
+                .build();
+
+        try (PlayerGameHistoryStore store = open()) {
+            assertEquals(0, store.append(first));
+            assertEquals(0, store.append(updated));
+            assertEquals(1, store.size());
+            assertEquals(updated, store.get(0));
+            assertFalse(store.isPresent(0, PlayerGameIntField.OPPONENT_RANK));
+            assertEquals(0, store.getInt(0, PlayerGameIntField.OPPONENT_RANK));
+        }
+        try (PlayerGameHistoryStore store = open()) {
+            assertEquals(0, store.rowOf(42).orElseThrow());
+            assertEquals(updated, store.get(0));
+            assertEquals(0, store.append(first));
+        }
+    }
+
+    @Test
+    void testIndexesRowsByPlayerId() throws IOException {
+        // a season of games for a handful of players, across several segments
+        final List<PlayerGame> playerGames = IntStream.range(0, 700)
+                .mapToObj(i -> PlayerGame.newBuilder().withStatID(1_000 + i).withPlayerID(i % 7).withGames(1).build())
+                .collect(Collectors.toList());
+        final int playerId = 5;
+        try (PlayerGameHistoryStore store = open()) {
+            store.appendAll(playerGames);
+            assertArrayEquals(rows(store.between(PlayerGameIntField.PLAYER_ID, playerId, playerId)),
+                    store.rowsOf(playerId));
+        }
+        try (PlayerGameHistoryStore store = open()) {
+            final int[] rows = rows(store.between(PlayerGameIntField.PLAYER_ID, playerId, playerId));
+            assertArrayEquals(rows, store.rowsOf(playerId));
+            assertEquals(playerGames.stream().filter(g -> g.getPlayerIdAsInt() == playerId)
+                    .collect(Collectors.toList()), store.getByPlayerId(playerId));
+            assertEquals(0, store.rowsOf(-1).length);
+
+            // moving a row to another player reindexes it under both, and moving it back restores the order
+            final PlayerGame original = store.get(rows[0]);
+            final PlayerGame moved = PlayerGame.newBuilder()
+                    .withStatID(original.getStatId())
+                    .withPlayerID(-1)
+                    .build();
+            assertEquals(rows[0], store.append(moved));
+            assertArrayEquals(Arrays.copyOfRange(rows, 1, rows.length), store.rowsOf(playerId));
+            assertArrayEquals(new int[]{rows[0]}, store.rowsOf(-1));
+            store.append(original);
+            assertArrayEquals(rows, store.rowsOf(playerId));
+            assertEquals(0, store.rowsOf(-1).length);
+            store.append(store.get(rows[rows.length - 1]));
+            assertArrayEquals(rows, store.rowsOf(playerId));
+        }
+    }
+
+    @Test
+    void testColumnScansMatchRowScans() throws IOException {
+        final List<PlayerGame> playerGames = LIST_READER.readValue(JsonFixtures.playerGameStatsByDate(1_000));
+        try (PlayerGameHistoryStore store = open()) {
+            store.appendAll(playerGames);
+
+            final RowSelection ranked = store.between(PlayerGameIntField.OPPONENT_RANK, 1, 50);
+            final List<PlayerGame> expectedRanked = playerGames.stream()
+                    .filter(g -> g.hasOpponentRank() && g.getOpponentRankAsInt() <= 50)
+                    .collect(Collectors.toList());
+            assertEquals(expectedRanked.size(), ranked.cardinality());
+            assertEquals(expectedRanked.stream().mapToLong(PlayerGame::getGamesAsInt).sum(),
+                    store.sum(PlayerGameIntField.GAMES, ranked));
+            assertEquals(playerGames.stream().mapToLong(PlayerGame::getOpponentRankAsInt).sum(),
+                    store.sum(PlayerGameIntField.OPPONENT_RANK));
+            assertTrue(store.isPresent(0, PlayerGameIntField.PLAYER_ID));
+            assertEquals(playerGames.get(3).getPlayerIdAsInt(), store.getInt(3, PlayerGameIntField.PLAYER_ID));
+        }
+    }
+
+    @Test
+    void testToTable() throws IOException {
+        final List<PlayerGame> playerGames = LIST_READER.readValue(JsonFixtures.playerGameStatsByDate(300));
+        try (PlayerGameHistoryStore store = open()) {
+            store.appendAll(PlayerGameTable.copyOf(playerGames));
+            assertEquals(playerGames, store.toTable(0, store.size()).toPlayerGames());
+            assertEquals(playerGames.subList(100, 200), store.toTable(100, 200).toPlayerGames());
+            assertThrows(IllegalArgumentException.class, () -> store.toTable(0, store.size() + 1));
+        }
+    }
+
+    private static int[] rows(final RowSelection selection) {
+        final IntStream.Builder rows = IntStream.builder();
+        selection.forEach(rows::add);
+        return rows.build().toArray();
+    }
+
+    private PlayerGameHistoryStore open() throws IOException {
+        return PlayerGameHistoryStore.newBuilder()
+                .withDirectory(directory)
+                .withSegmentRows(256)
+                .open();
+    }
+}
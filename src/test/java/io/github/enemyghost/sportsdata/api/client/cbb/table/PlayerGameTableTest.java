@@ -0,0 +1,93 @@
+package io.github.enemyghost.sportsdata.api.client.cbb.table;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PlayerGameTable}
+ */
+class PlayerGameTableTest {
+    private static final ObjectReader LIST_READER = ObjectMapperSingleton.INSTANCE.readerFor(
+            ObjectMapperSingleton.INSTANCE.getTypeFactory().constructCollectionType(List.class, PlayerGame.class));
+    private static final ObjectReader TABLE_READER = ObjectMapperSingleton.INSTANCE.readerFor(PlayerGameTable.class);
+
+    @Test
+    void testDecodeMatchesPlayerGames() throws IOException {
+        final byte[] body = JsonFixtures.load("PlayerGameProjectionStatsByDate");
+        final List<PlayerGame> expected = LIST_READER.readValue(body);
+        final PlayerGameTable table = TABLE_READER.readValue(body);
+
+        assertEquals(expected.size(), table.size());
+        assertEquals(expected, table.toPlayerGames());
+        assertEquals(expected.get(0).getInjuryStartDate(), table.row(0).getInjuryStartDate());
+        assertEquals(expected.get(0).getGameInstant(), table.row(0).getGameInstant());
+    }
+
+    @Test
+    void testCopyOfRoundTrips() throws IOException {
+        final List<PlayerGame> expected = LIST_READER.readValue(JsonFixtures.playerGameStatsByDate(500));
+        assertEquals(expected, PlayerGameTable.copyOf(expected).toPlayerGames());
+    }
+
+    @Test
+    void testRowView() throws IOException {
+        final PlayerGameTable table = TABLE_READER.readValue(JsonFixtures.load("PlayerGameProjectionStatsByDate"));
+        final PlayerGameTable.Row row = table.row(0);
+        assertEquals(652532, row.getStatId());
+        assertEquals(60008866, row.getPlayerIdAsInt());
+        assertEquals("AKRON", row.getTeam().orElseThrow());
+        assertFalse(row.hasOpponentRank());
+        assertThrows(NoSuchElementException.class, row::getOpponentRankAsInt);
+        assertEquals(table.toPlayerGame(0), row.toPlayerGame());
+        assertThrows(IndexOutOfBoundsException.class, () -> table.row(table.size()));
+    }
+
+    @Test
+    void testColumnScansMatchRowScans() throws IOException {
+        final byte[] body = JsonFixtures.playerGameStatsByDate(1_000);
+        final List<PlayerGame> playerGames = LIST_READER.readValue(body);
+        final PlayerGameTable table = TABLE_READER.readValue(body);
+
+        final RowSelection team = table.getTeam().equalTo("T5");
+        assertEquals(playerGames.stream().filter(g -> g.getTeam().orElseThrow().equals("T5")).count(),
+                team.cardinality());
+
+        final RowSelection ranked = table.getOpponentRank().between(1, 50);
+        final List<PlayerGame> expectedRanked = playerGames.stream()
+                .filter(g -> g.hasOpponentRank() && g.getOpponentRankAsInt() <= 50)
+                .collect(Collectors.toList());
+        assertEquals(expectedRanked.size(), ranked.cardinality());
+        assertEquals(expectedRanked.stream().mapToLong(PlayerGame::getGamesAsInt).sum(),
+                table.getGames().sum(ranked));
+
+        assertEquals(playerGames.stream().mapToLong(PlayerGame::getOpponentRankAsInt).sum(),
+                table.getOpponentRank().sum());
+        assertEquals(0, table.getTeam().equalTo("not a team").cardinality());
+        assertEquals(team.and(ranked).cardinality(), expectedRanked.stream()
+                .filter(g -> g.getTeam().orElseThrow().equals("T5")).count());
+    }
+
+    @Test
+    void testNullsAreTracked() throws IOException {
+        final PlayerGameTable table = TABLE_READER.readValue(JsonFixtures.load("PlayerGameProjectionStatsByDate"));
+        final IntColumn opponentRank = table.getOpponentRank();
+        assertEquals(table.size(), opponentRank.nullCount());
+        assertEquals(0, opponentRank.present().cardinality());
+        assertEquals(0, opponentRank.between(Integer.MIN_VALUE, Integer.MAX_VALUE).cardinality());
+        assertEquals(table.size(), table.getStatId().present().cardinality());
+        assertTrue(table.getFanDuelPosition().getDictionary().isEmpty());
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Player;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Team;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link JacksonBinaryDecoder} wired through {@link FeignClientFactory#createBinaryBuilder}
+ */
+class JacksonBinaryDecoderTest {
+    @Test
+    void testDecodesSmile() throws IOException {
+        final List<Player> players = read("Players", Player.class);
+        final List<Collection<String>> accepts = new ArrayList<>();
+        final MockClient mockClient = new MockClient().add(HttpMethod.GET, "/v3/cbb/scores/json/Players", 200,
+                ObjectMapperSingleton.SMILE_INSTANCE.writeValueAsBytes(players));
+        final NcaaBasketballV3ApiClient client = FeignClientFactory.createBinaryBuilder("my-api-key",
+                NcaaBasketballV3ApiClient.class, (request, options) -> {
+                    accepts.add(request.headers().get("Accept"));
+                    return mockClient.execute(request, options);
+                }, ObjectMapperSingleton.SMILE_INSTANCE)
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+
+        assertEquals(players, client.players());
+        assertEquals(List.of(List.of("application/x-jackson-smile")), accepts);
+    }
+
+    @Test
+    void testDecodesCbor() throws IOException {
+        final List<Team> teams = read("Teams", Team.class);
+        final NcaaBasketballV3ApiClient client = client(ObjectMapperSingleton.CBOR_INSTANCE, new MockClient()
+                .add(HttpMethod.GET, "/v3/cbb/scores/json/Teams", 200,
+                        ObjectMapperSingleton.CBOR_INSTANCE.writeValueAsBytes(teams))
+                .add(HttpMethod.GET, "/v3/cbb/scores/json/CurrentSeason", 404, new byte[0]));
+
+        assertEquals(teams, client.teams());
+        assertTrue(client.currentSeason().isEmpty());
+    }
+
+    private static NcaaBasketballV3ApiClient client(final ObjectMapper mapper, final MockClient mockClient) {
+        return FeignClientFactory.createBinaryBuilder("my-api-key", NcaaBasketballV3ApiClient.class, mockClient, mapper)
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+    }
+
+    private static <T> List<T> read(final String fixture, final Class<T> type) throws IOException {
+        final JavaType listType = ObjectMapperSingleton.INSTANCE.getTypeFactory()
+                .constructCollectionType(List.class, type);
+        return ObjectMapperSingleton.INSTANCE.readValue(JsonFixtures.load(fixture), listType);
+    }
+}
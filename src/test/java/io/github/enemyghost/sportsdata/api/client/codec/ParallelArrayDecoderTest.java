@@ -0,0 +1,126 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.ObjectMapperSingleton;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.Conference;
+import io.github.enemyghost.sportsdata.api.client.cbb.entities.PlayerGame;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link ParallelArrayDecoder} and {@link ParallelDecodeCapability}
+ */
+class ParallelArrayDecoderTest {
+    private static final ObjectReader PLAYER_GAMES = ObjectMapperSingleton.INSTANCE.readerFor(
+            ObjectMapperSingleton.INSTANCE.getTypeFactory().constructCollectionType(List.class, PlayerGame.class));
+
+    private ForkJoinPool pool;
+    private ParallelArrayDecoder decoder;
+    private ParallelArrayDecoder indexedDecoder;
+
+    @BeforeEach
+    void setup() {
+        pool = new ForkJoinPool(4);
+        decoder = ParallelArrayDecoder.newBuilder()
+                .withPool(pool)
+                .withMinParallelBytes(0)
+                .withStructuralIndexer(null)
+                .build();
+        indexedDecoder = ParallelArrayDecoder.newBuilder()
+                .withPool(pool)
+                .withMinParallelBytes(0)
+                .withStructuralIndexer(StructuralIndexer.scalar())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void testDecodesInOrder() throws IOException {
+        final byte[] body = JsonFixtures.playerGameStatsByDate(2_000);
+        final byte[] hierarchy = JsonFixtures.fullD1LeagueHierarchy();
+        for (final ParallelArrayDecoder decoder : List.of(decoder, indexedDecoder)) {
+            assertEquals(PLAYER_GAMES.<List<PlayerGame>>readValue(body), decoder.decodeList(body, PlayerGame.class));
+            assertEquals(ObjectMapperSingleton.INSTANCE.readerFor(ObjectMapperSingleton.INSTANCE.getTypeFactory()
+                            .constructCollectionType(List.class, Conference.class)).readValue(hierarchy),
+                    decoder.decodeList(hierarchy, Conference.class));
+        }
+    }
+
+    @Test
+    void testDecodesEdgeCases() throws IOException {
+        assertEdgeCases(decoder);
+        assertEdgeCases(indexedDecoder);
+    }
+
+    private static void assertEdgeCases(final ParallelArrayDecoder decoder) throws IOException {
+        assertNull(decoder.decodeList(bytes("null"), PlayerGame.class));
+        assertEquals(List.of(), decoder.decodeList(bytes(" [ ] "), PlayerGame.class));
+        assertEquals(List.of(1, 2, 3), decoder.decodeList(bytes("[1, 2,3]"), Integer.class));
+        // as the mapper, ignores what follows the array
+        assertEquals(List.of(1), decoder.decodeList(bytes("[1] 2"), Integer.class));
+        assertEquals(List.of("[", "\"]"), decoder.decodeList(bytes("[\"[\", \"\\\"]\"]"), String.class));
+        assertEquals(Arrays.asList(null, List.of(1)),
+                decoder.decodeList(bytes("[null, [1]]"), List.class));
+    }
+
+    @Test
+    void testReportsMalformedBodies() {
+        for (final ParallelArrayDecoder decoder : List.of(decoder, indexedDecoder)) {
+            for (final String json : new String[]{"[{\"StatID\": 1},", "[{\"StatID\": 1}} ", "[{\"StatID\": \"x\"}]"}) {
+                assertThrows(JsonProcessingException.class, () -> decoder.decodeList(bytes(json), PlayerGame.class),
+                        json);
+            }
+            // elements which would each decode alone
+            for (final String json : new String[]{"[1 2]", "[\"a\" \"b\"]", "[1,]", "[\"a]", "[[1}"}) {
+                assertThrows(JsonProcessingException.class, () -> decoder.decodeList(bytes(json), Object.class),
+                        json);
+            }
+        }
+    }
+
+    @Test
+    void testCapabilityDecodesLists() throws IOException {
+        final MockClient mockClient = new MockClient();
+        final NcaaBasketballV3ApiClient apiClient = FeignClientFactory.createDefaultBuilder("my-api-key",
+                NcaaBasketballV3ApiClient.class,
+                mockClient,
+                new ParallelDecodeCapability(decoder))
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+        final byte[] body = JsonFixtures.playerGameStatsByDate(500);
+        mockClient.add(HttpMethod.GET, "/v3/cbb/stats/json/PlayerGameStatsByDate/2020-FEB-08", 200, body);
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Players", 404);
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Player/60006480", 200, JsonFixtures.load("Player"));
+
+        assertEquals(PLAYER_GAMES.<List<PlayerGame>>readValue(body),
+                apiClient.playerGameStatsByDate(LocalDate.of(2020, 2, 8)));
+        assertEquals(List.of(), apiClient.players());
+        assertEquals(60006480, apiClient.player(60006480).orElseThrow().getPlayerId());
+    }
+
+    private static byte[] bytes(final String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
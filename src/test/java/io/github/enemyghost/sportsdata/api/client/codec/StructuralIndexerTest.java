@@ -0,0 +1,83 @@
+package io.github.enemyghost.sportsdata.api.client.codec;
+
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link StructuralIndexer}
+ */
+class StructuralIndexerTest {
+    @Test
+    void testIndexesStructurals() {
+        final StructuralIndex index = StructuralIndexer.scalar()
+                .index(bytes("{\"a\": [1, \"x\\\"y\", true], \"b\\\\\": null}"));
+        assertArrayEquals(new int[]{0, 1, 4, 6, 7, 8, 10, 16, 18, 22, 23, 25, 30, 32, 36}, offsets(index));
+        assertFalse(index.hasUnterminatedString());
+        assertArrayEquals(new int[]{0, 6, 22, 36}, offsets(StructuralIndexer.scalar()
+                .indexBrackets(bytes("{\"a\": [1, \"x\\\"y\", true], \"b\\\\\": null}"))));
+
+        assertTrue(StructuralIndexer.scalar().index(bytes("[\"a\\\"]")).hasUnterminatedString());
+        assertEquals(0, StructuralIndexer.scalar().index(new byte[0]).size());
+    }
+
+    @Test
+    void testIndexesAcrossBlocks() {
+        // strings, escapes and scalars which straddle the 64 byte blocks
+        final String json = "[ \"" + "\\\\".repeat(31) + "\\\"" + "\", "
+                + "1".repeat(70) + ", \"" + "a".repeat(130) + "\"]";
+        final byte[] body = bytes(json);
+        assertArrayEquals(new int[]{0, json.length() - 1}, offsets(StructuralIndexer.scalar().indexBrackets(body)));
+        final StructuralIndex index = StructuralIndexer.scalar().index(body);
+        assertArrayEquals(new int[]{0, 2, json.indexOf(','), json.indexOf('1'), json.lastIndexOf(','),
+                json.lastIndexOf(',') + 2, json.length() - 1}, offsets(index));
+    }
+
+    @Test
+    void testVectorizedIndexIsIdentical() {
+        assumeTrue(StructuralIndexer.vectorized().isPresent());
+        final StructuralIndexer vectorized = StructuralIndexer.vectorized().get();
+        for (final byte[] body : new byte[][]{JsonFixtures.playerGameStatsByDate(100),
+                JsonFixtures.fullD1LeagueHierarchy(), JsonFixtures.load("Players")}) {
+            assertIdentical(body, vectorized);
+        }
+        // random, mostly malformed, input dense in structurals
+        final byte[] alphabet = bytes("{}[],:\"\\ \n\ta1[");
+        final Random random = new Random(46);
+        for (int i = 0; i < 2_000; i++) {
+            final byte[] body = new byte[random.nextInt(300)];
+            for (int j = 0; j < body.length; j++) {
+                body[j] = random.nextInt(8) == 0
+                        ? (byte) random.nextInt(256)
+                        : alphabet[random.nextInt(alphabet.length)];
+            }
+            assertIdentical(body, vectorized);
+        }
+    }
+
+    private static void assertIdentical(final byte[] body, final StructuralIndexer vectorized) {
+        final StructuralIndex expected = StructuralIndexer.scalar().index(body);
+        final StructuralIndex actual = vectorized.index(body);
+        assertArrayEquals(offsets(expected), offsets(actual));
+        assertEquals(expected.hasUnterminatedString(), actual.hasUnterminatedString());
+        assertArrayEquals(offsets(StructuralIndexer.scalar().indexBrackets(body)),
+                offsets(vectorized.indexBrackets(body)));
+    }
+
+    private static int[] offsets(final StructuralIndex index) {
+        return IntStream.range(0, index.size()).map(index::offset).toArray();
+    }
+
+    private static byte[] bytes(final String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.enemyghost.sportsdata.api.client.contract;
+
+import feign.Contract;
+import feign.MethodMetadata;
+import feign.jaxrs.JAXRSContract;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import org.junit.jupiter.api.Test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link GeneratedContract}
+ */
+class GeneratedContractTest {
+    @Test
+    void testMatchesJaxRsContract() {
+        final Contract generated = GeneratedContract.forType(NcaaBasketballV3ApiClient.class).orElseThrow();
+        final Map<String, MethodMetadata> expected = byConfigKey(new JAXRSContract()
+                .parseAndValidateMetadata(NcaaBasketballV3ApiClient.class));
+        final Map<String, MethodMetadata> actual = byConfigKey(generated
+                .parseAndValidateMetadata(NcaaBasketballV3ApiClient.class));
+
+        assertEquals(14, expected.size());
+        assertEquals(expected.keySet(), actual.keySet());
+        expected.forEach((configKey, metadata) -> {
+            final MethodMetadata other = actual.get(configKey);
+            assertEquals(metadata.returnType(), other.returnType(), configKey);
+            assertEquals(metadata.returnType().hashCode(), other.returnType().hashCode(), configKey);
+            assertEquals(metadata.returnType().getTypeName(), other.returnType().getTypeName(), configKey);
+            assertEquals(metadata.template().method(), other.template().method(), configKey);
+            assertEquals(metadata.template().url(), other.template().url(), configKey);
+            assertEquals(metadata.template().headers(), other.template().headers(), configKey);
+            assertEquals(metadata.template().queries(), other.template().queries(), configKey);
+            assertEquals(metadata.template().decodeSlash(), other.template().decodeSlash(), configKey);
+            assertEquals(metadata.template().collectionFormat(), other.template().collectionFormat(), configKey);
+            assertEquals(metadata.indexToName(), other.indexToName(), configKey);
+            assertEquals(metadata.indexToEncoded(), other.indexToEncoded(), configKey);
+            assertEquals(metadata.indexToExpanderClass(), other.indexToExpanderClass(), configKey);
+            assertEquals(metadata.formParams(), other.formParams(), configKey);
+            assertEquals(metadata.bodyIndex(), other.bodyIndex(), configKey);
+            assertEquals(metadata.urlIndex(), other.urlIndex(), configKey);
+            assertEquals(metadata.headerMapIndex(), other.headerMapIndex(), configKey);
+            assertEquals(metadata.queryMapIndex(), other.queryMapIndex(), configKey);
+        });
+    }
+
+    @Test
+    void testBuildsMetadataAfresh() {
+        final Contract generated = GeneratedContract.forType(NcaaBasketballV3ApiClient.class).orElseThrow();
+        final MethodMetadata first = generated.parseAndValidateMetadata(NcaaBasketballV3ApiClient.class).get(0);
+        first.template().header("X-Test", "modified");
+        final MethodMetadata second = generated.parseAndValidateMetadata(NcaaBasketballV3ApiClient.class).get(0);
+        assertFalse(second.template().headers().containsKey("X-Test"));
+    }
+
+    @Test
+    void testOtherInterfacesHaveNoGeneratedContract() {
+        // nested interfaces are left to JAXRSContract
+        assertFalse(GeneratedContract.forType(SearchClient.class).isPresent());
+        assertFalse(GeneratedContract.forType(String.class).isPresent());
+    }
+
+    @Test
+    void testParsesOtherInterfacesWithJaxRsContract() {
+        final Contract generated = GeneratedContract.forType(NcaaBasketballV3ApiClient.class).orElseThrow();
+        final List<MethodMetadata> metadata = generated.parseAndValidateMetadata(SearchClient.class);
+        assertEquals(1, metadata.size());
+        assertTrue(metadata.get(0).template().url().startsWith("/search?q="));
+        assertTrue(metadata.get(0).template().queries().containsKey("q"));
+        assertTrue(metadata.get(0).indexToName().get(0).contains("q"));
+    }
+
+    private static Map<String, MethodMetadata> byConfigKey(final List<MethodMetadata> metadata) {
+        return metadata.stream().collect(Collectors.toMap(MethodMetadata::configKey, Function.identity()));
+    }
+
+    interface SearchClient {
+        @GET
+        @Path("/search")
+        String search(@QueryParam("q") String query);
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.enemyghost.sportsdata.api.client.jfr;
+
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link JfrCapability}
+ */
+class JfrCapabilityTest {
+    private NcaaBasketballV3ApiClient apiClient;
+    private MockClient mockClient;
+
+    @BeforeEach
+    void setup() {
+        mockClient = new MockClient();
+        apiClient = FeignClientFactory.createDefaultBuilder("my-api-key",
+                NcaaBasketballV3ApiClient.class,
+                mockClient,
+                new JfrCapability())
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+    }
+
+    @Test
+    void testRequestAndDecodeEvents() throws IOException, ParseException {
+        final byte[] body = JsonFixtures.load("Players");
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Players", 200, body);
+
+        final List<RecordedEvent> events = record(() -> apiClient.players());
+
+        final RecordedEvent request = single(events, RequestEvent.NAME);
+        assertEquals("NcaaBasketballV3ApiClient#players()", request.getString("endpoint"));
+        assertEquals("/v3/cbb/scores/json/Players", request.getString("path"));
+        assertEquals(200, request.getInt("status"));
+        assertEquals(body.length, request.getLong("bytes"));
+        assertEquals(3, request.getInt("entityCount"));
+        assertTrue(request.getBoolean("success"));
+
+        final RecordedEvent decode = single(events, DecodeEvent.NAME);
+        assertEquals("NcaaBasketballV3ApiClient#players()", decode.getString("endpoint"));
+        assertEquals(3, decode.getInt("entityCount"));
+        assertTrue(decode.getStartTime().compareTo(request.getStartTime()) >= 0);
+        assertTrue(decode.getEndTime().compareTo(request.getEndTime()) <= 0);
+    }
+
+    @Test
+    void testCacheLookupEvent() throws IOException, ParseException {
+        final List<RecordedEvent> events = record(() -> JfrEvents.cacheLookup("NcaaBasketballV3ApiClient#teams()", true, 3));
+
+        final RecordedEvent lookup = single(events, CacheLookupEvent.NAME);
+        assertEquals("NcaaBasketballV3ApiClient#teams()", lookup.getString("endpoint"));
+        assertTrue(lookup.getBoolean("hit"));
+    }
+
+    @Test
+    void testSampleConfigurationEnablesClientEvents() throws IOException, ParseException {
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/jfr/sportsdataio.jfc"), StandardCharsets.UTF_8)) {
+            final Configuration configuration = Configuration.create(reader);
+            assertEquals("true", configuration.getSettings().get(RequestEvent.NAME + "#enabled"));
+            assertEquals("true", configuration.getSettings().get(DecodeEvent.NAME + "#enabled"));
+            assertEquals("true", configuration.getSettings().get(RateLimitWaitEvent.NAME + "#enabled"));
+            assertEquals("true", configuration.getSettings().get(CacheLookupEvent.NAME + "#enabled"));
+        }
+    }
+
+    private static List<RecordedEvent> record(final Runnable runnable) throws IOException, ParseException {
+        final Path file = Files.createTempFile("sportsdataio", ".jfr");
+        try (Recording recording = new Recording(Configuration.create(new InputStreamReader(
+                JfrCapabilityTest.class.getResourceAsStream("/jfr/sportsdataio.jfc"), StandardCharsets.UTF_8)))) {
+            // the sample configuration drops decodes under 1ms, which a warm JIT decodes small fixtures within
+            recording.enable(DecodeEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            runnable.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().startsWith("io.github.enemyghost.sportsdata."))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent single(final List<RecordedEvent> events, final String name) {
+        final List<RecordedEvent> matching = events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        assertEquals(1, matching.size(), "Expected exactly one " + name + " event");
+        return matching.get(0);
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.enemyghost.sportsdata.api.client.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link Histogram}
+ */
+class HistogramTest {
+
+    @Test
+    void testEmpty() {
+        final HistogramSnapshot snapshot = new Histogram().snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getValueAtPercentile(99));
+        assertEquals(0, snapshot.getMean());
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        final Histogram histogram = new Histogram();
+        IntStream.rangeClosed(1, 100).forEach(histogram::record);
+        final HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(5050, snapshot.getSum());
+        assertEquals(50, snapshot.getValueAtPercentile(50));
+        assertEquals(99, snapshot.getValueAtPercentile(99));
+        assertEquals(100, snapshot.getValueAtPercentile(100));
+        assertEquals(100, snapshot.getMax());
+    }
+
+    @Test
+    void testLargeValuesWithinRelativeError() {
+        final Histogram histogram = new Histogram();
+        for (long value = 1_000; value <= 1_000_000_000L; value *= 10) {
+            histogram.record(value);
+        }
+        final HistogramSnapshot snapshot = histogram.snapshot();
+        final long p50 = snapshot.getValueAtPercentile(50);
+        assertTrue(Math.abs(p50 - 1_000_000) <= 1_000_000 / 64, "p50 was " + p50);
+        assertEquals(1_000_000_000L, snapshot.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testBucketBoundaries() {
+        for (long value : new long[]{0, 1, 127, 128, 129, 255, 256, 1 << 20, Histogram.MAX_TRACKABLE_VALUE}) {
+            final int index = Histogram.indexOf(value);
+            assertTrue(index >= 0 && index < Histogram.BUCKET_COUNT, "index out of range for " + value);
+            assertTrue(Histogram.highestEquivalentValue(index) >= value, "bucket too small for " + value);
+        }
+    }
+
+    @Test
+    void testClampsOutOfRangeValues() {
+        final Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        final HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(Histogram.MAX_TRACKABLE_VALUE, snapshot.getMax());
+    }
+
+    @Test
+    void testInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().snapshot().getValueAtPercentile(101));
+    }
+}
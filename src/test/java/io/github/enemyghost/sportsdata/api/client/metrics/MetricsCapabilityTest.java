@@ -0,0 +1,86 @@
+package io.github.enemyghost.sportsdata.api.client.metrics;
+
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link MetricsCapability}
+ */
+class MetricsCapabilityTest {
+    private NcaaBasketballV3ApiClient apiClient;
+    private MockClient mockClient;
+    private InProcessMetricsRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        mockClient = new MockClient();
+        registry = new InProcessMetricsRegistry();
+
+        apiClient = FeignClientFactory.createDefaultBuilder("my-api-key",
+                NcaaBasketballV3ApiClient.class,
+                mockClient,
+                new MetricsCapability(registry))
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+    }
+
+    @Test
+    void testRecordsListEndpoint() {
+        final byte[] body = JsonFixtures.load("Players");
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Players", 200, body);
+        apiClient.players();
+        apiClient.players();
+
+        final EndpointMetrics metrics = registry.getEndpoint("NcaaBasketballV3ApiClient#players()").orElseThrow();
+        assertEquals(2, metrics.getLatencyNanos().snapshot().getCount());
+        assertEquals(2, metrics.getTimeToFirstByteNanos().snapshot().getCount());
+        assertEquals(2, metrics.getDecodeNanos().snapshot().getCount());
+        assertEquals(body.length, metrics.getResponseBytes().snapshot().getMax());
+        assertEquals(3, metrics.getEntityCount().snapshot().getMax());
+        assertEquals(0, metrics.getErrorCount());
+    }
+
+    @Test
+    void testDefaultMethodsAttributedToFeignMethod() {
+        mockClient.add(HttpMethod.GET, "/v3/cbb/stats/json/PlayerGameStatsByDate/2020-FEB-08", 200,
+                JsonFixtures.load("PlayerGameProjectionStatsByDate"));
+        apiClient.playerGameStatsByDate(LocalDate.of(2020, 2, 8));
+
+        assertEquals(1, registry.getEndpoints().size());
+        final EndpointMetrics metrics = registry.getEndpoint("NcaaBasketballV3ApiClient#playerGameStatsByDate(String)").orElseThrow();
+        assertEquals(2, metrics.getEntityCount().snapshot().getMax());
+    }
+
+    @Test
+    void testRecordsEmptyOptional() {
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/CurrentSeason", 404);
+        assertTrue(apiClient.currentSeason().isEmpty());
+
+        final EndpointMetrics metrics = registry.getEndpoint("NcaaBasketballV3ApiClient#currentSeason()").orElseThrow();
+        assertEquals(1, metrics.getEntityCount().snapshot().getCount());
+        assertEquals(0, metrics.getEntityCount().snapshot().getMax());
+    }
+
+    @Test
+    void testRecordsErrors() {
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Teams", 500);
+        assertThrows(RuntimeException.class, () -> apiClient.teams());
+
+        final EndpointMetrics metrics = registry.getEndpoint("NcaaBasketballV3ApiClient#teams()").orElseThrow();
+        assertEquals(1, metrics.getErrorCount());
+        assertEquals(1, metrics.getLatencyNanos().snapshot().getCount());
+        assertFalse(registry.getEndpoint("NcaaBasketballV3ApiClient#players()").isPresent());
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.enemyghost.sportsdata.api.client.request;
+
+import feign.Client;
+import feign.FeignException;
+import feign.Request;
+import feign.mock.HttpMethod;
+import feign.mock.MockClient;
+import feign.mock.MockTarget;
+import io.github.enemyghost.sportsdata.api.client.FeignClientFactory;
+import io.github.enemyghost.sportsdata.api.client.cbb.JsonFixtures;
+import io.github.enemyghost.sportsdata.api.client.cbb.NcaaBasketballV3ApiClient;
+import io.github.enemyghost.sportsdata.api.client.metrics.InProcessMetricsRegistry;
+import io.github.enemyghost.sportsdata.api.client.metrics.MetricsCapability;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link PrecompiledRequestCapability}
+ */
+class PrecompiledRequestCapabilityTest {
+    private static final LocalDate FEB_8 = LocalDate.of(2020, 2, 8);
+    private static final LocalDate FEB_9 = LocalDate.of(2020, 2, 9);
+
+    private MockClient mockClient;
+    private List<Request> sent;
+    private AtomicInteger failures;
+    private Client client;
+
+    @BeforeEach
+    void setup() {
+        mockClient = new MockClient();
+        mockClient.add(HttpMethod.GET, "/v3/cbb/stats/json/PlayerGameStatsByDate/2020-FEB-08", 200,
+                JsonFixtures.load("PlayerGameProjectionStatsByDate"));
+        mockClient.add(HttpMethod.GET, "/v3/cbb/stats/json/PlayerGameStatsByDate/2020-FEB-09", 200, "[]");
+        sent = new ArrayList<>();
+        failures = new AtomicInteger();
+        client = (request, options) -> {
+            sent.add(request);
+            if (failures.getAndDecrement() > 0) {
+                throw new IOException("Connection reset");
+            }
+            return mockClient.execute(request, options);
+        };
+    }
+
+    private NcaaBasketballV3ApiClient create(final PrecompiledRequestCapability capability) {
+        return FeignClientFactory.createDefaultBuilder("my-api-key",
+                NcaaBasketballV3ApiClient.class,
+                client,
+                capability)
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+    }
+
+    @Test
+    void testReusesRequestPerArguments() {
+        final NcaaBasketballV3ApiClient apiClient = create(new PrecompiledRequestCapability());
+        assertEquals(2, apiClient.playerGameStatsByDate(FEB_8).size());
+        assertEquals(2, apiClient.playerGameStatsByDate(FEB_8).size());
+        assertEquals(0, apiClient.playerGameStatsByDate(FEB_9).size());
+        assertEquals(0, apiClient.playerGameStatsByDate(FEB_9).size());
+        assertEquals(2, apiClient.playerGameStatsByDate(FEB_8).size());
+
+        assertEquals(5, sent.size());
+        assertSame(sent.get(0), sent.get(1));
+        assertNotSame(sent.get(0), sent.get(2));
+        assertSame(sent.get(2), sent.get(3));
+        assertSame(sent.get(0), sent.get(4));
+        assertEquals(List.of("my-api-key"), List.copyOf(sent.get(4).headers().get("Ocp-Apim-Subscription-Key")));
+    }
+
+    @Test
+    void testStartsOverWhenFull() {
+        final NcaaBasketballV3ApiClient apiClient = create(PrecompiledRequestCapability.newBuilder()
+                .withMaxRequestsPerMethod(1)
+                .build());
+        apiClient.playerGameStatsByDate(FEB_8);
+        apiClient.playerGameStatsByDate(FEB_8);
+        apiClient.playerGameStatsByDate(FEB_9);
+        apiClient.playerGameStatsByDate(FEB_8);
+        assertSame(sent.get(0), sent.get(1));
+        assertNotSame(sent.get(0), sent.get(3));
+    }
+
+    @Test
+    void testPrecompiledResponsesHandledLikeFeign() {
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/CurrentSeason", 404);
+        mockClient.add(HttpMethod.GET, "/v3/cbb/scores/json/Teams", 500, "oops");
+        final NcaaBasketballV3ApiClient apiClient = create(new PrecompiledRequestCapability());
+        for (int i = 0; i < 2; i++) {
+            assertTrue(apiClient.currentSeason().isEmpty());
+            assertEquals(500, assertThrows(FeignException.class, apiClient::teams).status());
+        }
+        assertSame(sent.get(0), sent.get(2));
+        assertSame(sent.get(1), sent.get(3));
+
+        // a transport failure of a precompiled request is retried
+        assertEquals(2, apiClient.playerGameStatsByDate(FEB_8).size());
+        failures.set(1);
+        assertEquals(2, apiClient.playerGameStatsByDate(FEB_8).size());
+        assertEquals(7, sent.size());
+        assertSame(sent.get(4), sent.get(6));
+    }
+
+    @Test
+    void testComposesWithOtherCapabilities() {
+        final InProcessMetricsRegistry registry = new InProcessMetricsRegistry();
+        final NcaaBasketballV3ApiClient apiClient = FeignClientFactory.createDefaultBuilder("my-api-key",
+                NcaaBasketballV3ApiClient.class,
+                client,
+                new MetricsCapability(registry),
+                new PrecompiledRequestCapability())
+                .target(new MockTarget<>(NcaaBasketballV3ApiClient.class));
+        apiClient.playerGameStatsByDate(FEB_8);
+        apiClient.playerGameStatsByDate(FEB_8);
+        assertSame(sent.get(0), sent.get(1));
+        assertEquals(2, registry.getEndpoint("NcaaBasketballV3ApiClient#playerGameStatsByDate(String)")
+                .orElseThrow()
+                .getDecodeNanos()
+                .snapshot()
+                .getCount());
+    }
+
+    @Test
+    void testAppliesToOneBuilder() {
+        final PrecompiledRequestCapability capability = new PrecompiledRequestCapability();
+        create(capability);
+        assertThrows(IllegalStateException.class, () -> create(capability));
+        assertThrows(IllegalArgumentException.class,
+                () -> PrecompiledRequestCapability.newBuilder().withMaxRequestsPerMethod(0).build());
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.enemyghost.sportsdata.api.client.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+
+/**
+ * Measures the bytes allocated on the current thread while running a task, using the HotSpot
+ * {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes() thread allocation counter}.
+ * <p>
+ * The task is run repeatedly first so that it is JIT compiled, since escape analysis in compiled code removes many
+ * short-lived allocations that the interpreter makes. The smallest of several measured runs is reported, which filters
+ * out one-off allocations such as lazily initialized caches.
+ *
+ * @author enemyghost
+ */
+public final class AllocationMeter {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static volatile Object sink;
+
+    private final int warmupRuns;
+    private final int measuredRuns;
+
+    private AllocationMeter(final Builder builder) {
+        warmupRuns = builder.warmupRuns;
+        measuredRuns = builder.measuredRuns;
+    }
+
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether this JVM supports per-thread allocation measurement
+     *
+     * @return true if allocations can be measured
+     */
+    public static boolean isSupported() {
+        return THREADS.isThreadAllocatedMemorySupported() && THREADS.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Returns the fewest bytes the task allocated on the current thread in any measured run
+     *
+     * @param task task to measure; its result is published so that it cannot be optimized away
+     * @return bytes allocated by the task
+     * @throws Exception if the task throws
+     */
+    public long measure(final Callable<?> task) throws Exception {
+        final long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < warmupRuns; i++) {
+            sink = task.call();
+        }
+        // bytes allocated by reading the counter, which each measurement includes once
+        final long first = THREADS.getThreadAllocatedBytes(threadId);
+        final long overhead = THREADS.getThreadAllocatedBytes(threadId) - first;
+        long fewest = Long.MAX_VALUE;
+        for (int i = 0; i < measuredRuns; i++) {
+            final long before = THREADS.getThreadAllocatedBytes(threadId);
+            sink = task.call();
+            final long allocated = THREADS.getThreadAllocatedBytes(threadId) - before - overhead;
+            fewest = Math.min(fewest, allocated);
+        }
+        return fewest;
+    }
+
+    public static final class Builder {
+        private int warmupRuns = 2_000;
+        private int measuredRuns = 10;
+
+        private Builder() {
+        }
+
+        public Builder withWarmupRuns(final int warmupRuns) {
+            this.warmupRuns = warmupRuns;
+            return this;
+        }
+
+        public Builder withMeasuredRuns(final int measuredRuns) {
+            this.measuredRuns = measuredRuns;
+            return this;
+        }
+
+        public AllocationMeter build() {
+            return new AllocationMeter(this);
+        }
+    }
+}
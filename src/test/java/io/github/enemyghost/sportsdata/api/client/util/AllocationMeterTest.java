@@ -0,0 +1,33 @@
+package io.github.enemyghost.sportsdata.api.client.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link AllocationMeter}
+ */
+class AllocationMeterTest {
+    private AllocationMeter meter;
+
+    @BeforeEach
+    void setup() {
+        assumeTrue(AllocationMeter.isSupported(), "Thread allocation measurement is not supported");
+        meter = AllocationMeter.newBuilder().build();
+    }
+
+    @Test
+    void testEmptyTaskAllocatesNothing() throws Exception {
+        assertEquals(0, meter.measure(() -> null));
+    }
+
+    @Test
+    void testMeasuresAllocation() throws Exception {
+        final long allocated = meter.measure(() -> new byte[4096]);
+        // the array's header and padding are not counted in its length
+        assertTrue(allocated >= 4096 && allocated < 4096 + 64, "Measured " + allocated);
+    }
+}
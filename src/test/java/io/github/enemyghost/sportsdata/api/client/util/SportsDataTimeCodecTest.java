@@ -0,0 +1,97 @@
+package io.github.enemyghost.sportsdata.api.client.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for {@link SportsDataTimeCodec}
+ */
+class SportsDataTimeCodecTest {
+    @Test
+    void testDatePathParam() {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MMM-dd", Locale.ENGLISH);
+        for (LocalDate date = LocalDate.of(1999, 1, 1); date.getYear() < 2031; date = date.plusDays(1)) {
+            assertEquals(formatter.format(date).toUpperCase(Locale.ENGLISH), SportsDataTimeCodec.toDatePathParam(date));
+        }
+        final LocalDate date = LocalDate.of(2020, 2, 8);
+        assertEquals("2020-FEB-08", SportsDataTimeCodec.toDatePathParam(date));
+        assertSame(SportsDataTimeCodec.toDatePathParam(date),
+                SportsDataTimeCodec.toDatePathParam(LocalDate.of(2020, 2, 8)));
+    }
+
+    @Test
+    void testToEpochSecondMatchesZoneRules() {
+        // every quarter hour covers each spring-forward gap and fall-back overlap
+        for (LocalDateTime local = LocalDateTime.of(1965, 1, 1, 0, 0);
+             local.getYear() < 2040;
+             local = local.plusMinutes(15)) {
+            assertEquals(local.atZone(SportsDataTimeCodec.ZONE).toEpochSecond(),
+                    SportsDataTimeCodec.toEpochSecond(local), local::toString);
+        }
+        for (final LocalDateTime local : new LocalDateTime[]{
+                LocalDateTime.of(1850, 6, 1, 12, 0), LocalDateTime.of(1900, 1, 1, 0, 0),
+                LocalDateTime.of(2100, 12, 31, 23, 59), LocalDateTime.of(2300, 7, 4, 12, 0)}) {
+            assertEquals(local.atZone(SportsDataTimeCodec.ZONE).toEpochSecond(),
+                    SportsDataTimeCodec.toEpochSecond(local), local::toString);
+        }
+    }
+
+    @Test
+    void testToLocalDateTimeMatchesZoneRules() {
+        final long end = LocalDate.of(2040, 1, 1).atStartOfDay(SportsDataTimeCodec.ZONE).toEpochSecond();
+        for (long epochSecond = LocalDate.of(1965, 1, 1).atStartOfDay(SportsDataTimeCodec.ZONE).toEpochSecond();
+             epochSecond < end;
+             epochSecond += 900) {
+            final Instant instant = Instant.ofEpochSecond(epochSecond, 5);
+            assertEquals(LocalDateTime.ofInstant(instant, SportsDataTimeCodec.ZONE),
+                    SportsDataTimeCodec.toLocalDateTime(epochSecond, 5), instant::toString);
+        }
+    }
+
+    @Test
+    void testParse() {
+        assertEquals(LocalDateTime.parse("2020-02-08T14:00:00").atZone(SportsDataTimeCodec.ZONE).toEpochSecond(),
+                SportsDataTimeCodec.parseEpochSecond("2020-02-08T14:00:00"));
+        assertEquals(LocalDateTime.parse("2020-07-04T21:30").atZone(SportsDataTimeCodec.ZONE).toEpochSecond(),
+                SportsDataTimeCodec.parseEpochSecond("2020-07-04T21:30"));
+        final char[] chars = " 2020-03-08T02:30:15.25 ".toCharArray();
+        assertEquals(LocalDateTime.parse("2020-03-08T02:30:15.25").atZone(SportsDataTimeCodec.ZONE).toInstant(),
+                SportsDataTimeCodec.parseInstant(chars, 1, chars.length - 2));
+        assertEquals(LocalDateTime.parse("2020-03-08T02:30:15.25"),
+                SportsDataTimeCodec.parseLocalDateTime(chars, 1, chars.length - 2));
+        assertEquals(LocalDate.of(2020, 1, 9).toEpochDay(), SportsDataTimeCodec.parseEpochDay("2020-01-09T00:00:00"));
+        assertEquals(LocalDate.of(2000, 2, 29).toEpochDay(), SportsDataTimeCodec.parseEpochDay("2000-02-29"));
+    }
+
+    @Test
+    void testParseRejectsInvalidText() {
+        for (final String text : new String[]{"", "2020-02-08", "2020-02-08T", "2020-02-08 14:00:00",
+                "2020-02-30T14:00:00", "2019-02-29T14:00:00", "2020-13-08T14:00:00", "2020-02-08T24:00:00",
+                "2020-02-08T14:60:00", "2020-02-08T14:00:0", "2020-02-08T14:00:00.", "2020-02-08T14:00:00Z",
+                "2020-02-08T14:00:00.1234567890", "20200-02-08T14:00"}) {
+            assertThrows(DateTimeParseException.class, () -> SportsDataTimeCodec.parseEpochSecond(text), text);
+        }
+        for (final String text : new String[]{"", "2020-2-08", "2020-02-00", "2020-02-08T", "2020/02/08"}) {
+            assertThrows(DateTimeParseException.class, () -> SportsDataTimeCodec.parseEpochDay(text), text);
+        }
+    }
+
+    @Test
+    void testParseDoesNotAllocate() throws Exception {
+        assumeTrue(AllocationMeter.isSupported());
+        final char[] chars = "2020-02-08T14:00:00".toCharArray();
+        assertEquals(0, AllocationMeter.newBuilder().build()
+                .measure(() -> SportsDataTimeCodec.parseEpochSecond(chars, 0, chars.length) > 0 ? null : chars));
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.enemyghost.sportsdata.api.client.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link StringInterner}
+ */
+class StringInternerTest {
+    @Test
+    void testReturnsCanonicalInstance() {
+        final StringInterner interner = new StringInterner(16);
+        final String smu = interner.intern(new String("SMU"));
+        assertSame(smu, interner.intern(new String("SMU")));
+        assertSame(smu, interner.intern("xSMUx".toCharArray(), 1, 3));
+        assertEquals("TEMPLE", interner.intern("TEMPLE".toCharArray(), 0, 6));
+        assertSame(interner.intern("TEMPLE".toCharArray(), 0, 6), interner.intern(new String("TEMPLE")));
+    }
+
+    @Test
+    void testIsBounded() {
+        final StringInterner interner = new StringInterner(100);
+        assertEquals(128, interner.capacity());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals("value" + i, interner.intern("value" + i));
+        }
+        assertEquals(128, interner.capacity());
+        assertThrows(IllegalArgumentException.class, () -> new StringInterner(0));
+    }
+}